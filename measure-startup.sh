@@ -0,0 +1,34 @@
+#!/bin/bash
+
+# Time from JVM launch to the first successful GET /health/ping
+# Usage: ./measure-startup.sh [runs] [java options...]
+#   ./measure-startup.sh 5
+#   ./measure-startup.sh 5 -XX:SharedArchiveFile=target/application/application.jsa
+# Runs target/application/*.jar when the jar has been extracted (mvn package -Pcds), otherwise target/*.jar
+
+RUNS=${1:-5}
+shift
+PORT=${PORT:-18080}
+JAR=$(ls target/application/*.jar 2>/dev/null | head -1)
+JAR=${JAR:-$(ls target/*.jar | grep -v plain | head -1)}
+
+echo "Measuring startup of $JAR ($RUNS runs) $*"
+TOTAL=0
+for i in $(seq 1 "$RUNS"); do
+    START=$(date +%s%N)
+    PORT=$PORT java "$@" -jar "$JAR" > /tmp/measure-startup.log 2>&1 &
+    PID=$!
+    until curl -sf "http://localhost:$PORT/health/ping" > /dev/null; do
+        if ! kill -0 $PID 2>/dev/null; then
+            echo "Application exited, see /tmp/measure-startup.log"
+            exit 1
+        fi
+        sleep 0.05
+    done
+    ELAPSED=$(( ($(date +%s%N) - START) / 1000000 ))
+    TOTAL=$((TOTAL + ELAPSED))
+    echo "  run $i: ${ELAPSED} ms"
+    kill $PID
+    wait $PID 2>/dev/null
+done
+echo "Average: $((TOTAL / RUNS)) ms"
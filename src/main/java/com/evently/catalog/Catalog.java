@@ -0,0 +1,9 @@
+package com.evently.catalog;
+
+/**
+ * Groups of cached public responses that are invalidated together.
+ */
+public enum Catalog {
+    VENDORS,
+    EVENTS
+}
@@ -0,0 +1,165 @@
+package com.evently.catalog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Public catalog responses kept as JSON bytes, each also gzip-compressed once at the best level,
+ * so repeated requests skip loading, mapping, serialization and compression entirely.
+ *
+ * Entries are keyed by catalog and the request's query parameters, and a whole catalog is dropped
+ * on {@link #invalidate(Catalog)}. Every catalog has a generation that invalidation bumps before
+ * removing entries; a miss re-checks it after storing its entry, so a body loaded from data older
+ * than a concurrent invalidation never outlives that invalidation.
+ *
+ * Metrics: catalog.responses.requests (hit/miss per catalog), catalog.responses.bytes.saved
+ * (identity minus gzip length of every compressed response sent) and
+ * catalog.responses.serialization.avoided (serialization and compression CPU time a hit did not spend).
+ */
+public class CatalogResponseCache {
+
+    public static final String GZIP = "gzip";
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final Cache<Key, Entry> entries;
+
+    private final Map<Catalog, AtomicLong> generations = new EnumMap<>(Catalog.class);
+
+    private final Map<Catalog, Counter> hits = new EnumMap<>(Catalog.class);
+    private final Map<Catalog, Counter> misses = new EnumMap<>(Catalog.class);
+    private final Counter bytesSaved;
+    private final Counter serializationAvoided;
+
+    public CatalogResponseCache(long maxEntries, Duration timeToLive, MeterRegistry registry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(timeToLive)
+                .build();
+
+        for (Catalog catalog : Catalog.values()) {
+            String tag = catalog.name().toLowerCase();
+            generations.put(catalog, new AtomicLong());
+            hits.put(catalog, Counter.builder("catalog.responses.requests")
+                    .description("Public catalog requests served from or loaded into the response cache")
+                    .tag("catalog", tag).tag("result", "hit")
+                    .register(registry));
+            misses.put(catalog, Counter.builder("catalog.responses.requests")
+                    .description("Public catalog requests served from or loaded into the response cache")
+                    .tag("catalog", tag).tag("result", "miss")
+                    .register(registry));
+        }
+        this.bytesSaved = Counter.builder("catalog.responses.bytes.saved")
+                .description("Bytes not sent thanks to pre-compressed catalog responses")
+                .baseUnit("bytes")
+                .register(registry);
+        this.serializationAvoided = Counter.builder("catalog.responses.serialization.avoided")
+                .description("CPU time for serializing and compressing catalog responses that cache hits did not spend")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("catalog.responses.size", entries, Cache::estimatedSize)
+                .description("Cached catalog responses")
+                .register(registry);
+    }
+
+    /**
+     * The cached response for the key, loading the body and serializing it with the writer on a miss.
+     * The gzip variant is returned when the client accepts it and it is smaller than the JSON.
+     */
+    public SerializedResponse get(Catalog catalog, String key, boolean acceptsGzip, ObjectWriter writer, Supplier<?> loader) {
+        Key cacheKey = new Key(catalog, key);
+        Entry entry = entries.getIfPresent(cacheKey);
+        if (entry != null) {
+            hits.get(catalog).increment();
+            serializationAvoided.increment(entry.cpuNanos / 1e9);
+        } else {
+            misses.get(catalog).increment();
+            AtomicLong generation = generations.get(catalog);
+            long loadedAt = generation.get();
+            entry = serialize(writer, loader.get());
+            entries.put(cacheKey, entry);
+            if (generation.get() != loadedAt) {
+                entries.asMap().remove(cacheKey, entry);
+            }
+        }
+
+        if (acceptsGzip && entry.gzip != null) {
+            bytesSaved.increment(entry.json.length - entry.gzip.length);
+            return new SerializedResponse(entry.gzip, GZIP);
+        }
+        return new SerializedResponse(entry.json, null);
+    }
+
+    /**
+     * Drop every cached response of a catalog.
+     */
+    public void invalidate(Catalog catalog) {
+        generations.get(catalog).incrementAndGet();
+        entries.asMap().keySet().removeIf(key -> key.catalog == catalog);
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    private Entry serialize(ObjectWriter writer, Object body) {
+        long start = cpuTime();
+        try {
+            byte[] json = writer.writeValueAsBytes(body);
+            byte[] gzip = gzip(json);
+            return new Entry(json, gzip.length < json.length ? gzip : null, cpuTime() - start);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize catalog response", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new BestCompressionGZIPOutputStream(bytes)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static long cpuTime() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    private record Key(Catalog catalog, String key) {
+    }
+
+    private record Entry(byte[] json, byte[] gzip, long cpuNanos) {
+    }
+
+    /**
+     * Entries are compressed once and sent many times, so the slowest level is worth it.
+     */
+    private static final class BestCompressionGZIPOutputStream extends GZIPOutputStream {
+
+        private BestCompressionGZIPOutputStream(ByteArrayOutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
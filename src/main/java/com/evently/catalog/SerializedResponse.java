@@ -0,0 +1,7 @@
+package com.evently.catalog;
+
+/**
+ * A ready-to-send JSON response body. The content encoding is null for identity bytes.
+ */
+public record SerializedResponse(byte[] body, String contentEncoding) {
+}
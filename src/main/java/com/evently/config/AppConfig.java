@@ -5,16 +5,17 @@ import java.time.format.DateTimeFormatter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
 import org.springframework.web.client.RestTemplate;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 
 /*
  Provides common beans and configuration for the application.
  */
-@Configuration
+@Configuration(proxyBeanMethods = false)
 public class AppConfig {
 
     /*
@@ -26,22 +27,15 @@ public class AppConfig {
     }
 
     /*
-    Object mapper with proper date/time handling.
+    Blackbird replaces reflective getter/setter calls with generated lambdas in every bean
+    (de)serializer. Registered as a module so Spring Boot adds it to its single ObjectMapper,
+    which is also configured from spring.jackson.* and shared by MVC, security and the caches.
+    A native image cannot define classes at runtime, so there Jackson stays reflective, with the
+    hints registered by NativeConfig.
      */
     @Bean
-    public ObjectMapper objectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        
-        // Register JavaTimeModule for proper LocalDateTime serialization
-        mapper.registerModule(new JavaTimeModule());
-        
-        // Disable writing dates as timestamps
-        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        
-        // Configure other settings
-        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-        
-        return mapper;
+    public Module blackbirdModule() {
+        return NativeDetector.inNativeImage() ? new SimpleModule("blackbird-unavailable") : new BlackbirdModule();
     }
 
     /*
@@ -0,0 +1,14 @@
+package com.evently.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ Enables Spring's cache abstraction so the caches declared in
+ spring.cache.cache-names are created and bound to the meter registry.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+}
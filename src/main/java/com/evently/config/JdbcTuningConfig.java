@@ -0,0 +1,83 @@
+package com.evently.config;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.lang.NonNull;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/*
+ Connection pool sizing and a production self-check of the SQL logging settings.
+
+ With app.datasource.pool.size=auto every Hikari pool gets cores * 2 + spindles connections (the
+ HikariCP rule of thumb: a few more connections than the database can work on at once queue up in
+ the database instead of the pool), minimum-idle included so that the pool stays at a fixed size.
+ On small machines that is only 3 to 5 connections, fewer than a single vendor page loads at once, so
+ auto never goes below twice app.vendor-page.max-concurrency: one page's parts get their connections
+ and leave as many for other requests.
+ A number sets that size instead; unset, spring.datasource.hikari.* is used as it is. The size is
+ applied before the pool starts and before SlowQueryConfig wraps it.
+ */
+@Configuration(proxyBeanMethods = false)
+public class JdbcTuningConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcTuningConfig.class);
+
+    // Settings that log or decorate every statement; expensive under load and noisy in production logs
+    private static final List<String> SQL_LOGGING_SETTINGS = List.of(
+        "spring.jpa.show-sql",
+        "spring.jpa.properties.hibernate.show_sql",
+        "spring.jpa.properties.hibernate.format_sql",
+        "spring.jpa.properties.hibernate.use_sql_comments");
+
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) throws BeansException {
+                String size = environment.getProperty("app.datasource.pool.size", "");
+                if (bean instanceof HikariDataSource pool && !size.isBlank()) {
+                    int poolSize = size.equalsIgnoreCase("auto")
+                        ? poolSizeForCores(Runtime.getRuntime().availableProcessors(),
+                            environment.getProperty("app.datasource.pool.spindles", Integer.class, 1),
+                            2 * environment.getProperty("app.vendor-page.max-concurrency", Integer.class, 8))
+                        : Integer.parseInt(size.trim());
+                    pool.setMaximumPoolSize(poolSize);
+                    pool.setMinimumIdle(poolSize);
+                    logger.info("Connection pool {} sized to {} connections", beanName, poolSize);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static int poolSizeForCores(int cores, int spindles, int minimum) {
+        return Math.max(cores * 2 + spindles, minimum);
+    }
+
+    /**
+     * Warn when statement logging is left on in production.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkProductionSettings(ApplicationReadyEvent event) {
+        Environment environment = event.getApplicationContext().getEnvironment();
+        if (!environment.acceptsProfiles(Profiles.of("prod"))) {
+            return;
+        }
+        for (String setting : SQL_LOGGING_SETTINGS) {
+            if (environment.getProperty(setting, Boolean.class, false)) {
+                logger.warn("{} is on in production: every statement is formatted and logged", setting);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.evently.config;
+
+import java.util.List;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+/*
+ Reachability hints for the native image (mvn -Pnative native:compile).
+
+ Spring's AOT processing covers the beans themselves; these hints cover what is only reached by
+ reflection or resource lookup at runtime: Jackson (de)serializing the DTOs and domain events,
+ Hibernate instantiating the entities, MapStruct mapper implementations, JJWT loading its
+ implementation and JSON serializer by name, and the Flyway migrations.
+ */
+@Configuration
+@ImportRuntimeHints(NativeConfig.EventlyRuntimeHints.class)
+public class NativeConfig {
+
+    static final List<String> JSON_PACKAGES = List.of("com.evently.dto", "com.evently.service.event");
+    static final String ENTITY_PACKAGE = "com.evently.model";
+    static final String MAPPER_PACKAGE = "com.evently.mapper";
+
+    // Looked up with Classes.newInstance / ServiceLoader by jjwt-api 0.11
+    static final List<String> JJWT_TYPES = List.of(
+        "io.jsonwebtoken.impl.DefaultJwtBuilder",
+        "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+        "io.jsonwebtoken.impl.DefaultJwtParser",
+        "io.jsonwebtoken.impl.DefaultClaims",
+        "io.jsonwebtoken.impl.DefaultHeader",
+        "io.jsonwebtoken.impl.DefaultJwsHeader",
+        "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+        "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+        "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+        "io.jsonwebtoken.jackson.io.JacksonSerializer",
+        "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    static class EventlyRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+            for (String jsonPackage : JSON_PACKAGES) {
+                bindings.registerReflectionHints(hints.reflection(), classesIn(jsonPackage, classLoader).toArray(Class<?>[]::new));
+            }
+
+            for (Class<?> entity : classesIn(ENTITY_PACKAGE, classLoader)) {
+                hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+
+            for (Class<?> mapper : classesIn(MAPPER_PACKAGE, classLoader)) {
+                hints.reflection().registerType(mapper, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            for (String type : JJWT_TYPES) {
+                if (ClassUtils.isPresent(type, classLoader)) {
+                    hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+                }
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            // spring.flyway.locations=classpath:db/migration/{vendor}
+            hints.resources().registerPattern("db/migration/*/*.sql");
+        }
+
+        /**
+         * Every class compiled into the package and its subpackages, nested classes included.
+         */
+        private static List<Class<?>> classesIn(String basePackage, ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    return true;
+                }
+            };
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+            return scanner.findCandidateComponents(basePackage).stream()
+                .map(BeanDefinition::getBeanClassName)
+                .<Class<?>>map(name -> ClassUtils.resolveClassName(name, classLoader))
+                .toList();
+        }
+    }
+}
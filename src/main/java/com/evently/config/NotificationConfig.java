@@ -0,0 +1,57 @@
+package com.evently.config;
+
+import java.net.URI;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import com.evently.notification.LogNotificationSink;
+import com.evently.notification.SmtpNotificationSink;
+import com.evently.notification.WebhookNotificationSink;
+
+/*
+ Notification sinks the outbox delivers to. Each is enabled on its own; a notification is
+ stored once for every enabled sink.
+ */
+@Configuration(proxyBeanMethods = false)
+public class NotificationConfig {
+
+    /*
+    E-mail through spring.mail.*, from app.mail.from.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.notifications.email.enabled", havingValue = "true")
+    public SmtpNotificationSink smtpNotificationSink(JavaMailSender mailSender,
+                                                     @Value("${app.mail.from:noreply@evently.com}") String from,
+                                                     @Value("${app.mail.from-name:Evently}") String fromName) {
+        return new SmtpNotificationSink(mailSender, from, fromName);
+    }
+
+    /*
+    JSON POSTs to app.notifications.webhook.url, when set.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.notifications.webhook.url")
+    public WebhookNotificationSink webhookNotificationSink(RestTemplateBuilder restTemplateBuilder,
+                                                           @Value("${app.notifications.webhook.url}") URI url,
+                                                           @Value("${app.notifications.webhook.timeout:5s}") Duration timeout) {
+        return new WebhookNotificationSink(restTemplateBuilder
+                .connectTimeout(timeout)
+                .readTimeout(timeout)
+                .build(), url);
+    }
+
+    /*
+    The application log.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.notifications.log.enabled", havingValue = "true", matchIfMissing = true)
+    public LogNotificationSink logNotificationSink() {
+        return new LogNotificationSink();
+    }
+}
@@ -0,0 +1,28 @@
+package com.evently.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/*
+ Size and expiry of each Hibernate second-level cache region, keyed by region name
+ (app.cache.l2.regions.<region>.max-size / expire-after-write). Unset values mean unbounded.
+ */
+@Data
+@ConfigurationProperties("app.cache.l2")
+public class SecondLevelCacheProperties {
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Data
+    public static class Region {
+
+        private Long maxSize;
+
+        private Duration expireAfterWrite;
+    }
+}
@@ -2,27 +2,37 @@ package com.evently.config;
 
 import java.util.List;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.evently.security.JwtAuthenticationEntryPoint;
 import com.evently.security.JwtAuthenticationFilter;
 
-@Configuration
+import jakarta.servlet.DispatcherType;
+
+@Configuration(proxyBeanMethods = false)
 public class SecurityConfig {
 
     @Bean
@@ -40,14 +50,51 @@ public class SecurityConfig {
         return provider;
     }
 
+    /**
+     * Actuator endpoints. Health and the Prometheus scrape are public; everything else
+     * (metrics, slow queries, ...) needs the operator account from spring.security.user.* over HTTP Basic.
+     */
+    @Bean
+    @Order(1)
+    @SuppressWarnings("deprecation")
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http,
+                                                           SecurityProperties securityProperties,
+                                                           PasswordEncoder passwordEncoder) throws Exception {
+        SecurityProperties.User operator = securityProperties.getUser();
+        DaoAuthenticationProvider operatorProvider = new DaoAuthenticationProvider();
+        operatorProvider.setUserDetailsService(new InMemoryUserDetailsManager(User.withUsername(operator.getName())
+            .password(passwordEncoder.encode(operator.getPassword()))
+            .roles(operator.getRoles().toArray(new String[0]))
+            .build()));
+        operatorProvider.setPasswordEncoder(passwordEncoder);
+
+        http
+            .securityMatcher(EndpointRequest.toAnyEndpoint())
+            .csrf(csrf -> csrf.disable())
+            .authorizeHttpRequests(auth -> auth
+                .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                .anyRequest().hasRole("ADMIN")
+            )
+            .httpBasic(Customizer.withDefaults())
+            .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authenticationManager(new ProviderManager(operatorProvider));
+
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http,
                                                    JwtAuthenticationFilter jwtAuthFilter,
-                                                   AuthenticationProvider authenticationProvider) throws Exception {
+                                                   JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
+                                                   AuthenticationProvider authenticationProvider,
+                                                   CorsConfigurationSource corsConfigurationSource) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
-            .cors(cors -> cors.configurationSource(corsConfigurationSource()))  
+            .cors(cors -> cors.configurationSource(corsConfigurationSource))  
             .authorizeHttpRequests(auth -> auth
+                // Streamed and SSE responses finish on an async dispatch, which the JWT filter does
+                // not see again; the request was authorized when it started
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                 .requestMatchers(
                     "/",
                     "/health", "/health/**",
@@ -62,9 +109,10 @@ public class SecurityConfig {
                     "/api/docs"                    
                 ).permitAll()
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()  
-                .requestMatchers(HttpMethod.GET, "/api/vendors/**", "/api/events/**").permitAll()  
+                .requestMatchers(HttpMethod.GET, "/api/vendors/**", "/api/events/**", "/uploads/**").permitAll()  
                 .anyRequest().authenticated()
             )
+            .exceptionHandling(ex -> ex.authenticationEntryPoint(jwtAuthenticationEntryPoint))
             .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authenticationProvider(authenticationProvider)
             .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
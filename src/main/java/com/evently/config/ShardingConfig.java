@@ -0,0 +1,114 @@
+package com.evently.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.evently.sharding.ReferenceDataReplicator;
+import com.evently.sharding.ShardDataSources;
+import com.evently.sharding.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/*
+ Sharding of events, guests and vendor bookings by planner. Only active when app.sharding.shard-urls
+ is set; otherwise Spring Boot's single auto-configured pool is used unchanged.
+ The shared database (users, vendors, services, reviews, ...) is still configured through
+ spring.datasource.*; the shards take the same credentials, driver and hikari settings, and are
+ migrated with the same Flyway migrations at startup. Not combinable with app.datasource.replica.url.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "app.sharding", name = "shard-urls")
+public class ShardingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource globalDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ShardDataSources shardDataSources(DataSourceProperties properties, Environment environment,
+                                             @Value("${app.sharding.shard-urls}") List<String> shardUrls) {
+        List<HikariDataSource> shards = new ArrayList<>();
+        for (int shard = 0; shard < shardUrls.size(); shard++) {
+            String url = shardUrls.get(shard).trim();
+            HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(url)
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+            pool.setPoolName("evently-shard-" + shard);
+            if (DatabaseDriver.fromJdbcUrl(url) == DatabaseDriver.MYSQL) {
+                pool.setConnectionInitSql(ShardDataSources.mysqlIdentitySql(shard, shardUrls.size()));
+            }
+            shards.add(pool);
+        }
+
+        ShardDataSources shardDataSources = new ShardDataSources(shards);
+        if (environment.getProperty("spring.flyway.enabled", Boolean.class, true)) {
+            shardDataSources.migrate(environment.getProperty("spring.flyway.locations", "classpath:db/migration/{vendor}"),
+                environment.getProperty("spring.flyway.baseline-on-migrate", Boolean.class, false),
+                environment.getProperty("spring.flyway.baseline-version", "1"));
+        }
+        shardDataSources.strideIdentities();
+        return shardDataSources;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("globalDataSource") DataSource global, ShardDataSources shardDataSources) {
+        return new LazyConnectionDataSourceProxy(new ShardRoutingDataSource(global, shardDataSources.getShards()));
+    }
+
+    @Bean
+    public ReferenceDataReplicator referenceDataReplicator(@Qualifier("globalDataSource") DataSource global,
+                                                           ShardDataSources shardDataSources,
+                                                           @Value("${app.sharding.copy-batch-size:500}") int batchSize) {
+        return new ReferenceDataReplicator(global, shardDataSources.getShards(), batchSize);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer referenceDataReplicationCustomizer(ReferenceDataReplicator replicator) {
+        return properties -> properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+            (IntegratorProvider) () -> List.of(replicator));
+    }
+
+    /**
+     * Copies the shared tables to the shards before the application takes requests, once the
+     * shared database has been migrated (which the entity manager factory waits for).
+     */
+    @Bean
+    public SmartInitializingSingleton referenceDataCopier(ReferenceDataReplicator replicator,
+                                                          ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        return () -> {
+            entityManagerFactory.getObject();
+            replicator.copyAll();
+        };
+    }
+}
@@ -42,12 +42,7 @@ public class WebConfig implements WebMvcConfigurer {
     
     @Override
     public void addResourceHandlers(@NonNull ResourceHandlerRegistry registry) {
-        
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:" + uploadDir + "/")
-                .setCachePeriod(86400); 
-
-        
+        // /uploads/** is served by MediaController
         registry.addResourceHandler("/static/**")
                 .addResourceLocations("classpath:/static/")
                 .setCachePeriod(86400);
@@ -68,6 +63,7 @@ public class WebConfig implements WebMvcConfigurer {
             createSubDirectory(uploadPath, "events");
             createSubDirectory(uploadPath, "vendors");
             createSubDirectory(uploadPath, "portfolio");
+            createSubDirectory(uploadPath, "media");
             createSubDirectory(uploadPath, "temp");
 
         } catch (IOException e) {
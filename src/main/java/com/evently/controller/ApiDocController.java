@@ -88,6 +88,7 @@ public class ApiDocController {
         vendorEndpoints.add(createEndpoint("PUT", "/api/vendors/{id}", "Update vendor profile", "Vendor"));
         vendorEndpoints.add(createEndpoint("GET", "/api/vendors/my-profile", "Get current vendor profile", "Vendor"));
         vendorEndpoints.add(createEndpoint("GET", "/api/vendors/search", "Search vendors", "Public"));
+        vendorEndpoints.add(createEndpoint("GET", "/api/vendors/top", "Top vendors by rating or bookings", "Public"));
         vendorEndpoints.add(createEndpoint("POST", "/api/vendors/{vendorId}/services", "Add service", "Vendor"));
         vendorEndpoints.add(createEndpoint("POST", "/api/vendors/{vendorId}/portfolio", "Add portfolio item", "Vendor"));
         categories.put("Vendors", vendorEndpoints);
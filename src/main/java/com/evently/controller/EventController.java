@@ -1,12 +1,16 @@
 package com.evently.controller;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,9 +20,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.evently.model.Guest;
 import com.evently.dto.guest.GuestCreateUpdateDTO;
@@ -26,10 +32,13 @@ import com.evently.dto.guest.GuestDto;
 import com.evently.dto.event.EventCreateDTO;
 import com.evently.dto.event.EventDTO;
 import com.evently.dto.event.EventUpdateDTO;
+import com.evently.service.CatalogResponseService;
 import com.evently.service.EventService;
 import com.evently.service.EventService.EventStatsDTO;
+import com.evently.service.LiveUpdateService;
 import com.evently.service.UserService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 /**
@@ -46,6 +55,12 @@ public class EventController {
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private CatalogResponseService catalogResponseService;
+    
+    @Autowired
+    private LiveUpdateService liveUpdateService;
+    
     // Event Management
     
     /**
@@ -83,9 +98,18 @@ public class EventController {
      * Get event by ID.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<EventDTO> getEventById(@PathVariable Long id) {
+    public ResponseEntity<EventDTO> getEventById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<String> etag = eventService.getEventETag(id);
+        if (etag.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (ConditionalRequests.matches(ifNoneMatch, etag.get())) {
+            return ConditionalRequests.notModified(etag.get());
+        }
         return eventService.getEventById(id)
-                .map(event -> ResponseEntity.ok(event))
+                .map(event -> ConditionalRequests.ok(etag.get(), event))
                 .orElse(ResponseEntity.notFound().build());
     }
     
@@ -160,12 +184,14 @@ public class EventController {
     }
     
     /**
-     * Get upcoming events.
+     * Get upcoming events, served from the pre-serialized catalog cache.
      */
     @GetMapping("/upcoming")
-    public ResponseEntity<List<EventDTO>> getUpcomingEvents() {
-        List<EventDTO> events = eventService.getUpcomingEvents();
-        return ResponseEntity.ok(events);
+    public void getUpcomingEvents(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        SerializedResponses.write(catalogResponseService.getUpcomingEvents(
+                SerializedResponses.acceptsGzip(acceptEncoding)), response);
     }
     
     /**
@@ -305,4 +331,33 @@ public class EventController {
             return ResponseEntity.badRequest().build();
         }
     }
-}
\ No newline at end of file
+
+    // Live Updates
+    
+    /**
+     * Follow guest and booking changes of an event as they commit (Server-Sent Events).
+     * Only the event's planner may follow it.
+     */
+    @GetMapping(value = "/{eventId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> followEvent(
+            @PathVariable Long eventId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            // Get the current user's ID
+            Long plannerId = userService.getUserByUsername(userDetails.getUsername())
+                    .orElseThrow(() -> new IllegalArgumentException("User not found"))
+                    .getId();
+            
+            SseEmitter emitter = liveUpdateService.subscribeToEvent(eventId, plannerId);
+            if (emitter == null) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            }
+            return ResponseEntity.ok(emitter);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.evently.controller;
 
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -13,6 +15,9 @@ import org.springframework.web.bind.annotation.RestController;
 
 import javax.sql.DataSource;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
 /**
  * Health Check Controller.
  * Provides health status information for the application.
@@ -40,6 +45,7 @@ public class HealthController {
         Map<String, Object> health = new HashMap<>();
         
         health.put("status", "UP");
+        health.put("service", applicationName);
         health.put("application", applicationName);
         health.put("version", version);
         health.put("timestamp", LocalDateTime.now());
@@ -81,11 +87,10 @@ public class HealthController {
         health.put("system", system);
         
         // Database info
-        Map<String, Object> database = new HashMap<>();
-        boolean dbConnected = checkDatabaseConnection();
-        database.put("status", dbConnected ? "UP" : "DOWN");
-        database.put("type", "MySQL");
+        Map<String, Object> database = describeDatabase();
+        boolean dbConnected = "UP".equals(database.get("status"));
         health.put("database", database);
+        health.put("metrics", "/actuator/prometheus");
         
         // Overall status
         health.put("status", dbConnected ? "UP" : "DOWN");
@@ -112,14 +117,49 @@ public class HealthController {
      * Check database connection.
      */
     private boolean checkDatabaseConnection() {
-        try {
-            dataSource.getConnection().close();
-            return true;
+        try (Connection connection = dataSource.getConnection()) {
+            return connection != null;
         } catch (Exception e) {
             return false;
         }
     }
 
+    /**
+     * Describe the database actually behind the DataSource, plus pool usage.
+     */
+    private Map<String, Object> describeDatabase() {
+        Map<String, Object> database = new HashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            database.put("status", "UP");
+            database.put("type", metaData.getDatabaseProductName());
+            database.put("version", metaData.getDatabaseProductVersion());
+            database.put("driver", metaData.getDriverName());
+        } catch (Exception e) {
+            database.put("status", "DOWN");
+        }
+
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                Map<String, Object> poolInfo = new HashMap<>();
+                poolInfo.put("name", hikari.getPoolName());
+                poolInfo.put("maximumPoolSize", hikari.getMaximumPoolSize());
+                if (pool != null) {
+                    poolInfo.put("active", pool.getActiveConnections());
+                    poolInfo.put("idle", pool.getIdleConnections());
+                    poolInfo.put("total", pool.getTotalConnections());
+                    poolInfo.put("threadsAwaitingConnection", pool.getThreadsAwaitingConnection());
+                }
+                database.put("pool", poolInfo);
+            }
+        } catch (Exception e) {
+            // Pool details are informational only
+        }
+        return database;
+    }
+
     /**
      * Get application uptime 
      */
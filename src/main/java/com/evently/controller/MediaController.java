@@ -0,0 +1,34 @@
+package com.evently.controller;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.evently.service.MediaService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * REST Controller for uploaded files.
+ * Serves /uploads with range requests, ETags and immutable caching of content-addressed names.
+ */
+@RestController
+public class MediaController {
+
+    @Autowired
+    private MediaService mediaService;
+
+    /**
+     * Get an uploaded file.
+     */
+    @RequestMapping(value = "/uploads/{*path}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void getUploadedFile(@PathVariable String path, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        mediaService.serveFile(path.substring(1), request, response);
+    }
+}
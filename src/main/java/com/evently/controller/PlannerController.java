@@ -0,0 +1,57 @@
+package com.evently.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.evently.dto.user.UserDTO;
+import com.evently.service.PlannerDashboardService;
+import com.evently.service.UserService;
+
+/**
+ * REST Controller for the planner's own views.
+ */
+@RestController
+@RequestMapping("/api/planner")
+public class PlannerController {
+    
+    @Autowired
+    private PlannerDashboardService plannerDashboardService;
+    
+    @Autowired
+    private UserService userService;
+    
+    /**
+     * Get the current planner's events with guest and booking counts by status, streamed as they
+     * are read.
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<StreamingResponseBody> getDashboard(@AuthenticationPrincipal UserDetails userDetails) {
+        UserDTO user = userService.getUserByUsername(userDetails.getUsername()).orElse(null);
+        if (user == null || !Boolean.TRUE.equals(user.getIsPlanner())) {
+            return ResponseEntity.badRequest().build();
+        }
+        Long plannerId = user.getId();
+        // Written on an async thread, still as the planner so their reads follow their own writes
+        SecurityContext context = SecurityContextHolder.getContext();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> {
+                    SecurityContext previous = SecurityContextHolder.getContext();
+                    SecurityContextHolder.setContext(context);
+                    try {
+                        plannerDashboardService.writeDashboard(plannerId, out);
+                    } finally {
+                        SecurityContextHolder.setContext(previous);
+                    }
+                });
+    }
+}
@@ -0,0 +1,49 @@
+package com.evently.controller;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import com.evently.catalog.CatalogResponseCache;
+import com.evently.catalog.SerializedResponse;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Writes pre-serialized JSON straight to the servlet output stream, bypassing message converters.
+ * Content-Encoding is already set for gzip bodies, so the container does not compress them again.
+ */
+final class SerializedResponses {
+
+    private SerializedResponses() {
+    }
+
+    /**
+     * Whether an Accept-Encoding header value allows gzip, i.e. names gzip or * without q=0.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase(CatalogResponseCache.GZIP) || name.equals("*")) {
+                return parts.length < 2 || !parts[1].trim().matches("(?i)q\\s*=\\s*0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    static void write(SerializedResponse serialized, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (serialized.contentEncoding() != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, serialized.contentEncoding());
+        }
+        response.setContentLength(serialized.body().length);
+        response.getOutputStream().write(serialized.body());
+    }
+}
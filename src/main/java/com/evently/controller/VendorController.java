@@ -1,11 +1,15 @@
 package com.evently.controller;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,19 +19,30 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.evently.dto.vendor.PortfolioItemDTO;
 import com.evently.dto.vendor.ReviewDTO;
 import com.evently.dto.vendor.ServiceDTO;
+import com.evently.dto.vendor.VendorPageDTO;
 import com.evently.dto.vendor.VendorProfileCreateUpdateDTO;
 import com.evently.dto.vendor.VendorProfileDTO;
+import com.evently.dto.vendor.VendorRankingDTO;
+import com.evently.leaderboard.LeaderboardMetric;
+import com.evently.service.CatalogResponseService;
+import com.evently.service.LiveUpdateService;
 import com.evently.service.UserService;
+import com.evently.service.VendorLeaderboardService;
+import com.evently.service.VendorPageService;
 import com.evently.service.VendorService;
 import com.evently.service.VendorService.VendorStatsDTO;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 /**
@@ -44,6 +59,18 @@ public class VendorController {
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private VendorLeaderboardService vendorLeaderboardService;
+    
+    @Autowired
+    private CatalogResponseService catalogResponseService;
+    
+    @Autowired
+    private LiveUpdateService liveUpdateService;
+    
+    @Autowired
+    private VendorPageService vendorPageService;
+    
    
     @PostMapping("/profile")
     public ResponseEntity<VendorProfileDTO> createVendorProfile(
@@ -66,9 +93,18 @@ public class VendorController {
      * Get vendor profile by ID.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<VendorProfileDTO> getVendorProfileById(@PathVariable Long id) {
+    public ResponseEntity<VendorProfileDTO> getVendorProfileById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<String> etag = vendorService.getVendorProfileETag(id);
+        if (etag.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (ConditionalRequests.matches(ifNoneMatch, etag.get())) {
+            return ConditionalRequests.notModified(etag.get());
+        }
         return vendorService.getVendorProfileById(id)
-                .map(profile -> ResponseEntity.ok(profile))
+                .map(profile -> ConditionalRequests.ok(etag.get(), profile))
                 .orElse(ResponseEntity.notFound().build());
     }
     
@@ -112,20 +148,65 @@ public class VendorController {
         }
     }
     
+    /**
+     * Upload a vendor profile picture (multipart field "file": JPEG, PNG or GIF).
+     */
+    @PutMapping(value = "/{id}/profile-pic", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<VendorProfileDTO> uploadProfilePicture(
+            @PathVariable Long id,
+            @RequestParam("file") MultipartFile file,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        try {
+            // Get the current user's ID
+            Long userId = userService.getUserByUsername(userDetails.getUsername())
+                    .orElseThrow(() -> new IllegalArgumentException("User not found"))
+                    .getId();
+            
+            VendorProfileDTO updatedProfile = vendorService.updateProfilePicture(id, file, userId);
+            return ResponseEntity.ok(updatedProfile);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    
+    /**
+     * Get top vendors by Bayesian-adjusted rating or by confirmed bookings.
+     * Served from the in-memory leaderboard; optionally restricted to one service category.
+     */
+    @GetMapping("/top")
+    public ResponseEntity<List<VendorRankingDTO>> getTopVendors(
+            @RequestParam(defaultValue = "rating") String by,
+            @RequestParam(required = false) Long category,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<VendorRankingDTO> rankings = vendorLeaderboardService.getTopVendors(LeaderboardMetric.fromValue(by), category, limit);
+            return ResponseEntity.ok(rankings);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
     
+    /**
+     * Get all vendor profiles, served from the pre-serialized catalog cache.
+     */
     @GetMapping
-    public ResponseEntity<Page<VendorProfileDTO>> getAllVendorProfiles(Pageable pageable) {
-        Page<VendorProfileDTO> vendors = vendorService.getAllVendorProfiles(pageable);
-        return ResponseEntity.ok(vendors);
+    public void getAllVendorProfiles(Pageable pageable,
+                                     @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                     HttpServletResponse response) throws IOException {
+        SerializedResponses.write(catalogResponseService.getAllVendorProfiles(pageable,
+                SerializedResponses.acceptsGzip(acceptEncoding)), response);
     }
     
     /**
-     * Get verified vendor profiles.
+     * Get verified vendor profiles, served from the pre-serialized catalog cache.
      */
     @GetMapping("/verified")
-    public ResponseEntity<List<VendorProfileDTO>> getVerifiedVendorProfiles() {
-        List<VendorProfileDTO> vendors = vendorService.getVerifiedVendorProfiles();
-        return ResponseEntity.ok(vendors);
+    public void getVerifiedVendorProfiles(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        SerializedResponses.write(catalogResponseService.getVerifiedVendorProfiles(
+                SerializedResponses.acceptsGzip(acceptEncoding)), response);
     }
     
     /**
@@ -169,9 +250,15 @@ public class VendorController {
      * Get services by vendor.
      */
     @GetMapping("/{vendorId}/services")
-    public ResponseEntity<List<ServiceDTO>> getServicesByVendor(@PathVariable Long vendorId) {
+    public ResponseEntity<List<ServiceDTO>> getServicesByVendor(
+            @PathVariable Long vendorId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = vendorService.getServicesETag(vendorId);
+        if (ConditionalRequests.matches(ifNoneMatch, etag)) {
+            return ConditionalRequests.notModified(etag);
+        }
         List<ServiceDTO> services = vendorService.getServicesByVendor(vendorId);
-        return ResponseEntity.ok(services);
+        return ConditionalRequests.ok(etag, services);
     }
     
     /**
@@ -243,13 +330,41 @@ public class VendorController {
         }
     }
     
+    /**
+     * Upload an image as a new portfolio item (multipart field "file": JPEG, PNG or GIF).
+     */
+    @PostMapping(value = "/{vendorId}/portfolio/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<PortfolioItemDTO> uploadPortfolioImage(
+            @PathVariable Long vendorId,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String description,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        try {
+            // Get the current user's ID
+            Long userId = userService.getUserByUsername(userDetails.getUsername())
+                    .orElseThrow(() -> new IllegalArgumentException("User not found"))
+                    .getId();
+            
+            PortfolioItemDTO portfolioItem = vendorService.addPortfolioImage(vendorId, file, description, userId);
+            return ResponseEntity.status(HttpStatus.CREATED).body(portfolioItem);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     /**
      * Get portfolio items by vendor.
      */
     @GetMapping("/{vendorId}/portfolio")
-    public ResponseEntity<List<PortfolioItemDTO>> getPortfolioItemsByVendor(@PathVariable Long vendorId) {
+    public ResponseEntity<List<PortfolioItemDTO>> getPortfolioItemsByVendor(
+            @PathVariable Long vendorId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = vendorService.getPortfolioETag(vendorId);
+        if (ConditionalRequests.matches(ifNoneMatch, etag)) {
+            return ConditionalRequests.notModified(etag);
+        }
         List<PortfolioItemDTO> items = vendorService.getPortfolioItemsByVendor(vendorId);
-        return ResponseEntity.ok(items);
+        return ConditionalRequests.ok(etag, items);
     }
     
     /**
@@ -383,4 +498,44 @@ public class VendorController {
             return ResponseEntity.badRequest().build();
         }
     }
+    
+    /**
+     * Get everything a vendor's page shows in one request: profile, services, portfolio, reviews,
+     * statistics and, if eventDate is given, availability on that date.
+     */
+    @GetMapping("/{vendorId}/page")
+    public ResponseEntity<VendorPageDTO> getVendorPage(
+            @PathVariable Long vendorId,
+            @RequestParam(required = false) LocalDate eventDate) {
+        return vendorPageService.getVendorPage(vendorId, eventDate)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * Follow changes to a vendor's bookings as they commit (Server-Sent Events).
+     * Only the vendor may follow their bookings.
+     */
+    @GetMapping(value = "/{vendorId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> followVendor(
+            @PathVariable Long vendorId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        try {
+            // Get the current user's ID
+            Long userId = userService.getUserByUsername(userDetails.getUsername())
+                    .orElseThrow(() -> new IllegalArgumentException("User not found"))
+                    .getId();
+            
+            SseEmitter emitter = liveUpdateService.subscribeToVendor(vendorId, userId);
+            if (emitter == null) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            }
+            return ResponseEntity.ok(emitter);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
@@ -0,0 +1,76 @@
+package com.evently.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes connections for read-only transactions to the replica and everything else to the primary.
+ * Reads still go to the primary when the replica lags too far behind, or when the current user
+ * committed a write within the read-your-writes window.
+ *
+ * The lookup happens when a physical connection is requested, so this must sit behind a
+ * LazyConnectionDataSourceProxy for the transaction's read-only flag to be visible.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker writesTracker;
+
+    // Transaction resource key marking that the current write transaction is already tracked
+    private final Object writeTrackingKey = new Object();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      ReplicaLagMonitor lagMonitor, ReadYourWritesTracker writesTracker) {
+        this.lagMonitor = lagMonitor;
+        this.writesTracker = writesTracker;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (lagMonitor.isReplicaUsable()
+                    && !writesTracker.isSticky(ReadYourWritesTracker.currentUsername())) {
+                return Target.REPLICA;
+            }
+            return Target.PRIMARY;
+        }
+        trackWrite();
+        return Target.PRIMARY;
+    }
+
+    /**
+     * Once the current read-write transaction commits, pin its user's reads to the primary.
+     */
+    private void trackWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(writeTrackingKey)) {
+            return;
+        }
+        String username = ReadYourWritesTracker.currentUsername();
+        if (username == null) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(writeTrackingKey, username);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(writeTrackingKey);
+                if (status == STATUS_COMMITTED) {
+                    writesTracker.recordWrite(username);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,69 @@
+package com.evently.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Remembers which users committed a write recently so their reads can be
+ * pinned to the primary until the replica has had time to catch up.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowMs;
+
+    private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    /**
+     * Record a committed write by the given user.
+     */
+    public void recordWrite(String username) {
+        if (username == null || windowMs <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        lastWriteAt.put(username, now);
+        if (lastWriteAt.size() > PURGE_THRESHOLD) {
+            lastWriteAt.values().removeIf(writtenAt -> now - writtenAt >= windowMs);
+        }
+    }
+
+    /**
+     * Whether the user wrote within the stickiness window.
+     */
+    public boolean isSticky(String username) {
+        if (username == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteAt.get(username);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - writtenAt < windowMs) {
+            return true;
+        }
+        lastWriteAt.remove(username, writtenAt);
+        return false;
+    }
+
+    /**
+     * Name of the authenticated user on this thread, or null for anonymous requests.
+     */
+    public static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
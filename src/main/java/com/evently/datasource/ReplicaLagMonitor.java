@@ -0,0 +1,74 @@
+package com.evently.datasource;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Measures replica lag with a heartbeat row: every check writes the current time to
+ * replica_heartbeat on the primary and reads back the last beat the replica has applied.
+ * Lag is therefore measured with the granularity of the check interval.
+ * The replica is considered unusable until the first successful check, when it is
+ * unreachable, or when the lag exceeds the configured maximum.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMs;
+
+    private volatile long lagMs = Long.MAX_VALUE;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, long maxLagMs) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMs = maxLagMs;
+    }
+
+    /**
+     * Write a heartbeat on the primary and re-measure how far behind the replica is.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.check-interval-ms:1000}")
+    public void checkLag() {
+        try {
+            primary.update("UPDATE replica_heartbeat SET beat_ms = ? WHERE id = 1", System.currentTimeMillis());
+        } catch (DataAccessException e) {
+            logger.debug("Could not write replica heartbeat on primary", e);
+        }
+
+        boolean wasUsable = usable;
+        try {
+            Long beat = replica.queryForObject("SELECT beat_ms FROM replica_heartbeat WHERE id = 1", Long.class);
+            lagMs = beat == null ? Long.MAX_VALUE : Math.max(0, System.currentTimeMillis() - beat);
+        } catch (DataAccessException e) {
+            lagMs = Long.MAX_VALUE;
+            logger.debug("Could not read replica heartbeat", e);
+        }
+        usable = lagMs <= maxLagMs;
+
+        if (wasUsable && !usable) {
+            logger.warn("Replica lag {} exceeds {} ms; routing read-only transactions to primary",
+                lagMs == Long.MAX_VALUE ? "unknown" : lagMs + " ms", maxLagMs);
+        } else if (!wasUsable && usable) {
+            logger.info("Replica caught up (lag {} ms); routing read-only transactions to replica", lagMs);
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    /**
+     * Last measured lag in milliseconds, or -1 when unknown.
+     */
+    public long getLagMs() {
+        return lagMs == Long.MAX_VALUE ? -1 : lagMs;
+    }
+}
@@ -1,5 +1,6 @@
 package com.evently.dto.booking;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import com.evently.model.VendorBooking.BookingStatus;
@@ -46,6 +47,17 @@ public class VendorBookingDTO {
     
     private LocalDateTime updatedAt;
     
+    /**
+     * Constructor for JPQL projections, which select the raw service price.
+     */
+    public VendorBookingDTO(Long id, Long eventId, String eventTitle, LocalDateTime eventDate, String eventLocation,
+                            Long vendorId, String vendorBusinessName, Long serviceId, String serviceTitle,
+                            BigDecimal servicePrice, BookingStatus status, String notes,
+                            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, eventId, eventTitle, eventDate, eventLocation, vendorId, vendorBusinessName, serviceId, serviceTitle,
+             servicePrice != null ? "$" + servicePrice.toString() : null, status, notes, createdAt, updatedAt);
+    }
+    
     // Helper methods
     public boolean isPending() {
         return BookingStatus.PENDING.equals(status);
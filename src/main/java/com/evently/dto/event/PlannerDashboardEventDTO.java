@@ -0,0 +1,29 @@
+package com.evently.dto.event;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.evently.model.Guest.RsvpStatus;
+import com.evently.model.VendorBooking.BookingStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one event on a planner's dashboard, with its guests and bookings counted by status.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlannerDashboardEventDTO {
+    
+    private Long id;
+    private String title;
+    private LocalDateTime date;
+    private String location;
+    
+    // Every status is present, with 0 if no guest or booking has it
+    private Map<RsvpStatus, Long> guests;
+    private Map<BookingStatus, Long> bookings;
+}
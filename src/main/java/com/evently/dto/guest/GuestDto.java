@@ -2,12 +2,16 @@ package com.evently.dto.guest;
 
 import java.time.LocalDateTime;
 
+import com.evently.model.Guest.RsvpStatus;
+
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 /**
  * DTO returned when reading Guest data.
  */
 @Data
+@NoArgsConstructor
 public class GuestDto {
     private Long id;
     private String name;
@@ -22,4 +26,20 @@ public class GuestDto {
     private Long eventId;
     private String eventTitle;
     private LocalDateTime eventDate;
+
+    /**
+     * Constructor for JPQL projections. The event title and date are set separately.
+     */
+    public GuestDto(Long id, String name, String email, String phone, String dietaryRestrictions,
+                    RsvpStatus rsvpStatus, LocalDateTime createdAt, LocalDateTime updatedAt, Long eventId) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.phone = phone;
+        this.dietaryRestrictions = dietaryRestrictions;
+        this.rsvpStatus = rsvpStatus != null ? rsvpStatus.name() : null;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.eventId = eventId;
+    }
 }
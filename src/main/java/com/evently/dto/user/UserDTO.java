@@ -2,6 +2,8 @@ package com.evently.dto.user;
 
 import java.time.LocalDateTime;
 
+import com.evently.model.User;
+
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -47,6 +49,15 @@ public class UserDTO {
     // Computed field
     private String fullName;
     
+    /**
+     * Constructor for JPQL projections; computes fullName the same way as User.
+     */
+    public UserDTO(Long id, String username, String firstName, String lastName, String email, Boolean isActive,
+                   LocalDateTime lastLogin, LocalDateTime dateJoined, Boolean isVendor, Boolean isPlanner) {
+        this(id, username, firstName, lastName, email, isActive, lastLogin, dateJoined, isVendor, isPlanner,
+             User.fullNameOf(firstName, lastName, username));
+    }
+    
     // Helper method to get display name
     public String getDisplayName() {
         if (fullName != null && !fullName.trim().isEmpty()) {
@@ -0,0 +1,183 @@
+package com.evently.exception;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * A JSON error body encoded once, with only the request path, the timestamp and optionally the
+ * validation errors spliced in per response.
+ *
+ * The template is the writer's own output for a prototype whose path is {@link #PATH}, whose timestamp
+ * is {@link #EPOCH_MILLIS} or {@link #LOCAL_DATE_TIME}, and whose validation errors (if any) are
+ * {@link #ERRORS}; so rendered bodies match what the writer would produce, field order included.
+ */
+public final class ErrorTemplate {
+
+    public static final String PATH = "__error_path__";
+    public static final long EPOCH_MILLIS = Long.MIN_VALUE;
+    public static final LocalDateTime LOCAL_DATE_TIME = LocalDateTime.MIN;
+    public static final Map<String, String> ERRORS = Map.of("__error_fields__", "");
+
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private enum Slot {
+        PATH(ErrorTemplate.PATH),
+        EPOCH_MILLIS(Long.toString(ErrorTemplate.EPOCH_MILLIS)),
+        LOCAL_DATE_TIME(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(ErrorTemplate.LOCAL_DATE_TIME)),
+        ERRORS("{\"__error_fields__\":\"\"}");
+
+        private final byte[] marker;
+
+        Slot(String marker) {
+            this.marker = marker.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private final byte[][] segments;
+    private final Slot[] slots;
+    private final int fixedLength;
+
+    private ErrorTemplate(byte[][] segments, Slot[] slots) {
+        this.segments = segments;
+        this.slots = slots;
+        this.fixedLength = Arrays.stream(segments).mapToInt(segment -> segment.length).sum();
+    }
+
+    /**
+     * Encode a prototype error body with the writer and cut it at the placeholder values.
+     */
+    public static ErrorTemplate of(ObjectWriter writer, Object prototype) {
+        byte[] json;
+        try {
+            json = writer.writeValueAsBytes(prototype);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode error template for " + prototype.getClass().getName(), e);
+        }
+
+        List<int[]> found = new ArrayList<>();
+        for (Slot slot : Slot.values()) {
+            int at = indexOf(json, slot.marker);
+            if (at >= 0) {
+                found.add(new int[] {at, slot.ordinal()});
+            }
+        }
+        if (found.stream().noneMatch(position -> position[1] == Slot.PATH.ordinal())) {
+            throw new IllegalStateException("Error template has no path placeholder: " + new String(json, StandardCharsets.UTF_8));
+        }
+        found.sort(Comparator.comparingInt(position -> position[0]));
+
+        byte[][] segments = new byte[found.size() + 1][];
+        Slot[] slots = new Slot[found.size()];
+        int from = 0;
+        for (int i = 0; i < found.size(); i++) {
+            slots[i] = Slot.values()[found.get(i)[1]];
+            segments[i] = Arrays.copyOfRange(json, from, found.get(i)[0]);
+            from = found.get(i)[0] + slots[i].marker.length;
+        }
+        segments[found.size()] = Arrays.copyOfRange(json, from, json.length);
+        return new ErrorTemplate(segments, slots);
+    }
+
+    /**
+     * The body for a request path, stamped with the current time.
+     */
+    public byte[] render(String path) {
+        return render(path, null);
+    }
+
+    /**
+     * The body for a request path with already-encoded validation errors, stamped with the current time.
+     */
+    public byte[] render(String path, byte[] errors) {
+        byte[][] values = new byte[slots.length][];
+        int length = fixedLength;
+        for (int i = 0; i < slots.length; i++) {
+            switch (slots[i]) {
+                case PATH -> values[i] = escape(path);
+                case EPOCH_MILLIS -> values[i] = Long.toString(System.currentTimeMillis()).getBytes(StandardCharsets.US_ASCII);
+                case LOCAL_DATE_TIME -> values[i] = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now())
+                        .getBytes(StandardCharsets.US_ASCII);
+                case ERRORS -> values[i] = errors != null ? errors : NULL;
+            }
+            length += values[i].length;
+        }
+
+        byte[] body = new byte[length];
+        int at = 0;
+        for (int i = 0; i < slots.length; i++) {
+            System.arraycopy(segments[i], 0, body, at, segments[i].length);
+            at += segments[i].length;
+            System.arraycopy(values[i], 0, body, at, values[i].length);
+            at += values[i].length;
+        }
+        System.arraycopy(segments[slots.length], 0, body, at, segments[slots.length].length);
+        return body;
+    }
+
+    /**
+     * UTF-8 JSON string content, escaped the way Jackson escapes it by default.
+     */
+    private static byte[] escape(String value) {
+        byte[] raw = value.getBytes(StandardCharsets.UTF_8);
+        int escapes = 0;
+        for (byte b : raw) {
+            if (b == '"' || b == '\\' || (b >= 0 && b < 0x20)) {
+                escapes++;
+            }
+        }
+        if (escapes == 0) {
+            return raw;
+        }
+
+        byte[] escaped = new byte[raw.length + escapes * 5];
+        int at = 0;
+        for (byte b : raw) {
+            if (b == '"' || b == '\\') {
+                escaped[at++] = '\\';
+                escaped[at++] = b;
+            } else if (b >= 0 && b < 0x20) {
+                escaped[at++] = '\\';
+                switch (b) {
+                    case '\b' -> escaped[at++] = 'b';
+                    case '\t' -> escaped[at++] = 't';
+                    case '\n' -> escaped[at++] = 'n';
+                    case '\f' -> escaped[at++] = 'f';
+                    case '\r' -> escaped[at++] = 'r';
+                    default -> {
+                        escaped[at++] = 'u';
+                        escaped[at++] = '0';
+                        escaped[at++] = '0';
+                        escaped[at++] = HEX[b >> 4];
+                        escaped[at++] = HEX[b & 0xF];
+                    }
+                }
+            } else {
+                escaped[at++] = b;
+            }
+        }
+        return Arrays.copyOf(escaped, at);
+    }
+
+    private static int indexOf(byte[] haystack, byte[] needle) {
+        outer:
+        for (int i = 0; i <= haystack.length - needle.length; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack[i + j] != needle[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -15,7 +16,15 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import com.evently.monitoring.RejectionLog;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
@@ -27,12 +36,36 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    // Bodies for the failures scanners and bad clients trigger in bulk, encoded once
+    private final ErrorTemplate validationFailed;
+    private final ErrorTemplate constraintViolation;
+    private final ErrorTemplate authenticationFailed;
+    private final ErrorTemplate badCredentials;
+    private final ErrorTemplate accessDenied;
+
+    private final ObjectWriter validationErrorsWriter;
+
+    private final RejectionLog rejectionLog;
+
+    public GlobalExceptionHandler(ObjectMapper objectMapper, RejectionLog rejectionLog) {
+        ObjectWriter writer = objectMapper.writerFor(ErrorResponse.class);
+        this.validationFailed = template(writer, HttpStatus.BAD_REQUEST, "Validation Failed", "Invalid input parameters", true);
+        this.constraintViolation = template(writer, HttpStatus.BAD_REQUEST, "Constraint Violation", "Invalid input parameters", true);
+        this.authenticationFailed = template(writer, HttpStatus.UNAUTHORIZED, "Authentication Failed",
+            "Invalid credentials or authentication required", false);
+        this.badCredentials = template(writer, HttpStatus.UNAUTHORIZED, "Bad Credentials", "Invalid username or password", false);
+        this.accessDenied = template(writer, HttpStatus.FORBIDDEN, "Access Denied",
+            "You don't have permission to access this resource", false);
+        this.validationErrorsWriter = objectMapper.writerFor(new TypeReference<Map<String, String>>() { });
+        this.rejectionLog = rejectionLog;
+    }
+
     /**
      * Handle validation errors from @Valid annotations.
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ErrorResponse> handleValidationErrors(
-            MethodArgumentNotValidException ex, HttpServletRequest request) {
+    public ResponseEntity<byte[]> handleValidationErrors(
+            MethodArgumentNotValidException ex, HttpServletRequest request) throws JsonProcessingException {
         
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach((error) -> {
@@ -41,25 +74,18 @@ public class GlobalExceptionHandler {
             errors.put(fieldName, errorMessage);
         });
 
-        ErrorResponse errorResponse = new ErrorResponse(
-            HttpStatus.BAD_REQUEST.value(),
-            "Validation Failed",
-            "Invalid input parameters",
-            request.getRequestURI(),
-            errors
-        );
-
-        logger.warn("Validation error: {} for request: {}", errors, request.getRequestURI());
+        rejectionLog.record(HttpStatus.BAD_REQUEST.value(), "validation", request.getRequestURI(), errors);
         
-        return ResponseEntity.badRequest().body(errorResponse);
+        return json(HttpStatus.BAD_REQUEST,
+            validationFailed.render(request.getRequestURI(), validationErrorsWriter.writeValueAsBytes(errors)));
     }
 
     /**
      * Handle constraint violation errors.
      */
     @ExceptionHandler(ConstraintViolationException.class)
-    public ResponseEntity<ErrorResponse> handleConstraintViolation(
-            ConstraintViolationException ex, HttpServletRequest request) {
+    public ResponseEntity<byte[]> handleConstraintViolation(
+            ConstraintViolationException ex, HttpServletRequest request) throws JsonProcessingException {
         
         Map<String, String> errors = new HashMap<>();
         for (ConstraintViolation<?> violation : ex.getConstraintViolations()) {
@@ -68,17 +94,10 @@ public class GlobalExceptionHandler {
             errors.put(fieldName, errorMessage);
         }
 
-        ErrorResponse errorResponse = new ErrorResponse(
-            HttpStatus.BAD_REQUEST.value(),
-            "Constraint Violation",
-            "Invalid input parameters",
-            request.getRequestURI(),
-            errors
-        );
-
-        logger.warn("Constraint violation: {} for request: {}", errors, request.getRequestURI());
+        rejectionLog.record(HttpStatus.BAD_REQUEST.value(), "constraint", request.getRequestURI(), errors);
         
-        return ResponseEntity.badRequest().body(errorResponse);
+        return json(HttpStatus.BAD_REQUEST,
+            constraintViolation.render(request.getRequestURI(), validationErrorsWriter.writeValueAsBytes(errors)));
     }
 
     /**
@@ -100,7 +119,7 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
 
-        logger.warn("Type mismatch error: {} for request: {}", message, request.getRequestURI());
+        rejectionLog.record(HttpStatus.BAD_REQUEST.value(), "type-mismatch", request.getRequestURI(), message);
         
         return ResponseEntity.badRequest().body(errorResponse);
     }
@@ -119,66 +138,64 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
 
-        logger.warn("Illegal argument error: {} for request: {}", ex.getMessage(), request.getRequestURI());
+        rejectionLog.record(HttpStatus.BAD_REQUEST.value(), "illegal-argument", request.getRequestURI(), ex.getMessage());
         
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
     /**
-     * Handle authentication exceptions.
+     * Handle uploads over the multipart size limit.
      */
-    @ExceptionHandler(AuthenticationException.class)
-    public ResponseEntity<ErrorResponse> handleAuthentication(
-            AuthenticationException ex, HttpServletRequest request) {
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ErrorResponse> handleMaxUploadSizeExceeded(
+            MaxUploadSizeExceededException ex, HttpServletRequest request) {
         
         ErrorResponse errorResponse = new ErrorResponse(
-            HttpStatus.UNAUTHORIZED.value(),
-            "Authentication Failed",
-            "Invalid credentials or authentication required",
+            HttpStatus.PAYLOAD_TOO_LARGE.value(),
+            "Payload Too Large",
+            "Upload exceeds the maximum allowed size",
             request.getRequestURI()
         );
 
-        logger.warn("Authentication error: {} for request: {}", ex.getMessage(), request.getRequestURI());
+        rejectionLog.record(HttpStatus.PAYLOAD_TOO_LARGE.value(), "upload-too-large", request.getRequestURI(), ex.getMessage());
         
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(errorResponse);
+    }
+
+    /**
+     * Handle authentication exceptions.
+     */
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<byte[]> handleAuthentication(
+            AuthenticationException ex, HttpServletRequest request) {
+        
+        rejectionLog.record(HttpStatus.UNAUTHORIZED.value(), "authentication", request.getRequestURI(), ex.getMessage());
+        
+        return json(HttpStatus.UNAUTHORIZED, authenticationFailed.render(request.getRequestURI()));
     }
 
     /**
      * Handle bad credentials exceptions.
      */
     @ExceptionHandler(BadCredentialsException.class)
-    public ResponseEntity<ErrorResponse> handleBadCredentials(
+    public ResponseEntity<byte[]> handleBadCredentials(
             BadCredentialsException ex, HttpServletRequest request) {
         
-        ErrorResponse errorResponse = new ErrorResponse(
-            HttpStatus.UNAUTHORIZED.value(),
-            "Bad Credentials",
-            "Invalid username or password",
-            request.getRequestURI()
-        );
-
-        logger.warn("Bad credentials error for request: {}", request.getRequestURI());
+        rejectionLog.record(HttpStatus.UNAUTHORIZED.value(), "bad-credentials", request.getRequestURI(), ex.getMessage());
         
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+        return json(HttpStatus.UNAUTHORIZED, badCredentials.render(request.getRequestURI()));
     }
 
     /**
      * Handle access denied exceptions.
      */
     @ExceptionHandler(AccessDeniedException.class)
-    public ResponseEntity<ErrorResponse> handleAccessDenied(
+    public ResponseEntity<byte[]> handleAccessDenied(
             AccessDeniedException ex, HttpServletRequest request) {
         
-        ErrorResponse errorResponse = new ErrorResponse(
-            HttpStatus.FORBIDDEN.value(),
-            "Access Denied",
-            "You don't have permission to access this resource",
-            request.getRequestURI()
-        );
-
-        logger.warn("Access denied error: {} for request: {}", ex.getMessage(), request.getRequestURI());
+        rejectionLog.record(HttpStatus.FORBIDDEN.value(), "access-denied", request.getRequestURI(), ex.getMessage());
         
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        return json(HttpStatus.FORBIDDEN, accessDenied.render(request.getRequestURI()));
     }
 
     /**
@@ -195,7 +212,7 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
 
-        logger.warn("Resource not found error: {} for request: {}", ex.getMessage(), request.getRequestURI());
+        rejectionLog.record(HttpStatus.NOT_FOUND.value(), "not-found", request.getRequestURI(), ex.getMessage());
         
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
@@ -214,11 +231,20 @@ public class GlobalExceptionHandler {
             request.getRequestURI()
         );
 
-        logger.warn("Duplicate resource error: {} for request: {}", ex.getMessage(), request.getRequestURI());
+        rejectionLog.record(HttpStatus.CONFLICT.value(), "duplicate", request.getRequestURI(), ex.getMessage());
         
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    /**
+     * Handle a response the client stopped reading, such as a closed live update stream. There is
+     * nobody to answer, so nothing is written.
+     */
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    public void handleAsyncRequestNotUsable(AsyncRequestNotUsableException ex, HttpServletRequest request) {
+        logger.debug("Client went away from {}: {}", request.getRequestURI(), ex.getMessage());
+    }
+
     /**
      * Handle all other exceptions.
      */
@@ -244,6 +270,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 
+    private static ErrorTemplate template(ObjectWriter writer, HttpStatus status, String error, String message,
+                                          boolean withValidationErrors) {
+        ErrorResponse prototype = new ErrorResponse(status.value(), error, message, ErrorTemplate.PATH,
+            withValidationErrors ? ErrorTemplate.ERRORS : null);
+        prototype.setTimestamp(ErrorTemplate.LOCAL_DATE_TIME);
+        return ErrorTemplate.of(writer, prototype);
+    }
+
+    private static ResponseEntity<byte[]> json(HttpStatus status, byte[] body) {
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     /**
      * Error response structure.
      */
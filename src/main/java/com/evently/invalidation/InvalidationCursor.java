@@ -0,0 +1,74 @@
+package com.evently.invalidation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * A node's position in the cache invalidation log, which it reads by ascending id.
+ *
+ * Ids are allocated when a row is inserted but only become visible when its transaction commits,
+ * so a lower id can show up after higher ones have been read. The position therefore only moves
+ * past ids that have been seen, or past a gap that has stayed empty for longer than the gap
+ * timeout (a rolled-back insert, or an id the database skipped). Ids seen above a gap are
+ * remembered so that they are applied once, however often they are read again.
+ */
+public class InvalidationCursor {
+
+    private final Duration gapTimeout;
+    private final NavigableSet<Long> seenAhead = new TreeSet<>();
+    private long position;
+    // When the gap just after position was first noticed, or null if there is none
+    private Instant gapSince;
+
+    public InvalidationCursor(long position, Duration gapTimeout) {
+        this.position = position;
+        this.gapTimeout = gapTimeout;
+    }
+
+    /**
+     * Every id up to this one has been applied or given up on; read from the next one.
+     */
+    public synchronized long position() {
+        return position;
+    }
+
+    /**
+     * Record an id as read.
+     *
+     * @return false if it was applied before
+     */
+    public synchronized boolean accept(long id) {
+        return id > position && seenAhead.add(id);
+    }
+
+    /**
+     * Move past the ids seen in order, and past gaps older than the timeout.
+     */
+    public synchronized void advance(Instant now) {
+        while (!seenAhead.isEmpty()) {
+            long next = seenAhead.first();
+            if (next == position + 1) {
+                seenAhead.pollFirst();
+                position = next;
+                gapSince = null;
+            } else if (gapSince == null) {
+                gapSince = now;
+                return;
+            } else if (Duration.between(gapSince, now).compareTo(gapTimeout) >= 0) {
+                position = next - 1;
+                gapSince = null;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Ids read ahead of a gap, waiting for it to fill or time out.
+     */
+    public synchronized int pending() {
+        return seenAhead.size();
+    }
+}
@@ -0,0 +1,28 @@
+package com.evently.leaderboard;
+
+/**
+ * What a vendor leaderboard is ranked by.
+ */
+public enum LeaderboardMetric {
+    RATING("rating"),
+    BOOKINGS("bookings");
+
+    private final String value;
+
+    LeaderboardMetric(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static LeaderboardMetric fromValue(String value) {
+        for (LeaderboardMetric metric : values()) {
+            if (metric.value.equalsIgnoreCase(value)) {
+                return metric;
+            }
+        }
+        throw new IllegalArgumentException("Unknown leaderboard metric: " + value);
+    }
+}
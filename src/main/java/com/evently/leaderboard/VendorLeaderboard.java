@@ -0,0 +1,342 @@
+package com.evently.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import com.evently.dto.vendor.VendorRankingDTO;
+
+/**
+ * In-memory vendor rankings, globally and per service category, by Bayesian-adjusted rating
+ * and by confirmed bookings.
+ *
+ * Each ranking is a sorted set of immutable positions, so a review or booking change costs
+ * O(c log n) for a vendor in c categories: the vendor's old positions are removed and
+ * re-inserted with the new score. Reading the top k is O(k).
+ *
+ * The Bayesian score is (priorWeight * priorMean + sum of ratings) / (priorWeight + review count),
+ * which pulls vendors with few reviews towards the prior so one 5-star review does not top the board.
+ * Vendors only appear on a ranking once they have at least one review or confirmed booking.
+ *
+ * Changes reach the rankings after their transaction commits, so a rebuild cannot tell whether its
+ * snapshot contains a change that was committing while it was read. Changes are therefore counted
+ * from {@link #changeStarted()} to {@link #changeEnded()}, and a rebuild that overlapped one is
+ * discarded rather than wiping out or double-counting it.
+ */
+public class VendorLeaderboard {
+
+    private static final Comparator<Position> BY_SCORE = Comparator
+            .comparingDouble(Position::score).reversed()
+            .thenComparing(Comparator.comparingDouble(Position::tieBreak).reversed())
+            .thenComparingLong(Position::vendorId);
+
+    private final double priorMean;
+    private final double priorWeight;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, Standing> standings = new HashMap<>();
+    private Map<LeaderboardMetric, NavigableSet<Position>> global = emptyRankings();
+    private Map<LeaderboardMetric, Map<Long, NavigableSet<Position>>> byCategory = emptyCategoryRankings();
+
+    // Guarded by the write lock
+    private long changesStarted;
+    private int changesInFlight;
+
+    public VendorLeaderboard(double priorMean, double priorWeight) {
+        this.priorMean = priorMean;
+        this.priorWeight = priorWeight;
+    }
+
+    /**
+     * Replace every ranking with the given totals, e.g. after a rebuild from the database.
+     */
+    public void reset(Collection<VendorTotals> totals) {
+        replace(totals, null);
+    }
+
+    /**
+     * Replace every ranking with totals read after {@link #startRebuild()} returned the mark, unless
+     * a change was committing in the meantime: the totals may or may not contain it and its listener
+     * may or may not have applied it yet, so the totals are discarded instead.
+     * Returns whether they were used.
+     */
+    public boolean reset(Collection<VendorTotals> totals, long rebuildMark) {
+        return replace(totals, rebuildMark);
+    }
+
+    /**
+     * Mark the start of a rebuild, before its totals are read. The mark is negative, and the
+     * rebuild bound to be discarded, while a change is still committing.
+     */
+    public long startRebuild() {
+        lock.writeLock().lock();
+        try {
+            return changesInFlight == 0 ? changesStarted : -1;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * A change to some vendor's totals is about to commit.
+     */
+    public void changeStarted() {
+        lock.writeLock().lock();
+        try {
+            changesStarted++;
+            changesInFlight++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * A change's transaction has completed and, if it committed, the change has been applied.
+     */
+    public void changeEnded() {
+        lock.writeLock().lock();
+        try {
+            changesInFlight--;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(Long vendorId) {
+        lock.readLock().lock();
+        try {
+            return standings.containsKey(vendorId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Start tracking a vendor that was not part of the last reset. No-op if already tracked.
+     */
+    public void addVendor(VendorTotals vendor) {
+        lock.writeLock().lock();
+        try {
+            if (!standings.containsKey(vendor.getVendorId())) {
+                Standing standing = new Standing(vendor);
+                standings.put(vendor.getVendorId(), standing);
+                index(standing, global, byCategory);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a review being added (oldRating null), re-rated, or deleted (newRating null).
+     */
+    public void applyReviewChange(Long vendorId, Integer oldRating, Integer newRating) {
+        update(vendorId, standing -> {
+            if (oldRating != null) {
+                standing.ratingSum -= oldRating;
+                standing.reviewCount--;
+            }
+            if (newRating != null) {
+                standing.ratingSum += newRating;
+                standing.reviewCount++;
+            }
+        });
+    }
+
+    /**
+     * Adjust a vendor's confirmed booking count by delta.
+     */
+    public void applyBookingChange(Long vendorId, int delta) {
+        if (delta != 0) {
+            update(vendorId, standing -> standing.confirmedBookings += delta);
+        }
+    }
+
+    /**
+     * The highest-ranked vendors, optionally restricted to one service category.
+     */
+    public List<VendorRankingDTO> top(LeaderboardMetric metric, Long categoryId, int limit) {
+        lock.readLock().lock();
+        try {
+            NavigableSet<Position> ranking = categoryId == null
+                    ? global.get(metric)
+                    : byCategory.get(metric).get(categoryId);
+            List<VendorRankingDTO> result = new ArrayList<>(Math.min(limit, ranking == null ? 0 : ranking.size()));
+            if (ranking == null) {
+                return result;
+            }
+            Iterator<Position> positions = ranking.iterator();
+            while (positions.hasNext() && result.size() < limit) {
+                Standing standing = standings.get(positions.next().vendorId());
+                result.add(standing.toRanking(result.size() + 1));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return standings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean replace(Collection<VendorTotals> totals, Long rebuildMark) {
+        Map<Long, Standing> newStandings = new HashMap<>();
+        Map<LeaderboardMetric, NavigableSet<Position>> newGlobal = emptyRankings();
+        Map<LeaderboardMetric, Map<Long, NavigableSet<Position>>> newByCategory = emptyCategoryRankings();
+
+        for (VendorTotals vendor : totals) {
+            Standing standing = new Standing(vendor);
+            newStandings.put(vendor.getVendorId(), standing);
+            index(standing, newGlobal, newByCategory);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (rebuildMark != null && rebuildMark != changesStarted) {
+                return false;
+            }
+            standings = newStandings;
+            global = newGlobal;
+            byCategory = newByCategory;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void update(Long vendorId, Consumer<Standing> change) {
+        lock.writeLock().lock();
+        try {
+            Standing standing = standings.get(vendorId);
+            if (standing == null) {
+                return;
+            }
+            unindex(standing);
+            change.accept(standing);
+            index(standing, global, byCategory);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(Standing standing,
+                       Map<LeaderboardMetric, NavigableSet<Position>> globalRankings,
+                       Map<LeaderboardMetric, Map<Long, NavigableSet<Position>>> categoryRankings) {
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            Position position = standing.positionFor(metric);
+            standing.positions.put(metric, position);
+            if (position == null) {
+                continue;
+            }
+            globalRankings.get(metric).add(position);
+            for (Long categoryId : standing.categoryIds) {
+                categoryRankings.get(metric)
+                        .computeIfAbsent(categoryId, id -> new TreeSet<>(BY_SCORE))
+                        .add(position);
+            }
+        }
+    }
+
+    private void unindex(Standing standing) {
+        for (Map.Entry<LeaderboardMetric, Position> entry : standing.positions.entrySet()) {
+            Position position = entry.getValue();
+            if (position == null) {
+                continue;
+            }
+            global.get(entry.getKey()).remove(position);
+            Map<Long, NavigableSet<Position>> rankings = byCategory.get(entry.getKey());
+            for (Long categoryId : standing.categoryIds) {
+                NavigableSet<Position> ranking = rankings.get(categoryId);
+                if (ranking != null) {
+                    ranking.remove(position);
+                }
+            }
+        }
+        standing.positions.clear();
+    }
+
+    private static Map<LeaderboardMetric, NavigableSet<Position>> emptyRankings() {
+        Map<LeaderboardMetric, NavigableSet<Position>> rankings = new EnumMap<>(LeaderboardMetric.class);
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            rankings.put(metric, new TreeSet<>(BY_SCORE));
+        }
+        return rankings;
+    }
+
+    private static Map<LeaderboardMetric, Map<Long, NavigableSet<Position>>> emptyCategoryRankings() {
+        Map<LeaderboardMetric, Map<Long, NavigableSet<Position>>> rankings = new EnumMap<>(LeaderboardMetric.class);
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            rankings.put(metric, new HashMap<>());
+        }
+        return rankings;
+    }
+
+    /**
+     * A vendor's place in one ranking. Immutable so it can be found again in its sorted set.
+     */
+    private record Position(long vendorId, double score, double tieBreak) {
+    }
+
+    /**
+     * Running totals for one vendor, together with its current positions.
+     */
+    private final class Standing {
+
+        private final Long vendorId;
+        private final String businessName;
+        private final Set<Long> categoryIds;
+        private long ratingSum;
+        private long reviewCount;
+        private long confirmedBookings;
+        private final Map<LeaderboardMetric, Position> positions = new EnumMap<>(LeaderboardMetric.class);
+
+        private Standing(VendorTotals totals) {
+            this.vendorId = totals.getVendorId();
+            this.businessName = totals.getBusinessName();
+            this.categoryIds = new HashSet<>(totals.getCategoryIds());
+            this.ratingSum = totals.getRatingSum();
+            this.reviewCount = totals.getReviewCount();
+            this.confirmedBookings = totals.getConfirmedBookings();
+        }
+
+        private double bayesianRating() {
+            return (priorWeight * priorMean + ratingSum) / (priorWeight + reviewCount);
+        }
+
+        private Position positionFor(LeaderboardMetric metric) {
+            switch (metric) {
+                case RATING:
+                    return reviewCount > 0 ? new Position(vendorId, bayesianRating(), reviewCount) : null;
+                case BOOKINGS:
+                    return confirmedBookings > 0 ? new Position(vendorId, confirmedBookings, bayesianRating()) : null;
+                default:
+                    throw new IllegalStateException("Unhandled metric: " + metric);
+            }
+        }
+
+        private VendorRankingDTO toRanking(int rank) {
+            Double averageRating = reviewCount > 0 ? (double) ratingSum / reviewCount : null;
+            return new VendorRankingDTO(rank, vendorId, businessName, bayesianRating(),
+                    averageRating, reviewCount, confirmedBookings);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.evently.leaderboard;
+
+import java.util.Set;
+
+/**
+ * Aggregated review and booking totals for one vendor, used to seed the leaderboard.
+ */
+public class VendorTotals {
+
+    private final Long vendorId;
+    private final String businessName;
+    private final Set<Long> categoryIds;
+    private final long ratingSum;
+    private final long reviewCount;
+    private final long confirmedBookings;
+
+    public VendorTotals(Long vendorId, String businessName, Set<Long> categoryIds,
+                        long ratingSum, long reviewCount, long confirmedBookings) {
+        this.vendorId = vendorId;
+        this.businessName = businessName;
+        this.categoryIds = categoryIds;
+        this.ratingSum = ratingSum;
+        this.reviewCount = reviewCount;
+        this.confirmedBookings = confirmedBookings;
+    }
+
+    public Long getVendorId() { return vendorId; }
+    public String getBusinessName() { return businessName; }
+    public Set<Long> getCategoryIds() { return categoryIds; }
+    public long getRatingSum() { return ratingSum; }
+    public long getReviewCount() { return reviewCount; }
+    public long getConfirmedBookings() { return confirmedBookings; }
+}
@@ -0,0 +1,11 @@
+package com.evently.live;
+
+import com.evently.model.VendorBooking.BookingStatus;
+
+/**
+ * A booking created (old status null), deleted (new status null) or changing status, as pushed
+ * to the live streams of its event and its vendor.
+ */
+public record BookingChange(Long bookingId, Long eventId, Long vendorId, BookingStatus oldStatus,
+                            BookingStatus newStatus) {
+}
@@ -0,0 +1,69 @@
+package com.evently.live;
+
+import java.util.ArrayDeque;
+
+/**
+ * Bounded FIFO between many producers and one consumer that is scheduled on demand.
+ *
+ * When full, offering an item drops the oldest one and counts it, so a slow consumer only ever
+ * sees the latest items and never holds up a producer. offer() reports whether the consumer has
+ * to be scheduled: it is true only for the first item after the consumer found the buffer empty,
+ * so at most one consumer runs per buffer and an idle buffer costs no thread.
+ */
+public class DropOldestBuffer<T> {
+
+    private final int capacity;
+    private final ArrayDeque<T> items = new ArrayDeque<>();
+    private long dropped;
+    private boolean scheduled;
+
+    public DropOldestBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Add an item, dropping the oldest one if the buffer is full.
+     *
+     * @return true if the consumer has to be scheduled to take it
+     */
+    public synchronized boolean offer(T item) {
+        if (items.size() == capacity) {
+            items.pollFirst();
+            dropped++;
+        }
+        items.addLast(item);
+        if (scheduled) {
+            return false;
+        }
+        scheduled = true;
+        return true;
+    }
+
+    /**
+     * Take the oldest item, or null once the buffer is empty; the next offer() then schedules
+     * the consumer again.
+     */
+    public synchronized T poll() {
+        T item = items.pollFirst();
+        if (item == null) {
+            scheduled = false;
+        }
+        return item;
+    }
+
+    /**
+     * Number of items dropped since the last call.
+     */
+    public synchronized long takeDropped() {
+        long count = dropped;
+        dropped = 0;
+        return count;
+    }
+
+    public synchronized int size() {
+        return items.size();
+    }
+}
@@ -0,0 +1,10 @@
+package com.evently.live;
+
+import com.evently.model.Guest.RsvpStatus;
+
+/**
+ * A guest added to an event (old status null), removed from it (new status null) or changing
+ * their RSVP, as pushed to the event's live stream.
+ */
+public record GuestChange(Long eventId, Long guestId, RsvpStatus oldStatus, RsvpStatus newStatus) {
+}
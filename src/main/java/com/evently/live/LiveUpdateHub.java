@@ -0,0 +1,191 @@
+package com.evently.live;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans updates out to Server-Sent Event subscribers by topic ("event:12", "vendor:7").
+ *
+ * Publishing never blocks on a subscriber: an update is added to each subscriber's
+ * DropOldestBuffer and, if that subscriber is idle, one task is queued on the sender executor to
+ * write its backlog. A slow connection therefore only loses its own oldest updates, and is told
+ * how many with a "dropped" event so the client can reload. An idle subscriber is an async
+ * request, its emitter and an empty buffer; it holds no thread.
+ */
+public class LiveUpdateHub {
+
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final Map<String, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+    private final Executor sender;
+    private final int bufferSize;
+    private final int maxSubscribers;
+
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final AtomicLong lastId = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public LiveUpdateHub(Executor sender, int bufferSize, int maxSubscribers) {
+        this.sender = sender;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    /**
+     * Subscribe an emitter to a topic until it completes, times out or fails.
+     *
+     * @return false if the hub is at its subscriber limit
+     */
+    public boolean subscribe(String topic, SseEmitter emitter) {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            return false;
+        }
+        Subscriber subscriber = new Subscriber(topic, emitter, new DropOldestBuffer<>(bufferSize));
+        // compute() so a topic emptied by a concurrent remove() is not dropped with this subscriber in it
+        topics.compute(topic, (key, subscribed) -> {
+            Set<Subscriber> set = subscribed != null ? subscribed : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        return true;
+    }
+
+    /**
+     * Whether a topic has subscribers, so updates nobody follows need not be serialized.
+     */
+    public boolean isFollowed(String topic) {
+        return topics.containsKey(topic);
+    }
+
+    /**
+     * Send a JSON update to every subscriber of a topic.
+     */
+    public void publish(String topic, String name, String json) {
+        Set<Subscriber> subscribed = topics.get(topic);
+        if (subscribed == null) {
+            return;
+        }
+        Update update = new Update(lastId.incrementAndGet(), name, json);
+        for (Subscriber subscriber : subscribed) {
+            offer(subscriber, update);
+        }
+    }
+
+    /**
+     * Send a comment line to every subscriber, which keeps proxies from closing idle streams
+     * and finds connections that have gone away.
+     */
+    public void heartbeat() {
+        Update update = new Update(0, HEARTBEAT, null);
+        for (Set<Subscriber> subscribed : topics.values()) {
+            for (Subscriber subscriber : subscribed) {
+                // Only into empty buffers; a heartbeat must not push out an update
+                if (subscriber.buffer().size() == 0) {
+                    offer(subscriber, update);
+                }
+            }
+        }
+    }
+
+    /**
+     * Complete every subscription.
+     */
+    public void close() {
+        for (Set<Subscriber> subscribed : topics.values()) {
+            for (Subscriber subscriber : subscribed) {
+                subscriber.emitter().complete();
+            }
+        }
+        topics.clear();
+    }
+
+    public int subscriberCount() {
+        return subscribers.get();
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    private void offer(Subscriber subscriber, Update update) {
+        if (subscriber.buffer().offer(update)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                remove(subscriber);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        Update update;
+        while ((update = subscriber.buffer().poll()) != null) {
+            try {
+                long droppedSinceLast = subscriber.buffer().takeDropped();
+                if (droppedSinceLast > 0) {
+                    dropped.addAndGet(droppedSinceLast);
+                    subscriber.emitter().send(SseEmitter.event().name("dropped").data(droppedSinceLast));
+                }
+                if (update.name().equals(HEARTBEAT)) {
+                    subscriber.emitter().send(SseEmitter.event().comment(HEARTBEAT));
+                } else {
+                    subscriber.emitter().send(SseEmitter.event()
+                        .id(Long.toString(update.id()))
+                        .name(update.name())
+                        .data(update.json(), MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the emitter already completed. Nothing is wrong on this
+                // side, so the request is completed rather than failed, which would log the error
+                remove(subscriber);
+                subscriber.emitter().complete();
+                return;
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscriber.removed().compareAndSet(false, true)) {
+            subscribers.decrementAndGet();
+            topics.computeIfPresent(subscriber.topic(), (key, subscribed) -> {
+                subscribed.remove(subscriber);
+                return subscribed.isEmpty() ? null : subscribed;
+            });
+        }
+    }
+
+    private record Update(long id, String name, String json) {
+    }
+
+    private record Subscriber(String topic, SseEmitter emitter, DropOldestBuffer<Update> buffer, AtomicBoolean removed) {
+
+        Subscriber(String topic, SseEmitter emitter, DropOldestBuffer<Update> buffer) {
+            this(topic, emitter, buffer, new AtomicBoolean());
+        }
+
+        // Identity rather than component equality, for the topic sets
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
@@ -7,7 +7,9 @@ import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
 
+import com.evently.model.ArchivedEvent;
 import com.evently.model.Event;
+import com.evently.model.User;
 import com.evently.dto.event.EventCreateDTO;
 import com.evently.dto.event.EventDTO;
 import com.evently.dto.event.EventUpdateDTO;
@@ -27,6 +29,15 @@ public interface EventMapper {
     
     List<EventDTO> toEventDTOList(List<Event> events);
     
+    
+    @Mapping(target = "id", source = "event.id")
+    @Mapping(target = "plannerId", source = "event.plannerId")
+    @Mapping(target = "plannerUsername", source = "planner.username")
+    @Mapping(target = "plannerFullName", source = "planner", qualifiedByName = "getPlannerFullName")
+    @Mapping(target = "createdAt", source = "event.createdAt")
+    @Mapping(target = "updatedAt", source = "event.updatedAt")
+    EventDTO toEventDTO(ArchivedEvent event, User planner);
+    
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "planner", ignore = true) 
@@ -46,7 +57,7 @@ public interface EventMapper {
     void updateEventFromDTO(EventUpdateDTO updateDTO, @MappingTarget Event event);
  
     @Named("getPlannerFullName")
-    default String getPlannerFullName(com.evently.model.User planner) {
+    default String getPlannerFullName(User planner) {
         return planner != null ? planner.getFullName() : null;
     }
     
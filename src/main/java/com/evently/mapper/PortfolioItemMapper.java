@@ -23,6 +23,8 @@ public interface PortfolioItemMapper {
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "vendor", ignore = true) 
+    @Mapping(target = "imageThumbnail", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     PortfolioItem toPortfolioItem(PortfolioItemDTO portfolioItemDTO);
 }
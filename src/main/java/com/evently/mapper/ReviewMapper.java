@@ -29,6 +29,7 @@ public interface ReviewMapper {
     @Mapping(target = "vendor", ignore = true)
     @Mapping(target = "user", ignore = true) 
     @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     @Mapping(source = "rating", target = "rating")
     @Mapping(source = "comment", target = "comment")
     Review toReview(ReviewDTO reviewDTO);
@@ -25,6 +25,7 @@ public interface UserMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "lastLogin", ignore = true)
     @Mapping(target = "dateJoined", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "isActive", constant = "true")
     @Mapping(target = "password", ignore = true) 
     @Mapping(target = "authorities", ignore = true)
@@ -38,6 +39,7 @@ public interface UserMapper {
     @Mapping(target = "isActive", ignore = true)
     @Mapping(target = "lastLogin", ignore = true)
     @Mapping(target = "dateJoined", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "authorities", ignore = true)
     void updateUserFromDTO(UserUpdateDTO updateDTO, @MappingTarget User user);
     
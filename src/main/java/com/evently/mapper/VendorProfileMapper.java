@@ -32,6 +32,7 @@ public interface VendorProfileMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "user", ignore = true) 
     @Mapping(target = "profilePic", ignore = true) 
+    @Mapping(target = "profilePicThumbnail", ignore = true)
     @Mapping(target = "isVerified", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
@@ -43,6 +44,7 @@ public interface VendorProfileMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "user", ignore = true)
     @Mapping(target = "profilePic", ignore = true)
+    @Mapping(target = "profilePicThumbnail", ignore = true)
     @Mapping(target = "isVerified", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
@@ -0,0 +1,145 @@
+package com.evently.media;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Uploaded images stored under the SHA-256 of their bytes, so identical uploads share one file.
+ *
+ * An upload is streamed through a fixed buffer into a temporary file while it is hashed and its
+ * format recognised, then renamed to {@code <root>/<first two hex digits>/<sha256>.<ext>}; if that
+ * file already exists the copy is discarded. Renames are atomic and stored files are never
+ * rewritten, so a name always refers to the same bytes. Thumbnails live next to their original as
+ * {@code <sha256>-w<width>.jpg}.
+ */
+public class ContentAddressedStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern STORED_NAME = Pattern.compile("([0-9a-f]{2})/(\\1[0-9a-f]{62})\\.(jpg|png|gif)");
+
+    private final Path root;
+    private final Path temp;
+    private final String urlPrefix;
+    private final long maxBytes;
+
+    /**
+     * @param root      directory of the stored files
+     * @param temp      directory for uploads in progress, on the same file system as {@code root}
+     * @param urlPrefix public URL of {@code root}, ending with a slash
+     * @param maxBytes  largest accepted upload
+     */
+    public ContentAddressedStore(Path root, Path temp, String urlPrefix, long maxBytes) {
+        this.root = root;
+        this.temp = temp;
+        this.urlPrefix = urlPrefix;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Store an image read to the end of {@code in}.
+     *
+     * @throws IllegalArgumentException if the content is not a JPEG, PNG or GIF image or is too large
+     */
+    public StoredImage store(InputStream in) throws IOException {
+        Files.createDirectories(temp);
+        Path part = Files.createTempFile(temp, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            byte[] head = new byte[ImageFormat.SIGNATURE_LENGTH];
+            int headLength = 0;
+            ImageFormat format = null;
+            long size = 0;
+            try (OutputStream out = Files.newOutputStream(part)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new IllegalArgumentException("Image exceeds the maximum size of " + maxBytes + " bytes");
+                    }
+                    if (format == null) {
+                        int copied = Math.min(read, head.length - headLength);
+                        System.arraycopy(buffer, 0, head, headLength, copied);
+                        headLength += copied;
+                        if (headLength == head.length) {
+                            format = detect(head, headLength);
+                        }
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (format == null) {
+                format = detect(head, headLength);
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            String name = sha256.substring(0, 2) + "/" + sha256 + "." + format.extension();
+            Path target = root.resolve(name);
+            boolean duplicate = Files.exists(target);
+            if (!duplicate) {
+                Files.createDirectories(target.getParent());
+                Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return new StoredImage(sha256, urlPrefix + name, target, size, format, duplicate);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    /**
+     * The file behind a URL returned by {@link #store(InputStream)}; empty for any other URL.
+     */
+    public Optional<Path> pathOf(String url) {
+        return storedName(url).map(name -> root.resolve(name.group()));
+    }
+
+    /**
+     * The URL of the thumbnail of a stored image at the given width; empty for URLs not in the store.
+     */
+    public Optional<String> thumbnailUrlOf(String url, int width) {
+        return storedName(url).map(name -> urlPrefix + thumbnailName(name, width));
+    }
+
+    /**
+     * The file of the thumbnail of a stored image at the given width; empty for URLs not in the store.
+     */
+    public Optional<Path> thumbnailPathOf(String url, int width) {
+        return storedName(url).map(name -> root.resolve(thumbnailName(name, width)));
+    }
+
+    private Optional<Matcher> storedName(String url) {
+        if (url == null || !url.startsWith(urlPrefix)) {
+            return Optional.empty();
+        }
+        Matcher name = STORED_NAME.matcher(url.substring(urlPrefix.length()));
+        return name.matches() ? Optional.of(name) : Optional.empty();
+    }
+
+    private static String thumbnailName(Matcher name, int width) {
+        return name.group(1) + "/" + name.group(2) + "-w" + width + ".jpg";
+    }
+
+    private static ImageFormat detect(byte[] head, int length) {
+        return ImageFormat.detect(head, length)
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported image type; expected JPEG, PNG or GIF"));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.evently.media;
+
+import java.util.Optional;
+
+/**
+ * Image formats accepted for upload, recognised from their leading bytes rather than from the
+ * client's file name or content type.
+ */
+public enum ImageFormat {
+
+    JPEG("jpg", "image/jpeg", new int[] {0xFF, 0xD8, 0xFF}),
+    PNG("png", "image/png", new int[] {0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A}),
+    GIF("gif", "image/gif", new int[] {'G', 'I', 'F', '8'});
+
+    /** Bytes needed to recognise every format. */
+    public static final int SIGNATURE_LENGTH = 8;
+
+    private final String extension;
+    private final String contentType;
+    private final int[] signature;
+
+    ImageFormat(String extension, String contentType, int[] signature) {
+        this.extension = extension;
+        this.contentType = contentType;
+        this.signature = signature;
+    }
+
+    public String extension() { return extension; }
+    public String contentType() { return contentType; }
+
+    /**
+     * The format whose signature the first {@code length} bytes of {@code head} start with.
+     */
+    public static Optional<ImageFormat> detect(byte[] head, int length) {
+        outer:
+        for (ImageFormat format : values()) {
+            if (length < format.signature.length) {
+                continue;
+            }
+            for (int i = 0; i < format.signature.length; i++) {
+                if ((head[i] & 0xFF) != format.signature[i]) {
+                    continue outer;
+                }
+            }
+            return Optional.of(format);
+        }
+        return Optional.empty();
+    }
+}
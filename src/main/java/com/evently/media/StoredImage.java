@@ -0,0 +1,10 @@
+package com.evently.media;
+
+import java.nio.file.Path;
+
+/**
+ * An uploaded image in the content-addressed store. {@code duplicate} is true when identical
+ * bytes were already stored, in which case nothing new was written.
+ */
+public record StoredImage(String sha256, String url, Path path, long size, ImageFormat format, boolean duplicate) {
+}
@@ -0,0 +1,118 @@
+package com.evently.media;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Renders JPEG thumbnails no wider than a fixed width and no taller than twice that, keeping the
+ * aspect ratio.
+ *
+ * The original's size is read from its header first: images over the pixel limit are refused
+ * before any decoding. The rest are decoded with source subsampling, separately across and down,
+ * to about twice the thumbnail's size, so neither a large photo nor a long, thin strip needs a
+ * full-size raster in memory; the rest of the reduction is a bilinear scale.
+ * Transparent areas are flattened onto white. The thumbnail is written to a temporary file and
+ * renamed into place, so readers never see a partial file.
+ */
+public class ThumbnailRenderer {
+
+    private final int width;
+    private final int maxHeight;
+    private final float quality;
+    private final long maxPixels;
+
+    public ThumbnailRenderer(int width, float quality, long maxPixels) {
+        this.width = width;
+        this.maxHeight = width * 2;
+        this.quality = quality;
+        this.maxPixels = maxPixels;
+    }
+
+    public int width() { return width; }
+
+    public void render(Path source, Path target) throws IOException {
+        BufferedImage thumbnail = read(source);
+
+        Path part = Files.createTempFile(target.getParent(), "thumbnail-", ".part");
+        try {
+            write(thumbnail, part);
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    private BufferedImage read(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("No image reader for " + source);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > maxPixels) {
+                    throw new IOException("Image of " + sourceWidth + "x" + sourceHeight + " pixels is over the limit of "
+                        + maxPixels + ": " + source);
+                }
+
+                double scale = Math.min(1, Math.min((double) width / sourceWidth, (double) maxHeight / sourceHeight));
+                int thumbnailWidth = Math.max(1, (int) Math.round(sourceWidth * scale));
+                int thumbnailHeight = Math.max(1, (int) Math.round(sourceHeight * scale));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(Math.max(1, sourceWidth / (thumbnailWidth * 2)),
+                    Math.max(1, sourceHeight / (thumbnailHeight * 2)), 0, 0);
+                return scale(reader.read(0, param), thumbnailWidth, thumbnailHeight);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scale(BufferedImage original, int thumbnailWidth, int thumbnailHeight) {
+        BufferedImage thumbnail = new BufferedImage(thumbnailWidth, thumbnailHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, thumbnailWidth, thumbnailHeight);
+            graphics.drawImage(original, 0, 0, thumbnailWidth, thumbnailHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return thumbnail;
+    }
+
+    private void write(BufferedImage image, Path file) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(file.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package com.evently.media;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Serves files under the upload directory with ETag, If-None-Match/If-Modified-Since, a single
+ * HTTP byte range per request, and as few copies and system calls as the container allows.
+ *
+ * Bodies are sent, in order of preference:
+ * <ul>
+ * <li>from a memory mapping, for small content-addressed files recently served (hot gallery
+ *     thumbnails); a hit costs no file system call at all;</li>
+ * <li>by the container's sendfile (Tomcat's NIO connector without TLS), for bodies of at least
+ *     {@code sendfileMinSize}: the kernel copies the page cache straight to the socket;</li>
+ * <li>with {@link FileChannel#transferTo} from an open handle otherwise.</li>
+ * </ul>
+ * Handles stay open in a small LRU, so repeated requests skip open/close. A handle is closed when
+ * it is evicted and no request is still using it.
+ *
+ * Content-addressed names ({@code media/<aa>/<sha256>[-w<width>].<ext>}) never change content. They
+ * are served as immutable for a year, with the hash as a strong ETag, and their handles and mappings
+ * need no revalidation. Any other file gets a one-day cache period and an ETag from its size and
+ * modification time, and a cached handle is only reused while both still match.
+ *
+ * Metrics: media.files.served (by mode: mapped/sendfile/transfer), media.files.open and
+ * media.files.mapped.bytes.
+ */
+public class UploadedFileServer {
+
+    static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile("media/[0-9a-f]{2}/([0-9a-f]{64}(-w[0-9]+)?)\\.[a-z]+");
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    private static final CacheControl MUTABLE = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
+    private final Path root;
+    private final long sendfileMinSize;
+    private final long mappedMaxFileSize;
+
+    private final Cache<Path, OpenFile> openFiles;
+    private final Cache<Path, ByteBuffer> mappedFiles;
+
+    private final Counter servedMapped;
+    private final Counter servedSendfile;
+    private final Counter servedTransfer;
+
+    /**
+     * @param root              upload directory; files outside it are never served
+     * @param sendfileMinSize   smallest body handed to the container's sendfile
+     * @param maxOpenFiles      open file handles kept for reuse
+     * @param mappedMaxFileSize largest content-addressed file kept mapped
+     * @param mappedCapacity    total bytes of mapped files kept
+     */
+    public UploadedFileServer(Path root, long sendfileMinSize, int maxOpenFiles, long mappedMaxFileSize,
+                              long mappedCapacity, MeterRegistry registry) {
+        this.root = root.toAbsolutePath().normalize();
+        this.sendfileMinSize = sendfileMinSize;
+        this.mappedMaxFileSize = mappedMaxFileSize;
+        this.openFiles = Caffeine.newBuilder()
+                .maximumSize(maxOpenFiles)
+                .executor(Runnable::run)
+                .removalListener((Path path, OpenFile file, RemovalCause cause) -> file.release())
+                .build();
+        this.mappedFiles = Caffeine.newBuilder()
+                .maximumWeight(mappedCapacity)
+                .weigher((Path path, ByteBuffer buffer) -> buffer.capacity())
+                .build();
+
+        this.servedMapped = served(registry, "mapped");
+        this.servedSendfile = served(registry, "sendfile");
+        this.servedTransfer = served(registry, "transfer");
+        Gauge.builder("media.files.open", openFiles, Cache::estimatedSize)
+                .description("Uploaded files kept open for reuse")
+                .register(registry);
+        Gauge.builder("media.files.mapped.bytes", mappedFiles,
+                        cache -> cache.asMap().values().stream().mapToLong(ByteBuffer::capacity).sum())
+                .description("Bytes of uploaded files kept memory-mapped")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * Serve the file at a path relative to the upload directory, answering 404 for anything that
+     * is not a regular file inside it (uploads still in progress included).
+     */
+    public void serve(String relativePath, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = resolve(relativePath);
+        if (file == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Matcher contentAddressed = CONTENT_ADDRESSED.matcher(relativePath);
+        boolean immutable = contentAddressed.matches();
+
+        ByteBuffer mapped = immutable ? mappedFiles.getIfPresent(file) : null;
+        OpenFile open = null;
+        try {
+            if (mapped == null) {
+                open = open(file, !immutable);
+                if (open == null) {
+                    response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                    return;
+                }
+            }
+            // Content-addressed files are validated by their hash alone
+            long length = mapped != null ? mapped.capacity() : open.size;
+            long lastModified = immutable ? -1 : open.lastModified;
+            String etag = immutable ? "\"" + contentAddressed.group(1) + "\""
+                    : "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+            response.setHeader(HttpHeaders.CACHE_CONTROL, (immutable ? IMMUTABLE : MUTABLE).getHeaderValue());
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+                return;
+            }
+            response.setContentType(MediaTypeFactory.getMediaType(file.getFileName().toString())
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+
+            long start = 0;
+            long end = length - 1;
+            HttpRange range = range(request, etag, lastModified);
+            if (range != null) {
+                if (length == 0 || !satisfiable(range, length)) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    return;
+                }
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+            long count = end - start + 1;
+            response.setContentLengthLong(count);
+            if ("HEAD".equals(request.getMethod()) || count == 0) {
+                return;
+            }
+
+            if (mapped != null) {
+                write(mapped, start, count, response);
+                servedMapped.increment();
+            } else if (count >= sendfileMinSize && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+                request.setAttribute(SENDFILE_FILENAME, open.path.toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end + 1);
+                servedSendfile.increment();
+            } else {
+                transfer(open.channel, start, count, response);
+                servedTransfer.increment();
+            }
+
+            if (immutable && mapped == null && length <= mappedMaxFileSize) {
+                mappedFiles.put(file, open.channel.map(FileChannel.MapMode.READ_ONLY, 0, length));
+            }
+        } finally {
+            if (open != null) {
+                open.release();
+            }
+        }
+    }
+
+    private Path resolve(String relativePath) {
+        if (relativePath.isEmpty() || relativePath.startsWith("temp/") || relativePath.endsWith(".part")) {
+            return null;
+        }
+        try {
+            Path file = root.resolve(relativePath).normalize();
+            return file.startsWith(root) && !file.equals(root) ? file : null;
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    /**
+     * An open handle on the file with a reference for the caller, or null if it is not a regular
+     * file in the upload directory. Handles on files that may change are revalidated against the
+     * file's current size and modification time.
+     */
+    private OpenFile open(Path file, boolean revalidate) throws IOException {
+        while (true) {
+            OpenFile open;
+            try {
+                open = openFiles.get(file, this::openFile);
+            } catch (UncheckedIOException e) {
+                if (e.getCause() instanceof NoSuchFileException) {
+                    return null;
+                }
+                throw e.getCause();
+            }
+            if (open == null) {
+                return null;
+            }
+            if (!open.acquire()) {
+                openFiles.asMap().remove(file, open);
+                continue;
+            }
+            if (revalidate) {
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                } catch (NoSuchFileException e) {
+                    attributes = null;
+                }
+                if (attributes == null || attributes.size() != open.size
+                        || attributes.lastModifiedTime().toMillis() != open.lastModified) {
+                    openFiles.asMap().remove(file, open);
+                    open.release();
+                    if (attributes == null) {
+                        return null;
+                    }
+                    continue;
+                }
+            }
+            return open;
+        }
+    }
+
+    private OpenFile openFile(Path file) {
+        try {
+            Path real = file.toRealPath();
+            if (!real.startsWith(root.toRealPath())) {
+                return null;
+            }
+            BasicFileAttributes attributes = Files.readAttributes(real, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            return new OpenFile(real, FileChannel.open(real, StandardOpenOption.READ), attributes.size(),
+                attributes.lastModifiedTime().toMillis());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The requested range, or null to send the whole file: no Range header, a malformed one,
+     * several ranges (allowed by RFC 9110), or an If-Range validator that no longer matches.
+     */
+    private static HttpRange range(HttpServletRequest request, String etag, long lastModified) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            if (ifRange.startsWith("\"") || ifRange.startsWith("W/") || lastModified == -1) {
+                return null;
+            }
+            try {
+                if (lastModified / 1000 > request.getDateHeader(HttpHeaders.IF_RANGE) / 1000) {
+                    return null;
+                }
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean satisfiable(HttpRange range, long length) {
+        try {
+            return range.getRangeStart(length) < length;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static void write(ByteBuffer mapped, long start, long count, HttpServletResponse response) throws IOException {
+        ByteBuffer body = mapped.slice((int) start, (int) count);
+        WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+        while (body.hasRemaining()) {
+            out.write(body);
+        }
+    }
+
+    private static void transfer(FileChannel channel, long start, long count, HttpServletResponse response) throws IOException {
+        WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+        long position = start;
+        long remaining = count;
+        while (remaining > 0) {
+            long sent = channel.transferTo(position, remaining, out);
+            if (sent <= 0) {
+                throw new IOException("File ended early: " + channel);
+            }
+            position += sent;
+            remaining -= sent;
+        }
+    }
+
+    private static Counter served(MeterRegistry registry, String mode) {
+        return Counter.builder("media.files.served")
+                .description("Uploaded files served, by how the body was sent")
+                .tag("mode", mode)
+                .register(registry);
+    }
+
+    /**
+     * An open file shared by concurrent requests; closed once the cache has evicted it and the
+     * last request using it has released it.
+     */
+    private static final class OpenFile {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final long size;
+        private final long lastModified;
+
+        // One reference for the cache, one per request using the handle
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        private OpenFile(Path path, FileChannel channel, long size, long lastModified) {
+            this.path = path;
+            this.channel = channel;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        boolean acquire() {
+            int current;
+            do {
+                current = references.get();
+                if (current == 0) {
+                    return false;
+                }
+            } while (!references.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        void release() {
+            if (references.decrementAndGet() == 0) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    // Nothing was written through the handle; a failed close loses nothing
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.evently.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * A past event moved out of events_event by the archiver, under its original id.
+ * Guest and vendor counts are kept with it, since its guests and bookings are archived too.
+ */
+@Entity
+@Table(name = "events_event_archive")
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class ArchivedEvent {
+
+    @Id
+    private Long id;
+
+    @Column(name = "planner_id", nullable = false)
+    private Long plannerId;
+
+    @Column(name = "title", nullable = false, length = 255)
+    private String title;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "date", nullable = false)
+    private LocalDateTime date;
+
+    @Column(name = "location", nullable = false, length = 255)
+    private String location;
+
+    @Column(name = "guest_count", nullable = false)
+    private Integer guestCount;
+
+    @Column(name = "vendor_count", nullable = false)
+    private Integer vendorCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,55 @@
+package com.evently.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * A guest of an archived event, as it was when the event was archived.
+ */
+@Entity
+@Table(name = "events_guest_archive")
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class ArchivedGuest {
+
+    @Id
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "name", length = 255)
+    private String name;
+
+    @Column(name = "email", nullable = false, length = 254)
+    private String email;
+
+    @Column(name = "phone", length = 20)
+    private String phone;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rsvp_status", nullable = false, length = 10)
+    private Guest.RsvpStatus rsvpStatus;
+
+    @Column(name = "dietary_restrictions", columnDefinition = "TEXT")
+    private String dietaryRestrictions;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,75 @@
+package com.evently.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of the cache invalidation log: a cached item that a committed write on one node
+ * made stale, for every other node to evict, or a live update for every other node to push.
+ */
+@Entity
+@Table(name = "cache_invalidation_log")
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class CacheInvalidation {
+
+    public enum Kind {
+        // A second-level cache entity: name is the entity name, key its id
+        ENTITY,
+        // A second-level cache collection: name is the collection role, key the owner's id
+        COLLECTION,
+        // Pre-serialized catalog responses: name is the Catalog
+        CATALOG,
+        // A live update: name is the topic, key the update's name and payload its JSON
+        LIVE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, length = 10)
+    private Kind kind;
+
+    @Column(name = "name", nullable = false, length = 150)
+    private String name;
+
+    @Column(name = "item_key", length = 100)
+    private String itemKey;
+
+    @Column(name = "payload", length = 1000)
+    private String payload;
+
+    // Node that made the write, which skips its own entries
+    @Column(name = "origin", nullable = false, length = 64)
+    private String origin;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public CacheInvalidation(Kind kind, String name, String itemKey, String origin) {
+        this.kind = kind;
+        this.name = name;
+        this.itemKey = itemKey;
+        this.origin = origin;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
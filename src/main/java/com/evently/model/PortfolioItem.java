@@ -11,6 +11,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -39,6 +40,9 @@ public class PortfolioItem {
     @Column(name = "image", length = 255)
     private String image; 
     
+    @Column(name = "image_thumbnail", length = 255)
+    private String imageThumbnail;
+    
     @Column(name = "description", length = 255)
     @Size(max = 255)
     private String description;
@@ -46,10 +50,20 @@ public class PortfolioItem {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
     
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now();
+        createdAt = now;
+        updatedAt = now;
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
     }
     
     
@@ -3,6 +3,7 @@ package com.evently.model;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -25,6 +26,7 @@ import lombok.NoArgsConstructor;
 
 
 @Entity
+@Cacheable
 @Table(name = "vendors_service")
 @Data
 @NoArgsConstructor
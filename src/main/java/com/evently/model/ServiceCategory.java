@@ -1,8 +1,10 @@
 package com.evently.model;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -10,6 +12,8 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -17,9 +21,10 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-import lombok.ToString
+import lombok.ToString;
     
 @Entity
+@Cacheable
 @Table(name = "vendors_servicecategory")
 @Data
 @NoArgsConstructor
@@ -40,6 +45,9 @@ public class ServiceCategory {
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
     
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
     
     @OneToMany(mappedBy = "category", fetch = FetchType.LAZY)
     private List<Service> services = new ArrayList<>();
@@ -48,4 +56,11 @@ public class ServiceCategory {
     public int getServicesCount() {
         return services != null ? services.size() : 0;
     }
+    
+    
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -24,6 +25,7 @@ import lombok.NoArgsConstructor;
 
 
 @Entity
+@Cacheable
 @Table(name = "users_user")
 @Data
 @NoArgsConstructor
@@ -60,6 +62,9 @@ public class User implements UserDetails {
     @Column(name = "date_joined")
     private LocalDateTime dateJoined;
     
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
     
     @Column(name = "is_vendor")
     private Boolean isVendor = false;
@@ -92,6 +97,14 @@ public class User implements UserDetails {
     
     
     public String getFullName() {
+        return fullNameOf(firstName, lastName, username);
+    }
+    
+    /**
+     * "First Last" from whichever names are set, falling back to the username.
+     * Shared with DTO projections that select the name columns without loading a User.
+     */
+    public static String fullNameOf(String firstName, String lastName, String username) {
         StringBuilder fullName = new StringBuilder();
         if (firstName != null && !firstName.trim().isEmpty()) {
             fullName.append(firstName.trim());
@@ -111,6 +124,7 @@ public class User implements UserDetails {
         if (dateJoined == null) {
             dateJoined = LocalDateTime.now();
         }
+        updatedAt = LocalDateTime.now();
         if (isActive == null) {
             isActive = true;
         }
@@ -125,7 +139,7 @@ public class User implements UserDetails {
     
     @PreUpdate
     protected void onUpdate() {
-    
+        updatedAt = LocalDateTime.now();
     }
     
     @Override
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -27,6 +28,7 @@ import lombok.ToString;
 
 
 @Entity
+@Cacheable
 @Table(name = "vendors_vendorprofile")
 @Data
 @NoArgsConstructor
@@ -63,6 +65,9 @@ public class VendorProfile {
     @Column(name = "profile_pic", length = 255)
     private String profilePic; 
     
+    @Column(name = "profile_pic_thumbnail", length = 255)
+    private String profilePicThumbnail;
+    
     @Column(name = "is_verified")
     private Boolean isVerified = false;
     
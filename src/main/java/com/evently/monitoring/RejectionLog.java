@@ -0,0 +1,46 @@
+package com.evently.monitoring;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counts and logs rejected requests (authentication, authorization and validation failures).
+ * Every rejection increments http.rejections tagged with status and reason; log lines are
+ * rate-limited per status and reason so bulk scanning traffic cannot flood the logs.
+ */
+@Component
+public class RejectionLog {
+
+    private final MeterRegistry meterRegistry;
+    private final SampledLogger log;
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public RejectionLog(MeterRegistry meterRegistry,
+                        @Value("${app.rejections.log-permits:5}") int logPermits,
+                        @Value("${app.rejections.log-window:10s}") Duration logWindow) {
+        this.meterRegistry = meterRegistry;
+        this.log = new SampledLogger(LoggerFactory.getLogger(RejectionLog.class), logPermits, logWindow);
+    }
+
+    /**
+     * Record a rejection. The reason must come from a fixed set, as it is a metric tag and log key.
+     */
+    public void record(int status, String reason, String path, Object detail) {
+        String key = status + " " + reason;
+        counters.computeIfAbsent(key, k -> Counter.builder("http.rejections")
+                .description("Requests rejected before reaching or by the controllers")
+                .tag("status", String.valueOf(status))
+                .tag("reason", reason)
+                .register(meterRegistry))
+            .increment();
+        log.warn(key, "Rejected {} {} for {}: {}", status, reason, path, detail);
+    }
+}
@@ -0,0 +1,87 @@
+package com.evently.monitoring;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+
+/**
+ * Rate-limited logging for messages that can arrive in floods, such as rejected requests from scanners.
+ *
+ * Each key may log up to {@code permits} lines per window; further lines in the window are only counted,
+ * and the next line logged for that key reports how many were suppressed. A suppressed line costs
+ * a clock read and a counter increment, and its arguments are never formatted.
+ * Keys should come from a small fixed set (e.g. status and reason), not from request data.
+ */
+public class SampledLogger {
+
+    private final Logger logger;
+    private final int permits;
+    private final long windowNanos;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    public SampledLogger(Logger logger, int permits, Duration window) {
+        this.logger = logger;
+        this.permits = permits;
+        this.windowNanos = window.toNanos();
+    }
+
+    public void info(String key, String format, Object... args) {
+        if (logger.isInfoEnabled()) {
+            long suppressed = acquire(key);
+            if (suppressed >= 0) {
+                logger.info(withSuppressed(format, suppressed), withSuppressed(args, suppressed));
+            }
+        }
+    }
+
+    public void warn(String key, String format, Object... args) {
+        if (logger.isWarnEnabled()) {
+            long suppressed = acquire(key);
+            if (suppressed >= 0) {
+                logger.warn(withSuppressed(format, suppressed), withSuppressed(args, suppressed));
+            }
+        }
+    }
+
+    /**
+     * The number of lines suppressed since the key last logged, or -1 if this line is suppressed too.
+     */
+    private long acquire(String key) {
+        Window window = windows.computeIfAbsent(key, k -> new Window());
+        long now = System.nanoTime();
+        long start = window.start.get();
+        if (now - start >= windowNanos && window.start.compareAndSet(start, now)) {
+            window.logged.set(0);
+        }
+        if (window.logged.incrementAndGet() > permits) {
+            window.suppressed.increment();
+            return -1;
+        }
+        return window.suppressed.sumThenReset();
+    }
+
+    private static String withSuppressed(String format, long suppressed) {
+        return suppressed == 0 ? format : format + " ({} similar suppressed)";
+    }
+
+    private static Object[] withSuppressed(Object[] args, long suppressed) {
+        if (suppressed == 0) {
+            return args;
+        }
+        Object[] all = Arrays.copyOf(args, args.length + 1);
+        all[args.length] = suppressed;
+        return all;
+    }
+
+    private static final class Window {
+        private final AtomicLong start = new AtomicLong(System.nanoTime());
+        private final AtomicInteger logged = new AtomicInteger();
+        private final LongAdder suppressed = new LongAdder();
+    }
+}
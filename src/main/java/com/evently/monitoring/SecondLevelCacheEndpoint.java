@@ -0,0 +1,67 @@
+package com.evently.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Admin endpoint exposing Hibernate second-level cache statistics per region.
+ * GET /actuator/l2cache lists hits, misses, puts and entries; DELETE resets the counters.
+ * The same counters are published as hibernate.second.level.cache.* metrics.
+ */
+@Component
+@Endpoint(id = "l2cache")
+public class SecondLevelCacheEndpoint {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public Map<String, Object> regions() {
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String name : statistics.getSecondLevelCacheRegionNames()) {
+            regions.put(name, describe(statistics.getDomainDataRegionStatistics(name)));
+        }
+        CacheRegionStatistics queries = statistics.getQueryRegionStatistics(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+        if (queries != null) {
+            regions.put(queries.getRegionName(), describe(queries));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        report.put("hits", statistics.getSecondLevelCacheHitCount());
+        report.put("misses", statistics.getSecondLevelCacheMissCount());
+        report.put("puts", statistics.getSecondLevelCachePutCount());
+        report.put("queryCacheHits", statistics.getQueryCacheHitCount());
+        report.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+        report.put("regions", regions);
+        return report;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.clear();
+    }
+
+    private static Map<String, Object> describe(CacheRegionStatistics region) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", region.getHitCount());
+        stats.put("misses", region.getMissCount());
+        stats.put("puts", region.getPutCount());
+        stats.put("entries", region.getElementCountInMemory());
+        return stats;
+    }
+}
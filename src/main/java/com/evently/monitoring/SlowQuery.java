@@ -0,0 +1,40 @@
+package com.evently.monitoring;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A single statement that ran longer than the slow-query threshold.
+ */
+public class SlowQuery {
+
+    private final String sql;
+    private final List<List<Object>> parameters;
+    private final long elapsedMs;
+    private final boolean batch;
+    private final String repositoryMethod;
+    private final String thread;
+    private final LocalDateTime executedAt;
+    private final List<String> plan;
+
+    public SlowQuery(String sql, List<List<Object>> parameters, long elapsedMs, boolean batch,
+                     String repositoryMethod, String thread, LocalDateTime executedAt, List<String> plan) {
+        this.sql = sql;
+        this.parameters = parameters;
+        this.elapsedMs = elapsedMs;
+        this.batch = batch;
+        this.repositoryMethod = repositoryMethod;
+        this.thread = thread;
+        this.executedAt = executedAt;
+        this.plan = plan;
+    }
+
+    public String getSql() { return sql; }
+    public List<List<Object>> getParameters() { return parameters; }
+    public long getElapsedMs() { return elapsedMs; }
+    public boolean isBatch() { return batch; }
+    public String getRepositoryMethod() { return repositoryMethod; }
+    public String getThread() { return thread; }
+    public LocalDateTime getExecutedAt() { return executedAt; }
+    public List<String> getPlan() { return plan; }
+}
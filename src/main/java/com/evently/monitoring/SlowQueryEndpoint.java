@@ -0,0 +1,39 @@
+package com.evently.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admin endpoint exposing the worst statements seen by the slow-query recorder.
+ * GET /actuator/slowqueries lists them slowest first; DELETE resets the buffer.
+ */
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final SlowQueryRecorder recorder;
+
+    public SlowQueryEndpoint(SlowQueryRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public Map<String, Object> slowQueries() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("thresholdMs", recorder.getThresholdMs());
+        report.put("capacity", recorder.getCapacity());
+        report.put("recorded", recorder.getRecordedCount());
+        report.put("queries", recorder.getWorstQueries());
+        return report;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        recorder.clear();
+    }
+}
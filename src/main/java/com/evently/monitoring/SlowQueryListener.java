@@ -0,0 +1,196 @@
+package com.evently.monitoring;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.repository.core.RepositoryMethodContext;
+import org.springframework.data.repository.core.RepositoryMethodContextHolder;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * JDBC listener that hands statements slower than the threshold to the {@link SlowQueryRecorder},
+ * together with the types of their bind values (the values themselves only if the recorder is
+ * set to log them), the repository method that issued them and, on H2 and MySQL, the EXPLAIN plan
+ * for SELECT statements.
+ */
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryListener.class);
+
+    private static final int MAX_PARAMETER_LENGTH = 200;
+
+    // Set while an EXPLAIN is running so the EXPLAIN itself is never recorded
+    private static final ThreadLocal<Boolean> EXPLAINING = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final ObjectProvider<SlowQueryRecorder> recorderProvider;
+
+    public SlowQueryListener(ObjectProvider<SlowQueryRecorder> recorderProvider) {
+        this.recorderProvider = recorderProvider;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (EXPLAINING.get()) {
+            return;
+        }
+        SlowQueryRecorder recorder = recorderProvider.getIfAvailable();
+        if (recorder == null || !recorder.isSlow(execInfo.getElapsedTime())) {
+            return;
+        }
+
+        String repositoryMethod = currentRepositoryMethod();
+        String thread = Thread.currentThread().getName();
+        LocalDateTime executedAt = LocalDateTime.now();
+
+        for (QueryInfo queryInfo : queryInfoList) {
+            List<List<ParameterSetOperation>> parameterSets = queryInfo.getParametersList();
+            List<String> plan = Collections.emptyList();
+            if (recorder.isExplainEnabled() && !execInfo.isBatch() && isSelect(queryInfo.getQuery())) {
+                plan = explain(execInfo, queryInfo.getQuery(),
+                    parameterSets.isEmpty() ? Collections.emptyList() : parameterSets.get(0));
+            }
+            recorder.record(new SlowQuery(queryInfo.getQuery(), describeParameters(parameterSets, recorder.isLogParameters()),
+                execInfo.getElapsedTime(), execInfo.isBatch(), repositoryMethod, thread, executedAt, plan));
+        }
+    }
+
+    /**
+     * Repository interface and method currently executing on this thread, if any.
+     */
+    private String currentRepositoryMethod() {
+        try {
+            RepositoryMethodContext context = RepositoryMethodContextHolder.getContext();
+            if (context == null) {
+                return "n/a";
+            }
+            Method method = context.getMethod();
+            return context.getMetadata().getRepositoryInterface().getSimpleName() + "." + method.getName();
+        } catch (IllegalStateException e) {
+            // Statement issued outside a repository call (schema setup, JdbcTemplate, ...)
+            return "n/a";
+        }
+    }
+
+    private boolean isSelect(String sql) {
+        String trimmed = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return trimmed.startsWith("select") || trimmed.startsWith("with");
+    }
+
+    /**
+     * Run EXPLAIN on the same connection with the same bind values.
+     * Only H2 and MySQL/MariaDB are supported; other databases yield an empty plan.
+     */
+    private List<String> explain(ExecutionInfo execInfo, String sql, List<ParameterSetOperation> parameters) {
+        EXPLAINING.set(Boolean.TRUE);
+        try {
+            Connection connection = execInfo.getStatement().getConnection();
+            String product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+            if (!product.contains("h2") && !product.contains("mysql") && !product.contains("mariadb")) {
+                return Collections.emptyList();
+            }
+
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (ParameterSetOperation operation : parameters) {
+                    Object[] args = operation.getArgs();
+                    if (!(args[0] instanceof Integer index)) {
+                        continue;
+                    }
+                    if (ParameterSetOperation.isSetNullParameterOperation(operation)) {
+                        explain.setNull(index, (Integer) args[1]);
+                    } else {
+                        explain.setObject(index, args[1]);
+                    }
+                }
+
+                List<String> plan = new ArrayList<>();
+                try (ResultSet rs = explain.executeQuery()) {
+                    int columns = rs.getMetaData().getColumnCount();
+                    while (rs.next()) {
+                        if (columns == 1) {
+                            plan.add(rs.getString(1));
+                        } else {
+                            // MySQL returns one row per table access with named columns
+                            StringBuilder row = new StringBuilder();
+                            for (int i = 1; i <= columns; i++) {
+                                if (i > 1) {
+                                    row.append(", ");
+                                }
+                                row.append(rs.getMetaData().getColumnLabel(i)).append('=').append(rs.getString(i));
+                            }
+                            plan.add(row.toString());
+                        }
+                    }
+                }
+                return plan;
+            }
+        } catch (SQLException | RuntimeException e) {
+            logger.debug("Could not capture EXPLAIN plan for slow query", e);
+            return Collections.emptyList();
+        } finally {
+            EXPLAINING.remove();
+        }
+    }
+
+    /**
+     * Bind values per parameter set, ordered by parameter index. Without values, each is shown as its type.
+     */
+    private List<List<Object>> describeParameters(List<List<ParameterSetOperation>> parameterSets, boolean withValues) {
+        List<List<Object>> described = new ArrayList<>(parameterSets.size());
+        for (List<ParameterSetOperation> operations : parameterSets) {
+            List<ParameterSetOperation> sorted = new ArrayList<>(operations);
+            sorted.sort(Comparator.comparing(op -> String.valueOf(op.getArgs()[0]),
+                Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder())));
+            List<Object> values = new ArrayList<>(sorted.size());
+            for (ParameterSetOperation operation : sorted) {
+                values.add(withValues ? describeValue(operation) : describeType(operation));
+            }
+            described.add(values);
+        }
+        return described;
+    }
+
+    private Object describeType(ParameterSetOperation operation) {
+        if (ParameterSetOperation.isSetNullParameterOperation(operation)) {
+            return null;
+        }
+        Object value = operation.getArgs().length > 1 ? operation.getArgs()[1] : null;
+        return value == null ? null : "<" + value.getClass().getSimpleName() + ">";
+    }
+
+    private Object describeValue(ParameterSetOperation operation) {
+        if (ParameterSetOperation.isSetNullParameterOperation(operation)) {
+            return null;
+        }
+        Object value = operation.getArgs().length > 1 ? operation.getArgs()[1] : null;
+        if (value instanceof byte[] bytes) {
+            return "<" + bytes.length + " bytes>";
+        }
+        if (value instanceof String text && text.length() > MAX_PARAMETER_LENGTH) {
+            return text.substring(0, MAX_PARAMETER_LENGTH) + "...";
+        }
+        if (value == null || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,121 @@
+package com.evently.monitoring;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the worst statements seen since startup (or the last reset).
+ * Only statements slower than the configured threshold are logged and retained;
+ * the retained set is bounded to the top-N by elapsed time.
+ */
+@Component
+public class SlowQueryRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryRecorder.class);
+
+    private static final Comparator<SlowQuery> BY_ELAPSED = Comparator.comparingLong(SlowQuery::getElapsedMs);
+
+    @Value("${app.jdbc.slow-query.threshold-ms:200}")
+    private long thresholdMs;
+
+    @Value("${app.jdbc.slow-query.top-n:50}")
+    private int capacity;
+
+    @Value("${app.jdbc.slow-query.explain:true}")
+    private boolean explainEnabled;
+
+    // Bind values carry password hashes, e-mail addresses and guest details, so only their types
+    // are logged unless this is switched on
+    @Value("${app.jdbc.slow-query.log-parameters:false}")
+    private boolean logParameters;
+
+    // Min-heap on elapsed time: the head is the cheapest query still retained
+    private final PriorityQueue<SlowQuery> worst = new PriorityQueue<>(BY_ELAPSED);
+
+    private long recordedCount;
+
+    /**
+     * Whether a statement with this elapsed time should be recorded.
+     */
+    public boolean isSlow(long elapsedMs) {
+        return elapsedMs >= thresholdMs;
+    }
+
+    public boolean isExplainEnabled() {
+        return explainEnabled;
+    }
+
+    public boolean isLogParameters() {
+        return logParameters;
+    }
+
+    public long getThresholdMs() {
+        return thresholdMs;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Log a slow statement and keep it if it is among the worst N.
+     */
+    public void record(SlowQuery query) {
+        if (query.getPlan().isEmpty()) {
+            logger.warn("Slow query ({} ms) from {}: {} | params={}",
+                query.getElapsedMs(), query.getRepositoryMethod(), query.getSql(), query.getParameters());
+        } else {
+            logger.warn("Slow query ({} ms) from {}: {} | params={}\n  plan: {}",
+                query.getElapsedMs(), query.getRepositoryMethod(), query.getSql(), query.getParameters(),
+                String.join("\n        ", query.getPlan()));
+        }
+
+        synchronized (worst) {
+            recordedCount++;
+            if (worst.size() < capacity) {
+                worst.add(query);
+            } else if (capacity > 0 && worst.peek().getElapsedMs() < query.getElapsedMs()) {
+                worst.poll();
+                worst.add(query);
+            }
+        }
+    }
+
+    /**
+     * Retained slow queries, slowest first.
+     */
+    public List<SlowQuery> getWorstQueries() {
+        List<SlowQuery> snapshot;
+        synchronized (worst) {
+            snapshot = new ArrayList<>(worst);
+        }
+        snapshot.sort(BY_ELAPSED.reversed());
+        return snapshot;
+    }
+
+    /**
+     * Total number of slow statements seen, including ones no longer retained.
+     */
+    public long getRecordedCount() {
+        synchronized (worst) {
+            return recordedCount;
+        }
+    }
+
+    /**
+     * Drop all retained entries.
+     */
+    public void clear() {
+        synchronized (worst) {
+            worst.clear();
+            recordedCount = 0;
+        }
+    }
+}
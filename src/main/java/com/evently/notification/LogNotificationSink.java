@@ -0,0 +1,31 @@
+package com.evently.notification;
+
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.evently.model.OutboxMessage;
+
+/**
+ * Writes notifications to the application log; the default sink in development.
+ */
+public class LogNotificationSink implements NotificationSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogNotificationSink.class);
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public Map<Long, String> deliver(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            logger.info("Notification {} to {}: {}", message.getIdempotencyKey(),
+                message.getRecipient() != null ? message.getRecipient() : "-", message.getSubject());
+        }
+        return Map.of();
+    }
+}
@@ -0,0 +1,35 @@
+package com.evently.notification;
+
+import java.util.List;
+import java.util.Map;
+
+import com.evently.model.OutboxMessage;
+
+/**
+ * A transport for outbox notifications (e-mail, webhook, log).
+ *
+ * Delivery is at least once: a message whose outcome was not recorded, because the dispatcher
+ * died mid-batch, is delivered again with the same idempotency key, which sinks pass on to the
+ * receiver where they can.
+ */
+public interface NotificationSink {
+
+    /**
+     * Name stored in the outbox rows for this sink, and used in app.notifications.sinks.
+     */
+    String name();
+
+    /**
+     * Whether the sink can only deliver messages that have a recipient address.
+     */
+    default boolean requiresRecipient() {
+        return false;
+    }
+
+    /**
+     * Deliver a batch of messages.
+     *
+     * @return the ids of the messages that could not be delivered, with the reason
+     */
+    Map<Long, String> deliver(List<OutboxMessage> messages);
+}
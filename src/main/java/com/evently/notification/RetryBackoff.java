@@ -0,0 +1,48 @@
+package com.evently.notification;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter for failed deliveries: the n-th retry waits a random time
+ * between half and all of initial * 2^(n-1), capped at max, so a sink that was down is not
+ * hit by every held-back message at the same instant when it comes back.
+ */
+public class RetryBackoff {
+
+    private final Duration initial;
+    private final Duration max;
+    private final int maxAttempts;
+
+    public RetryBackoff(Duration initial, Duration max, int maxAttempts) {
+        if (initial.isNegative() || initial.isZero() || max.compareTo(initial) < 0 || maxAttempts < 1) {
+            throw new IllegalArgumentException("Invalid retry backoff: initial " + initial + ", max " + max
+                + ", max attempts " + maxAttempts);
+        }
+        this.initial = initial;
+        this.max = max;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * Delay before the next attempt after the given number of failed attempts, or empty when
+     * no attempts are left.
+     */
+    public Optional<Duration> nextDelay(int attempts) {
+        if (attempts >= maxAttempts) {
+            return Optional.empty();
+        }
+        long ceiling = max.toMillis();
+        int doublings = Math.max(0, attempts - 1);
+        if (doublings < 62 && initial.toMillis() <= ceiling >> doublings) {
+            ceiling = initial.toMillis() << doublings;
+        }
+        long delay = ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+        return Optional.of(Duration.ofMillis(delay));
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+}
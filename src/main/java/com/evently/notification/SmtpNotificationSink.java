@@ -0,0 +1,91 @@
+package com.evently.notification;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import com.evently.model.OutboxMessage;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Sends notifications as plain-text e-mail. A batch goes out over one SMTP connection.
+ * The idempotency key becomes the Message-ID, so a redelivered message is recognisable
+ * as the same message by mail clients and filters.
+ */
+public class SmtpNotificationSink implements NotificationSink {
+
+    private final JavaMailSender mailSender;
+    private final String from;
+    private final String fromName;
+    private final String messageIdDomain;
+
+    public SmtpNotificationSink(JavaMailSender mailSender, String from, String fromName) {
+        this.mailSender = mailSender;
+        this.from = from;
+        this.fromName = fromName;
+        this.messageIdDomain = from.substring(from.indexOf('@') + 1);
+    }
+
+    @Override
+    public String name() {
+        return "email";
+    }
+
+    @Override
+    public boolean requiresRecipient() {
+        return true;
+    }
+
+    @Override
+    public Map<Long, String> deliver(List<OutboxMessage> messages) {
+        Map<Long, String> failures = new HashMap<>();
+        Map<MimeMessage, Long> ids = new IdentityHashMap<>();
+        List<MimeMessage> mimeMessages = new ArrayList<>();
+        for (OutboxMessage message : messages) {
+            try {
+                MimeMessage mimeMessage = toMimeMessage(message);
+                ids.put(mimeMessage, message.getId());
+                mimeMessages.add(mimeMessage);
+            } catch (MessagingException | UnsupportedEncodingException e) {
+                failures.put(message.getId(), e.toString());
+            }
+        }
+        if (mimeMessages.isEmpty()) {
+            return failures;
+        }
+        try {
+            mailSender.send(mimeMessages.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                // Connecting or authenticating failed, nothing was sent
+                ids.values().forEach(id -> failures.put(id, e.toString()));
+            }
+            e.getFailedMessages().forEach((mimeMessage, cause) -> failures.put(ids.get(mimeMessage), cause.toString()));
+        } catch (MailException e) {
+            ids.values().forEach(id -> failures.put(id, e.toString()));
+        }
+        return failures;
+    }
+
+    private MimeMessage toMimeMessage(OutboxMessage message) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "UTF-8");
+        helper.setFrom(from, fromName);
+        helper.setTo(message.getRecipient());
+        helper.setSubject(message.getSubject());
+        helper.setText(message.getBody());
+        // Kept by JavaMailSenderImpl when it saves the message
+        mimeMessage.setHeader("Message-ID", "<" + message.getIdempotencyKey() + "@" + messageIdDomain + ">");
+        return mimeMessage;
+    }
+}
@@ -0,0 +1,65 @@
+package com.evently.notification;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.RequestEntity;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.evently.model.OutboxMessage;
+
+/**
+ * POSTs each notification as JSON to a configured URL, with its idempotency key in the
+ * Idempotency-Key header. Any 2xx response counts as delivered.
+ */
+public class WebhookNotificationSink implements NotificationSink {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final RestTemplate restTemplate;
+    private final URI url;
+
+    public WebhookNotificationSink(RestTemplate restTemplate, URI url) {
+        this.restTemplate = restTemplate;
+        this.url = url;
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public Map<Long, String> deliver(List<OutboxMessage> messages) {
+        Map<Long, String> failures = new HashMap<>();
+        for (OutboxMessage message : messages) {
+            RequestEntity<Map<String, Object>> request = RequestEntity.post(url)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(IDEMPOTENCY_KEY_HEADER, message.getIdempotencyKey())
+                    .body(payload(message));
+            try {
+                restTemplate.exchange(request, Void.class);
+            } catch (RestClientException e) {
+                failures.put(message.getId(), e.toString());
+            }
+        }
+        return failures;
+    }
+
+    private static Map<String, Object> payload(OutboxMessage message) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("idempotencyKey", message.getIdempotencyKey());
+        payload.put("type", message.getType());
+        payload.put("aggregateId", message.getAggregateId());
+        payload.put("recipient", message.getRecipient());
+        payload.put("subject", message.getSubject());
+        payload.put("body", message.getBody());
+        payload.put("createdAt", message.getCreatedAt());
+        return payload;
+    }
+}
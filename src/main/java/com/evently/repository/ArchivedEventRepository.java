@@ -0,0 +1,33 @@
+package com.evently.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.evently.model.ArchivedEvent;
+
+
+@Repository
+public interface ArchivedEventRepository extends JpaRepository<ArchivedEvent, Long> {
+
+    // Copies events with their guest and booking counts, in one INSERT ... SELECT
+    @Modifying
+    @Query("INSERT INTO ArchivedEvent (id, plannerId, title, description, date, location, guestCount, vendorCount, "
+            + "createdAt, updatedAt, archivedAt) "
+            + "SELECT e.id, e.planner.id, e.title, e.description, e.date, e.location, "
+            + "CAST((SELECT COUNT(g) FROM Guest g WHERE g.event.id = e.id) AS Integer), "
+            + "CAST((SELECT COUNT(b) FROM VendorBooking b WHERE b.event.id = e.id) AS Integer), "
+            + "e.createdAt, e.updatedAt, :now FROM Event e WHERE e.id IN :ids")
+    int archive(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // Same shape as EventRepository.findVersionById, so an event keeps its ETag when archived
+    @Query("SELECT a.updatedAt, p.updatedAt, a.guestCount, a.vendorCount "
+            + "FROM ArchivedEvent a, User p WHERE p.id = a.plannerId AND a.id = :id")
+    List<Object[]> findVersionById(@Param("id") Long id);
+}
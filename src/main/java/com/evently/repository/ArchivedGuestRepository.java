@@ -0,0 +1,23 @@
+package com.evently.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.evently.model.ArchivedGuest;
+
+
+@Repository
+public interface ArchivedGuestRepository extends JpaRepository<ArchivedGuest, Long> {
+
+    @Modifying
+    @Query("INSERT INTO ArchivedGuest (id, eventId, userId, name, email, phone, rsvpStatus, dietaryRestrictions, "
+            + "createdAt, updatedAt) "
+            + "SELECT g.id, g.event.id, g.user.id, g.name, g.email, g.phone, g.rsvpStatus, g.dietaryRestrictions, "
+            + "g.createdAt, g.updatedAt FROM Guest g WHERE g.event.id IN :eventIds")
+    int archiveByEventIds(@Param("eventIds") Collection<Long> eventIds);
+}
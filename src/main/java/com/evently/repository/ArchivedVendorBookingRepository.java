@@ -0,0 +1,30 @@
+package com.evently.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.evently.model.ArchivedVendorBooking;
+import com.evently.model.VendorBooking.BookingStatus;
+
+
+@Repository
+public interface ArchivedVendorBookingRepository extends JpaRepository<ArchivedVendorBooking, Long> {
+
+    @Modifying
+    @Query("INSERT INTO ArchivedVendorBooking (id, eventId, vendorId, serviceId, status, notes, createdAt, updatedAt) "
+            + "SELECT b.id, b.event.id, b.vendor.id, b.service.id, b.status, b.notes, b.createdAt, b.updatedAt "
+            + "FROM VendorBooking b WHERE b.event.id IN :eventIds")
+    int archiveByEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+    // Archived booking counts per vendor for the leaderboard: [vendorId, count]
+    @Query("SELECT b.vendorId, COUNT(b) FROM ArchivedVendorBooking b WHERE b.status IN (:statuses) GROUP BY b.vendorId")
+    List<Object[]> countGroupedByVendorIdAndStatusIn(@Param("statuses") List<BookingStatus> statuses);
+
+    long countByVendorIdAndStatusIn(Long vendorId, List<BookingStatus> statuses);
+}
@@ -1,16 +1,25 @@
 package com.evently.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.evently.model.Event;
 import com.evently.model.User;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
@@ -18,7 +27,15 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     // Find events by planner
     List<Event> findByPlanner(User planner);
     
-    List<Event> findByPlannerId(Long plannerId);
+    // Filters on the planner_id column directly; the derived form joins users_user first
+    @Query("SELECT e FROM Event e WHERE e.planner.id = :plannerId")
+    List<Event> findByPlannerId(@Param("plannerId") Long plannerId);
+    
+    // A planner's events for the dashboard, soonest first, read as they are written out:
+    // [id, title, date, location]
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "100"))
+    @Query("SELECT e.id, e.title, e.date, e.location FROM Event e WHERE e.planner.id = :plannerId ORDER BY e.date")
+    Stream<Object[]> streamDashboardRowsByPlannerId(@Param("plannerId") Long plannerId);
     
     // Find events by date range
     List<Event> findByDateBetween(LocalDateTime startDate, LocalDateTime endDate);
@@ -59,4 +76,28 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     
     // Search events by title or location
     List<Event> findByTitleContainingIgnoreCaseOrLocationContainingIgnoreCase(String title, String location);
+    
+    // Title and date of one event, for DTOs that reference it
+    @Query("SELECT e.title, e.date FROM Event e WHERE e.id = :id")
+    List<Object[]> findTitleAndDateById(@Param("id") Long id);
+    
+    // Version of an event's representation for its ETag: [updatedAt, planner updatedAt, guest count, booking count]
+    @Query("SELECT e.updatedAt, p.updatedAt, "
+            + "(SELECT COUNT(g) FROM Guest g WHERE g.event.id = e.id), "
+            + "(SELECT COUNT(b) FROM VendorBooking b WHERE b.event.id = e.id) "
+            + "FROM Event e JOIN e.planner p WHERE e.id = :id")
+    List<Object[]> findVersionById(@Param("id") Long id);
+    
+    // Archival: events before the cutoff with no pending or confirmed bookings left, oldest first,
+    // locked; rows another archiver holds are skipped (lock timeout -2 is SKIP LOCKED on MySQL 8)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM Event e WHERE e.date < :before AND NOT EXISTS (SELECT b FROM VendorBooking b "
+            + "WHERE b.event.id = e.id AND b.status IN (com.evently.model.VendorBooking.BookingStatus.PENDING, "
+            + "com.evently.model.VendorBooking.BookingStatus.CONFIRMED)) ORDER BY e.date")
+    List<Event> claimArchivable(@Param("before") LocalDateTime before, Pageable pageable);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Event e WHERE e.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
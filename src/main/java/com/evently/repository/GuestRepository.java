@@ -1,13 +1,16 @@
 package com.evently.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.evently.dto.guest.GuestDto;
 import com.evently.model.Event;
 import com.evently.model.Guest;
 import com.evently.model.Guest.RsvpStatus;
@@ -17,10 +20,19 @@ import com.evently.model.User;
 @Repository
 public interface GuestRepository extends JpaRepository<Guest, Long> {
     
+    // Selects the GuestDto guest columns, without loading Guest entities. All rows share one event,
+    // so its title and date are not joined onto every row; callers add them from one lookup
+    String DTO_SELECT = "SELECT new com.evently.dto.guest.GuestDto("
+            + "g.id, g.name, g.email, g.phone, g.dietaryRestrictions, g.rsvpStatus, g.createdAt, g.updatedAt, "
+            + "g.event.id) "
+            + "FROM Guest g ";
+    
     // Find guests by event
     List<Guest> findByEvent(Event event);
     
-    List<Guest> findByEventId(Long eventId);
+    // Filters on the event_id column directly; the derived form joins events_event first
+    @Query("SELECT g FROM Guest g WHERE g.event.id = :eventId")
+    List<Guest> findByEventId(@Param("eventId") Long eventId);
     
     // Find guests by RSVP status
     List<Guest> findByRsvpStatus(RsvpStatus rsvpStatus);
@@ -30,7 +42,8 @@ public interface GuestRepository extends JpaRepository<Guest, Long> {
     // Find guests by user
     List<Guest> findByUser(User user);
     
-    List<Guest> findByUserId(Long userId);
+    @Query("SELECT g FROM Guest g WHERE g.user.id = :userId")
+    List<Guest> findByUserId(@Param("userId") Long userId);
     
     // Find guest by event and email
     Optional<Guest> findByEventAndEmail(Event event, String email);
@@ -55,6 +68,11 @@ public interface GuestRepository extends JpaRepository<Guest, Long> {
     @Query("SELECT g.rsvpStatus, COUNT(g) FROM Guest g WHERE g.event = :event GROUP BY g.rsvpStatus")
     List<Object[]> getRsvpStatsByEvent(@Param("event") Event event);
     
+    // RSVP counts of every event of a planner, for the dashboard: [eventId, rsvpStatus, count]
+    @Query("SELECT g.event.id, g.rsvpStatus, COUNT(g) FROM Guest g WHERE g.event.planner.id = :plannerId "
+            + "GROUP BY g.event.id, g.rsvpStatus")
+    List<Object[]> countGroupedByEventIdAndRsvpStatusForPlanner(@Param("plannerId") Long plannerId);
+    
     @Query("SELECT COUNT(g) FROM Guest g WHERE g.event = :event")
     long countGuestsByEvent(@Param("event") Event event);
     
@@ -70,4 +88,16 @@ public interface GuestRepository extends JpaRepository<Guest, Long> {
     int countByEventIdAndRsvpStatus(Long eventId, RsvpStatus rsvpStatus);
     
     boolean existsByEventIdAndEmail(Long eventId, String email);
+    
+    // DTO projections for read-only service methods
+    @Query(DTO_SELECT + "WHERE g.event.id = :eventId")
+    List<GuestDto> findDtosByEventId(@Param("eventId") Long eventId);
+    
+    @Query(DTO_SELECT + "WHERE g.event.id = :eventId AND g.rsvpStatus = :rsvpStatus")
+    List<GuestDto> findDtosByEventIdAndRsvpStatus(@Param("eventId") Long eventId, @Param("rsvpStatus") RsvpStatus rsvpStatus);
+    
+    // Archival: guests of events being moved to events_guest_archive
+    @Modifying
+    @Query("DELETE FROM Guest g WHERE g.event.id IN :eventIds")
+    int deleteByEventIds(@Param("eventIds") Collection<Long> eventIds);
 }
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.evently.dto.vendor.PortfolioItemDTO;
 import com.evently.model.PortfolioItem;
 import com.evently.model.VendorProfile;
 
@@ -14,6 +15,11 @@ import com.evently.model.VendorProfile;
 @Repository
 public interface PortfolioItemRepository extends JpaRepository<PortfolioItem, Long> {
     
+    // Selects exactly the PortfolioItemDTO columns, without loading PortfolioItem entities
+    String DTO_SELECT = "SELECT new com.evently.dto.vendor.PortfolioItemDTO("
+            + "p.id, v.id, v.businessName, p.description, p.image, p.imageThumbnail, p.createdAt) "
+            + "FROM PortfolioItem p JOIN p.vendor v ";
+    
     // Find portfolio items by vendor
     List<PortfolioItem> findByVendor(VendorProfile vendor);
     
@@ -27,6 +33,9 @@ public interface PortfolioItemRepository extends JpaRepository<PortfolioItem, Lo
     // Find portfolio items with images
     List<PortfolioItem> findByImageIsNotNull();
     
+    // Find portfolio items sharing a stored image (uploads are content-addressed)
+    List<PortfolioItem> findByImage(String image);
+    
     // Find portfolio items without images
     List<PortfolioItem> findByImageIsNull();
     
@@ -66,4 +75,13 @@ public interface PortfolioItemRepository extends JpaRepository<PortfolioItem, Lo
     
     // Additional methods needed by VendorService
     int countByVendorId(Long vendorId);
+    
+    // DTO projections for read-only service methods
+    @Query(DTO_SELECT + "WHERE p.vendor.id = :vendorId")
+    List<PortfolioItemDTO> findDtosByVendorId(@Param("vendorId") Long vendorId);
+    
+    // Version of a vendor's portfolio for its ETag: [max updatedAt, count, vendor updatedAt]
+    @Query("SELECT MAX(p.updatedAt), COUNT(p), MAX(v.updatedAt) "
+            + "FROM PortfolioItem p JOIN p.vendor v WHERE p.vendor.id = :vendorId")
+    List<Object[]> findVersionByVendorId(@Param("vendorId") Long vendorId);
 }
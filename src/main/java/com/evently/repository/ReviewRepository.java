@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.evently.dto.vendor.ReviewDTO;
 import com.evently.model.Review;
 import com.evently.model.User;
 import com.evently.model.VendorProfile;
@@ -15,15 +16,23 @@ import com.evently.model.VendorProfile;
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     
+    // Selects exactly the ReviewDTO columns, without loading Review, VendorProfile or User entities
+    String DTO_SELECT = "SELECT new com.evently.dto.vendor.ReviewDTO("
+            + "r.id, v.id, v.businessName, u.id, u.username, u.firstName, u.lastName, r.rating, r.comment, r.createdAt) "
+            + "FROM Review r JOIN r.vendor v JOIN r.user u ";
+    
     // Find reviews by vendor
     List<Review> findByVendor(VendorProfile vendor);
     
-    List<Review> findByVendorId(Long vendorId);
+    // Filters on the vendor_id column directly; the derived form joins vendors_vendorprofile first
+    @Query("SELECT r FROM Review r WHERE r.vendor.id = :vendorId")
+    List<Review> findByVendorId(@Param("vendorId") Long vendorId);
     
     // Find reviews by user
     List<Review> findByUser(User user);
     
-    List<Review> findByUserId(Long userId);
+    @Query("SELECT r FROM Review r WHERE r.user.id = :userId")
+    List<Review> findByUserId(@Param("userId") Long userId);
     
     // Find reviews by rating
     List<Review> findByRating(Integer rating);
@@ -101,4 +110,18 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     
     @Query("SELECT AVG(r.rating) FROM Review r WHERE r.vendor.id = :vendorId")
     Double findAverageRatingByVendorId(@Param("vendorId") Long vendorId);
+    
+    // Rating totals per vendor for the leaderboard: [vendorId, sum of ratings, review count]
+    @Query("SELECT r.vendor.id, SUM(r.rating), COUNT(r) FROM Review r GROUP BY r.vendor.id")
+    List<Object[]> sumRatingsGroupedByVendorId();
+    
+    @Query("SELECT SUM(r.rating), COUNT(r) FROM Review r WHERE r.vendor.id = :vendorId")
+    List<Object[]> sumRatingsByVendorId(@Param("vendorId") Long vendorId);
+    
+    // DTO projections for read-only service methods
+    @Query(DTO_SELECT + "WHERE r.vendor.id = :vendorId")
+    List<ReviewDTO> findDtosByVendorId(@Param("vendorId") Long vendorId);
+    
+    @Query(DTO_SELECT + "WHERE r.vendor.id = :vendorId AND r.rating = :rating")
+    List<ReviewDTO> findDtosByVendorIdAndRating(@Param("vendorId") Long vendorId, @Param("rating") Integer rating);
 }
@@ -3,23 +3,34 @@ package com.evently.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.evently.model.ServiceCategory;
 
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface ServiceCategoryRepository extends JpaRepository<ServiceCategory, Long> {
     
+    // Category lookups are served from the query cache until a category changes
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<ServiceCategory> findAll();
+    
     // Find category by name
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ServiceCategory> findByName(String name);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ServiceCategory> findByNameIgnoreCase(String name);
     
     // Find categories by name pattern
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ServiceCategory> findByNameContainingIgnoreCase(String name);
     
     // Find categories with description
@@ -38,6 +49,7 @@ public interface ServiceCategoryRepository extends JpaRepository<ServiceCategory
     List<ServiceCategory> findByKeywordInNameOrDescription(@Param("keyword") String keyword);
     
     @Query("SELECT sc FROM ServiceCategory sc ORDER BY sc.name ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ServiceCategory> findAllOrderByName();
     
     // Find categories with services
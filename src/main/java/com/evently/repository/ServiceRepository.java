@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.evently.dto.vendor.ServiceDTO;
 import com.evently.model.Service;
 import com.evently.model.ServiceCategory;
 import com.evently.model.VendorProfile;
@@ -16,6 +17,12 @@ import com.evently.model.VendorProfile;
 @Repository
 public interface ServiceRepository extends JpaRepository<Service, Long> {
     
+    // Selects exactly the ServiceDTO columns; the category is optional, hence the outer join
+    String DTO_SELECT = "SELECT new com.evently.dto.vendor.ServiceDTO("
+            + "s.id, v.id, v.businessName, c.id, c.name, s.title, s.description, s.price, s.availabilityNotes, "
+            + "s.createdAt, s.updatedAt) "
+            + "FROM Service s JOIN s.vendor v LEFT JOIN s.category c ";
+    
     // Find services by vendor
     List<Service> findByVendor(VendorProfile vendor);
     
@@ -92,4 +99,23 @@ public interface ServiceRepository extends JpaRepository<Service, Long> {
     
     // Additional methods needed by VendorService
     int countByVendorId(Long vendorId);
+    
+    // Categories each vendor offers services in: [vendorId, categoryId]
+    @Query("SELECT DISTINCT s.vendor.id, s.category.id FROM Service s WHERE s.category.id IS NOT NULL")
+    List<Object[]> findVendorCategoryPairs();
+    
+    @Query("SELECT DISTINCT s.category.id FROM Service s WHERE s.vendor.id = :vendorId AND s.category.id IS NOT NULL")
+    List<Long> findCategoryIdsByVendorId(@Param("vendorId") Long vendorId);
+    
+    // DTO projections for read-only service methods
+    @Query(DTO_SELECT + "WHERE s.vendor.id = :vendorId")
+    List<ServiceDTO> findDtosByVendorId(@Param("vendorId") Long vendorId);
+    
+    @Query(DTO_SELECT + "WHERE s.category.id = :categoryId")
+    List<ServiceDTO> findDtosByCategoryId(@Param("categoryId") Long categoryId);
+    
+    // Version of a vendor's service list for its ETag: [max updatedAt, count, vendor updatedAt, category updatedAt]
+    @Query("SELECT MAX(s.updatedAt), COUNT(s), MAX(v.updatedAt), MAX(c.updatedAt) "
+            + "FROM Service s JOIN s.vendor v LEFT JOIN s.category c WHERE s.vendor.id = :vendorId")
+    List<Object[]> findVersionByVendorId(@Param("vendorId") Long vendorId);
 }
@@ -1,25 +1,46 @@
 package com.evently.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.evently.dto.user.UserDTO;
 import com.evently.model.User;
 
+import jakarta.persistence.QueryHint;
+
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
+    // Selects exactly the UserDTO columns; the password hash is never read
+    String DTO_SELECT = "SELECT new com.evently.dto.user.UserDTO("
+            + "u.id, u.username, u.firstName, u.lastName, u.email, u.isActive, u.lastLogin, u.dateJoined, "
+            + "u.isVendor, u.isPlanner) "
+            + "FROM User u ";
+    
    
+    // Authentication lookup on every request; served from the query and entity caches
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUsername(String username);
     
     
     Optional<User> findByEmail(String email);
     
+    // Sets last login alone: a save would also bump updatedAt, which versions the vendor and event
+    // representations the user is shown in
+    @Modifying
+    @Query("UPDATE User u SET u.lastLogin = :lastLogin WHERE u.username = :username")
+    int updateLastLogin(@Param("username") String username, @Param("lastLogin") LocalDateTime lastLogin);
+    
     List<User> findByIsVendorTrue();
     
   
@@ -49,4 +70,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Find active planners
     @Query("SELECT u FROM User u WHERE u.isPlanner = true AND u.isActive = true")
     List<User> findActivePlanners();
+    
+    // DTO projections for read-only service methods
+    @Query(DTO_SELECT + "WHERE u.id = :id")
+    Optional<UserDTO> findDtoById(@Param("id") Long id);
+    
+    @Query(DTO_SELECT + "WHERE u.username = :username")
+    Optional<UserDTO> findDtoByUsername(@Param("username") String username);
+    
+    @Query(DTO_SELECT + "WHERE u.email = :email")
+    Optional<UserDTO> findDtoByEmail(@Param("email") String email);
+    
+    @Query(DTO_SELECT + "WHERE u.isVendor = true")
+    List<UserDTO> findDtosByIsVendorTrue();
+    
+    @Query(DTO_SELECT + "WHERE u.isPlanner = true")
+    List<UserDTO> findDtosByIsPlannerTrue();
+    
+    @Query(DTO_SELECT + "WHERE u.isActive = true")
+    List<UserDTO> findDtosByIsActiveTrue();
 }
@@ -1,38 +1,59 @@
 package com.evently.repository;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.evently.dto.booking.VendorBookingDTO;
 import com.evently.model.Event;
 import com.evently.model.Service;
 import com.evently.model.VendorBooking;
 import com.evently.model.VendorBooking.BookingStatus;
 import com.evently.model.VendorProfile;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 
 @Repository
 public interface VendorBookingRepository extends JpaRepository<VendorBooking, Long> {
     
+    // Selects exactly the columns VendorBookingDTO maps, so a booking list is one statement
+    // instead of one per lazy event/vendor/service association
+    String DTO_SELECT = "SELECT new com.evently.dto.booking.VendorBookingDTO("
+            + "vb.id, e.id, e.title, e.date, e.location, v.id, v.businessName, s.id, s.title, s.price, "
+            + "vb.status, vb.notes, vb.createdAt, vb.updatedAt) "
+            + "FROM VendorBooking vb JOIN vb.event e JOIN vb.vendor v JOIN vb.service s ";
+    
     // Find bookings by event
     List<VendorBooking> findByEvent(Event event);
     
-    List<VendorBooking> findByEventId(Long eventId);
+    // Filters on the event_id column directly; the derived form joins events_event first
+    @Query("SELECT vb FROM VendorBooking vb WHERE vb.event.id = :eventId")
+    List<VendorBooking> findByEventId(@Param("eventId") Long eventId);
     
     // Find bookings by vendor
     List<VendorBooking> findByVendor(VendorProfile vendor);
     
-    List<VendorBooking> findByVendorId(Long vendorId);
+    @Query("SELECT vb FROM VendorBooking vb WHERE vb.vendor.id = :vendorId")
+    List<VendorBooking> findByVendorId(@Param("vendorId") Long vendorId);
     
     // Find bookings by service
     List<VendorBooking> findByService(Service service);
     
-    List<VendorBooking> findByServiceId(Long serviceId);
+    @Query("SELECT vb FROM VendorBooking vb WHERE vb.service.id = :serviceId")
+    List<VendorBooking> findByServiceId(@Param("serviceId") Long serviceId);
     
     // Find bookings by status
     List<VendorBooking> findByStatus(BookingStatus status);
@@ -105,26 +126,93 @@ public interface VendorBookingRepository extends JpaRepository<VendorBooking, Lo
     // Additional methods needed by BookingService
     boolean existsByEventIdAndVendorId(Long eventId, Long vendorId);
     
-    List<VendorBooking> findByEventPlannerId(Long plannerId);
+    @Query("SELECT vb FROM VendorBooking vb JOIN vb.event e WHERE e.planner.id = :plannerId")
+    List<VendorBooking> findByEventPlannerId(@Param("plannerId") Long plannerId);
     
     List<VendorBooking> findByEventPlannerIdAndStatus(Long plannerId, BookingStatus status);
     
-    List<VendorBooking> findByEventDateBetween(LocalDate startDate, LocalDate endDate);
+    // Event.date is a timestamp, so a calendar day is matched as a [start, end] range
+    boolean existsByVendorIdAndEventDateBetweenAndStatusIn(Long vendorId, LocalDateTime dayStart, LocalDateTime dayEnd, List<BookingStatus> statuses);
     
-    List<VendorBooking> findByVendorIdAndEventDateBetween(Long vendorId, LocalDate startDate, LocalDate endDate);
+    @Query("SELECT e.date FROM VendorBooking vb JOIN vb.event e WHERE vb.vendor.id = :vendorId AND e.date >= :start AND e.date < :end AND vb.status IN (:statuses) ORDER BY e.date")
+    List<LocalDateTime> findUnavailableDatesByVendorAndDateRange(@Param("vendorId") Long vendorId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end, @Param("statuses") List<BookingStatus> statuses);
     
-    boolean existsByVendorIdAndEventDateAndStatusIn(Long vendorId, LocalDate date, List<BookingStatus> statuses);
+    int countByVendorId(Long vendorId);
     
-    @Query("SELECT e.date FROM VendorBooking vb JOIN vb.event e WHERE vb.vendor.id = :vendorId AND e.date BETWEEN :startDate AND :endDate AND vb.status IN (:statuses)")
-    List<LocalDate> findUnavailableDatesByVendorAndDateRange(@Param("vendorId") Long vendorId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate, @Param("statuses") List<BookingStatus> statuses);
+    // Booking counts per vendor for the leaderboard: [vendorId, count]
+    @Query("SELECT vb.vendor.id, COUNT(vb) FROM VendorBooking vb WHERE vb.status IN (:statuses) GROUP BY vb.vendor.id")
+    List<Object[]> countGroupedByVendorIdAndStatusIn(@Param("statuses") List<BookingStatus> statuses);
     
-    int countByVendorId(Long vendorId);
+    long countByVendorIdAndStatusIn(Long vendorId, List<BookingStatus> statuses);
     
     int countByEventPlannerId(Long plannerId);
     
     int countByEventPlannerIdAndStatus(Long plannerId, BookingStatus status);
     
-    List<VendorBooking> findByVendorIdAndEventDateGreaterThanEqualAndStatusIn(Long vendorId, LocalDate date, List<BookingStatus> statuses);
+    // Booking counts of every event of a planner, for the dashboard: [eventId, status, count]
+    @Query("SELECT vb.event.id, vb.status, COUNT(vb) FROM VendorBooking vb WHERE vb.event.planner.id = :plannerId "
+            + "GROUP BY vb.event.id, vb.status")
+    List<Object[]> countGroupedByEventIdAndStatusForPlanner(@Param("plannerId") Long plannerId);
+    
+    // DTO projections used by BookingService's list methods.
+    // Date ranges are half-open [start, end) on the event timestamp.
+    // Lists across planners are sorted by event date then id, so shards' results can be merged.
+    
+    @Query(value = DTO_SELECT, countQuery = "SELECT COUNT(vb) FROM VendorBooking vb")
+    Page<VendorBookingDTO> findAllDtos(Pageable pageable);
+    
+    @Query(DTO_SELECT + "WHERE vb.event.id = :eventId")
+    List<VendorBookingDTO> findDtosByEventId(@Param("eventId") Long eventId);
+    
+    @Query(DTO_SELECT + "WHERE vb.vendor.id = :vendorId ORDER BY e.date, vb.id")
+    List<VendorBookingDTO> findDtosByVendorId(@Param("vendorId") Long vendorId);
+    
+    @Query(DTO_SELECT + "WHERE e.planner.id = :plannerId")
+    List<VendorBookingDTO> findDtosByEventPlannerId(@Param("plannerId") Long plannerId);
+    
+    @Query(DTO_SELECT + "WHERE vb.status = :status")
+    List<VendorBookingDTO> findDtosByStatus(@Param("status") BookingStatus status);
+    
+    @Query(DTO_SELECT + "WHERE vb.vendor.id = :vendorId AND vb.status = :status ORDER BY e.date, vb.id")
+    List<VendorBookingDTO> findDtosByVendorIdAndStatus(@Param("vendorId") Long vendorId, @Param("status") BookingStatus status);
+    
+    @Query(DTO_SELECT + "WHERE e.planner.id = :plannerId AND vb.status = :status")
+    List<VendorBookingDTO> findDtosByEventPlannerIdAndStatus(@Param("plannerId") Long plannerId, @Param("status") BookingStatus status);
+    
+    @Query(DTO_SELECT + "WHERE e.date >= :start AND e.date < :end ORDER BY e.date, vb.id")
+    List<VendorBookingDTO> findDtosByEventDateRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
+    @Query(DTO_SELECT + "WHERE vb.vendor.id = :vendorId AND e.date >= :start AND e.date < :end ORDER BY e.date, vb.id")
+    List<VendorBookingDTO> findDtosByVendorIdAndEventDateRange(@Param("vendorId") Long vendorId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
+    @Query(DTO_SELECT + "WHERE vb.vendor.id = :vendorId AND e.date >= :since AND vb.status IN (:statuses) ORDER BY e.date, vb.id")
+    List<VendorBookingDTO> findUpcomingDtosByVendorId(@Param("vendorId") Long vendorId, @Param("since") LocalDateTime since, @Param("statuses") List<BookingStatus> statuses);
+    
+    @Query(DTO_SELECT + "WHERE e.planner.id = :plannerId AND e.date >= :since AND vb.status IN (:statuses) ORDER BY e.date")
+    List<VendorBookingDTO> findUpcomingDtosByEventPlannerId(@Param("plannerId") Long plannerId, @Param("since") LocalDateTime since, @Param("statuses") List<BookingStatus> statuses);
+    
+    // Lifecycle jobs claim a chunk of due bookings, locked; rows another node holds are skipped
+    // (lock timeout -2 is SKIP LOCKED where the database supports it, MySQL 8 does).
+    
+    // Walks idx_booking_status_created oldest first
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT vb FROM VendorBooking vb WHERE vb.status = :status AND vb.createdAt < :before ORDER BY vb.createdAt")
+    List<VendorBooking> claimByStatusCreatedBefore(@Param("status") BookingStatus status, @Param("before") LocalDateTime before, Pageable pageable);
+    
+    // Event dates in a subquery rather than a join, so only booking rows are locked
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT vb FROM VendorBooking vb WHERE vb.status = :status "
+            + "AND vb.event.id IN (SELECT e.id FROM Event e WHERE e.date < :before) ORDER BY vb.createdAt")
+    List<VendorBooking> claimByStatusEventBefore(@Param("status") BookingStatus status, @Param("before") LocalDateTime before, Pageable pageable);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE VendorBooking vb SET vb.status = :status, vb.updatedAt = :now WHERE vb.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") BookingStatus status, @Param("now") LocalDateTime now);
     
-    List<VendorBooking> findByEventPlannerIdAndEventDateGreaterThanEqualAndStatusIn(Long plannerId, LocalDate date, List<BookingStatus> statuses);
+    // Archival: bookings of events being moved to events_vendorbooking_archive
+    @Modifying
+    @Query("DELETE FROM VendorBooking vb WHERE vb.event.id IN :eventIds")
+    int deleteByEventIds(@Param("eventIds") Collection<Long> eventIds);
 }
@@ -31,6 +31,9 @@ public interface VendorProfileRepository extends JpaRepository<VendorProfile, Lo
     
     List<VendorProfile> findByIsVerifiedTrue();
     
+    // Find vendor profiles sharing a stored profile picture (uploads are content-addressed)
+    List<VendorProfile> findByProfilePic(String profilePic);
+    
     // Find vendors by business name and verification status
     List<VendorProfile> findByBusinessNameContainingIgnoreCaseAndIsVerified(String businessName, Boolean isVerified);
     
@@ -70,4 +73,23 @@ public interface VendorProfileRepository extends JpaRepository<VendorProfile, Lo
     boolean existsByUserId(Long userId);
     
     List<VendorProfile> findByBusinessNameContainingIgnoreCaseOrLocationContainingIgnoreCase(String businessName, String location);
+    
+    // Vendor names for the leaderboard: [vendorId, businessName]
+    @Query("SELECT vp.id, vp.businessName FROM VendorProfile vp")
+    List<Object[]> findAllIdsAndBusinessNames();
+    
+    // Version of a vendor profile's representation for its ETag: the profile and its user, then
+    // [max updatedAt, count] of its services, portfolio items and reviews, and the latest change
+    // to any service category or reviewer shown in it
+    @Query("SELECT vp.updatedAt, u.updatedAt, "
+            + "(SELECT MAX(s.updatedAt) FROM Service s WHERE s.vendor.id = vp.id), "
+            + "(SELECT COUNT(s) FROM Service s WHERE s.vendor.id = vp.id), "
+            + "(SELECT MAX(c.updatedAt) FROM Service s JOIN s.category c WHERE s.vendor.id = vp.id), "
+            + "(SELECT MAX(p.updatedAt) FROM PortfolioItem p WHERE p.vendor.id = vp.id), "
+            + "(SELECT COUNT(p) FROM PortfolioItem p WHERE p.vendor.id = vp.id), "
+            + "(SELECT MAX(r.updatedAt) FROM Review r WHERE r.vendor.id = vp.id), "
+            + "(SELECT COUNT(r) FROM Review r WHERE r.vendor.id = vp.id), "
+            + "(SELECT MAX(ru.updatedAt) FROM Review r JOIN r.user ru WHERE r.vendor.id = vp.id) "
+            + "FROM VendorProfile vp JOIN vp.user u WHERE vp.id = :id")
+    List<Object[]> findVersionById(@Param("id") Long id);
 }
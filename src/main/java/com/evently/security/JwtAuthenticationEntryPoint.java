@@ -2,13 +2,13 @@ package com.evently.security;
 
 import java.io.IOException;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
+import com.evently.exception.ErrorTemplate;
+import com.evently.monitoring.RejectionLog;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.servlet.ServletException;
@@ -18,30 +18,40 @@ import jakarta.servlet.http.HttpServletResponse;
 /**
  * JWT Authentication Entry Point.
  * Handles authentication failures and returns proper error responses.
+ * Unauthenticated requests are mostly scanners and expired sessions, so the body is a pre-encoded
+ * template and the rejection is counted and logged at a limited rate.
  */
 @Component
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
-    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationEntryPoint.class);
+    private final ErrorTemplate unauthorized;
+
+    private final RejectionLog rejectionLog;
+
+    public JwtAuthenticationEntryPoint(ObjectMapper objectMapper, RejectionLog rejectionLog) {
+        ErrorResponse prototype = new ErrorResponse(
+            HttpServletResponse.SC_UNAUTHORIZED,
+            "Unauthorized",
+            "Authentication required to access this resource",
+            ErrorTemplate.PATH
+        );
+        prototype.setTimestamp(ErrorTemplate.EPOCH_MILLIS);
+        this.unauthorized = ErrorTemplate.of(objectMapper.writerFor(ErrorResponse.class), prototype);
+        this.rejectionLog = rejectionLog;
+    }
 
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response,
                          AuthenticationException authException) throws IOException, ServletException {
 
-        logger.error("Responding with unauthorized error. Message - {}", authException.getMessage());
+        rejectionLog.record(HttpServletResponse.SC_UNAUTHORIZED, "unauthenticated", request.getRequestURI(),
+            authException.getMessage());
 
+        byte[] body = unauthorized.render(request.getRequestURI());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-
-        ErrorResponse errorResponse = new ErrorResponse(
-            HttpServletResponse.SC_UNAUTHORIZED,
-            "Unauthorized",
-            "Authentication required to access this resource",
-            request.getRequestURI()
-        );
-
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writeValue(response.getOutputStream(), errorResponse);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
     }
 
     /**
@@ -92,7 +92,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return path.equals("/")
             || path.startsWith("/health")
             || path.startsWith("/actuator/health")
+            || path.equals("/actuator/prometheus")
             || path.startsWith("/auth/")        
+            || path.startsWith("/uploads/")
             || path.startsWith("/swagger-ui/")
             || path.startsWith("/v3/api-docs/")
             || path.equals("/authenticate")
@@ -1,6 +1,7 @@
 package com.evently.security;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 
 import org.slf4j.Logger;
@@ -10,6 +11,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.evently.monitoring.SampledLogger;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
@@ -28,6 +31,9 @@ public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    // Invalid tokens arrive in bulk from scanners, so only a few are logged per reason and window
+    private final SampledLogger invalidTokenLog;
+
     @Value("${app.jwt.secret:defaultSecretKeyForDevelopmentOnlyChangeInProduction}")
     private String jwtSecret;
 
@@ -37,6 +43,11 @@ public class JwtTokenProvider {
     @Value("${app.jwt.refresh-expiration-ms:604800000}") // 7 days
     private int jwtRefreshExpirationMs;
 
+    public JwtTokenProvider(@Value("${app.rejections.log-permits:5}") int logPermits,
+                            @Value("${app.rejections.log-window:10s}") Duration logWindow) {
+        this.invalidTokenLog = new SampledLogger(logger, logPermits, logWindow);
+    }
+
     /**
      * Generate JWT token from authentication.
      */
@@ -128,15 +139,15 @@ public class JwtTokenProvider {
                 .parseClaimsJws(authToken);
             return true;
         } catch (SignatureException ex) {
-            logger.error("Invalid JWT signature: {}", ex.getMessage());
+            invalidTokenLog.warn("signature", "Invalid JWT signature: {}", ex.getMessage());
         } catch (MalformedJwtException ex) {
-            logger.error("Invalid JWT token: {}", ex.getMessage());
+            invalidTokenLog.warn("malformed", "Invalid JWT token: {}", ex.getMessage());
         } catch (ExpiredJwtException ex) {
-            logger.error("Expired JWT token: {}", ex.getMessage());
+            invalidTokenLog.info("expired", "Expired JWT token: {}", ex.getMessage());
         } catch (UnsupportedJwtException ex) {
-            logger.error("Unsupported JWT token: {}", ex.getMessage());
+            invalidTokenLog.warn("unsupported", "Unsupported JWT token: {}", ex.getMessage());
         } catch (IllegalArgumentException ex) {
-            logger.error("JWT claims string is empty: {}", ex.getMessage());
+            invalidTokenLog.warn("empty", "JWT claims string is empty: {}", ex.getMessage());
         }
         return false;
     }
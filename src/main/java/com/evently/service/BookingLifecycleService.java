@@ -0,0 +1,102 @@
+package com.evently.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.evently.sharding.ShardRouter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Moves bookings along without anyone having to: pending bookings nobody confirmed within
+ * pending-ttl are cancelled, and confirmed bookings are completed complete-after their event's date.
+ *
+ * Each run works through the due bookings in chunks, one transaction and one UPDATE per chunk,
+ * oldest first. Chunks are claimed with SKIP LOCKED, so every node can run the job at once without
+ * two of them moving the same booking. Every transition publishes a BookingStatusChangedEvent, so
+ * the leaderboard, notifications and live dashboards see it like any other. With sharding on, the
+ * shards are worked through one after the other.
+ *
+ * Metrics: bookings.lifecycle.transitions (status: cancelled/completed).
+ */
+@Service
+public class BookingLifecycleService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingLifecycleService.class);
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    private final Duration pendingTtl;
+    private final Duration completeAfter;
+    private final int chunkSize;
+    private final Counter cancelled;
+    private final Counter completed;
+
+    public BookingLifecycleService(MeterRegistry meterRegistry,
+                                   @Value("${app.bookings.lifecycle.pending-ttl:7d}") Duration pendingTtl,
+                                   @Value("${app.bookings.lifecycle.complete-after:1d}") Duration completeAfter,
+                                   @Value("${app.bookings.lifecycle.chunk-size:500}") int chunkSize) {
+        this.pendingTtl = pendingTtl;
+        this.completeAfter = completeAfter;
+        this.chunkSize = chunkSize;
+        this.cancelled = transitions(meterRegistry, "cancelled");
+        this.completed = transitions(meterRegistry, "completed");
+    }
+
+    /**
+     * Expire stale pending bookings, then complete past confirmed ones.
+     */
+    @Scheduled(initialDelayString = "${app.bookings.lifecycle.interval-ms:300000}",
+               fixedDelayString = "${app.bookings.lifecycle.interval-ms:300000}")
+    public void run() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime createdBefore = now.minus(pendingTtl);
+        LocalDateTime eventBefore = now.minus(completeAfter);
+
+        int expired = 0;
+        int done = 0;
+        for (int shard : shardRouter.shards()) {
+            expired += inChunks(() -> shardRouter.inTransaction(shard, false,
+                () -> bookingService.expirePendingBookings(createdBefore, chunkSize)));
+        }
+        cancelled.increment(expired);
+        for (int shard : shardRouter.shards()) {
+            done += inChunks(() -> shardRouter.inTransaction(shard, false,
+                () -> bookingService.completePastBookings(eventBefore, chunkSize)));
+        }
+        completed.increment(done);
+        if (expired > 0 || done > 0) {
+            logger.info("Booking lifecycle: cancelled {} expired pending, completed {} past confirmed", expired, done);
+        }
+    }
+
+    private int inChunks(IntSupplier chunk) {
+        int total = 0;
+        int moved;
+        do {
+            moved = chunk.getAsInt();
+            total += moved;
+        } while (moved == chunkSize);
+        return total;
+    }
+
+    private static Counter transitions(MeterRegistry meterRegistry, String status) {
+        return Counter.builder("bookings.lifecycle.transitions")
+                .description("Bookings moved by the lifecycle job, by new status")
+                .tag("status", status)
+                .register(meterRegistry);
+    }
+}
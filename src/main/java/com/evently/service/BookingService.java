@@ -1,14 +1,21 @@
 package com.evently.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.evently.model.Event;
 import com.evently.model.VendorBooking;
@@ -18,17 +25,26 @@ import com.evently.dto.booking.VendorBookingCreateDTO;
 import com.evently.dto.booking.VendorBookingDTO;
 import com.evently.mapper.VendorBookingMapper;
 import com.evently.repository.EventRepository;
+import com.evently.repository.ServiceRepository;
 import com.evently.repository.VendorBookingRepository;
 import com.evently.repository.VendorProfileRepository;
+import com.evently.service.event.BookingStatusChangedEvent;
+import com.evently.sharding.ShardRouter;
 
 /**
  * Service layer for Booking-related operations.
  * Handles vendor-event relationships and booking management.
+ * With sharding on, a booking lives on the shard of its event; a vendor's bookings are gathered
+ * from every shard.
  */
 @Service
 @Transactional
 public class BookingService {
     
+    // Order of the booking lists sorted by event date, for merging them across shards
+    private static final Comparator<VendorBookingDTO> BY_EVENT_DATE =
+            Comparator.comparing(VendorBookingDTO::getEventDate).thenComparing(VendorBookingDTO::getId);
+    
     @Autowired
     private VendorBookingRepository vendorBookingRepository;
     
@@ -38,43 +54,79 @@ public class BookingService {
     @Autowired
     private VendorProfileRepository vendorProfileRepository;
     
+    @Autowired
+    private ServiceRepository serviceRepository;
+    
     @Autowired
     private VendorBookingMapper vendorBookingMapper;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private ShardRouter shardRouter;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
     // Booking Management
     
     /**
-     * Create vendor booking.
+     * Create vendor booking. The vendor's availability is gathered from every shard between two
+     * short transactions on the event's shard, so no shard connection is held while it waits for
+     * connections of the others.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public VendorBookingDTO createVendorBooking(VendorBookingCreateDTO createDTO, Long customerUserId) {
-        Event event = eventRepository.findById(createDTO.getEventId())
-                .orElseThrow(() -> new IllegalArgumentException("Event not found: " + createDTO.getEventId()));
-        
-        VendorProfile vendor = vendorProfileRepository.findById(createDTO.getVendorId())
-                .orElseThrow(() -> new IllegalArgumentException("Vendor not found: " + createDTO.getVendorId()));
-        
-        // Verify the customer owns the event
-        if (!event.getPlanner().getId().equals(customerUserId)) {
-            throw new IllegalArgumentException("User is not authorized to create bookings for this event");
-        }
-        
-        // Check if vendor is already booked for this event
-        if (vendorBookingRepository.existsByEventIdAndVendorId(createDTO.getEventId(), createDTO.getVendorId())) {
-            throw new IllegalArgumentException("Vendor is already booked for this event");
-        }
+        LocalDate eventDate = transactionTemplate.execute(status -> {
+            shardRouter.routeToShardOf(createDTO.getEventId());
+            Event event = eventRepository.findById(createDTO.getEventId())
+                    .orElseThrow(() -> new IllegalArgumentException("Event not found: " + createDTO.getEventId()));
+            
+            // Verify the customer owns the event
+            if (!event.getPlanner().getId().equals(customerUserId)) {
+                throw new IllegalArgumentException("User is not authorized to create bookings for this event");
+            }
+            return event.getDate().toLocalDate();
+        });
         
         // Check vendor availability for the event date
-        if (isVendorBookedOnDate(createDTO.getVendorId(), event.getDate().toLocalDate())) {
+        if (isVendorBookedOnDate(createDTO.getVendorId(), eventDate)) {
             throw new IllegalArgumentException("Vendor is not available on the event date");
         }
         
-        VendorBooking vendorBooking = vendorBookingMapper.toVendorBooking(createDTO);
-        vendorBooking.setEvent(event);
-        vendorBooking.setVendor(vendor);
-        vendorBooking.setStatus(BookingStatus.PENDING);
-        
-        VendorBooking savedBooking = vendorBookingRepository.save(vendorBooking);
-        return vendorBookingMapper.toVendorBookingDTO(savedBooking);
+        return transactionTemplate.execute(status -> {
+            shardRouter.routeToShardOf(createDTO.getEventId());
+            Event event = eventRepository.findById(createDTO.getEventId())
+                    .orElseThrow(() -> new IllegalArgumentException("Event not found: " + createDTO.getEventId()));
+            
+            VendorProfile vendor = vendorProfileRepository.findById(createDTO.getVendorId())
+                    .orElseThrow(() -> new IllegalArgumentException("Vendor not found: " + createDTO.getVendorId()));
+            
+            com.evently.model.Service service = serviceRepository.findById(createDTO.getServiceId())
+                    .orElseThrow(() -> new IllegalArgumentException("Service not found: " + createDTO.getServiceId()));
+            
+            // The booked service must be offered by the booked vendor
+            if (!service.getVendor().getId().equals(vendor.getId())) {
+                throw new IllegalArgumentException("Service does not belong to vendor: " + createDTO.getServiceId());
+            }
+            
+            // Check if vendor is already booked for this event
+            if (vendorBookingRepository.existsByEventIdAndVendorId(createDTO.getEventId(), createDTO.getVendorId())) {
+                throw new IllegalArgumentException("Vendor is already booked for this event");
+            }
+            
+            VendorBooking vendorBooking = vendorBookingMapper.toVendorBooking(createDTO);
+            vendorBooking.setEvent(event);
+            vendorBooking.setVendor(vendor);
+            vendorBooking.setService(service);
+            vendorBooking.setStatus(BookingStatus.PENDING);
+            
+            VendorBooking savedBooking = vendorBookingRepository.save(vendorBooking);
+            eventPublisher.publishEvent(new BookingStatusChangedEvent(savedBooking.getId(), vendor.getId(), event.getId(),
+                    null, savedBooking.getStatus()));
+            return vendorBookingMapper.toVendorBookingDTO(savedBooking);
+        });
     }
     
     /**
@@ -82,6 +134,7 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public Optional<VendorBookingDTO> getVendorBookingById(Long id) {
+        shardRouter.routeToShardOf(id);
         return vendorBookingRepository.findById(id)
                 .map(vendorBookingMapper::toVendorBookingDTO);
     }
@@ -90,6 +143,7 @@ public class BookingService {
      * Update vendor booking.
      */
     public VendorBookingDTO updateVendorBooking(Long bookingId, VendorBookingCreateDTO updateDTO, Long userId) {
+        shardRouter.routeToShardOf(bookingId);
         VendorBooking vendorBooking = vendorBookingRepository.findById(bookingId)
                 .orElseThrow(() -> new IllegalArgumentException("Vendor booking not found: " + bookingId));
         
@@ -114,6 +168,7 @@ public class BookingService {
      * Update booking status.
      */
     public VendorBookingDTO updateBookingStatus(Long bookingId, BookingStatus status, Long userId) {
+        shardRouter.routeToShardOf(bookingId);
         VendorBooking vendorBooking = vendorBookingRepository.findById(bookingId)
                 .orElseThrow(() -> new IllegalArgumentException("Vendor booking not found: " + bookingId));
         
@@ -134,9 +189,12 @@ public class BookingService {
             throw new IllegalArgumentException("Cannot cancel completed bookings");
         }
         
+        BookingStatus oldStatus = vendorBooking.getStatus();
         vendorBooking.setStatus(status);
         
         VendorBooking savedBooking = vendorBookingRepository.save(vendorBooking);
+        eventPublisher.publishEvent(new BookingStatusChangedEvent(bookingId, vendorBooking.getVendor().getId(),
+                vendorBooking.getEvent().getId(), oldStatus, status));
         return vendorBookingMapper.toVendorBookingDTO(savedBooking);
     }
     
@@ -165,6 +223,7 @@ public class BookingService {
      * Delete vendor booking.
      */
     public void deleteVendorBooking(Long bookingId, Long userId) {
+        shardRouter.routeToShardOf(bookingId);
         VendorBooking vendorBooking = vendorBookingRepository.findById(bookingId)
                 .orElseThrow(() -> new IllegalArgumentException("Vendor booking not found: " + bookingId));
         
@@ -179,17 +238,57 @@ public class BookingService {
         }
         
         vendorBookingRepository.delete(vendorBooking);
+        eventPublisher.publishEvent(new BookingStatusChangedEvent(bookingId, vendorBooking.getVendor().getId(),
+                vendorBooking.getEvent().getId(), vendorBooking.getStatus(), null));
     }
     
-    // Query Methods
+    // Lifecycle
     
+    /**
+     * Cancel one chunk of pending bookings created before the cutoff.
+     *
+     * @return the number of bookings cancelled
+     */
+    public int expirePendingBookings(LocalDateTime createdBefore, int limit) {
+        return transition(vendorBookingRepository.claimByStatusCreatedBefore(BookingStatus.PENDING, createdBefore,
+                PageRequest.of(0, limit)), BookingStatus.CANCELLED);
+    }
+    
+    /**
+     * Complete one chunk of confirmed bookings for events that took place before the cutoff.
+     *
+     * @return the number of bookings completed
+     */
+    public int completePastBookings(LocalDateTime eventBefore, int limit) {
+        return transition(vendorBookingRepository.claimByStatusEventBefore(BookingStatus.CONFIRMED, eventBefore,
+                PageRequest.of(0, limit)), BookingStatus.COMPLETED);
+    }
+    
+    /**
+     * Move claimed bookings to a status in one UPDATE, publishing a change event for each.
+     */
+    private int transition(List<VendorBooking> claimed, BookingStatus status) {
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        List<BookingStatusChangedEvent> changes = claimed.stream()
+                .map(booking -> new BookingStatusChangedEvent(booking.getId(), booking.getVendor().getId(),
+                        booking.getEvent().getId(), booking.getStatus(), status))
+                .toList();
+        vendorBookingRepository.updateStatus(claimed.stream().map(VendorBooking::getId).toList(), status,
+                LocalDateTime.now());
+        changes.forEach(eventPublisher::publishEvent);
+        return changes.size();
+    }
+    
+    // Query Methods
+
     /**
      * Get all vendor bookings with pagination.
      */
     @Transactional(readOnly = true)
     public Page<VendorBookingDTO> getAllVendorBookings(Pageable pageable) {
-        Page<VendorBooking> bookings = vendorBookingRepository.findAll(pageable);
-        return bookings.map(vendorBookingMapper::toVendorBookingDTO);
+        return shardRouter.gatherPage(pageable, vendorBookingRepository::findAllDtos);
     }
     
     /**
@@ -197,8 +296,8 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public List<VendorBookingDTO> getBookingsByEvent(Long eventId) {
-        List<VendorBooking> bookings = vendorBookingRepository.findByEventId(eventId);
-        return vendorBookingMapper.toVendorBookingDTOList(bookings);
+        shardRouter.routeToShardOf(eventId);
+        return vendorBookingRepository.findDtosByEventId(eventId);
     }
     
     /**
@@ -206,8 +305,7 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public List<VendorBookingDTO> getBookingsByVendor(Long vendorId) {
-        List<VendorBooking> bookings = vendorBookingRepository.findByVendorId(vendorId);
-        return vendorBookingMapper.toVendorBookingDTOList(bookings);
+        return shardRouter.gatherSorted(() -> vendorBookingRepository.findDtosByVendorId(vendorId), BY_EVENT_DATE);
     }
     
     /**
@@ -215,8 +313,8 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public List<VendorBookingDTO> getBookingsByCustomer(Long customerId) {
-        List<VendorBooking> bookings = vendorBookingRepository.findByEventPlannerId(customerId);
-        return vendorBookingMapper.toVendorBookingDTOList(bookings);
+        shardRouter.routeToPlanner(customerId);
+        return vendorBookingRepository.findDtosByEventPlannerId(customerId);
     }
     
     /**
@@ -224,8 +322,7 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public List<VendorBookingDTO> getBookingsByStatus(BookingStatus status) {
-        List<VendorBooking> bookings = vendorBookingRepository.findByStatus(status);
-        return vendorBookingMapper.toVendorBookingDTOList(bookings);
+        return shardRouter.gatherAll(() -> vendorBookingRepository.findDtosByStatus(status));
     }
     
     /**
@@ -233,8 +330,8 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public List<VendorBookingDTO> getVendorBookingsByStatus(Long vendorId, BookingStatus status) {
-        List<VendorBooking> bookings = vendorBookingRepository.findByVendorIdAndStatus(vendorId, status);
-        return vendorBookingMapper.toVendorBookingDTOList(bookings);
+        return shardRouter.gatherSorted(() -> vendorBookingRepository.findDtosByVendorIdAndStatus(vendorId, status),
+                BY_EVENT_DATE);
     }
     
     /**
@@ -242,8 +339,8 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public List<VendorBookingDTO> getCustomerBookingsByStatus(Long customerId, BookingStatus status) {
-        List<VendorBooking> bookings = vendorBookingRepository.findByEventPlannerIdAndStatus(customerId, status);
-        return vendorBookingMapper.toVendorBookingDTOList(bookings);
+        shardRouter.routeToPlanner(customerId);
+        return vendorBookingRepository.findDtosByEventPlannerIdAndStatus(customerId, status);
     }
     
     /**
@@ -251,8 +348,8 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public List<VendorBookingDTO> getBookingsByDateRange(LocalDate startDate, LocalDate endDate) {
-        List<VendorBooking> bookings = vendorBookingRepository.findByEventDateBetween(startDate, endDate);
-        return vendorBookingMapper.toVendorBookingDTOList(bookings);
+        return shardRouter.gatherSorted(() -> vendorBookingRepository.findDtosByEventDateRange(
+                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay()), BY_EVENT_DATE);
     }
     
     /**
@@ -260,8 +357,8 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public List<VendorBookingDTO> getVendorBookingsByDateRange(Long vendorId, LocalDate startDate, LocalDate endDate) {
-        List<VendorBooking> bookings = vendorBookingRepository.findByVendorIdAndEventDateBetween(vendorId, startDate, endDate);
-        return vendorBookingMapper.toVendorBookingDTOList(bookings);
+        return shardRouter.gatherSorted(() -> vendorBookingRepository.findDtosByVendorIdAndEventDateRange(
+                vendorId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay()), BY_EVENT_DATE);
     }
     
     // Availability Methods
@@ -279,8 +376,9 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public boolean isVendorBookedOnDate(Long vendorId, LocalDate date) {
-        return vendorBookingRepository.existsByVendorIdAndEventDateAndStatusIn(
-                vendorId, date, List.of(BookingStatus.CONFIRMED, BookingStatus.COMPLETED));
+        return shardRouter.gather(() -> vendorBookingRepository.existsByVendorIdAndEventDateBetweenAndStatusIn(
+                vendorId, date.atStartOfDay(), date.atTime(LocalTime.MAX), List.of(BookingStatus.CONFIRMED, BookingStatus.COMPLETED)))
+                .contains(true);
     }
     
     /**
@@ -288,8 +386,13 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public List<LocalDate> getVendorUnavailableDates(Long vendorId, LocalDate startDate, LocalDate endDate) {
-        return vendorBookingRepository.findUnavailableDatesByVendorAndDateRange(vendorId, startDate, endDate, 
-                List.of(BookingStatus.CONFIRMED, BookingStatus.COMPLETED));
+        return shardRouter.gatherSorted(() -> vendorBookingRepository.findUnavailableDatesByVendorAndDateRange(
+                vendorId, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay(),
+                List.of(BookingStatus.CONFIRMED, BookingStatus.COMPLETED)), Comparator.<LocalDateTime>naturalOrder())
+                .stream()
+                .map(LocalDateTime::toLocalDate)
+                .distinct()
+                .toList();
     }
     
     // Statistics Methods
@@ -299,6 +402,11 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public BookingStatsDTO getVendorBookingStatistics(Long vendorId) {
+        return shardRouter.gather(() -> countVendorBookings(vendorId)).stream()
+                .reduce(new BookingStatsDTO(0, 0, 0, 0, 0), BookingStatsDTO::plus);
+    }
+    
+    private BookingStatsDTO countVendorBookings(Long vendorId) {
         int totalBookings = (int) vendorBookingRepository.countByVendorId(vendorId);
         int pendingBookings = (int) vendorBookingRepository.countByVendorIdAndStatus(vendorId, BookingStatus.PENDING);
         int confirmedBookings = (int) vendorBookingRepository.countByVendorIdAndStatus(vendorId, BookingStatus.CONFIRMED);
@@ -313,6 +421,7 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public BookingStatsDTO getCustomerBookingStatistics(Long customerId) {
+        shardRouter.routeToPlanner(customerId);
         int totalBookings = (int) vendorBookingRepository.countByEventPlannerId(customerId);
         int pendingBookings = (int) vendorBookingRepository.countByEventPlannerIdAndStatus(customerId, BookingStatus.PENDING);
         int confirmedBookings = (int) vendorBookingRepository.countByEventPlannerIdAndStatus(customerId, BookingStatus.CONFIRMED);
@@ -327,10 +436,9 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public List<VendorBookingDTO> getUpcomingVendorBookings(Long vendorId) {
-        LocalDate today = LocalDate.now();
-        List<VendorBooking> bookings = vendorBookingRepository.findByVendorIdAndEventDateGreaterThanEqualAndStatusIn(
-                vendorId, today, List.of(BookingStatus.CONFIRMED));
-        return vendorBookingMapper.toVendorBookingDTOList(bookings);
+        LocalDateTime since = LocalDate.now().atStartOfDay();
+        return shardRouter.gatherSorted(() -> vendorBookingRepository.findUpcomingDtosByVendorId(
+                vendorId, since, List.of(BookingStatus.CONFIRMED)), BY_EVENT_DATE);
     }
     
     /**
@@ -338,10 +446,9 @@ public class BookingService {
      */
     @Transactional(readOnly = true)
     public List<VendorBookingDTO> getUpcomingCustomerBookings(Long customerId) {
-        LocalDate today = LocalDate.now();
-        List<VendorBooking> bookings = vendorBookingRepository.findByEventPlannerIdAndEventDateGreaterThanEqualAndStatusIn(
-                customerId, today, List.of(BookingStatus.CONFIRMED));
-        return vendorBookingMapper.toVendorBookingDTOList(bookings);
+        shardRouter.routeToPlanner(customerId);
+        return vendorBookingRepository.findUpcomingDtosByEventPlannerId(
+                customerId, LocalDate.now().atStartOfDay(), List.of(BookingStatus.CONFIRMED));
     }
     
     /**
@@ -368,5 +475,11 @@ public class BookingService {
         public int getConfirmedBookings() { return confirmedBookings; }
         public int getCompletedBookings() { return completedBookings; }
         public int getCancelledBookings() { return cancelledBookings; }
+        
+        BookingStatsDTO plus(BookingStatsDTO other) {
+            return new BookingStatsDTO(totalBookings + other.totalBookings, pendingBookings + other.pendingBookings,
+                    confirmedBookings + other.confirmedBookings, completedBookings + other.completedBookings,
+                    cancelledBookings + other.cancelledBookings);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,170 @@
+package com.evently.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.evently.catalog.Catalog;
+import com.evently.invalidation.InvalidationCursor;
+import com.evently.model.CacheInvalidation;
+import com.evently.repository.CacheInvalidationRepository;
+import com.evently.sharding.ShardRouter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Tails the cache invalidation log and evicts what other nodes' writes made stale from this
+ * node's second-level cache and catalog responses, and pushes their live updates to the streams
+ * connected to this node.
+ *
+ * A node starts at the end of the log, as its caches are empty then. Entries of other nodes are
+ * applied once each, in id order; entries of this node are skipped, as they were applied when
+ * their transaction committed. An eviction of an entity also clears the query cache, as cached
+ * query results may hold its id. Entries older than the retention are purged by every node.
+ * With sharding on, entries are written to the database the change was made in, so each database's
+ * log is tailed with a cursor of its own.
+ *
+ * Metrics: cache.invalidation.lag (commit on the writing node to eviction here, so clock skew
+ * between nodes shows up in it), cache.invalidations.applied (kind: entity/collection/catalog/live).
+ */
+@Service
+public class CacheInvalidationPoller {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationPoller.class);
+
+    @Autowired
+    private CacheInvalidationRepository cacheInvalidationRepository;
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Autowired
+    private CatalogResponseService catalogResponseService;
+
+    @Autowired
+    private LiveUpdateService liveUpdateService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    private final Duration gapTimeout;
+    private final Duration retention;
+    private final int batchSize;
+    private final Timer lag;
+    private final MeterRegistry meterRegistry;
+    private final Map<Integer, InvalidationCursor> cursors = new HashMap<>();
+
+    public CacheInvalidationPoller(MeterRegistry meterRegistry,
+                                   @Value("${app.cache.invalidation.gap-timeout:10s}") Duration gapTimeout,
+                                   @Value("${app.cache.invalidation.retention:1h}") Duration retention,
+                                   @Value("${app.cache.invalidation.batch-size:500}") int batchSize) {
+        this.meterRegistry = meterRegistry;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.lag = Timer.builder("cache.invalidation.lag")
+                .description("Time from a write committing on one node to its eviction on another")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int database : shardRouter.databases()) {
+            long last = shardRouter.inTransaction(database, true, cacheInvalidationRepository::findLastId);
+            cursors.put(database, new InvalidationCursor(last, gapTimeout));
+        }
+    }
+
+    /**
+     * Apply the entries written since the last poll.
+     */
+    @Scheduled(initialDelayString = "${app.cache.invalidation.poll-interval-ms:1000}",
+               fixedDelayString = "${app.cache.invalidation.poll-interval-ms:1000}")
+    @Transactional(readOnly = true)
+    public void poll() {
+        cursors.forEach((database, cursor) -> shardRouter.inTransaction(database, true, () -> {
+            poll(cursor);
+            return null;
+        }));
+    }
+
+    private void poll(InvalidationCursor cursor) {
+        String nodeId = cacheInvalidationService.getNodeId();
+        long after = cursor.position();
+        List<CacheInvalidation> entries;
+        do {
+            entries = cacheInvalidationRepository.findAfter(after, PageRequest.of(0, batchSize));
+            for (CacheInvalidation entry : entries) {
+                if (cursor.accept(entry.getId()) && !nodeId.equals(entry.getOrigin())) {
+                    apply(entry);
+                }
+                after = entry.getId();
+            }
+        } while (entries.size() == batchSize);
+        cursor.advance(Instant.now());
+    }
+
+    /**
+     * Drop entries every node has had long enough to apply.
+     */
+    @Scheduled(initialDelayString = "${app.cache.invalidation.purge-interval-ms:600000}",
+               fixedDelayString = "${app.cache.invalidation.purge-interval-ms:600000}")
+    @Transactional
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        int purged = 0;
+        for (int database : shardRouter.databases()) {
+            purged += shardRouter.inTransaction(database, false,
+                () -> cacheInvalidationRepository.deleteCreatedBefore(before));
+        }
+        if (purged > 0) {
+            logger.debug("Purged {} cache invalidation log entries", purged);
+        }
+    }
+
+    private void apply(CacheInvalidation entry) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        try {
+            switch (entry.getKind()) {
+                case ENTITY -> {
+                    cache.evictEntityData(entry.getName(), Long.valueOf(entry.getItemKey()));
+                    cache.evictDefaultQueryRegion();
+                }
+                case COLLECTION -> cache.evictCollectionData(entry.getName(), Long.valueOf(entry.getItemKey()));
+                case CATALOG -> catalogResponseService.invalidate(Catalog.valueOf(entry.getName()));
+                case LIVE -> liveUpdateService.deliver(entry.getName(), entry.getItemKey(), entry.getPayload());
+            }
+        } catch (RuntimeException e) {
+            // An entry from a node running another version; the time to live bounds the staleness
+            logger.warn("Could not apply cache invalidation {}: {}", entry.getId(), e.getMessage());
+            return;
+        }
+        lag.record(Duration.between(entry.getCreatedAt(), LocalDateTime.now()));
+        Counter.builder("cache.invalidations.applied")
+                .description("Cache invalidations of other nodes applied")
+                .tag("kind", entry.getKind().name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+    }
+}
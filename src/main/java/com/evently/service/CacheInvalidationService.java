@@ -0,0 +1,93 @@
+package com.evently.service;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.evently.catalog.Catalog;
+import com.evently.model.CacheInvalidation;
+import com.evently.repository.CacheInvalidationRepository;
+import com.evently.service.event.BookingStatusChangedEvent;
+import com.evently.service.event.CatalogChangedEvent;
+import com.evently.service.event.ReviewChangedEvent;
+
+/**
+ * Service layer for the cache invalidation log, which keeps the in-process caches of several
+ * nodes coherent without a message broker, and carries live updates to the streams other nodes serve.
+ *
+ * Hibernate and the catalog response cache already evict locally when a write on this node
+ * commits. Writes that leave a cached second-level entity or collection stale on other nodes
+ * record it here, and catalog changes are recorded by listeners; either way the row is written in
+ * the transaction of the change, so it exists if and only if the change commits.
+ * CacheInvalidationPoller applies the rows of other nodes.
+ */
+@Service
+@Transactional
+public class CacheInvalidationService {
+
+    @Autowired
+    private CacheInvalidationRepository cacheInvalidationRepository;
+
+    private final String nodeId;
+
+    public CacheInvalidationService(@Value("${app.cache.invalidation.node-id:}") String nodeId) {
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+    }
+
+    /**
+     * Id this node writes its log entries under.
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Record that a cached entity was changed or deleted.
+     */
+    public void entityChanged(Class<?> entityClass, Long id) {
+        append(CacheInvalidation.Kind.ENTITY, entityClass.getName(), id.toString());
+    }
+
+    /**
+     * Record that a cached collection of an entity changed.
+     */
+    public void collectionChanged(Class<?> ownerClass, String collection, Long ownerId) {
+        append(CacheInvalidation.Kind.COLLECTION, ownerClass.getName() + "." + collection, ownerId.toString());
+    }
+
+    /**
+     * Record a live update for the streams other nodes serve.
+     */
+    public void liveUpdate(String topic, String name, String json) {
+        CacheInvalidation entry = new CacheInvalidation(CacheInvalidation.Kind.LIVE, topic, name, nodeId);
+        entry.setPayload(json);
+        cacheInvalidationRepository.save(entry);
+    }
+
+    // Mirror the catalog invalidations of CatalogResponseService on the other nodes
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        append(CacheInvalidation.Kind.CATALOG, event.getCatalog().name(), null);
+    }
+
+    @EventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        append(CacheInvalidation.Kind.CATALOG, Catalog.VENDORS.name(), null);
+    }
+
+    @EventListener
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        if (event.getOldStatus() == null || event.getNewStatus() == null) {
+            append(CacheInvalidation.Kind.CATALOG, Catalog.EVENTS.name(), null);
+        }
+    }
+
+    private void append(CacheInvalidation.Kind kind, String name, String key) {
+        cacheInvalidationRepository.save(new CacheInvalidation(kind, name, key, nodeId));
+    }
+}
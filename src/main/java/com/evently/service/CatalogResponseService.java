@@ -0,0 +1,113 @@
+package com.evently.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.evently.catalog.Catalog;
+import com.evently.catalog.CatalogResponseCache;
+import com.evently.catalog.SerializedResponse;
+import com.evently.dto.event.EventDTO;
+import com.evently.dto.vendor.VendorProfileDTO;
+import com.evently.service.event.BookingStatusChangedEvent;
+import com.evently.service.event.CatalogChangedEvent;
+import com.evently.service.event.ReviewChangedEvent;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Service layer for the pre-serialized public catalog responses.
+ * Responses are dropped when a write to their catalog commits; the time to live bounds how long
+ * the upcoming events list can still show an event that has started, and how long a body
+ * loaded from a lagging read replica can survive.
+ */
+@Service
+public class CatalogResponseService {
+
+    @Autowired
+    private VendorService vendorService;
+
+    @Autowired
+    private EventService eventService;
+
+    private final CatalogResponseCache cache;
+
+    // Writers with their root serializers resolved up front; pages are written by runtime type
+    private final ObjectWriter pageWriter;
+    private final ObjectWriter vendorListWriter;
+    private final ObjectWriter eventListWriter;
+
+    public CatalogResponseService(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                  @Value("${app.catalog-cache.max-entries:500}") long maxEntries,
+                                  @Value("${app.catalog-cache.time-to-live:60s}") Duration timeToLive) {
+        this.cache = new CatalogResponseCache(maxEntries, timeToLive, meterRegistry);
+        this.pageWriter = objectMapper.writer();
+        this.vendorListWriter = objectMapper.writerFor(new TypeReference<List<VendorProfileDTO>>() { });
+        this.eventListWriter = objectMapper.writerFor(new TypeReference<List<EventDTO>>() { });
+    }
+
+    /**
+     * Get a page of all vendor profiles.
+     */
+    public SerializedResponse getAllVendorProfiles(Pageable pageable, boolean acceptsGzip) {
+        String key = "all?page=" + pageable.getPageNumber() + "&size=" + pageable.getPageSize() + "&sort=" + pageable.getSort();
+        return cache.get(Catalog.VENDORS, key, acceptsGzip, pageWriter,
+                () -> vendorService.getAllVendorProfiles(pageable));
+    }
+
+    /**
+     * Get verified vendor profiles.
+     */
+    public SerializedResponse getVerifiedVendorProfiles(boolean acceptsGzip) {
+        return cache.get(Catalog.VENDORS, "verified", acceptsGzip, vendorListWriter,
+                vendorService::getVerifiedVendorProfiles);
+    }
+
+    /**
+     * Get upcoming events.
+     */
+    public SerializedResponse getUpcomingEvents(boolean acceptsGzip) {
+        return cache.get(Catalog.EVENTS, "upcoming", acceptsGzip, eventListWriter, eventService::getUpcomingEvents);
+    }
+
+    /**
+     * Drop a catalog's responses, for a write committed by another node.
+     */
+    public void invalidate(Catalog catalog) {
+        cache.invalidate(catalog);
+    }
+
+    /**
+     * Drop a catalog's responses once the write that changed it has committed.
+     */
+    @TransactionalEventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        cache.invalidate(event.getCatalog());
+    }
+
+    /**
+     * Reviews are embedded in vendor profiles together with their average rating.
+     */
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        cache.invalidate(Catalog.VENDORS);
+    }
+
+    /**
+     * New and deleted bookings change the vendor count of their event.
+     */
+    @TransactionalEventListener
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        if (event.getOldStatus() == null || event.getNewStatus() == null) {
+            cache.invalidate(Catalog.EVENTS);
+        }
+    }
+}
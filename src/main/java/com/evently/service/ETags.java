@@ -0,0 +1,40 @@
+package com.evently.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.StringJoiner;
+
+/**
+ * Strong ETags built from the values a version query returns for a representation
+ * (timestamps, counts), so a changed representation always gets a different tag.
+ * Values are written out rather than hashed, in base 36 to keep the tag short.
+ */
+final class ETags {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private ETags() {
+    }
+
+    static String of(String resource, Object id, Object... version) {
+        StringJoiner tag = new StringJoiner("-", "\"", "\"");
+        tag.add(resource).add(String.valueOf(id));
+        for (Object value : version) {
+            tag.add(format(value));
+        }
+        return tag.toString();
+    }
+
+    private static String format(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof LocalDateTime timestamp) {
+            return Long.toString(EPOCH.until(timestamp, ChronoUnit.MICROS), Character.MAX_RADIX);
+        }
+        if (value instanceof Number number) {
+            return Long.toString(number.longValue(), Character.MAX_RADIX);
+        }
+        throw new IllegalArgumentException("Unsupported version value: " + value.getClass().getName());
+    }
+}
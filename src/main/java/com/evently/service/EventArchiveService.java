@@ -0,0 +1,102 @@
+package com.evently.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.evently.catalog.Catalog;
+import com.evently.dto.event.EventDTO;
+import com.evently.mapper.EventMapper;
+import com.evently.model.Event;
+import com.evently.repository.ArchivedEventRepository;
+import com.evently.repository.ArchivedGuestRepository;
+import com.evently.repository.ArchivedVendorBookingRepository;
+import com.evently.repository.EventRepository;
+import com.evently.repository.GuestRepository;
+import com.evently.repository.UserRepository;
+import com.evently.repository.VendorBookingRepository;
+import com.evently.service.event.CatalogChangedEvent;
+
+/**
+ * Service layer for archived events.
+ * Moves past events with their guests and bookings out of the hot tables, and reads them back by id.
+ */
+@Service
+@Transactional
+public class EventArchiveService {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private VendorBookingRepository vendorBookingRepository;
+
+    @Autowired
+    private ArchivedEventRepository archivedEventRepository;
+
+    @Autowired
+    private ArchivedGuestRepository archivedGuestRepository;
+
+    @Autowired
+    private ArchivedVendorBookingRepository archivedVendorBookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventMapper eventMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Archive one chunk of events that took place before the cutoff and have no pending or
+     * confirmed bookings: copy them, their guests and their bookings to the archive tables and
+     * delete them from the hot ones, a few set-based statements for the whole chunk.
+     *
+     * @return the number of events archived
+     */
+    public int archiveEvents(LocalDateTime eventBefore, int limit) {
+        List<Long> ids = eventRepository.claimArchivable(eventBefore, PageRequest.of(0, limit)).stream()
+                .map(Event::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedEventRepository.archive(ids, LocalDateTime.now());
+        archivedGuestRepository.archiveByEventIds(ids);
+        archivedVendorBookingRepository.archiveByEventIds(ids);
+        guestRepository.deleteByEventIds(ids);
+        vendorBookingRepository.deleteByEventIds(ids);
+        eventRepository.deleteByIds(ids);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.EVENTS));
+        return ids.size();
+    }
+
+    /**
+     * Get an archived event by ID.
+     */
+    @Transactional(readOnly = true)
+    public Optional<EventDTO> getArchivedEvent(Long id) {
+        return archivedEventRepository.findById(id)
+                .map(event -> eventMapper.toEventDTO(event, userRepository.findById(event.getPlannerId()).orElse(null)));
+    }
+
+    /**
+     * ETag of an archived event's representation; empty if no such event was archived.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> getArchivedEventETag(Long id) {
+        List<Object[]> version = archivedEventRepository.findVersionById(id);
+        return version.isEmpty() ? Optional.empty() : Optional.of(ETags.of("event", id, version.get(0)));
+    }
+}
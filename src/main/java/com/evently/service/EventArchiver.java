@@ -0,0 +1,89 @@
+package com.evently.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.evently.sharding.ShardRouter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps the event tables small: events older than the retention period are moved, with their
+ * guests and vendor bookings, to the archive tables, where GET /api/events/{id} still finds them.
+ *
+ * Runs in the background in chunks of chunk-size events, one transaction each, pausing between
+ * chunks so a large backlog does not monopolise the database. Chunks are claimed with SKIP LOCKED,
+ * so every node can run the archiver at once. Events that still have pending or confirmed bookings
+ * wait for the booking lifecycle job to settle them. With sharding on, each shard is archived in turn.
+ *
+ * Metrics: events.archived.
+ */
+@Service
+public class EventArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventArchiver.class);
+
+    @Autowired
+    private EventArchiveService eventArchiveService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    private final Duration retention;
+    private final int chunkSize;
+    private final Duration pause;
+    private final Counter archived;
+
+    public EventArchiver(MeterRegistry meterRegistry,
+                         @Value("${app.archive.retention:365d}") Duration retention,
+                         @Value("${app.archive.chunk-size:100}") int chunkSize,
+                         @Value("${app.archive.pause:500ms}") Duration pause) {
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+        this.archived = Counter.builder("events.archived")
+                .description("Events moved to the archive tables")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Archive every event past the retention period, chunk after chunk.
+     */
+    @Scheduled(initialDelayString = "${app.archive.interval-ms:3600000}",
+               fixedDelayString = "${app.archive.interval-ms:3600000}")
+    public void archive() {
+        LocalDateTime eventBefore = LocalDateTime.now().minus(retention);
+        int total = 0;
+        for (int shard : shardRouter.shards()) {
+            int moved;
+            do {
+                moved = shardRouter.inTransaction(shard, false,
+                    () -> eventArchiveService.archiveEvents(eventBefore, chunkSize));
+                archived.increment(moved);
+                total += moved;
+            } while (moved == chunkSize && pause());
+        }
+        if (total > 0) {
+            logger.info("Archived {} events that took place before {}", total, eventBefore);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            // Shutting down; the rest is archived on the next run
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,15 +1,18 @@
 package com.evently.service;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.evently.catalog.Catalog;
 import com.evently.dto.event.EventCreateDTO;
 import com.evently.dto.event.EventDTO;
 import com.evently.dto.event.EventUpdateDTO;
@@ -23,10 +26,15 @@ import com.evently.model.User;
 import com.evently.repository.EventRepository;
 import com.evently.repository.GuestRepository;
 import com.evently.repository.UserRepository;
+import com.evently.service.event.CatalogChangedEvent;
+import com.evently.service.event.GuestRsvpChangedEvent;
+import com.evently.sharding.ShardRouter;
 
 /**
  * Service layer for Event-related operations.
  * Handles event CRUD operations, guest management, and event queries.
+ * With sharding on, each transaction is routed to the shard of its planner, event or guest first;
+ * lists across planners are gathered from every shard.
  */
 @Service
 @Transactional
@@ -47,8 +55,18 @@ public class EventService {
     @Autowired
     private GuestMapper guestMapper;
 
+    @Autowired
+    private EventArchiveService eventArchiveService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
 
     public EventDTO createEvent(EventCreateDTO createDTO, Long plannerId) {
+        shardRouter.routeToPlanner(plannerId);
         User planner = userRepository.findById(plannerId)
                 .orElseThrow(() -> new IllegalArgumentException("Planner not found: " + plannerId));
 
@@ -60,15 +78,33 @@ public class EventService {
         event.setPlanner(planner);
 
         Event savedEvent = eventRepository.save(event);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.EVENTS));
         return eventMapper.toEventDTO(savedEvent);
     }
 
+    /**
+     * Get an event by ID, reading through to the archive for past events.
+     */
     @Transactional(readOnly = true)
     public Optional<EventDTO> getEventById(Long id) {
-        return eventRepository.findById(id).map(eventMapper::toEventDTO);
+        shardRouter.routeToShardOf(id);
+        return eventRepository.findById(id).map(eventMapper::toEventDTO)
+                .or(() -> eventArchiveService.getArchivedEvent(id));
+    }
+
+    /**
+     * ETag of an event's representation; empty if the event does not exist, live or archived.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> getEventETag(Long id) {
+        shardRouter.routeToShardOf(id);
+        List<Object[]> version = eventRepository.findVersionById(id);
+        return version.isEmpty() ? eventArchiveService.getArchivedEventETag(id)
+                : Optional.of(ETags.of("event", id, version.get(0)));
     }
 
     public EventDTO updateEvent(Long eventId, EventUpdateDTO updateDTO, Long plannerId) {
+        shardRouter.routeToShardOf(eventId);
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new IllegalArgumentException("Event not found: " + eventId));
 
@@ -78,10 +114,12 @@ public class EventService {
 
         eventMapper.updateEventFromDTO(updateDTO, event);
         Event savedEvent = eventRepository.save(event);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.EVENTS));
         return eventMapper.toEventDTO(savedEvent);
     }
 
     public void deleteEvent(Long eventId, Long plannerId) {
+        shardRouter.routeToShardOf(eventId);
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new IllegalArgumentException("Event not found: " + eventId));
 
@@ -90,35 +128,41 @@ public class EventService {
         }
 
         eventRepository.delete(event);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.EVENTS));
     }
 
     @Transactional(readOnly = true)
     public Page<EventDTO> getAllEvents(Pageable pageable) {
-        return eventRepository.findAll(pageable).map(eventMapper::toEventDTO);
+        return shardRouter.gatherPage(pageable, page -> eventRepository.findAll(page).map(eventMapper::toEventDTO));
     }
 
     @Transactional(readOnly = true)
     public List<EventDTO> getEventsByPlanner(Long plannerId) {
+        shardRouter.routeToPlanner(plannerId);
         return eventMapper.toEventDTOList(eventRepository.findByPlannerId(plannerId));
     }
 
     @Transactional(readOnly = true)
     public List<EventDTO> getUpcomingEvents() {
-        return eventMapper.toEventDTOList(eventRepository.findUpcomingEvents(LocalDateTime.now()));
+        LocalDateTime now = LocalDateTime.now();
+        return shardRouter.gatherSorted(() -> eventMapper.toEventDTOList(eventRepository.findUpcomingEvents(now)),
+                Comparator.comparing(EventDTO::getDate));
     }
 
     @Transactional(readOnly = true)
     public List<EventDTO> getEventsByLocation(String location) {
-        return eventMapper.toEventDTOList(eventRepository.findByLocationContainingIgnoreCase(location));
+        return shardRouter.gatherAll(
+                () -> eventMapper.toEventDTOList(eventRepository.findByLocationContainingIgnoreCase(location)));
     }
 
     @Transactional(readOnly = true)
     public List<EventDTO> searchEvents(String query) {
-        return eventMapper.toEventDTOList(
-                eventRepository.findByTitleContainingIgnoreCaseOrLocationContainingIgnoreCase(query, query));
+        return shardRouter.gatherAll(() -> eventMapper.toEventDTOList(
+                eventRepository.findByTitleContainingIgnoreCaseOrLocationContainingIgnoreCase(query, query)));
     }
 
     public GuestDto addGuestToEvent(Long eventId, GuestCreateUpdateDTO guestDTO, Long plannerId) {
+        shardRouter.routeToShardOf(eventId);
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new IllegalArgumentException("Event not found: " + eventId));
 
@@ -137,10 +181,13 @@ public class EventService {
         userRepository.findByEmail(guestDTO.getEmail()).ifPresent(guest::setUser);
 
         Guest savedGuest = guestRepository.save(guest);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.EVENTS));
+        eventPublisher.publishEvent(new GuestRsvpChangedEvent(savedGuest.getId(), eventId, null, savedGuest.getRsvpStatus()));
         return guestMapper.toGuestDTO(savedGuest);
     }
 
     public GuestDto updateGuest(Long guestId, GuestCreateUpdateDTO guestDTO, Long plannerId) {
+        shardRouter.routeToShardOf(guestId);
         Guest guest = guestRepository.findById(guestId)
                 .orElseThrow(() -> new IllegalArgumentException("Guest not found: " + guestId));
 
@@ -154,6 +201,7 @@ public class EventService {
     }
 
     public void removeGuestFromEvent(Long guestId, Long plannerId) {
+        shardRouter.routeToShardOf(guestId);
         Guest guest = guestRepository.findById(guestId)
                 .orElseThrow(() -> new IllegalArgumentException("Guest not found: " + guestId));
 
@@ -162,24 +210,47 @@ public class EventService {
         }
 
         guestRepository.delete(guest);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.EVENTS));
+        eventPublisher.publishEvent(new GuestRsvpChangedEvent(guestId, guest.getEvent().getId(), guest.getRsvpStatus(), null));
     }
 
     @Transactional(readOnly = true)
     public List<GuestDto> getGuestsByEvent(Long eventId) {
-        return guestMapper.toGuestDTOList(guestRepository.findByEventId(eventId));
+        shardRouter.routeToShardOf(eventId);
+        return withEventDetails(eventId, guestRepository.findDtosByEventId(eventId));
     }
 
     @Transactional(readOnly = true)
     public List<GuestDto> getGuestsByEventAndRsvpStatus(Long eventId, Guest.RsvpStatus rsvpStatus) {
-        return guestMapper.toGuestDTOList(guestRepository.findByEventIdAndRsvpStatus(eventId, rsvpStatus));
+        shardRouter.routeToShardOf(eventId);
+        return withEventDetails(eventId, guestRepository.findDtosByEventIdAndRsvpStatus(eventId, rsvpStatus));
+    }
+
+    /**
+     * Fill in the event title and date of guest projections, reading them once rather than per row.
+     */
+    private List<GuestDto> withEventDetails(Long eventId, List<GuestDto> guests) {
+        if (!guests.isEmpty()) {
+            Object[] event = eventRepository.findTitleAndDateById(eventId).get(0);
+            for (GuestDto guest : guests) {
+                guest.setEventTitle((String) event[0]);
+                guest.setEventDate((LocalDateTime) event[1]);
+            }
+        }
+        return guests;
     }
 
     public GuestDto updateGuestRsvpStatus(Long guestId, Guest.RsvpStatus rsvpStatus) {
+        shardRouter.routeToShardOf(guestId);
         Guest guest = guestRepository.findById(guestId)
                 .orElseThrow(() -> new IllegalArgumentException("Guest not found: " + guestId));
 
+        Guest.RsvpStatus oldStatus = guest.getRsvpStatus();
         guest.setRsvpStatus(rsvpStatus);
         Guest savedGuest = guestRepository.save(guest);
+        if (oldStatus != rsvpStatus) {
+            eventPublisher.publishEvent(new GuestRsvpChangedEvent(guestId, guest.getEvent().getId(), oldStatus, rsvpStatus));
+        }
         return guestMapper.toGuestDTO(savedGuest);
     }
 
@@ -187,6 +258,7 @@ public class EventService {
 
     @Transactional(readOnly = true)
     public EventStatsDTO getEventStatistics(Long eventId) {
+        shardRouter.routeToShardOf(eventId);
         eventRepository.findById(eventId)
                 .orElseThrow(() -> new IllegalArgumentException("Event not found: " + eventId));
 
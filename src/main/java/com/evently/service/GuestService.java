@@ -1,12 +1,14 @@
 package com.evently.service;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.evently.dto.guest.GuestCreateUpdateDTO;
 import com.evently.model.Event;
 import com.evently.model.Guest;
 import com.evently.repository.EventRepository;
 import com.evently.repository.GuestRepository;
+import com.evently.sharding.ShardRouter;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -17,8 +19,11 @@ public class GuestService {
 
     private final GuestRepository guestRepository;
     private final EventRepository eventRepository;
+    private final ShardRouter shardRouter;
 
+    @Transactional
     public Guest createGuest(GuestCreateUpdateDTO dto) {
+        shardRouter.routeToShardOf(dto.getEventId());
         Event event = eventRepository.findById(dto.getEventId())
                 .orElseThrow(() -> new EntityNotFoundException("Event not found"));
 
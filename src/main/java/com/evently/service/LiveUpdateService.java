@@ -0,0 +1,216 @@
+package com.evently.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.evently.live.BookingChange;
+import com.evently.live.GuestChange;
+import com.evently.live.LiveUpdateHub;
+import com.evently.model.Event;
+import com.evently.model.VendorProfile;
+import com.evently.repository.EventRepository;
+import com.evently.repository.VendorProfileRepository;
+import com.evently.service.event.BookingStatusChangedEvent;
+import com.evently.service.event.GuestRsvpChangedEvent;
+import com.evently.sharding.ShardRouter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service layer for live dashboard updates over Server-Sent Events.
+ *
+ * A planner follows one of their events (guest and booking changes) and a vendor follows their
+ * own bookings. Changes are pushed once their transaction commits, serialized once however many
+ * dashboards follow them, and not at all when none do; see LiveUpdateHub for the per-subscriber
+ * buffering.
+ *
+ * A dashboard may be connected to any node, so every change is also recorded in the cache
+ * invalidation log in its transaction; CacheInvalidationPoller hands other nodes' entries to
+ * {@link #deliver}, within about one poll interval of the commit.
+ *
+ * Metrics: live.subscribers and live.updates.dropped.
+ */
+@Service
+public class LiveUpdateService {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private VendorProfileRepository vendorProfileRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor sender;
+    private final LiveUpdateHub hub;
+    private final long timeoutMillis;
+
+    public LiveUpdateService(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                             @Value("${app.live.sender-threads:2}") int senderThreads,
+                             @Value("${app.live.buffer-size:32}") int bufferSize,
+                             @Value("${app.live.max-subscribers:10000}") int maxSubscribers,
+                             @Value("${app.live.timeout:30m}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), new CustomizableThreadFactory("live-update-"));
+        this.hub = new LiveUpdateHub(sender, bufferSize, maxSubscribers);
+        this.timeoutMillis = timeout.toMillis();
+
+        Gauge.builder("live.subscribers", hub, LiveUpdateHub::subscriberCount)
+                .description("Open live update streams")
+                .register(meterRegistry);
+        FunctionCounter.builder("live.updates.dropped", hub, LiveUpdateHub::droppedCount)
+                .description("Updates dropped for streams that fell behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Follow guest and booking changes of an event, as its planner.
+     *
+     * @return the stream, or null if no more streams can be opened
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeToEvent(Long eventId, Long userId) {
+        shardRouter.routeToShardOf(eventId);
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("Event not found: " + eventId));
+        if (!event.getPlanner().getId().equals(userId)) {
+            throw new IllegalArgumentException("User is not authorized to follow this event");
+        }
+        return subscribe("event:" + eventId);
+    }
+
+    /**
+     * Follow booking changes of a vendor, as the vendor.
+     *
+     * @return the stream, or null if no more streams can be opened
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeToVendor(Long vendorId, Long userId) {
+        VendorProfile vendor = vendorProfileRepository.findById(vendorId)
+                .orElseThrow(() -> new IllegalArgumentException("Vendor not found: " + vendorId));
+        if (!vendor.getUser().getId().equals(userId)) {
+            throw new IllegalArgumentException("User is not authorized to follow this vendor");
+        }
+        return subscribe("vendor:" + vendorId);
+    }
+
+    private SseEmitter subscribe(String topic) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        if (!hub.subscribe(topic, emitter)) {
+            return null;
+        }
+        try {
+            // Sent as soon as the response starts, so clients know updates from here on will arrive
+            emitter.send(SseEmitter.event().name("subscribed").data(topic));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onGuestRsvpChanged(GuestRsvpChangedEvent event) {
+        String topic = "event:" + event.getEventId();
+        if (hub.isFollowed(topic)) {
+            deliver(topic, "guest", serialize(guestChange(event)));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        String eventTopic = "event:" + event.getEventId();
+        String vendorTopic = "vendor:" + event.getVendorId();
+        if (hub.isFollowed(eventTopic) || hub.isFollowed(vendorTopic)) {
+            String json = serialize(bookingChange(event));
+            deliver(eventTopic, "booking", json);
+            deliver(vendorTopic, "booking", json);
+        }
+    }
+
+    // Recorded in the change's transaction for the dashboards connected to other nodes
+
+    @EventListener
+    public void recordGuestRsvpChanged(GuestRsvpChangedEvent event) {
+        cacheInvalidationService.liveUpdate("event:" + event.getEventId(), "guest", serialize(guestChange(event)));
+    }
+
+    @EventListener
+    public void recordBookingStatusChanged(BookingStatusChangedEvent event) {
+        String json = serialize(bookingChange(event));
+        cacheInvalidationService.liveUpdate("event:" + event.getEventId(), "booking", json);
+        cacheInvalidationService.liveUpdate("vendor:" + event.getVendorId(), "booking", json);
+    }
+
+    /**
+     * Push an update to the streams following its topic on this node, if any.
+     */
+    public void deliver(String topic, String name, String json) {
+        if (hub.isFollowed(topic)) {
+            hub.publish(topic, name, json);
+        }
+    }
+
+    private static GuestChange guestChange(GuestRsvpChangedEvent event) {
+        return new GuestChange(event.getEventId(), event.getGuestId(), event.getOldStatus(), event.getNewStatus());
+    }
+
+    private static BookingChange bookingChange(BookingStatusChangedEvent event) {
+        return new BookingChange(event.getBookingId(), event.getEventId(), event.getVendorId(),
+            event.getOldStatus(), event.getNewStatus());
+    }
+
+    private String serialize(Object change) {
+        try {
+            return objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize live update " + change, e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.live.heartbeat-interval-ms:25000}",
+               fixedDelayString = "${app.live.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        hub.heartbeat();
+    }
+
+    /**
+     * Complete open streams as soon as the application starts closing, before the web server's
+     * graceful shutdown would otherwise wait for them until its timeout.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void closeStreams() {
+        hub.close();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hub.close();
+        sender.shutdown();
+    }
+}
@@ -0,0 +1,220 @@
+package com.evently.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.evently.media.ContentAddressedStore;
+import com.evently.media.StoredImage;
+import com.evently.media.ThumbnailRenderer;
+import com.evently.media.UploadedFileServer;
+import com.evently.service.event.ThumbnailReadyEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Service layer for uploaded images: content-addressed storage under /uploads/media,
+ * thumbnails rendered by a small fixed pool of background workers, and serving of /uploads.
+ *
+ * The worker queue is bounded; when it is full a thumbnail is skipped rather than queued, and
+ * it is requested again the next time a row referencing the image is saved. Until a thumbnail
+ * exists the DTOs carry no thumbnail and clients fall back to the original.
+ *
+ * Metrics: media.uploads (stored/duplicate), media.uploads.deduplicated (bytes not stored again),
+ * media.thumbnails (generated/failed/rejected) and media.thumbnails.queued.
+ */
+@Service
+public class MediaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MediaService.class);
+
+    private final ContentAddressedStore store;
+    private final ThumbnailRenderer renderer;
+    private final UploadedFileServer fileServer;
+    private final ThreadPoolExecutor thumbnailWorkers;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Images with a thumbnail queued or in progress, so repeated saves do not queue it twice
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private final Counter stored;
+    private final Counter duplicates;
+    private final Counter deduplicatedBytes;
+    private final Counter thumbnailsGenerated;
+    private final Counter thumbnailsFailed;
+    private final Counter thumbnailsRejected;
+
+    public MediaService(ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+                        @Value("${app.file.upload-dir:uploads}") String uploadDir,
+                        @Value("${app.file.max-size:10MB}") DataSize maxSize,
+                        @Value("${app.media.thumbnail-width:320}") int thumbnailWidth,
+                        @Value("${app.media.thumbnail-quality:0.8}") float thumbnailQuality,
+                        @Value("${app.media.thumbnail-max-pixels:100000000}") long thumbnailMaxPixels,
+                        @Value("${app.media.thumbnail-workers:2}") int thumbnailWorkers,
+                        @Value("${app.media.thumbnail-queue-capacity:100}") int thumbnailQueueCapacity,
+                        @Value("${app.media.serving.sendfile-min-size:48KB}") DataSize sendfileMinSize,
+                        @Value("${app.media.serving.open-files:256}") int openFiles,
+                        @Value("${app.media.serving.mapped-max-file-size:48KB}") DataSize mappedMaxFileSize,
+                        @Value("${app.media.serving.mapped-capacity:64MB}") DataSize mappedCapacity) {
+        Path uploads = Paths.get(uploadDir);
+        this.store = new ContentAddressedStore(uploads.resolve("media"), uploads.resolve("temp"), "/uploads/media/",
+            maxSize.toBytes());
+        this.renderer = new ThumbnailRenderer(thumbnailWidth, thumbnailQuality, thumbnailMaxPixels);
+        this.fileServer = new UploadedFileServer(uploads, sendfileMinSize.toBytes(), openFiles,
+            mappedMaxFileSize.toBytes(), mappedCapacity.toBytes(), meterRegistry);
+        this.thumbnailWorkers = new ThreadPoolExecutor(thumbnailWorkers, thumbnailWorkers, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(thumbnailQueueCapacity), new CustomizableThreadFactory("thumbnail-"));
+        this.eventPublisher = eventPublisher;
+
+        this.stored = uploads(meterRegistry, "stored");
+        this.duplicates = uploads(meterRegistry, "duplicate");
+        this.deduplicatedBytes = Counter.builder("media.uploads.deduplicated")
+                .description("Bytes of uploads not stored again because identical content was already stored")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.thumbnailsGenerated = thumbnails(meterRegistry, "generated");
+        this.thumbnailsFailed = thumbnails(meterRegistry, "failed");
+        this.thumbnailsRejected = thumbnails(meterRegistry, "rejected");
+        Gauge.builder("media.thumbnails.queued", this.thumbnailWorkers, executor -> executor.getQueue().size())
+                .description("Thumbnails waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Store an uploaded image.
+     *
+     * @throws IllegalArgumentException if the file is not a JPEG, PNG or GIF image or is too large
+     */
+    public StoredImage storeImage(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Image file is required");
+        }
+        StoredImage image;
+        try (InputStream in = file.getInputStream()) {
+            image = store.store(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store uploaded image", e);
+        }
+        if (image.duplicate()) {
+            duplicates.increment();
+            deduplicatedBytes.increment(image.size());
+        } else {
+            stored.increment();
+        }
+        return image;
+    }
+
+    /**
+     * Get the thumbnail URL of an image, or null if the image is not a stored upload or its
+     * thumbnail has not been generated yet. A missing thumbnail is queued once the current
+     * transaction commits, so the rows it is attached to are visible to the worker.
+     */
+    public String getThumbnail(String imageUrl) {
+        Optional<Path> thumbnail = store.thumbnailPathOf(imageUrl, renderer.width());
+        if (thumbnail.isEmpty()) {
+            return null;
+        }
+        if (Files.exists(thumbnail.get())) {
+            return store.thumbnailUrlOf(imageUrl, renderer.width()).orElseThrow();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    queueThumbnail(imageUrl);
+                }
+            });
+        } else {
+            queueThumbnail(imageUrl);
+        }
+        return null;
+    }
+
+    /**
+     * Serve a file under /uploads, given its path below it.
+     */
+    public void serveFile(String path, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        fileServer.serve(path, request, response);
+    }
+
+    private void queueThumbnail(String imageUrl) {
+        if (!pending.add(imageUrl)) {
+            return;
+        }
+        try {
+            thumbnailWorkers.execute(() -> {
+                try {
+                    renderThumbnail(imageUrl);
+                } finally {
+                    pending.remove(imageUrl);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(imageUrl);
+            thumbnailsRejected.increment();
+            logger.debug("Thumbnail queue full, skipped {}", imageUrl);
+        }
+    }
+
+    private void renderThumbnail(String imageUrl) {
+        Path source = store.pathOf(imageUrl).orElseThrow();
+        Path target = store.thumbnailPathOf(imageUrl, renderer.width()).orElseThrow();
+        try {
+            if (!Files.exists(target)) {
+                renderer.render(source, target);
+                thumbnailsGenerated.increment();
+            }
+            eventPublisher.publishEvent(new ThumbnailReadyEvent(imageUrl,
+                store.thumbnailUrlOf(imageUrl, renderer.width()).orElseThrow()));
+        } catch (IOException | RuntimeException e) {
+            thumbnailsFailed.increment();
+            logger.warn("Could not create thumbnail of {}: {}", imageUrl, e.toString());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        thumbnailWorkers.shutdownNow();
+    }
+
+    private static Counter uploads(MeterRegistry registry, String result) {
+        return Counter.builder("media.uploads")
+                .description("Uploaded images, by whether identical content was already stored")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Counter thumbnails(MeterRegistry registry, String result) {
+        return Counter.builder("media.thumbnails")
+                .description("Thumbnail jobs, by outcome")
+                .tag("result", result)
+                .register(registry);
+    }
+}
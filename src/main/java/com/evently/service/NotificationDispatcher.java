@@ -0,0 +1,162 @@
+package com.evently.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.evently.model.OutboxMessage;
+import com.evently.notification.NotificationSink;
+import com.evently.notification.RetryBackoff;
+import com.evently.sharding.ShardRouter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Delivers the notification outbox: polls for due messages in batches, hands each sink its share
+ * of a batch outside any transaction, then records the outcome of the whole batch at once.
+ * Failed deliveries are retried with exponential backoff until the attempts run out, after which
+ * the message is kept as FAILED. Delivered messages are deleted after the retention period.
+ * With sharding on, messages are written to the database of the change they report, so every
+ * database's outbox is polled.
+ *
+ * Metrics: notifications.deliveries (sink, result: sent/retry/failed).
+ */
+@Service
+public class NotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    private final Map<String, NotificationSink> sinks;
+    private final RetryBackoff backoff;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration retention;
+    private final MeterRegistry meterRegistry;
+
+    public NotificationDispatcher(@Autowired(required = false) List<NotificationSink> sinks, MeterRegistry meterRegistry,
+                                  @Value("${app.notifications.batch-size:50}") int batchSize,
+                                  @Value("${app.notifications.lease:2m}") Duration lease,
+                                  @Value("${app.notifications.retry.initial-delay:10s}") Duration initialDelay,
+                                  @Value("${app.notifications.retry.max-delay:1h}") Duration maxDelay,
+                                  @Value("${app.notifications.retry.max-attempts:8}") int maxAttempts,
+                                  @Value("${app.notifications.retention:7d}") Duration retention) {
+        this.sinks = sinks == null ? Map.of()
+                : sinks.stream().collect(Collectors.toMap(NotificationSink::name, Function.identity()));
+        this.backoff = new RetryBackoff(initialDelay, maxDelay, maxAttempts);
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.retention = retention;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Deliver due messages, batch after batch until none are left.
+     */
+    @Scheduled(initialDelayString = "${app.notifications.poll-interval-ms:1000}",
+               fixedDelayString = "${app.notifications.poll-interval-ms:1000}")
+    public void dispatch() {
+        for (int database : shardRouter.databases()) {
+            List<OutboxMessage> batch;
+            do {
+                batch = shardRouter.inTransaction(database, false, () -> outboxService.claimDue(batchSize, lease));
+                if (!batch.isEmpty()) {
+                    deliver(database, batch);
+                }
+            } while (batch.size() == batchSize);
+        }
+    }
+
+    private void deliver(int database, List<OutboxMessage> batch) {
+        Map<String, List<OutboxMessage>> bySink = new LinkedHashMap<>();
+        for (OutboxMessage message : batch) {
+            bySink.computeIfAbsent(message.getSink(), sink -> new ArrayList<>()).add(message);
+        }
+
+        List<Long> sent = new ArrayList<>();
+        Map<Long, OutboxService.Failure> failed = new LinkedHashMap<>();
+        bySink.forEach((name, messages) -> {
+            NotificationSink sink = sinks.get(name);
+            Map<Long, String> failures;
+            if (sink == null) {
+                failures = messages.stream()
+                        .collect(Collectors.toMap(OutboxMessage::getId, message -> "Sink not enabled: " + name));
+            } else {
+                try {
+                    failures = sink.deliver(messages);
+                } catch (RuntimeException e) {
+                    failures = messages.stream().collect(Collectors.toMap(OutboxMessage::getId, message -> e.toString()));
+                }
+            }
+            for (OutboxMessage message : messages) {
+                String error = failures.get(message.getId());
+                if (error == null) {
+                    sent.add(message.getId());
+                    deliveries(name, "sent").increment();
+                } else {
+                    failed.put(message.getId(), failed(message, error));
+                }
+            }
+        });
+        shardRouter.inTransaction(database, false, () -> {
+            outboxService.recordOutcome(sent, failed);
+            return null;
+        });
+    }
+
+    private OutboxService.Failure failed(OutboxMessage message, String error) {
+        Duration retryAfter = backoff.nextDelay(message.getAttempts()).orElse(null);
+        if (retryAfter == null) {
+            deliveries(message.getSink(), "failed").increment();
+            logger.warn("Giving up on notification {} after {} attempts: {}", message.getIdempotencyKey(),
+                message.getAttempts(), error);
+        } else {
+            deliveries(message.getSink(), "retry").increment();
+            logger.debug("Notification {} failed (attempt {}), retrying in {}: {}", message.getIdempotencyKey(),
+                message.getAttempts(), retryAfter, error);
+        }
+        return new OutboxService.Failure(error, retryAfter);
+    }
+
+    /**
+     * Delete delivered messages older than the retention period.
+     */
+    @Scheduled(initialDelayString = "${app.notifications.purge-interval-ms:3600000}",
+               fixedDelayString = "${app.notifications.purge-interval-ms:3600000}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        int deleted = 0;
+        for (int database : shardRouter.databases()) {
+            deleted += shardRouter.inTransaction(database, false, () -> outboxService.purgeSent(before));
+        }
+        if (deleted > 0) {
+            logger.debug("Deleted {} delivered notifications", deleted);
+        }
+    }
+
+    private Counter deliveries(String sink, String result) {
+        return Counter.builder("notifications.deliveries")
+                .description("Notification delivery attempts, by sink and outcome")
+                .tag("sink", sink)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,189 @@
+package com.evently.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.evently.model.Event;
+import com.evently.model.Guest;
+import com.evently.model.OutboxMessage;
+import com.evently.model.User;
+import com.evently.model.VendorBooking;
+import com.evently.notification.NotificationSink;
+import com.evently.repository.GuestRepository;
+import com.evently.repository.OutboxMessageRepository;
+import com.evently.repository.VendorBookingRepository;
+import com.evently.service.event.BookingStatusChangedEvent;
+import com.evently.service.event.GuestRsvpChangedEvent;
+
+/**
+ * Service layer for the notification outbox.
+ *
+ * Booking and RSVP changes are turned into outbox rows by listeners that run synchronously in
+ * the transaction publishing the change, so a notification is stored if and only if the change
+ * commits, and sending it never happens in the request. NotificationDispatcher delivers the rows.
+ *
+ * Each notification gets one row per enabled sink (sinks needing an address are skipped when the
+ * recipient has none), keyed by an idempotency key: the same booking status reaching the same
+ * party twice is stored once.
+ */
+@Service
+@Transactional
+public class OutboxService {
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private VendorBookingRepository vendorBookingRepository;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    // Sinks enabled in NotificationConfig; with none, nothing is stored
+    @Autowired(required = false)
+    private List<NotificationSink> sinks = List.of();
+
+    /**
+     * Store the notifications for a booking change.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        if (event.getNewStatus() == null) {
+            return;
+        }
+        VendorBooking booking = vendorBookingRepository.findById(event.getBookingId()).orElseThrow();
+        Event plannedEvent = booking.getEvent();
+        User planner = plannedEvent.getPlanner();
+        User vendor = booking.getVendor().getUser();
+        String vendorName = booking.getVendor().getBusinessName();
+        String key = "booking-" + booking.getId() + "-" + event.getNewStatus();
+
+        switch (event.getNewStatus()) {
+            case PENDING -> enqueue("BOOKING_REQUESTED", booking.getId(), key + "-vendor", vendor.getEmail(),
+                    "New booking request for " + plannedEvent.getTitle(),
+                    "Hello " + vendorName + ",\n\n" + planner.getFullName() + " would like to book "
+                        + booking.getService().getTitle() + " for " + plannedEvent.getTitle() + " on "
+                        + plannedEvent.getDate().toLocalDate() + " in " + plannedEvent.getLocation() + ".\n");
+            case CONFIRMED -> enqueue("BOOKING_CONFIRMED", booking.getId(), key + "-planner", planner.getEmail(),
+                    vendorName + " confirmed your booking for " + plannedEvent.getTitle(),
+                    "Hello " + planner.getFullName() + ",\n\n" + vendorName + " confirmed "
+                        + booking.getService().getTitle() + " for " + plannedEvent.getTitle() + " on "
+                        + plannedEvent.getDate().toLocalDate() + ".\n");
+            case CANCELLED -> {
+                String subject = "Booking cancelled for " + plannedEvent.getTitle();
+                String body = "The booking of " + vendorName + " (" + booking.getService().getTitle() + ") for "
+                        + plannedEvent.getTitle() + " on " + plannedEvent.getDate().toLocalDate()
+                        + " has been cancelled.\n";
+                enqueue("BOOKING_CANCELLED", booking.getId(), key + "-planner", planner.getEmail(), subject, body);
+                enqueue("BOOKING_CANCELLED", booking.getId(), key + "-vendor", vendor.getEmail(), subject, body);
+            }
+            case COMPLETED -> enqueue("BOOKING_COMPLETED", booking.getId(), key + "-planner", planner.getEmail(),
+                    "How was " + vendorName + "?",
+                    "Hello " + planner.getFullName() + ",\n\n" + vendorName + " marked the booking for "
+                        + plannedEvent.getTitle() + " as completed. You can now leave them a review.\n");
+        }
+    }
+
+    /**
+     * Store the notification of an RSVP change for the event's planner.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onGuestRsvpChanged(GuestRsvpChangedEvent event) {
+        if (event.getOldStatus() == null || event.getNewStatus() == null) {
+            return;
+        }
+        Guest guest = guestRepository.findById(event.getGuestId()).orElseThrow();
+        Event plannedEvent = guest.getEvent();
+        User planner = plannedEvent.getPlanner();
+        // A guest may change their answer back and forth; every change is a notification of its own
+        String key = "rsvp-" + guest.getId() + "-" + event.getNewStatus() + "-" + UUID.randomUUID();
+
+        enqueue("GUEST_RSVP", guest.getId(), key, planner.getEmail(),
+                guest.getDisplayName() + " is " + event.getNewStatus().getValue() + " for " + plannedEvent.getTitle(),
+                "Hello " + planner.getFullName() + ",\n\n" + guest.getDisplayName() + " (" + guest.getEmail()
+                    + ") changed their RSVP for " + plannedEvent.getTitle() + " from "
+                    + event.getOldStatus().getValue() + " to " + event.getNewStatus().getValue() + ".\n");
+    }
+
+    private void enqueue(String type, Long aggregateId, String key, String recipient, String subject, String body) {
+        for (NotificationSink sink : sinks) {
+            if (sink.requiresRecipient() && (recipient == null || recipient.isBlank())) {
+                continue;
+            }
+            String idempotencyKey = key + "-" + sink.name();
+            if (outboxMessageRepository.existsByIdempotencyKey(idempotencyKey)) {
+                continue;
+            }
+            OutboxMessage message = new OutboxMessage();
+            message.setIdempotencyKey(idempotencyKey);
+            message.setSink(sink.name());
+            message.setType(type);
+            message.setAggregateId(aggregateId);
+            message.setRecipient(recipient);
+            message.setSubject(subject);
+            message.setBody(body);
+            outboxMessageRepository.save(message);
+        }
+    }
+
+    /**
+     * Claim up to limit due messages for delivery. They stay pending, but are not due again
+     * until the lease has passed, so a dispatcher that dies mid-batch only delays them.
+     */
+    public List<OutboxMessage> claimDue(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> due = outboxMessageRepository.findDue(now, PageRequest.of(0, limit));
+        for (OutboxMessage message : due) {
+            message.setAttempts(message.getAttempts() + 1);
+            message.setNextAttemptAt(now.plus(lease));
+        }
+        return due;
+    }
+
+    /**
+     * Record the outcome of a delivered batch: sent messages are marked as such, failed ones are
+     * retried after their delay, or given up on when there is none.
+     */
+    public void recordOutcome(Collection<Long> sent, Map<Long, Failure> failed) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!sent.isEmpty()) {
+            outboxMessageRepository.markSent(sent, now);
+        }
+        for (OutboxMessage message : outboxMessageRepository.findAllById(failed.keySet())) {
+            Failure failure = failed.get(message.getId());
+            String error = failure.error();
+            message.setLastError(error.length() > 500 ? error.substring(0, 500) : error);
+            if (failure.retryAfter() == null) {
+                message.setStatus(OutboxMessage.Status.FAILED);
+            } else {
+                message.setNextAttemptAt(now.plus(failure.retryAfter()));
+            }
+        }
+    }
+
+    /**
+     * Delete delivered messages sent before the given time.
+     */
+    public int purgeSent(LocalDateTime before) {
+        return outboxMessageRepository.deleteSentBefore(before);
+    }
+
+    /**
+     * A failed delivery: the error, and the delay before the next attempt (null to give up).
+     */
+    public record Failure(String error, Duration retryAfter) {
+    }
+}
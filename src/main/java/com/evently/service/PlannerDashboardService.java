@@ -0,0 +1,117 @@
+package com.evently.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.evently.dto.event.PlannerDashboardEventDTO;
+import com.evently.model.Guest.RsvpStatus;
+import com.evently.model.VendorBooking.BookingStatus;
+import com.evently.repository.EventRepository;
+import com.evently.repository.GuestRepository;
+import com.evently.repository.VendorBookingRepository;
+import com.evently.sharding.ShardRouter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Service layer for the planner dashboard: all of a planner's events with their guests and
+ * bookings counted by status, in place of a request for the events and one per event for its stats.
+ *
+ * It takes three queries however many events the planner has: the counts of guests and of
+ * bookings grouped by event and status, read into memory first, then the events themselves, which
+ * are streamed from the database and written out one at a time. The body ends with the planner's
+ * totals across all events.
+ */
+@Service
+public class PlannerDashboardService {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private VendorBookingRepository vendorBookingRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter eventWriter;
+
+    public PlannerDashboardService(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.eventWriter = objectMapper.writerFor(PlannerDashboardEventDTO.class);
+    }
+
+    /**
+     * Write a planner's dashboard as JSON: {"events": [...], "totals": {"events", "guests", "bookings"}}.
+     */
+    @Transactional(readOnly = true)
+    public void writeDashboard(Long plannerId, OutputStream out) throws IOException {
+        shardRouter.routeToPlanner(plannerId);
+        Map<Long, Map<RsvpStatus, Long>> guestCounts =
+            byEvent(guestRepository.countGroupedByEventIdAndRsvpStatusForPlanner(plannerId), RsvpStatus.class);
+        Map<Long, Map<BookingStatus, Long>> bookingCounts =
+            byEvent(vendorBookingRepository.countGroupedByEventIdAndStatusForPlanner(plannerId), BookingStatus.class);
+
+        Map<RsvpStatus, Long> guestTotals = zeroes(RsvpStatus.class);
+        Map<BookingStatus, Long> bookingTotals = zeroes(BookingStatus.class);
+        long eventCount = 0;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+             Stream<Object[]> events = eventRepository.streamDashboardRowsByPlannerId(plannerId)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("events");
+            for (Object[] row : (Iterable<Object[]>) events::iterator) {
+                Long eventId = (Long) row[0];
+                Map<RsvpStatus, Long> guests = guestCounts.getOrDefault(eventId, zeroes(RsvpStatus.class));
+                Map<BookingStatus, Long> bookings = bookingCounts.getOrDefault(eventId, zeroes(BookingStatus.class));
+                eventWriter.writeValue(generator, new PlannerDashboardEventDTO(eventId, (String) row[1],
+                    (LocalDateTime) row[2], (String) row[3], guests, bookings));
+                guests.forEach((status, count) -> guestTotals.merge(status, count, Long::sum));
+                bookings.forEach((status, count) -> bookingTotals.merge(status, count, Long::sum));
+                eventCount++;
+            }
+            generator.writeEndArray();
+            generator.writeObjectFieldStart("totals");
+            generator.writeNumberField("events", eventCount);
+            generator.writeObjectField("guests", guestTotals);
+            generator.writeObjectField("bookings", bookingTotals);
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Group [eventId, status, count] rows by event, with every status present.
+     */
+    private static <S extends Enum<S>> Map<Long, Map<S, Long>> byEvent(List<Object[]> rows, Class<S> statusType) {
+        Map<Long, Map<S, Long>> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.computeIfAbsent((Long) row[0], eventId -> zeroes(statusType))
+                  .put(statusType.cast(row[1]), (Long) row[2]);
+        }
+        return counts;
+    }
+
+    private static <S extends Enum<S>> Map<S, Long> zeroes(Class<S> statusType) {
+        Map<S, Long> counts = new EnumMap<>(statusType);
+        for (S status : statusType.getEnumConstants()) {
+            counts.put(status, 0L);
+        }
+        return counts;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -12,12 +13,14 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.evently.catalog.Catalog;
 import com.evently.model.User;
 import com.evently.dto.user.UserDTO;
 import com.evently.dto.user.UserRegistrationDTO;
 import com.evently.dto.user.UserUpdateDTO;
 import com.evently.mapper.UserMapper;
 import com.evently.repository.UserRepository;
+import com.evently.service.event.CatalogChangedEvent;
 
 /**
  * Service layer for User entity operations.
@@ -37,6 +40,12 @@ public class UserService implements UserDetailsService {
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+    
     // Spring Security UserDetailsService implementation
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -74,6 +83,8 @@ public class UserService implements UserDetailsService {
         
         // Save user
         User savedUser = userRepository.save(user);
+        // Other nodes may have cached that nobody has the username
+        cacheInvalidationService.entityChanged(User.class, savedUser.getId());
         
         return userMapper.toUserDTO(savedUser);
     }
@@ -83,8 +94,7 @@ public class UserService implements UserDetailsService {
      */
     @Transactional(readOnly = true)
     public Optional<UserDTO> getUserById(Long id) {
-        return userRepository.findById(id)
-                .map(userMapper::toUserDTO);
+        return userRepository.findDtoById(id);
     }
     
     /**
@@ -92,8 +102,7 @@ public class UserService implements UserDetailsService {
      */
     @Transactional(readOnly = true)
     public Optional<UserDTO> getUserByUsername(String username) {
-        return userRepository.findByUsername(username)
-                .map(userMapper::toUserDTO);
+        return userRepository.findDtoByUsername(username);
     }
     
     /**
@@ -101,8 +110,7 @@ public class UserService implements UserDetailsService {
      */
     @Transactional(readOnly = true)
     public Optional<UserDTO> getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .map(userMapper::toUserDTO);
+        return userRepository.findDtoByEmail(email);
     }
     
     /**
@@ -124,19 +132,21 @@ public class UserService implements UserDetailsService {
         
         // Save updated user
         User savedUser = userRepository.save(user);
+        cacheInvalidationService.entityChanged(User.class, userId);
+        
+        // Names and emails are shown in vendor and event listings
+        eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.VENDORS));
+        eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.EVENTS));
         
         return userMapper.toUserDTO(savedUser);
     }
     
     /**
      * Update last login timestamp.
+     * Not sent to other nodes or copied to the shards, which do not read it from their copies.
      */
     public void updateLastLogin(String username) {
-        userRepository.findByUsername(username)
-                .ifPresent(user -> {
-                    user.setLastLogin(LocalDateTime.now());
-                    userRepository.save(user);
-                });
+        userRepository.updateLastLogin(username, LocalDateTime.now());
     }
     
     /**
@@ -144,8 +154,7 @@ public class UserService implements UserDetailsService {
      */
     @Transactional(readOnly = true)
     public List<UserDTO> getAllPlanners() {
-        List<User> planners = userRepository.findByIsPlannerTrue();
-        return userMapper.toUserDTOList(planners);
+        return userRepository.findDtosByIsPlannerTrue();
     }
     
     /**
@@ -153,8 +162,7 @@ public class UserService implements UserDetailsService {
      */
     @Transactional(readOnly = true)
     public List<UserDTO> getAllVendors() {
-        List<User> vendors = userRepository.findByIsVendorTrue();
-        return userMapper.toUserDTOList(vendors);
+        return userRepository.findDtosByIsVendorTrue();
     }
     
     /**
@@ -162,8 +170,7 @@ public class UserService implements UserDetailsService {
      */
     @Transactional(readOnly = true)
     public List<UserDTO> getAllActiveUsers() {
-        List<User> activeUsers = userRepository.findByIsActiveTrue();
-        return userMapper.toUserDTOList(activeUsers);
+        return userRepository.findDtosByIsActiveTrue();
     }
     
     /**
@@ -175,6 +182,7 @@ public class UserService implements UserDetailsService {
         
         user.setIsActive(false);
         userRepository.save(user);
+        cacheInvalidationService.entityChanged(User.class, userId);
     }
     
     /**
@@ -186,6 +194,7 @@ public class UserService implements UserDetailsService {
         
         user.setIsActive(true);
         userRepository.save(user);
+        cacheInvalidationService.entityChanged(User.class, userId);
     }
     
     /**
@@ -0,0 +1,234 @@
+package com.evently.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.evently.dto.vendor.VendorRankingDTO;
+import com.evently.leaderboard.LeaderboardMetric;
+import com.evently.leaderboard.VendorLeaderboard;
+import com.evently.leaderboard.VendorTotals;
+import com.evently.model.VendorBooking.BookingStatus;
+import com.evently.repository.ArchivedVendorBookingRepository;
+import com.evently.repository.ReviewRepository;
+import com.evently.repository.ServiceRepository;
+import com.evently.repository.VendorBookingRepository;
+import com.evently.repository.VendorProfileRepository;
+import com.evently.service.event.BookingStatusChangedEvent;
+import com.evently.service.event.ReviewChangedEvent;
+import com.evently.sharding.ShardRouter;
+
+/**
+ * Service layer for the vendor leaderboards.
+ * Keeps the in-memory rankings current from review and booking events after their
+ * transactions commit, and rebuilds them from the database periodically to pick up
+ * anything the events do not cover (new services/categories, renamed vendors).
+ */
+@Service
+public class VendorLeaderboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VendorLeaderboardService.class);
+
+    // A rebuild that overlapped a committing change is read again, up to this many times
+    private static final int REBUILD_ATTEMPTS = 3;
+
+    // Bookings that count towards the "most booked" leaderboard
+    private static final List<BookingStatus> COUNTED_STATUSES = List.of(BookingStatus.CONFIRMED, BookingStatus.COMPLETED);
+
+    @Autowired
+    private VendorProfileRepository vendorProfileRepository;
+
+    @Autowired
+    private ArchivedVendorBookingRepository archivedVendorBookingRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private VendorBookingRepository vendorBookingRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final VendorLeaderboard leaderboard;
+
+    private final int maxLimit;
+
+    public VendorLeaderboardService(@Value("${app.leaderboard.prior-mean:3.5}") double priorMean,
+                                    @Value("${app.leaderboard.prior-weight:5}") double priorWeight,
+                                    @Value("${app.leaderboard.max-limit:100}") int maxLimit) {
+        this.leaderboard = new VendorLeaderboard(priorMean, priorWeight);
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Get the top vendors by rating or bookings, optionally within one service category.
+     */
+    public List<VendorRankingDTO> getTopVendors(LeaderboardMetric metric, Long categoryId, int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxLimit);
+        }
+        return leaderboard.top(metric, categoryId, limit);
+    }
+
+    /**
+     * Rebuild every ranking from aggregate queries. Each attempt reads in a read-write transaction of
+     * its own so it runs on the primary and sees what committed since the last attempt: a replica's
+     * lagging copy could miss changes that committed before the rebuild started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.leaderboard.rebuild-interval-ms:600000}",
+               fixedDelayString = "${app.leaderboard.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        for (int attempt = 1; attempt <= REBUILD_ATTEMPTS; attempt++) {
+            long mark = leaderboard.startRebuild();
+            List<VendorTotals> totals = transactionTemplate.execute(status -> readTotals());
+            if (leaderboard.reset(totals, mark)) {
+                logger.debug("Rebuilt vendor leaderboard with {} vendors", totals.size());
+                return;
+            }
+        }
+        logger.info("Vendor leaderboard not rebuilt: changes kept committing while it was read; retrying at the next rebuild");
+    }
+
+    private List<VendorTotals> readTotals() {
+        Map<Long, long[]> ratings = new HashMap<>();
+        for (Object[] row : reviewRepository.sumRatingsGroupedByVendorId()) {
+            ratings.put((Long) row[0], new long[] {((Number) row[1]).longValue(), ((Number) row[2]).longValue()});
+        }
+
+        Map<Long, Long> bookings = new HashMap<>();
+        // Bookings of archived events still count; with sharding on, every shard has some of a vendor's bookings
+        List<List<Object[]>> bookingCounts = shardRouter.gather(() -> {
+            List<Object[]> counts = new ArrayList<>(vendorBookingRepository.countGroupedByVendorIdAndStatusIn(COUNTED_STATUSES));
+            counts.addAll(archivedVendorBookingRepository.countGroupedByVendorIdAndStatusIn(COUNTED_STATUSES));
+            return counts;
+        });
+        for (List<Object[]> counts : bookingCounts) {
+            for (Object[] row : counts) {
+                bookings.merge((Long) row[0], ((Number) row[1]).longValue(), Long::sum);
+            }
+        }
+
+        Map<Long, Set<Long>> categories = new HashMap<>();
+        for (Object[] row : serviceRepository.findVendorCategoryPairs()) {
+            categories.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((Long) row[1]);
+        }
+
+        List<VendorTotals> totals = new ArrayList<>();
+        for (Object[] row : vendorProfileRepository.findAllIdsAndBusinessNames()) {
+            Long vendorId = (Long) row[0];
+            long[] rating = ratings.getOrDefault(vendorId, new long[2]);
+            totals.add(new VendorTotals(vendorId, (String) row[1], categories.getOrDefault(vendorId, Set.of()),
+                    rating[0], rating[1], bookings.getOrDefault(vendorId, 0L)));
+        }
+        return totals;
+    }
+
+    /**
+     * Count a review or booking change from when it is published in its transaction until that
+     * transaction completes, after the listeners below have applied it.
+     */
+    @EventListener({ReviewChangedEvent.class, BookingStatusChangedEvent.class})
+    public void onChangePublished() {
+        // Transactional listeners are only invoked for events published in a transaction
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            leaderboard.changeStarted();
+        }
+    }
+
+    /**
+     * Ordered after the listeners that apply the change, which are invoked in the same completion callback.
+     */
+    @TransactionalEventListener(value = {ReviewChangedEvent.class, BookingStatusChangedEvent.class},
+                                phase = TransactionPhase.AFTER_COMPLETION)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onChangeCompleted() {
+        leaderboard.changeEnded();
+    }
+
+    /**
+     * Apply a committed review change.
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        // Totals for a vendor seen for the first time already include this change
+        if (track(event.getVendorId())) {
+            leaderboard.applyReviewChange(event.getVendorId(), event.getOldRating(), event.getNewRating());
+        }
+    }
+
+    /**
+     * Apply a committed booking status change.
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        int delta = (isCounted(event.getNewStatus()) ? 1 : 0) - (isCounted(event.getOldStatus()) ? 1 : 0);
+        if (delta == 0) {
+            return;
+        }
+        // Counting a new vendor's bookings takes a connection of every shard while the shard the
+        // change committed on still holds its own, so with sharding the next rebuild adds the vendor
+        if (shardRouter.isEnabled() && !leaderboard.contains(event.getVendorId())) {
+            return;
+        }
+        if (track(event.getVendorId())) {
+            leaderboard.applyBookingChange(event.getVendorId(), delta);
+        }
+    }
+
+    /**
+     * Whether the vendor was already on the leaderboard. If not, it is added with its current totals.
+     * Listeners run in a new read-write transaction so these reads see the commit on the primary.
+     */
+    private boolean track(Long vendorId) {
+        if (leaderboard.contains(vendorId)) {
+            return true;
+        }
+        vendorProfileRepository.findById(vendorId).ifPresent(vendor -> {
+            Object[] rating = reviewRepository.sumRatingsByVendorId(vendorId).get(0);
+            long ratingSum = rating[0] == null ? 0 : ((Number) rating[0]).longValue();
+            long reviewCount = ((Number) rating[1]).longValue();
+            leaderboard.addVendor(new VendorTotals(vendorId, vendor.getBusinessName(),
+                    new HashSet<>(serviceRepository.findCategoryIdsByVendorId(vendorId)),
+                    ratingSum, reviewCount,
+                    shardRouter.gather(() -> vendorBookingRepository.countByVendorIdAndStatusIn(vendorId, COUNTED_STATUSES)
+                            + archivedVendorBookingRepository.countByVendorIdAndStatusIn(vendorId, COUNTED_STATUSES))
+                            .stream().mapToLong(Long::longValue).sum()));
+        });
+        return false;
+    }
+
+    private static boolean isCounted(BookingStatus status) {
+        return status != null && COUNTED_STATUSES.contains(status);
+    }
+}
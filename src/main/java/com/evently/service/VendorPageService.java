@@ -0,0 +1,155 @@
+package com.evently.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Service;
+
+import com.evently.dto.vendor.PortfolioItemDTO;
+import com.evently.dto.vendor.ReviewDTO;
+import com.evently.dto.vendor.ServiceDTO;
+import com.evently.dto.vendor.VendorPageDTO;
+import com.evently.dto.vendor.VendorProfileDTO;
+import com.evently.service.VendorService.VendorStatsDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service layer for the vendor page, which assembles a vendor's profile, services, portfolio,
+ * reviews, statistics and availability in one request instead of six.
+ *
+ * The parts are loaded in parallel, each in a read-only transaction of its own, so the page takes
+ * about as long as its slowest part. A part that fails or takes longer than part-timeout is left
+ * out and named in the page's missing list rather than failing the page; its query still runs to
+ * completion in the background. Parts run on virtual threads when spring.threads.virtual.enabled
+ * is set on Java 21 and later, and on a fixed pool of workers otherwise. Either way at most
+ * max-concurrency parts run at once, which keeps the pages from holding more connections than that;
+ * beyond that the request thread waits (virtual threads) or the part waits in the queue (pool). A
+ * part the full queue rejects is left out like a failed one: run on the request thread instead, it
+ * would not be bounded by the timeout.
+ *
+ * Metrics: vendor.page.parts.missing (part).
+ */
+@Service
+public class VendorPageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VendorPageService.class);
+
+    @Autowired
+    private VendorService vendorService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    private final Executor workers;
+    private final Executor partLoaders;
+    private final Duration partTimeout;
+    private final MeterRegistry meterRegistry;
+
+    public VendorPageService(Environment environment, MeterRegistry meterRegistry,
+                             @Value("${app.vendor-page.max-concurrency:8}") int maxConcurrency,
+                             @Value("${app.vendor-page.queue-capacity:100}") int queueCapacity,
+                             @Value("${app.vendor-page.part-timeout:2s}") Duration partTimeout) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor virtualThreads = new SimpleAsyncTaskExecutor("vendor-page-");
+            virtualThreads.setVirtualThreads(true);
+            virtualThreads.setConcurrencyLimit(maxConcurrency);
+            this.workers = virtualThreads;
+        } else {
+            this.workers = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("vendor-page-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        }
+        // Parts run as the requesting user, so read-your-writes keeps their reads on the primary
+        this.partLoaders = new DelegatingSecurityContextExecutor(workers);
+        this.partTimeout = partTimeout;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Get a vendor's page.
+     *
+     * @param eventDate date to check the vendor's availability for, or null
+     * @return empty if the vendor does not exist
+     */
+    public Optional<VendorPageDTO> getVendorPage(Long vendorId, LocalDate eventDate) {
+        CompletableFuture<Optional<VendorProfileDTO>> profile = load(() -> vendorService.getVendorProfileById(vendorId));
+        CompletableFuture<List<ServiceDTO>> services = load(() -> vendorService.getServicesByVendor(vendorId));
+        CompletableFuture<List<PortfolioItemDTO>> portfolio = load(() -> vendorService.getPortfolioItemsByVendor(vendorId));
+        CompletableFuture<List<ReviewDTO>> reviews = load(() -> vendorService.getReviewsByVendor(vendorId));
+        CompletableFuture<VendorStatsDTO> stats = load(() -> vendorService.getVendorStatistics(vendorId));
+        CompletableFuture<Boolean> available = eventDate != null
+                ? load(() -> bookingService.isVendorAvailable(vendorId, eventDate))
+                : CompletableFuture.completedFuture(null);
+
+        VendorPageDTO page = new VendorPageDTO();
+        Optional<VendorProfileDTO> loadedProfile = join(profile, "profile", page);
+        if (loadedProfile != null && loadedProfile.isEmpty()) {
+            return Optional.empty();
+        }
+        page.setProfile(loadedProfile != null ? loadedProfile.get() : null);
+        page.setServices(join(services, "services", page));
+        page.setPortfolio(join(portfolio, "portfolio", page));
+        page.setReviews(join(reviews, "reviews", page));
+        page.setStats(join(stats, "stats", page));
+        page.setAvailable(join(available, "availability", page));
+        return Optional.of(page);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (workers instanceof ExecutorService pool) {
+            pool.shutdownNow();
+        }
+    }
+
+    private <T> CompletableFuture<T> load(Supplier<T> part) {
+        try {
+            return CompletableFuture.supplyAsync(part, partLoaders)
+                    .orTimeout(partTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Wait for a part, which its timeout bounds; null if it failed or timed out.
+     */
+    private <T> T join(CompletableFuture<T> part, String name, VendorPageDTO page) {
+        try {
+            return part.join();
+        } catch (CompletionException e) {
+            logger.warn("Vendor page left out {}: {}", name, e.getCause().toString());
+            page.getMissing().add(name);
+            Counter.builder("vendor.page.parts.missing")
+                    .description("Vendor page parts left out because they failed or timed out")
+                    .tag("part", name)
+                    .register(meterRegistry)
+                    .increment();
+            return null;
+        }
+    }
+}
@@ -4,11 +4,17 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
 
+import com.evently.catalog.Catalog;
 import com.evently.model.PortfolioItem;
 import com.evently.model.Review;
 import com.evently.model.ServiceCategory;
@@ -23,12 +29,16 @@ import com.evently.mapper.PortfolioItemMapper;
 import com.evently.mapper.ReviewMapper;
 import com.evently.mapper.ServiceMapper;
 import com.evently.mapper.VendorProfileMapper;
+import com.evently.media.StoredImage;
 import com.evently.repository.PortfolioItemRepository;
 import com.evently.repository.ReviewRepository;
 import com.evently.repository.ServiceCategoryRepository;
 import com.evently.repository.ServiceRepository;
 import com.evently.repository.UserRepository;
 import com.evently.repository.VendorProfileRepository;
+import com.evently.service.event.CatalogChangedEvent;
+import com.evently.service.event.ReviewChangedEvent;
+import com.evently.service.event.ThumbnailReadyEvent;
 
 /**
  * Service layer for Vendor-related operations.
@@ -68,6 +78,18 @@ public class VendorService {
     @Autowired
     private ReviewMapper reviewMapper;
     
+    @Autowired
+    private MediaService mediaService;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
     // Vendor Profile Management
     
     /**
@@ -90,6 +112,7 @@ public class VendorService {
         vendorProfile.setUser(user);
         
         VendorProfile savedProfile = vendorProfileRepository.save(vendorProfile);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.VENDORS));
         return vendorProfileMapper.toVendorProfileDTO(savedProfile);
     }
     
@@ -102,6 +125,15 @@ public class VendorService {
                 .map(vendorProfileMapper::toVendorProfileDTO);
     }
     
+    /**
+     * ETag of a vendor profile's representation; empty if the profile does not exist.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> getVendorProfileETag(Long id) {
+        List<Object[]> version = vendorProfileRepository.findVersionById(id);
+        return version.isEmpty() ? Optional.empty() : Optional.of(ETags.of("vendor", id, version.get(0)));
+    }
+    
     /**
      * Get vendor profile by user ID.
      */
@@ -126,9 +158,34 @@ public class VendorService {
         vendorProfileMapper.updateVendorProfileFromDTO(updateDTO, vendorProfile);
         
         VendorProfile savedProfile = vendorProfileRepository.save(vendorProfile);
+        cacheInvalidationService.entityChanged(VendorProfile.class, profileId);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.VENDORS));
         return vendorProfileMapper.toVendorProfileDTO(savedProfile);
     }
     
+    /**
+     * Upload a vendor profile picture. The image is stored between two short transactions, one
+     * checking ownership and one attaching it, so no connection is held while it is copied.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public VendorProfileDTO updateProfilePicture(Long profileId, MultipartFile image, Long userId) {
+        transactionTemplate.executeWithoutResult(status -> findOwnedProfile(profileId, userId,
+            "User is not authorized to update this vendor profile"));
+        
+        StoredImage storedImage = mediaService.storeImage(image);
+        return transactionTemplate.execute(status -> {
+            VendorProfile vendorProfile = findOwnedProfile(profileId, userId,
+                "User is not authorized to update this vendor profile");
+            vendorProfile.setProfilePic(storedImage.url());
+            vendorProfile.setProfilePicThumbnail(mediaService.getThumbnail(storedImage.url()));
+            
+            VendorProfile savedProfile = vendorProfileRepository.save(vendorProfile);
+            cacheInvalidationService.entityChanged(VendorProfile.class, profileId);
+            eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.VENDORS));
+            return vendorProfileMapper.toVendorProfileDTO(savedProfile);
+        });
+    }
+    
     /**
      * Get all vendor profiles with pagination.
      */
@@ -190,6 +247,8 @@ public class VendorService {
         }
         
         com.evently.model.Service savedService = serviceRepository.save(service);
+        serviceCollectionsChanged(savedService);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.VENDORS));
         return serviceMapper.toServiceDTO(savedService);
     }
     
@@ -205,6 +264,9 @@ public class VendorService {
             throw new IllegalArgumentException("User is not authorized to update this service");
         }
         
+        // A move to another category changes the services of both
+        ServiceCategory oldCategory = service.getCategory();
+        
         // Update service fields
         service.setTitle(serviceDTO.getTitle());
         service.setDescription(serviceDTO.getDescription());
@@ -219,6 +281,12 @@ public class VendorService {
         }
         
         com.evently.model.Service savedService = serviceRepository.save(service);
+        cacheInvalidationService.entityChanged(com.evently.model.Service.class, serviceId);
+        if (oldCategory != null && oldCategory != savedService.getCategory()) {
+            cacheInvalidationService.collectionChanged(ServiceCategory.class, "services", oldCategory.getId());
+        }
+        serviceCollectionsChanged(savedService);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.VENDORS));
         return serviceMapper.toServiceDTO(savedService);
     }
     
@@ -235,6 +303,19 @@ public class VendorService {
         }
         
         serviceRepository.delete(service);
+        cacheInvalidationService.entityChanged(com.evently.model.Service.class, serviceId);
+        serviceCollectionsChanged(service);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.VENDORS));
+    }
+    
+    /**
+     * Record that the cached service lists of a service's vendor and category changed.
+     */
+    private void serviceCollectionsChanged(com.evently.model.Service service) {
+        cacheInvalidationService.collectionChanged(VendorProfile.class, "services", service.getVendor().getId());
+        if (service.getCategory() != null) {
+            cacheInvalidationService.collectionChanged(ServiceCategory.class, "services", service.getCategory().getId());
+        }
     }
     
     /**
@@ -242,8 +323,15 @@ public class VendorService {
      */
     @Transactional(readOnly = true)
     public List<ServiceDTO> getServicesByVendor(Long vendorId) {
-        List<com.evently.model.Service> services = serviceRepository.findByVendorId(vendorId);
-        return serviceMapper.toServiceDTOList(services);
+        return serviceRepository.findDtosByVendorId(vendorId);
+    }
+    
+    /**
+     * ETag of a vendor's service list.
+     */
+    @Transactional(readOnly = true)
+    public String getServicesETag(Long vendorId) {
+        return ETags.of("services", vendorId, serviceRepository.findVersionByVendorId(vendorId).get(0));
     }
     
     /**
@@ -251,8 +339,7 @@ public class VendorService {
      */
     @Transactional(readOnly = true)
     public List<ServiceDTO> getServicesByCategory(Long categoryId) {
-        List<com.evently.model.Service> services = serviceRepository.findByCategoryId(categoryId);
-        return serviceMapper.toServiceDTOList(services);
+        return serviceRepository.findDtosByCategoryId(categoryId);
     }
     
     // Portfolio Management
@@ -271,11 +358,36 @@ public class VendorService {
         
         PortfolioItem portfolioItem = portfolioItemMapper.toPortfolioItem(portfolioItemDTO);
         portfolioItem.setVendor(vendorProfile);
+        portfolioItem.setImageThumbnail(mediaService.getThumbnail(portfolioItem.getImage()));
         
         PortfolioItem savedItem = portfolioItemRepository.save(portfolioItem);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.VENDORS));
         return portfolioItemMapper.toPortfolioItemDTO(savedItem);
     }
     
+    /**
+     * Upload an image as a new portfolio item. Stored outside any transaction, like a profile picture.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PortfolioItemDTO addPortfolioImage(Long vendorId, MultipartFile image, String description, Long userId) {
+        transactionTemplate.executeWithoutResult(status -> findOwnedProfile(vendorId, userId,
+            "User is not authorized to add portfolio items to this vendor profile"));
+        
+        StoredImage storedImage = mediaService.storeImage(image);
+        return transactionTemplate.execute(status -> {
+            PortfolioItem portfolioItem = new PortfolioItem();
+            portfolioItem.setVendor(findOwnedProfile(vendorId, userId,
+                "User is not authorized to add portfolio items to this vendor profile"));
+            portfolioItem.setDescription(description);
+            portfolioItem.setImage(storedImage.url());
+            portfolioItem.setImageThumbnail(mediaService.getThumbnail(storedImage.url()));
+            
+            PortfolioItem savedItem = portfolioItemRepository.save(portfolioItem);
+            eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.VENDORS));
+            return portfolioItemMapper.toPortfolioItemDTO(savedItem);
+        });
+    }
+    
     /**
      * Update portfolio item.
      */
@@ -290,8 +402,10 @@ public class VendorService {
         
         portfolioItem.setDescription(portfolioItemDTO.getDescription());
         portfolioItem.setImage(portfolioItemDTO.getImage());
+        portfolioItem.setImageThumbnail(mediaService.getThumbnail(portfolioItemDTO.getImage()));
         
         PortfolioItem savedItem = portfolioItemRepository.save(portfolioItem);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.VENDORS));
         return portfolioItemMapper.toPortfolioItemDTO(savedItem);
     }
     
@@ -308,6 +422,7 @@ public class VendorService {
         }
         
         portfolioItemRepository.delete(portfolioItem);
+        eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.VENDORS));
     }
     
     /**
@@ -315,10 +430,52 @@ public class VendorService {
      */
     @Transactional(readOnly = true)
     public List<PortfolioItemDTO> getPortfolioItemsByVendor(Long vendorId) {
-        List<PortfolioItem> items = portfolioItemRepository.findByVendorId(vendorId);
-        return portfolioItemMapper.toPortfolioItemDTOList(items);
+        return portfolioItemRepository.findDtosByVendorId(vendorId);
     }
     
+    /**
+     * ETag of a vendor's portfolio.
+     */
+    @Transactional(readOnly = true)
+    public String getPortfolioETag(Long vendorId) {
+        return ETags.of("portfolio", vendorId, portfolioItemRepository.findVersionByVendorId(vendorId).get(0));
+    }
+
+    /**
+     * Attach a generated thumbnail to every portfolio item and profile showing its image.
+     */
+    @EventListener
+    public void onThumbnailReady(ThumbnailReadyEvent event) {
+        boolean changed = false;
+        for (PortfolioItem portfolioItem : portfolioItemRepository.findByImage(event.getImage())) {
+            if (!event.getThumbnail().equals(portfolioItem.getImageThumbnail())) {
+                portfolioItem.setImageThumbnail(event.getThumbnail());
+                changed = true;
+            }
+        }
+        for (VendorProfile vendorProfile : vendorProfileRepository.findByProfilePic(event.getImage())) {
+            if (!event.getThumbnail().equals(vendorProfile.getProfilePicThumbnail())) {
+                vendorProfile.setProfilePicThumbnail(event.getThumbnail());
+                cacheInvalidationService.entityChanged(VendorProfile.class, vendorProfile.getId());
+                changed = true;
+            }
+        }
+        if (changed) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(Catalog.VENDORS));
+        }
+    }
+
+    private VendorProfile findOwnedProfile(Long profileId, Long userId, String notAuthorized) {
+        VendorProfile vendorProfile = vendorProfileRepository.findById(profileId)
+                .orElseThrow(() -> new IllegalArgumentException("Vendor profile not found: " + profileId));
+        
+        // Check if the user owns this profile
+        if (!vendorProfile.getUser().getId().equals(userId)) {
+            throw new IllegalArgumentException(notAuthorized);
+        }
+        return vendorProfile;
+    }
+
     // Review Management
     
     /**
@@ -341,6 +498,7 @@ public class VendorService {
         review.setUser(customer);
         
         Review savedReview = reviewRepository.save(review);
+        eventPublisher.publishEvent(new ReviewChangedEvent(savedReview.getId(), vendorId, null, savedReview.getRating()));
         return reviewMapper.toReviewDTO(savedReview);
     }
     
@@ -356,10 +514,12 @@ public class VendorService {
             throw new IllegalArgumentException("User is not authorized to update this review");
         }
         
+        Integer oldRating = review.getRating();
         review.setRating(reviewDTO.getRating());
         review.setComment(reviewDTO.getComment());
         
         Review savedReview = reviewRepository.save(review);
+        eventPublisher.publishEvent(new ReviewChangedEvent(reviewId, review.getVendor().getId(), oldRating, savedReview.getRating()));
         return reviewMapper.toReviewDTO(savedReview);
     }
     
@@ -376,6 +536,7 @@ public class VendorService {
         }
         
         reviewRepository.delete(review);
+        eventPublisher.publishEvent(new ReviewChangedEvent(reviewId, review.getVendor().getId(), review.getRating(), null));
     }
     
     /**
@@ -383,8 +544,7 @@ public class VendorService {
      */
     @Transactional(readOnly = true)
     public List<ReviewDTO> getReviewsByVendor(Long vendorId) {
-        List<Review> reviews = reviewRepository.findByVendorId(vendorId);
-        return reviewMapper.toReviewDTOList(reviews);
+        return reviewRepository.findDtosByVendorId(vendorId);
     }
     
     /**
@@ -392,8 +552,7 @@ public class VendorService {
      */
     @Transactional(readOnly = true)
     public List<ReviewDTO> getReviewsByVendorAndRating(Long vendorId, Integer rating) {
-        List<Review> reviews = reviewRepository.findByVendorIdAndRating(vendorId, rating);
-        return reviewMapper.toReviewDTOList(reviews);
+        return reviewRepository.findDtosByVendorIdAndRating(vendorId, rating);
     }
     
     /**
@@ -0,0 +1,31 @@
+package com.evently.service.event;
+
+import com.evently.model.VendorBooking.BookingStatus;
+
+/**
+ * Published when a vendor booking is created, changes status or is deleted.
+ * The old status is null for a new booking and the new status is null for a deleted one.
+ */
+public class BookingStatusChangedEvent {
+
+    private final Long bookingId;
+    private final Long vendorId;
+    private final Long eventId;
+    private final BookingStatus oldStatus;
+    private final BookingStatus newStatus;
+
+    public BookingStatusChangedEvent(Long bookingId, Long vendorId, Long eventId,
+                                     BookingStatus oldStatus, BookingStatus newStatus) {
+        this.bookingId = bookingId;
+        this.vendorId = vendorId;
+        this.eventId = eventId;
+        this.oldStatus = oldStatus;
+        this.newStatus = newStatus;
+    }
+
+    public Long getBookingId() { return bookingId; }
+    public Long getVendorId() { return vendorId; }
+    public Long getEventId() { return eventId; }
+    public BookingStatus getOldStatus() { return oldStatus; }
+    public BookingStatus getNewStatus() { return newStatus; }
+}
@@ -0,0 +1,18 @@
+package com.evently.service.event;
+
+import com.evently.catalog.Catalog;
+
+/**
+ * Published when a write changes data shown in a public catalog listing
+ * (vendor profiles with their services, portfolio and reviews, or events with their counts).
+ */
+public class CatalogChangedEvent {
+
+    private final Catalog catalog;
+
+    public CatalogChangedEvent(Catalog catalog) {
+        this.catalog = catalog;
+    }
+
+    public Catalog getCatalog() { return catalog; }
+}
@@ -0,0 +1,27 @@
+package com.evently.service.event;
+
+import com.evently.model.Guest.RsvpStatus;
+
+/**
+ * Published when a guest is added to an event, changes their RSVP status or is removed.
+ * The old status is null for a new guest and the new status is null for a removed one.
+ */
+public class GuestRsvpChangedEvent {
+
+    private final Long guestId;
+    private final Long eventId;
+    private final RsvpStatus oldStatus;
+    private final RsvpStatus newStatus;
+
+    public GuestRsvpChangedEvent(Long guestId, Long eventId, RsvpStatus oldStatus, RsvpStatus newStatus) {
+        this.guestId = guestId;
+        this.eventId = eventId;
+        this.oldStatus = oldStatus;
+        this.newStatus = newStatus;
+    }
+
+    public Long getGuestId() { return guestId; }
+    public Long getEventId() { return eventId; }
+    public RsvpStatus getOldStatus() { return oldStatus; }
+    public RsvpStatus getNewStatus() { return newStatus; }
+}
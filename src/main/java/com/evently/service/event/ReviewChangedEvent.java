@@ -0,0 +1,25 @@
+package com.evently.service.event;
+
+/**
+ * Published when a review is added, re-rated or deleted.
+ * The old rating is null for a new review and the new rating is null for a deleted one.
+ */
+public class ReviewChangedEvent {
+
+    private final Long reviewId;
+    private final Long vendorId;
+    private final Integer oldRating;
+    private final Integer newRating;
+
+    public ReviewChangedEvent(Long reviewId, Long vendorId, Integer oldRating, Integer newRating) {
+        this.reviewId = reviewId;
+        this.vendorId = vendorId;
+        this.oldRating = oldRating;
+        this.newRating = newRating;
+    }
+
+    public Long getReviewId() { return reviewId; }
+    public Long getVendorId() { return vendorId; }
+    public Integer getOldRating() { return oldRating; }
+    public Integer getNewRating() { return newRating; }
+}
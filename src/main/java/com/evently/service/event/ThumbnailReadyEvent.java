@@ -0,0 +1,18 @@
+package com.evently.service.event;
+
+/**
+ * Published by the thumbnail workers when the thumbnail of a stored image has been written.
+ */
+public class ThumbnailReadyEvent {
+
+    private final String image;
+    private final String thumbnail;
+
+    public ThumbnailReadyEvent(String image, String thumbnail) {
+        this.image = image;
+        this.thumbnail = thumbnail;
+    }
+
+    public String getImage() { return image; }
+    public String getThumbnail() { return thumbnail; }
+}
@@ -0,0 +1,178 @@
+package com.evently.sharding;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.evently.model.Service;
+import com.evently.model.ServiceCategory;
+import com.evently.model.User;
+import com.evently.model.VendorProfile;
+
+/**
+ * Keeps the shards' copies of the shared tables (users, service categories, vendor profiles and
+ * services) in line with the shared database, which stays their only writer.
+ *
+ * Registered with Hibernate, it copies a row to every shard once a write to it commits, reading
+ * the committed row back rather than trusting the entity. A full copy at startup picks up what
+ * was missed (writes while a shard was down, or by another node before this one started).
+ * Copies are upserts keyed by id in foreign key order; rows deleted while a node was down are
+ * not removed by the full copy.
+ */
+public class ReferenceDataReplicator implements Integrator, PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataReplicator.class);
+
+    // Shared tables by the entity mapped to them, referenced tables first
+    static final Map<Class<?>, String> TABLES = new LinkedHashMap<>();
+    static {
+        TABLES.put(User.class, "users_user");
+        TABLES.put(ServiceCategory.class, "vendors_servicecategory");
+        TABLES.put(VendorProfile.class, "vendors_vendorprofile");
+        TABLES.put(Service.class, "vendors_service");
+    }
+
+    private final JdbcTemplate global;
+    private final List<JdbcTemplate> shards;
+    private final int batchSize;
+
+    public ReferenceDataReplicator(DataSource global, List<? extends DataSource> shards, int batchSize) {
+        this.global = new JdbcTemplate(global);
+        this.shards = shards.stream().map(JdbcTemplate::new).toList();
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry listeners = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        listeners.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        listeners.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return TABLES.containsKey(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        copy(TABLES.get(event.getPersister().getMappedClass()), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        copy(TABLES.get(event.getPersister().getMappedClass()), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        copy(TABLES.get(event.getPersister().getMappedClass()), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    /**
+     * Copy every shared row to every shard, a batch at a time in id order.
+     */
+    public void copyAll() {
+        for (String table : TABLES.values()) {
+            long after = 0;
+            List<Map<String, Object>> rows;
+            int copied = 0;
+            do {
+                rows = global.queryForList("SELECT * FROM " + table + " WHERE id > ? ORDER BY id LIMIT " + batchSize, after);
+                for (Map<String, Object> row : rows) {
+                    for (int shard = 0; shard < shards.size(); shard++) {
+                        upsert(shard, table, row);
+                    }
+                    after = ((Number) row.get("id")).longValue();
+                }
+                copied += rows.size();
+            } while (rows.size() == batchSize);
+            logger.debug("Copied {} rows of {} to {} shards", copied, table, shards.size());
+        }
+    }
+
+    /**
+     * Make every shard's copy of a row match the shared database: upserted, or deleted if gone.
+     */
+    private void copy(String table, Object id) {
+        List<Map<String, Object>> rows = global.queryForList("SELECT * FROM " + table + " WHERE id = ?", id);
+        for (int shard = 0; shard < shards.size(); shard++) {
+            if (rows.isEmpty()) {
+                delete(shard, table, id);
+            } else {
+                upsert(shard, table, rows.get(0));
+            }
+        }
+    }
+
+    private void upsert(int shard, String table, Map<String, Object> row) {
+        List<String> columns = new ArrayList<>(row.keySet());
+        List<String> values = columns.stream().filter(column -> !column.equalsIgnoreCase("id")).toList();
+        List<Object> args = new ArrayList<>();
+        values.forEach(column -> args.add(row.get(column)));
+        args.add(row.get("id"));
+        try {
+            int updated = shards.get(shard).update("UPDATE " + table + " SET "
+                    + values.stream().map(column -> column + " = ?").collect(Collectors.joining(", "))
+                    + " WHERE id = ?", args.toArray());
+            if (updated == 0) {
+                shards.get(shard).update("INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                        + columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")",
+                        columns.stream().map(row::get).toArray());
+            }
+        } catch (DataAccessException e) {
+            // Copied again by the full copy of the next start
+            logger.warn("Could not copy {} {} to shard {}: {}", table, row.get("id"), shard, e.getMessage());
+        }
+    }
+
+    private void delete(int shard, String table, Object id) {
+        try {
+            shards.get(shard).update("DELETE FROM " + table + " WHERE id = ?", id);
+        } catch (DataAccessException e) {
+            // Still referenced by the shard's events, guests or bookings
+            logger.warn("Could not delete {} {} from shard {}: {}", table, id, shard, e.getMessage());
+        }
+    }
+}
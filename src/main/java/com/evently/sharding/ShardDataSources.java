@@ -0,0 +1,97 @@
+package com.evently.sharding;
+
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * The connection pools of the shards, with the schema each one needs.
+ *
+ * Every shard has the full schema: the event tables hold its planners' data, the shared tables a
+ * copy kept by ReferenceDataReplicator for foreign keys and joins. Shard k of n hands out event,
+ * guest and booking ids equal to k modulo n, which ShardRouter reads the shard back from: on H2
+ * the identity columns are restarted with increment n, on MySQL the pool sets
+ * auto_increment_increment and auto_increment_offset on every connection.
+ */
+public class ShardDataSources implements AutoCloseable {
+
+    // Tables whose ids encode their shard; archived rows keep their ids
+    static final List<String> SHARDED_TABLES = List.of("events_event", "events_guest", "events_vendorbooking");
+
+    private final List<HikariDataSource> shards;
+
+    public ShardDataSources(List<HikariDataSource> shards) {
+        this.shards = List.copyOf(shards);
+    }
+
+    public List<HikariDataSource> getShards() {
+        return shards;
+    }
+
+    /**
+     * Session settings making MySQL connections of a shard hand out its ids.
+     */
+    public static String mysqlIdentitySql(int shard, int shardCount) {
+        // The offset must be between 1 and the increment; an offset of n gives the multiples of n
+        return "SET SESSION auto_increment_increment = " + shardCount
+                + ", auto_increment_offset = " + (shard == 0 ? shardCount : shard);
+    }
+
+    /**
+     * Apply the migrations of the shared database to every shard.
+     *
+     * @param locations spring.flyway.locations, {vendor} resolved per shard
+     */
+    public void migrate(String locations, boolean baselineOnMigrate, String baselineVersion) {
+        for (HikariDataSource shard : shards) {
+            FluentConfiguration flyway = Flyway.configure()
+                    .dataSource(shard)
+                    .locations(locations.replace("{vendor}", vendor(shard)).split(","))
+                    .baselineOnMigrate(baselineOnMigrate)
+                    .baselineVersion(baselineVersion);
+            flyway.load().migrate();
+        }
+    }
+
+    /**
+     * Restart the identity columns of the sharded tables of H2 shards so each hands out its own
+     * residue. Tables already stepping by the shard count are left alone, so restarts keep going
+     * from where they were.
+     */
+    public void strideIdentities() {
+        int shardCount = shards.size();
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (DatabaseDriver.fromJdbcUrl(shards.get(shard).getJdbcUrl()) != DatabaseDriver.H2) {
+                continue;
+            }
+            JdbcTemplate jdbc = new JdbcTemplate(shards.get(shard));
+            for (String table : SHARDED_TABLES) {
+                Long increment = jdbc.queryForObject("SELECT IDENTITY_INCREMENT FROM INFORMATION_SCHEMA.COLUMNS "
+                        + "WHERE LOWER(TABLE_NAME) = ? AND LOWER(COLUMN_NAME) = 'id'", Long.class, table);
+                if (increment != null && increment == shardCount) {
+                    continue;
+                }
+                long used = jdbc.queryForObject("SELECT GREATEST(COALESCE((SELECT MAX(id) FROM " + table + "), 0), "
+                        + "COALESCE((SELECT MAX(id) FROM " + table + "_archive), 0))", Long.class);
+                long next = used + 1 + Math.floorMod(shard - (used + 1), (long) shardCount);
+                jdbc.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next
+                        + " SET INCREMENT BY " + shardCount);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(HikariDataSource::close);
+    }
+
+    private static String vendor(HikariDataSource shard) {
+        DatabaseDriver driver = DatabaseDriver.fromJdbcUrl(shard.getJdbcUrl());
+        return driver.getId();
+    }
+}
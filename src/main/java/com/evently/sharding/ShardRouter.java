@@ -0,0 +1,361 @@
+package com.evently.sharding;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Decides which database the event-scoped data (events, guests, vendor bookings) of the current
+ * transaction lives in, when app.sharding.shard-urls lists more than one database.
+ *
+ * A planner's events are placed on a shard by a jump consistent hash of the planner id. Guests and
+ * bookings live on the shard of their event, and every shard hands out ids of its own residue
+ * modulo the shard count (see ShardDataSources), so the shard of an event, guest or booking is
+ * its id modulo the shard count. The shard count is therefore fixed once data has been written.
+ *
+ * Services route a transaction before its first statement; ShardRoutingDataSource picks the
+ * connection when the first statement runs. Views across planners (a vendor's bookings, upcoming
+ * events) are gathered from every shard in parallel, each in a read-only transaction of its own,
+ * and merged in the order the query sorts by.
+ *
+ * With sharding off every method runs its work in place, on the single database.
+ */
+@Component
+public class ShardRouter {
+
+    /**
+     * The shared database holding users, vendors and their services.
+     */
+    public static final int GLOBAL = -1;
+
+    // Transaction resource holding the shard the current transaction is routed to
+    private static final Object ROUTING_KEY = new Object();
+
+    private final int shardCount;
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+    private final ThreadPoolExecutor gatherers;
+    private final Duration gatherTimeout;
+
+    public ShardRouter(ObjectProvider<PlatformTransactionManager> transactionManager,
+                       @Value("${app.sharding.shard-urls:}") List<String> shardUrls,
+                       @Value("${app.sharding.gather-threads:16}") int gatherThreads,
+                       @Value("${app.sharding.gather-queue-capacity:200}") int gatherQueueCapacity,
+                       @Value("${app.sharding.gather-timeout:5s}") Duration gatherTimeout) {
+        this.shardCount = shardUrls.size();
+        this.transactionManager = transactionManager;
+        this.gatherTimeout = gatherTimeout;
+        this.gatherers = shardCount == 0 ? null
+                : new ThreadPoolExecutor(gatherThreads, gatherThreads, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(gatherQueueCapacity), new CustomizableThreadFactory("shard-gather-"),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (gatherers != null) {
+            gatherers.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return shardCount > 0;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * The databases holding event-scoped data: every shard, or just the single database.
+     */
+    public List<Integer> shards() {
+        return isEnabled() ? IntStream.range(0, shardCount).boxed().toList() : List.of(GLOBAL);
+    }
+
+    /**
+     * The shared database followed by every shard, or just the single database.
+     */
+    public List<Integer> databases() {
+        List<Integer> databases = new ArrayList<>();
+        databases.add(GLOBAL);
+        if (isEnabled()) {
+            databases.addAll(shards());
+        }
+        return databases;
+    }
+
+    /**
+     * Shard holding the events of a planner.
+     */
+    public int shardOfPlanner(long plannerId) {
+        return jumpHash(plannerId, shardCount);
+    }
+
+    /**
+     * Shard holding the event, guest or booking with this id.
+     */
+    public int shardOfId(long id) {
+        return (int) Math.floorMod(id, (long) shardCount);
+    }
+
+    /**
+     * Route the current transaction to the shard of a planner's events.
+     */
+    public void routeToPlanner(Long plannerId) {
+        if (isEnabled() && plannerId != null) {
+            routeTo(shardOfPlanner(plannerId));
+        }
+    }
+
+    /**
+     * Route the current transaction to the shard of an event, guest or booking.
+     */
+    public void routeToShardOf(Long id) {
+        if (isEnabled() && id != null) {
+            routeTo(shardOfId(id));
+        }
+    }
+
+    /**
+     * Route the current transaction to a shard, or GLOBAL. Must be called before its first
+     * statement; the routing ends when it commits or rolls back.
+     */
+    public void routeTo(int shard) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("No transaction to route to shard " + shard);
+        }
+        Integer routed = (Integer) TransactionSynchronizationManager.getResource(ROUTING_KEY);
+        if (routed != null) {
+            if (routed != shard) {
+                throw new IllegalStateException("Transaction is on shard " + routed + ", cannot move it to " + shard);
+            }
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(ROUTING_KEY, shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                // Before after-commit listeners, whose own transactions are not on this shard
+                return HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ROUTING_KEY);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ROUTING_KEY);
+            }
+        });
+    }
+
+    /**
+     * Shard the current transaction is routed to, GLOBAL if none.
+     */
+    static int currentShard() {
+        Integer routed = (Integer) TransactionSynchronizationManager.getResource(ROUTING_KEY);
+        return routed != null ? routed : GLOBAL;
+    }
+
+    /**
+     * Run work in a new transaction on a shard (or GLOBAL), whatever the current transaction is
+     * routed to. Scheduled jobs use this to take one shard at a time. With sharding off the work
+     * runs in place.
+     */
+    public <T> T inTransaction(int shard, boolean readOnly, Supplier<T> work) {
+        return inTransaction(shard, newTransaction(readOnly), work);
+    }
+
+    private <T> T inTransaction(int shard, TransactionTemplate transaction, Supplier<T> work) {
+        if (!isEnabled()) {
+            return work.get();
+        }
+        // Resources are not suspended with the transaction; hand the outer routing back afterwards
+        Object outer = TransactionSynchronizationManager.unbindResourceIfPossible(ROUTING_KEY);
+        try {
+            return transaction.execute(status -> {
+                routeTo(shard);
+                return work.get();
+            });
+        } finally {
+            if (outer != null) {
+                TransactionSynchronizationManager.bindResource(ROUTING_KEY, outer);
+            }
+        }
+    }
+
+    /**
+     * Run a read-only query on every shard in parallel, one result per shard in shard order.
+     * With sharding off the query runs once, in the current transaction.
+     *
+     * Each part takes a connection of its shard, so this must not be called by a transaction that
+     * already holds a shard connection: enough such callers would wait on each other's pools.
+     *
+     * @throws IllegalStateException if a shard does not answer within the gather timeout
+     */
+    public <T> List<T> gather(Supplier<T> query) {
+        if (!isEnabled()) {
+            return List.of(query.get());
+        }
+        // A timed out part is not stopped by giving up on its future; the statement timeout of its
+        // transaction ends the query, so the shard's connection and the gatherer are given back
+        TransactionTemplate transaction = newTransaction(true);
+        transaction.setTimeout((int) Math.max(1, (gatherTimeout.toMillis() + 999) / 1000));
+        List<CompletableFuture<T>> parts = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            parts.add(CompletableFuture.supplyAsync(() -> inTransaction(target, transaction, query), gatherers)
+                    .orTimeout(gatherTimeout.toMillis(), TimeUnit.MILLISECONDS));
+        }
+        List<T> results = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            try {
+                results.add(parts.get(shard).join());
+            } catch (CompletionException e) {
+                parts.forEach(part -> part.cancel(true));
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException("Shard " + shard + " did not answer within " + gatherTimeout, e.getCause());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Gather a list sorted by order from every shard, merged into one list sorted the same way.
+     */
+    public <T> List<T> gatherSorted(Supplier<List<T>> query, Comparator<? super T> order) {
+        List<List<T>> parts = gather(query);
+        return parts.size() == 1 ? parts.get(0) : mergeSorted(parts, order);
+    }
+
+    /**
+     * Gather an unordered list from every shard.
+     */
+    public <T> List<T> gatherAll(Supplier<List<T>> query) {
+        List<List<T>> parts = gather(query);
+        return parts.size() == 1 ? parts.get(0) : parts.stream().flatMap(List::stream).toList();
+    }
+
+    /**
+     * Gather a page across shards: each shard is asked for everything up to the end of the page in
+     * the requested order (id when unsorted), the results are merged and the page cut from them.
+     * Deep pages cost every shard the rows before them.
+     */
+    public <T> Page<T> gatherPage(Pageable pageable, Function<Pageable, Page<T>> query) {
+        if (!isEnabled()) {
+            return query.apply(pageable);
+        }
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : Sort.by("id");
+        Pageable upToPage = pageable.isPaged()
+                ? PageRequest.of(0, (int) pageable.getOffset() + pageable.getPageSize(), sort)
+                : Pageable.unpaged(sort);
+        List<Page<T>> parts = gather(() -> query.apply(upToPage));
+        List<T> merged = mergeSorted(parts.stream().map(Page::getContent).toList(), comparator(sort));
+        long total = parts.stream().mapToLong(Page::getTotalElements).sum();
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(merged, pageable, total);
+        }
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        int to = Math.min(from + pageable.getPageSize(), merged.size());
+        return new PageImpl<>(merged.subList(from, to), pageable, total);
+    }
+
+    /**
+     * k-way merge of lists each sorted by order.
+     */
+    static <T> List<T> mergeSorted(List<List<T>> sortedParts, Comparator<? super T> order) {
+        // Heads of the parts as [part, index], smallest element first; ties keep shard order
+        PriorityQueue<int[]> heads = new PriorityQueue<>((a, b) -> {
+            int byOrder = order.compare(sortedParts.get(a[0]).get(a[1]), sortedParts.get(b[0]).get(b[1]));
+            return byOrder != 0 ? byOrder : Integer.compare(a[0], b[0]);
+        });
+        int size = 0;
+        for (int part = 0; part < sortedParts.size(); part++) {
+            size += sortedParts.get(part).size();
+            if (!sortedParts.get(part).isEmpty()) {
+                heads.add(new int[] {part, 0});
+            }
+        }
+        List<T> merged = new ArrayList<>(size);
+        while (!heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<T> part = sortedParts.get(head[0]);
+            merged.add(part.get(head[1]));
+            if (head[1] + 1 < part.size()) {
+                heads.add(new int[] {head[0], head[1] + 1});
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Order of a Sort applied to the properties of the query's results, nulls first as in H2 and MySQL.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T> Comparator<T> comparator(Sort sort) {
+        Comparator<T> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<T> byProperty = Comparator.comparing(
+                    element -> (Comparable) new BeanWrapperImpl(element).getPropertyValue(order.getProperty()),
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            comparator = comparator.thenComparing(order.isAscending() ? byProperty : byProperty.reversed());
+        }
+        return comparator;
+    }
+
+    /**
+     * Jump consistent hash (Lamping and Veach): an even spread over the buckets.
+     */
+    static int jumpHash(long key, int buckets) {
+        long bucket = -1;
+        long next = 0;
+        while (next < buckets) {
+            bucket = next;
+            key = key * 2862933555777941757L + 1;
+            next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
+
+    private TransactionTemplate newTransaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager.getObject());
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(readOnly);
+        return template;
+    }
+}
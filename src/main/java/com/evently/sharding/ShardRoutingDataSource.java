@@ -0,0 +1,36 @@
+package com.evently.sharding;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Routes connections to the shard the current transaction was routed to by ShardRouter, and
+ * everything else to the shared database.
+ *
+ * The lookup happens when a physical connection is requested, so this must sit behind a
+ * LazyConnectionDataSourceProxy for routing done at the start of a transaction to be visible.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    public ShardRoutingDataSource(DataSource global, List<? extends DataSource> shards) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ShardRouter.GLOBAL, global);
+        for (int shard = 0; shard < shards.size(); shard++) {
+            targets.put(shard, shards.get(shard));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(global);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardRouter.currentShard();
+    }
+}
@@ -0,0 +1,129 @@
+-- ===============================================================================
+-- Baseline schema (H2)
+-- Mirrors the JPA mappings in com.evently.model; table and column names follow the
+-- original Django schema. Secondary indexes live in V2 so databases baselined from
+-- an existing ddl-auto schema still receive them.
+-- ===============================================================================
+
+CREATE TABLE users_user (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    username    VARCHAR(150) NOT NULL,
+    password    VARCHAR(128) NOT NULL,
+    first_name  VARCHAR(150),
+    last_name   VARCHAR(150),
+    email       VARCHAR(254),
+    is_active   BOOLEAN,
+    last_login  TIMESTAMP(6),
+    date_joined TIMESTAMP(6),
+    is_vendor   BOOLEAN,
+    is_planner  BOOLEAN,
+    CONSTRAINT pk_users_user PRIMARY KEY (id),
+    CONSTRAINT uq_users_user_username UNIQUE (username),
+    CONSTRAINT uq_users_user_email UNIQUE (email)
+);
+
+CREATE TABLE vendors_servicecategory (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name        VARCHAR(100) NOT NULL,
+    description TEXT,
+    CONSTRAINT pk_vendors_servicecategory PRIMARY KEY (id),
+    CONSTRAINT uq_vendors_servicecategory_name UNIQUE (name)
+);
+
+CREATE TABLE vendors_vendorprofile (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id       BIGINT NOT NULL,
+    business_name VARCHAR(255) NOT NULL,
+    description   TEXT,
+    location      VARCHAR(255),
+    contact_info  VARCHAR(255),
+    profile_pic   VARCHAR(255),
+    is_verified   BOOLEAN,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_vendors_vendorprofile PRIMARY KEY (id),
+    CONSTRAINT uq_vendors_vendorprofile_user UNIQUE (user_id),
+    CONSTRAINT fk_vendorprofile_user FOREIGN KEY (user_id) REFERENCES users_user (id)
+);
+
+CREATE TABLE vendors_service (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    vendor_id          BIGINT NOT NULL,
+    category_id        BIGINT,
+    title              VARCHAR(255) NOT NULL,
+    description        TEXT NOT NULL,
+    price              NUMERIC(10, 2) NOT NULL,
+    availability_notes TEXT,
+    created_at         TIMESTAMP(6) NOT NULL,
+    updated_at         TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_vendors_service PRIMARY KEY (id),
+    CONSTRAINT fk_service_vendor FOREIGN KEY (vendor_id) REFERENCES vendors_vendorprofile (id),
+    CONSTRAINT fk_service_category FOREIGN KEY (category_id) REFERENCES vendors_servicecategory (id)
+);
+
+CREATE TABLE vendors_portfolioitem (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    vendor_id   BIGINT NOT NULL,
+    image       VARCHAR(255),
+    description VARCHAR(255),
+    created_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_vendors_portfolioitem PRIMARY KEY (id),
+    CONSTRAINT fk_portfolioitem_vendor FOREIGN KEY (vendor_id) REFERENCES vendors_vendorprofile (id)
+);
+
+CREATE TABLE vendors_review (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    vendor_id  BIGINT NOT NULL,
+    user_id    BIGINT NOT NULL,
+    rating     INTEGER NOT NULL,
+    comment    TEXT,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_vendors_review PRIMARY KEY (id),
+    CONSTRAINT ck_vendors_review_rating CHECK (rating BETWEEN 1 AND 5),
+    CONSTRAINT fk_review_vendor FOREIGN KEY (vendor_id) REFERENCES vendors_vendorprofile (id),
+    CONSTRAINT fk_review_user FOREIGN KEY (user_id) REFERENCES users_user (id)
+);
+
+CREATE TABLE events_event (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    planner_id  BIGINT NOT NULL,
+    title       VARCHAR(255) NOT NULL,
+    description TEXT,
+    date        TIMESTAMP(6) NOT NULL,
+    location    VARCHAR(255) NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_events_event PRIMARY KEY (id),
+    CONSTRAINT fk_event_planner FOREIGN KEY (planner_id) REFERENCES users_user (id)
+);
+
+CREATE TABLE events_guest (
+    id                   BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    event_id             BIGINT NOT NULL,
+    user_id              BIGINT,
+    name                 VARCHAR(255),
+    email                VARCHAR(254) NOT NULL,
+    phone                VARCHAR(20),
+    rsvp_status          ENUM('ATTENDING', 'DECLINED', 'INVITED', 'WAITLIST') NOT NULL,
+    dietary_restrictions TEXT,
+    created_at           TIMESTAMP(6) NOT NULL,
+    updated_at           TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_events_guest PRIMARY KEY (id),
+    CONSTRAINT fk_guest_event FOREIGN KEY (event_id) REFERENCES events_event (id),
+    CONSTRAINT fk_guest_user FOREIGN KEY (user_id) REFERENCES users_user (id)
+);
+
+CREATE TABLE events_vendorbooking (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    event_id   BIGINT NOT NULL,
+    vendor_id  BIGINT NOT NULL,
+    service_id BIGINT NOT NULL,
+    status     ENUM('CANCELLED', 'COMPLETED', 'CONFIRMED', 'PENDING') NOT NULL,
+    notes      TEXT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_events_vendorbooking PRIMARY KEY (id),
+    CONSTRAINT fk_vendorbooking_event FOREIGN KEY (event_id) REFERENCES events_event (id),
+    CONSTRAINT fk_vendorbooking_vendor FOREIGN KEY (vendor_id) REFERENCES vendors_vendorprofile (id),
+    CONSTRAINT fk_vendorbooking_service FOREIGN KEY (service_id) REFERENCES vendors_service (id)
+);
@@ -0,0 +1,16 @@
+-- ===============================================================================
+-- Last-modified timestamps on the remaining tables whose rows appear in API
+-- representations, so their ETags can be computed from version queries alone.
+-- Existing rows start at their creation time.
+-- ===============================================================================
+
+ALTER TABLE users_user ADD COLUMN updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP NOT NULL;
+UPDATE users_user SET updated_at = date_joined WHERE date_joined IS NOT NULL;
+
+ALTER TABLE vendors_servicecategory ADD COLUMN updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP NOT NULL;
+
+ALTER TABLE vendors_portfolioitem ADD COLUMN updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP NOT NULL;
+UPDATE vendors_portfolioitem SET updated_at = created_at;
+
+ALTER TABLE vendors_review ADD COLUMN updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP NOT NULL;
+UPDATE vendors_review SET updated_at = created_at;
@@ -0,0 +1,13 @@
+-- ===============================================================================
+-- Thumbnails of uploaded images. Uploads are stored content-addressed, so one
+-- stored image may back several rows; a generated thumbnail is attached to every
+-- row referencing its image, looked up through the indexes below.
+-- ===============================================================================
+
+ALTER TABLE vendors_portfolioitem ADD COLUMN image_thumbnail VARCHAR(255);
+ALTER TABLE vendors_vendorprofile ADD COLUMN profile_pic_thumbnail VARCHAR(255);
+
+-- PortfolioItemRepository: findByImage
+CREATE INDEX idx_portfolioitem_image ON vendors_portfolioitem (image);
+-- VendorProfileRepository: findByProfilePic
+CREATE INDEX idx_vendorprofile_profile_pic ON vendors_vendorprofile (profile_pic);
@@ -0,0 +1,28 @@
+-- ===============================================================================
+-- Transactional outbox for notifications (see OutboxService). Rows are written in
+-- the transaction that changes a booking or RSVP, one per sink, and delivered by
+-- NotificationDispatcher afterwards. The idempotency key is sent along so that a
+-- redelivery after a crash can be recognised by the receiver.
+-- ===============================================================================
+
+CREATE TABLE notification_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    idempotency_key VARCHAR(150) NOT NULL,
+    sink            VARCHAR(20) NOT NULL,
+    type            VARCHAR(50) NOT NULL,
+    aggregate_id    BIGINT NOT NULL,
+    recipient       VARCHAR(254),
+    subject         VARCHAR(255) NOT NULL,
+    body            TEXT NOT NULL,
+    status          ENUM('FAILED', 'PENDING', 'SENT') NOT NULL,
+    attempts        INT NOT NULL,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    last_error      VARCHAR(500),
+    created_at      TIMESTAMP(6) NOT NULL,
+    sent_at         TIMESTAMP(6),
+    CONSTRAINT pk_notification_outbox PRIMARY KEY (id),
+    CONSTRAINT uq_notification_outbox_idempotency_key UNIQUE (idempotency_key)
+);
+
+-- OutboxMessageRepository: findDue (poller), deleteSentBefore (retention)
+CREATE INDEX idx_notification_outbox_status_next_attempt ON notification_outbox (status, next_attempt_at);
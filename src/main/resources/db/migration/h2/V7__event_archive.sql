@@ -0,0 +1,51 @@
+-- ===============================================================================
+-- Cold storage for past events (see EventArchiveService). Events older than the
+-- retention window are moved here with their guests and vendor bookings, in
+-- chunks, keeping their ids so that /api/events/{id} can still resolve them.
+-- Archived rows are never updated. There are no foreign keys: the rows are
+-- copies of rows that were already consistent, and are only read by id.
+-- ===============================================================================
+
+CREATE TABLE events_event_archive (
+    id           BIGINT NOT NULL,
+    planner_id   BIGINT NOT NULL,
+    title        VARCHAR(255) NOT NULL,
+    description  TEXT,
+    date         TIMESTAMP(6) NOT NULL,
+    location     VARCHAR(255) NOT NULL,
+    guest_count  INT NOT NULL,
+    vendor_count INT NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL,
+    archived_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_events_event_archive PRIMARY KEY (id)
+);
+
+CREATE TABLE events_guest_archive (
+    id                   BIGINT NOT NULL,
+    event_id             BIGINT NOT NULL,
+    user_id              BIGINT,
+    name                 VARCHAR(255),
+    email                VARCHAR(254) NOT NULL,
+    phone                VARCHAR(20),
+    rsvp_status          ENUM('ATTENDING', 'DECLINED', 'INVITED', 'WAITLIST') NOT NULL,
+    dietary_restrictions TEXT,
+    created_at           TIMESTAMP(6) NOT NULL,
+    updated_at           TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_events_guest_archive PRIMARY KEY (id)
+);
+
+CREATE TABLE events_vendorbooking_archive (
+    id         BIGINT NOT NULL,
+    event_id   BIGINT NOT NULL,
+    vendor_id  BIGINT NOT NULL,
+    service_id BIGINT NOT NULL,
+    status     ENUM('CANCELLED', 'COMPLETED', 'CONFIRMED', 'PENDING') NOT NULL,
+    notes      TEXT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_events_vendorbooking_archive PRIMARY KEY (id)
+);
+
+-- ArchivedBookingRepository: booking counts for the vendor leaderboard
+CREATE INDEX idx_booking_archive_vendor_status ON events_vendorbooking_archive (vendor_id, status);
@@ -0,0 +1,51 @@
+-- ===============================================================================
+-- Secondary indexes matched to the repository queries (MySQL)
+-- Composite indexes lead with the equality column so their prefix also serves the
+-- single-column lookups (e.g. idx_guest_event_rsvp covers findByEventId).
+-- ===============================================================================
+
+-- EventRepository: findByPlannerId, findUpcomingEventsByPlanner, countEventsByPlanner
+CREATE INDEX idx_event_planner_date ON events_event (planner_id, date);
+-- EventRepository: findByDateBetween, findByDateAfter/Before, findUpcomingEvents, findEventsInDateRange
+CREATE INDEX idx_event_date ON events_event (date);
+
+-- GuestRepository: findByEventId, findByEventIdAndRsvpStatus, countByEventIdAndRsvpStatus, getRsvpStatsByEvent
+CREATE INDEX idx_guest_event_rsvp ON events_guest (event_id, rsvp_status);
+-- GuestRepository: findByEventAndEmail, existsByEventIdAndEmail
+CREATE INDEX idx_guest_event_email ON events_guest (event_id, email);
+-- GuestRepository: findByUserId, findByEventAndUser, findUpcomingEventsByUser
+CREATE INDEX idx_guest_user_event ON events_guest (user_id, event_id);
+-- GuestRepository: findByEmail
+CREATE INDEX idx_guest_email ON events_guest (email);
+-- GuestRepository: findByRsvpStatus
+CREATE INDEX idx_guest_rsvp ON events_guest (rsvp_status);
+
+-- VendorBookingRepository: findByEventId, findByEventAndStatus, countByEventAndStatus, getBookingStatsByEvent
+CREATE INDEX idx_booking_event_status ON events_vendorbooking (event_id, status);
+-- VendorBookingRepository: existsByEventIdAndVendorId, findByEventAndVendorId, isVendorBookedForEvent
+CREATE INDEX idx_booking_event_vendor ON events_vendorbooking (event_id, vendor_id);
+-- VendorBookingRepository: findByVendorId, findByVendorIdAndStatus(In), countByVendorIdAndStatus, getBookingStatsByVendorId
+CREATE INDEX idx_booking_vendor_status ON events_vendorbooking (vendor_id, status);
+-- VendorBookingRepository: findByServiceId, findByEventAndServiceId
+CREATE INDEX idx_booking_service_event ON events_vendorbooking (service_id, event_id);
+-- VendorBookingRepository: findByStatus (oldest first)
+CREATE INDEX idx_booking_status_created ON events_vendorbooking (status, created_at);
+
+-- ReviewRepository: existsByVendorIdAndUserId, hasUserReviewedVendor
+CREATE INDEX idx_review_vendor_user ON vendors_review (vendor_id, user_id);
+-- ReviewRepository: findByVendorId, findByVendorIdAndRating, findAverageRatingByVendorId, getRatingDistributionByVendor
+CREATE INDEX idx_review_vendor_rating ON vendors_review (vendor_id, rating);
+-- ReviewRepository: findByVendorOrderByCreatedAtDesc
+CREATE INDEX idx_review_vendor_created ON vendors_review (vendor_id, created_at);
+-- ReviewRepository: findByUserId, findByUserOrderByCreatedAtDesc
+CREATE INDEX idx_review_user_created ON vendors_review (user_id, created_at);
+-- ReviewRepository: findByRating, findByRatingBetween/GreaterThanEqual, findHighRatedReviews
+CREATE INDEX idx_review_rating_created ON vendors_review (rating, created_at);
+-- ReviewRepository: findRecentReviews
+CREATE INDEX idx_review_created ON vendors_review (created_at);
+
+-- Vendor catalogue lookups
+CREATE INDEX idx_vendor_verified ON vendors_vendorprofile (is_verified);
+CREATE INDEX idx_service_vendor ON vendors_service (vendor_id);
+CREATE INDEX idx_service_category ON vendors_service (category_id);
+CREATE INDEX idx_portfolio_vendor_created ON vendors_portfolioitem (vendor_id, created_at);
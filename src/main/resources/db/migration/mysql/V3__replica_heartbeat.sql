@@ -0,0 +1,11 @@
+-- ===============================================================================
+-- Heartbeat row used to measure replica lag (see ReplicaLagMonitor)
+-- ===============================================================================
+
+CREATE TABLE replica_heartbeat (
+    id      INT NOT NULL,
+    beat_ms BIGINT NOT NULL,
+    CONSTRAINT pk_replica_heartbeat PRIMARY KEY (id)
+);
+
+INSERT INTO replica_heartbeat (id, beat_ms) VALUES (1, 0);
@@ -0,0 +1,20 @@
+-- ===============================================================================
+-- Cache invalidation log (see CacheInvalidationService). Every node keeps its own
+-- in-process caches; a write that makes a cached entity, collection or catalog
+-- response stale appends a row here in its transaction, and every other node
+-- tails the table by id and evicts the same keys locally. Rows are deleted after
+-- a retention period.
+-- ===============================================================================
+
+CREATE TABLE cache_invalidation_log (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    kind       ENUM('CATALOG', 'COLLECTION', 'ENTITY') NOT NULL,
+    name       VARCHAR(150) NOT NULL,
+    item_key   VARCHAR(100),
+    origin     VARCHAR(64) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT pk_cache_invalidation_log PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- CacheInvalidationRepository: deleteCreatedBefore (retention)
+CREATE INDEX idx_cache_invalidation_log_created ON cache_invalidation_log (created_at);
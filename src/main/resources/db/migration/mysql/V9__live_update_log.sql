@@ -0,0 +1,10 @@
+-- ===============================================================================
+-- Live updates through the cache invalidation log (see LiveUpdateService). A guest
+-- or booking change appends a LIVE row in its transaction: name is the topic,
+-- item_key the update's name and payload its JSON. Every other node tails the log
+-- and pushes the update to the dashboards connected to it.
+-- ===============================================================================
+
+ALTER TABLE cache_invalidation_log
+    MODIFY COLUMN kind ENUM('CATALOG', 'COLLECTION', 'ENTITY', 'LIVE') NOT NULL,
+    ADD COLUMN payload VARCHAR(1000);
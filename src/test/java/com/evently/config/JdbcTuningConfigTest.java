@@ -0,0 +1,21 @@
+package com.evently.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the auto pool size.
+ */
+public class JdbcTuningConfigTest {
+
+    @Test
+    void smallMachinesGetTheMinimum() {
+        assertEquals(16, JdbcTuningConfig.poolSizeForCores(2, 1, 16));
+    }
+
+    @Test
+    void largeMachinesGetCoresTimesTwoPlusSpindles() {
+        assertEquals(34, JdbcTuningConfig.poolSizeForCores(16, 2, 16));
+    }
+}
@@ -0,0 +1,209 @@
+package com.evently.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import com.evently.dto.vendor.PortfolioItemDTO;
+import com.evently.dto.vendor.ReviewDTO;
+import com.evently.dto.vendor.ServiceDTO;
+import com.evently.dto.vendor.VendorProfileDTO;
+import com.evently.exception.ErrorTemplate;
+import com.evently.security.JwtAuthenticationEntryPoint.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * JMH serialization throughput of a vendor list (the /api/vendors/verified payload) with a reflective
+ * mapper, with Blackbird, and with a pre-built writer; and of the 401 body with a new mapper per
+ * response, the shared writer and the pre-encoded template. Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+public class JsonSerializationBenchmarkTest {
+
+    private static final int VENDORS = 50;
+
+    @Test
+    public void serializationThroughput() throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(Serializers.class.getName().replace('$', '.') + ".")
+            .forks(1)
+            .warmupIterations(3)
+            .warmupTime(TimeValue.seconds(1))
+            .measurementIterations(5)
+            .measurementTime(TimeValue.seconds(1))
+            .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        Map<String, Double> scores = new TreeMap<>();
+        for (RunResult result : results) {
+            String name = result.getParams().getBenchmark();
+            scores.put(name.substring(name.lastIndexOf('.') + 1), result.getPrimaryResult().getScore());
+        }
+        scores.forEach((name, score) -> System.out.printf("%-24s %,12.0f ops/s%n", name, score));
+
+        assertTrue(scores.get("errorSharedWriter") > scores.get("errorNewMapper"),
+            "shared writer should beat a new ObjectMapper per 401: " + scores);
+        assertTrue(scores.get("errorTemplate") > scores.get("errorSharedWriter"),
+            "pre-encoded template should beat serializing the 401: " + scores);
+    }
+
+    /**
+     * Mappers configured like the application's: JSR-310 dates as ISO strings.
+     */
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public static class Serializers {
+
+        private ObjectMapper reflective;
+        private ObjectMapper blackbird;
+        private ObjectWriter vendorListWriter;
+        private ObjectWriter errorWriter;
+        private ErrorTemplate errorTemplate;
+        private List<VendorProfileDTO> vendors;
+        private ErrorResponse error;
+
+        @Setup
+        public void setUp() {
+            reflective = mapper();
+            blackbird = mapper().registerModule(new BlackbirdModule());
+            vendorListWriter = blackbird.writerFor(new TypeReference<List<VendorProfileDTO>>() { });
+            errorWriter = blackbird.writerFor(ErrorResponse.class);
+            vendors = vendors();
+            error = new ErrorResponse(401, "Unauthorized", "Authentication required to access this resource", "/api/bookings");
+
+            ErrorResponse prototype = new ErrorResponse(401, "Unauthorized", "Authentication required to access this resource",
+                ErrorTemplate.PATH);
+            prototype.setTimestamp(ErrorTemplate.EPOCH_MILLIS);
+            errorTemplate = ErrorTemplate.of(errorWriter, prototype);
+        }
+
+        @Benchmark
+        public byte[] vendorsReflective() throws JsonProcessingException {
+            return reflective.writeValueAsBytes(vendors);
+        }
+
+        @Benchmark
+        public byte[] vendorsBlackbird() throws JsonProcessingException {
+            return blackbird.writeValueAsBytes(vendors);
+        }
+
+        @Benchmark
+        public byte[] vendorsBlackbirdWriter() throws JsonProcessingException {
+            return vendorListWriter.writeValueAsBytes(vendors);
+        }
+
+        @Benchmark
+        public byte[] errorNewMapper() throws JsonProcessingException {
+            return new ObjectMapper().writeValueAsBytes(error);
+        }
+
+        @Benchmark
+        public byte[] errorSharedWriter() throws JsonProcessingException {
+            return errorWriter.writeValueAsBytes(error);
+        }
+
+        @Benchmark
+        public byte[] errorTemplate() {
+            return errorTemplate.render("/api/bookings");
+        }
+
+        private static ObjectMapper mapper() {
+            return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        }
+
+        private static List<VendorProfileDTO> vendors() {
+            LocalDateTime now = LocalDateTime.now();
+            List<VendorProfileDTO> vendors = new ArrayList<>(VENDORS);
+            for (long id = 1; id <= VENDORS; id++) {
+                VendorProfileDTO vendor = new VendorProfileDTO();
+                vendor.setId(id);
+                vendor.setUserId(id);
+                vendor.setUsername("vendor" + id);
+                vendor.setFullName("Vendor " + id);
+                vendor.setEmail("vendor" + id + "@example.com");
+                vendor.setBusinessName("Business " + id);
+                vendor.setDescription("Catering, decor and sound for weddings and corporate events");
+                vendor.setLocation("Nairobi");
+                vendor.setIsVerified(true);
+                vendor.setCreatedAt(now);
+                vendor.setUpdatedAt(now);
+
+                List<ServiceDTO> services = new ArrayList<>();
+                List<ReviewDTO> reviews = new ArrayList<>();
+                List<PortfolioItemDTO> portfolio = new ArrayList<>();
+                for (long i = 1; i <= 3; i++) {
+                    ServiceDTO service = new ServiceDTO();
+                    service.setId(id * 10 + i);
+                    service.setVendorId(id);
+                    service.setVendorBusinessName(vendor.getBusinessName());
+                    service.setCategoryId(i);
+                    service.setCategoryName("Category " + i);
+                    service.setTitle("Package " + i);
+                    service.setDescription("Everything included for up to " + (i * 50) + " guests");
+                    service.setPrice(new BigDecimal("1500.00").multiply(BigDecimal.valueOf(i)));
+                    service.setCreatedAt(now);
+                    service.setUpdatedAt(now);
+                    services.add(service);
+
+                    ReviewDTO review = new ReviewDTO();
+                    review.setId(id * 10 + i);
+                    review.setVendorId(id);
+                    review.setCustomerId(i);
+                    review.setCustomerUsername("customer" + i);
+                    review.setRating((int) (i + 2));
+                    review.setComment("Great service, arrived on time");
+                    review.setCreatedAt(now);
+                    reviews.add(review);
+
+                    PortfolioItemDTO item = new PortfolioItemDTO();
+                    item.setId(id * 10 + i);
+                    item.setVendorId(id);
+                    item.setDescription("Wedding reception " + i);
+                    item.setImage("/uploads/portfolio/" + id + "-" + i + ".jpg");
+                    portfolio.add(item);
+                }
+                vendor.setServices(services);
+                vendor.setReviews(reviews);
+                vendor.setPortfolioItems(portfolio);
+                vendor.setServicesCount(services.size());
+                vendor.setReviewsCount(reviews.size());
+                vendor.setPortfolioCount(portfolio.size());
+                vendor.setAverageRating(4.0);
+                vendors.add(vendor);
+            }
+            return vendors;
+        }
+    }
+}
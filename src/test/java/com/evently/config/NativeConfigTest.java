@@ -0,0 +1,59 @@
+package com.evently.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import com.evently.dto.vendor.VendorPageDTO;
+import com.evently.mapper.EventMapperImpl;
+import com.evently.model.VendorBooking;
+import com.evently.service.event.BookingStatusChangedEvent;
+
+/**
+ * Tests for the native image hints: the DTOs, entities, mappers and JJWT types reached by
+ * reflection, and the resources looked up at runtime, are all registered.
+ */
+public class NativeConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    public void registerHints() {
+        new NativeConfig.EventlyRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    public void testJsonTypesAreBound() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(VendorPageDTO.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(VendorPageDTO.class, "getProfile").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(BookingStatusChangedEvent.class).test(hints));
+    }
+
+    @Test
+    public void testEntitiesAndMappersAreReflective() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(VendorBooking.class)
+            .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(VendorBooking.BookingStatus.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(EventMapperImpl.class)
+            .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+    }
+
+    @Test
+    public void testJjwtIsLoadable() {
+        for (String type : NativeConfig.JJWT_TYPES) {
+            assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(type))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints), type);
+        }
+        assertTrue(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Serializer").test(hints));
+    }
+
+    @Test
+    public void testMigrationsAreIncluded() {
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/migration/mysql/V1__baseline_schema.sql").test(hints));
+    }
+}
@@ -1,10 +1,24 @@
 package com.evently.controller;
 
+import java.sql.Connection;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.evently.monitoring.RejectionLog;
+import com.evently.security.JwtTokenProvider;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -12,10 +26,30 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Test for HealthController to verify basic Spring Boot functionality.
  */
 @WebMvcTest(HealthController.class)
+@AutoConfigureMockMvc(addFilters = false)
+// Mockito generates its mocks at runtime
+@DisabledInAotMode
 class HealthControllerTest {
     
     @Autowired
     private MockMvc mockMvc;
+
+    @MockitoBean
+    private DataSource dataSource;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private RejectionLog rejectionLog;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+    }
     
     @Test
     void healthEndpointShouldReturnStatusUp() throws Exception {
@@ -25,4 +59,4 @@ class HealthControllerTest {
                 .andExpect(jsonPath("$.service").value("evently-backend"))
                 .andExpect(jsonPath("$.timestamp").exists());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,161 @@
+package com.evently.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.tools.Server;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * JMH throughput of inserting a guest list (500 rows shaped like events_guest) into H2 in MySQL mode
+ * over a TCP connection, so that every statement sent costs a round trip as it does against MySQL:
+ * one INSERT per row (what Hibernate does for IDENTITY ids), a JDBC batch sent statement by
+ * statement (Connector/J without rewriteBatchedStatements), and the batch rewritten into multi-row
+ * INSERTs (Connector/J with it). Rows are reported per second. Run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+public class BatchInsertBenchmarkTest {
+
+    private static final int ROWS = 500;
+
+    // Hibernate's batch size in application.properties
+    private static final int BATCH_SIZE = 20;
+
+    @Test
+    public void insertThroughput() throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(Inserts.class.getName().replace('$', '.') + ".")
+            .forks(1)
+            .warmupIterations(3)
+            .warmupTime(TimeValue.seconds(1))
+            .measurementIterations(5)
+            .measurementTime(TimeValue.seconds(1))
+            .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        Map<String, Double> rowsPerSecond = new TreeMap<>();
+        for (RunResult result : results) {
+            String name = result.getParams().getBenchmark();
+            rowsPerSecond.put(name.substring(name.lastIndexOf('.') + 1), result.getPrimaryResult().getScore() * ROWS);
+        }
+        rowsPerSecond.forEach((name, score) -> System.out.printf("%-16s %,12.0f rows/s%n", name, score));
+
+        assertTrue(rowsPerSecond.get("rewrittenBatch") > rowsPerSecond.get("rowByRow"),
+            "multi-row inserts should beat one statement per row: " + rowsPerSecond);
+    }
+
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public static class Inserts {
+
+        private static final String INSERT = "INSERT INTO events_guest (event_id, name, email, rsvp_status, created_at) VALUES ";
+        private static final String ROW = "(?, ?, ?, ?, CURRENT_TIMESTAMP)";
+
+        private Server server;
+        private Connection connection;
+        private PreparedStatement single;
+        private PreparedStatement multiRow;
+
+        @Setup
+        public void setUp() throws SQLException {
+            server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+            connection = DriverManager.getConnection(
+                "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:batchinsert;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE events_guest (id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, "
+                    + "event_id BIGINT NOT NULL, name VARCHAR(100), email VARCHAR(254), rsvp_status VARCHAR(10), "
+                    + "created_at DATETIME(6)) ENGINE = InnoDB");
+            }
+            connection.setAutoCommit(false);
+            single = connection.prepareStatement(INSERT + ROW);
+            multiRow = connection.prepareStatement(INSERT + String.join(", ", Collections.nCopies(BATCH_SIZE, ROW)));
+        }
+
+        @Setup(Level.Iteration)
+        public void emptyTable() throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("TRUNCATE TABLE events_guest");
+            }
+            connection.commit();
+        }
+
+        @TearDown
+        public void tearDown() throws SQLException {
+            connection.close();
+            server.stop();
+        }
+
+        @Benchmark
+        public int rowByRow() throws SQLException {
+            int inserted = 0;
+            for (int i = 0; i < ROWS; i++) {
+                bind(single, 0, i);
+                inserted += single.executeUpdate();
+            }
+            connection.commit();
+            return inserted;
+        }
+
+        @Benchmark
+        public int jdbcBatch() throws SQLException {
+            int inserted = 0;
+            for (int i = 0; i < ROWS; i++) {
+                bind(single, 0, i);
+                single.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    inserted += single.executeBatch().length;
+                }
+            }
+            connection.commit();
+            return inserted;
+        }
+
+        @Benchmark
+        public int rewrittenBatch() throws SQLException {
+            int inserted = 0;
+            for (int i = 0; i < ROWS; i += BATCH_SIZE) {
+                for (int row = 0; row < BATCH_SIZE; row++) {
+                    bind(multiRow, row, i + row);
+                }
+                inserted += multiRow.executeUpdate();
+            }
+            connection.commit();
+            return inserted;
+        }
+
+        private static void bind(PreparedStatement statement, int row, int guest) throws SQLException {
+            int offset = row * 4;
+            statement.setLong(offset + 1, 1);
+            statement.setString(offset + 2, "Guest " + guest);
+            statement.setString(offset + 3, "guest" + guest + "@example.com");
+            statement.setString(offset + 4, "INVITED");
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.evently.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Routing tests against two separate in-memory databases, each holding a marker row
+ * naming itself, so every query reveals which one served it.
+ */
+public class ReadWriteRoutingDataSourceTest {
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate routedJdbc;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate readWriteTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("routing_primary", "primary");
+        DataSource replica = database("routing_replica", "replica");
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+
+        lagMonitor = new ReplicaLagMonitor(primary, replica, 5000);
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(60_000);
+        DataSource routed = new LazyConnectionDataSourceProxy(
+            new ReadWriteRoutingDataSource(primary, replica, lagMonitor, tracker));
+
+        routedJdbc = new JdbcTemplate(routed);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routed);
+        readWriteTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primaryJdbc.execute("DROP ALL OBJECTS");
+        replicaJdbc.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        replicateHeartbeat();
+        assertTrue(lagMonitor.isReplicaUsable());
+
+        assertEquals("replica", readOnlyTx.execute(status -> whoAmI()));
+    }
+
+    @Test
+    void readWriteTransactionUsesPrimary() {
+        replicateHeartbeat();
+
+        assertEquals("primary", readWriteTx.execute(status -> whoAmI()));
+    }
+
+    @Test
+    void replicaIsUnusableBeforeFirstCheck() {
+        assertFalse(lagMonitor.isReplicaUsable());
+
+        assertEquals("primary", readOnlyTx.execute(status -> whoAmI()));
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        // Replica never applies the heartbeat: its beat stays at the epoch
+        lagMonitor.checkLag();
+
+        assertFalse(lagMonitor.isReplicaUsable());
+        assertEquals("primary", readOnlyTx.execute(status -> whoAmI()));
+    }
+
+    @Test
+    void readsStickToPrimaryAfterOwnWrite() {
+        replicateHeartbeat();
+
+        authenticate("alice");
+        readWriteTx.executeWithoutResult(status ->
+            routedJdbc.update("UPDATE marker SET touched = touched + 1"));
+        assertEquals("primary", readOnlyTx.execute(status -> whoAmI()));
+
+        authenticate("bob");
+        assertEquals("replica", readOnlyTx.execute(status -> whoAmI()));
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinReads() {
+        replicateHeartbeat();
+
+        authenticate("alice");
+        readWriteTx.executeWithoutResult(status -> {
+            routedJdbc.update("UPDATE marker SET touched = touched + 1");
+            status.setRollbackOnly();
+        });
+
+        assertEquals("replica", readOnlyTx.execute(status -> whoAmI()));
+    }
+
+    private String whoAmI() {
+        return routedJdbc.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    /**
+     * Run a lag check with the replica's heartbeat copied from the primary, as replication would.
+     */
+    private void replicateHeartbeat() {
+        lagMonitor.checkLag();
+        Long beat = primaryJdbc.queryForObject("SELECT beat_ms FROM replica_heartbeat WHERE id = 1", Long.class);
+        replicaJdbc.update("UPDATE replica_heartbeat SET beat_ms = ? WHERE id = 1", beat);
+        lagMonitor.checkLag();
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(username, null, AuthorityUtils.NO_AUTHORITIES));
+    }
+
+    private static DataSource database(String dbName, String markerName) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + dbName + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE marker (name VARCHAR(20), touched INT)");
+        jdbc.update("INSERT INTO marker (name, touched) VALUES (?, 0)", markerName);
+        jdbc.execute("CREATE TABLE replica_heartbeat (id INT PRIMARY KEY, beat_ms BIGINT NOT NULL)");
+        jdbc.execute("INSERT INTO replica_heartbeat (id, beat_ms) VALUES (1, 0)");
+        return dataSource;
+    }
+}
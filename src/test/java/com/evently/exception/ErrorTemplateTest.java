@@ -0,0 +1,95 @@
+package com.evently.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.evently.exception.GlobalExceptionHandler.ErrorResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Unit tests for pre-encoded error bodies: rendered templates must read back exactly like
+ * the mapper's own output for the same error.
+ */
+public class ErrorTemplateTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    public void testRenderedBodyMatchesMapperOutput() throws Exception {
+        ErrorTemplate template = ErrorTemplate.of(mapper.writerFor(ErrorResponse.class),
+            prototype(ErrorTemplate.PATH, null));
+
+        String path = "/api/events/\"quoted\"\\slash\n\t\u0001/ünïcode";
+        JsonNode rendered = mapper.readTree(template.render(path));
+        JsonNode expected = mapper.readTree(mapper.writeValueAsBytes(prototype(path, null)));
+
+        assertSameFieldsInOrder(expected, rendered);
+        LocalDateTime timestamp = LocalDateTime.parse(rendered.get("timestamp").asText());
+        assertTrue(Duration.between(timestamp, LocalDateTime.now()).abs().getSeconds() < 5);
+    }
+
+    @Test
+    public void testValidationErrorsAreSplicedIn() throws Exception {
+        ErrorTemplate template = ErrorTemplate.of(mapper.writerFor(ErrorResponse.class),
+            prototype(ErrorTemplate.PATH, ErrorTemplate.ERRORS));
+
+        Map<String, String> errors = Map.of("title", "Title is required");
+        JsonNode rendered = mapper.readTree(template.render("/api/events", mapper.writeValueAsBytes(errors)));
+        JsonNode expected = mapper.readTree(mapper.writeValueAsBytes(prototype("/api/events", errors)));
+
+        assertSameFieldsInOrder(expected, rendered);
+    }
+
+    @Test
+    public void testEpochMillisTimestamp() throws Exception {
+        com.evently.security.JwtAuthenticationEntryPoint.ErrorResponse prototype =
+            new com.evently.security.JwtAuthenticationEntryPoint.ErrorResponse(401, "Unauthorized", "Login first", ErrorTemplate.PATH);
+        prototype.setTimestamp(ErrorTemplate.EPOCH_MILLIS);
+        ErrorTemplate template = ErrorTemplate.of(mapper.writerFor(prototype.getClass()), prototype);
+
+        long before = System.currentTimeMillis();
+        JsonNode rendered = mapper.readTree(template.render("/api/bookings"));
+        assertEquals("/api/bookings", rendered.get("path").asText());
+        assertTrue(rendered.get("timestamp").asLong() >= before);
+    }
+
+    @Test
+    public void testPrototypeWithoutPathPlaceholderIsRejected() {
+        assertThrows(IllegalStateException.class,
+            () -> ErrorTemplate.of(mapper.writerFor(ErrorResponse.class), prototype("/api/events", null)));
+    }
+
+    private static ErrorResponse prototype(String path, Map<String, String> errors) {
+        ErrorResponse response = new ErrorResponse(400, "Validation Failed", "Invalid input parameters", path, errors);
+        response.setTimestamp(ErrorTemplate.LOCAL_DATE_TIME);
+        return response;
+    }
+
+    private static void assertSameFieldsInOrder(JsonNode expected, JsonNode actual) {
+        ObjectNode expectedFields = ((ObjectNode) expected).deepCopy();
+        ObjectNode actualFields = ((ObjectNode) actual).deepCopy();
+        expectedFields.remove("timestamp");
+        actualFields.remove("timestamp");
+        assertEquals(expectedFields, actualFields);
+
+        Iterator<String> expectedNames = expected.fieldNames();
+        Iterator<String> actualNames = actual.fieldNames();
+        while (expectedNames.hasNext()) {
+            assertEquals(expectedNames.next(), actualNames.next());
+        }
+    }
+}
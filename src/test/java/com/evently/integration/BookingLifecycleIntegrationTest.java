@@ -0,0 +1,140 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.evently.model.Event;
+import com.evently.model.Service;
+import com.evently.model.ServiceCategory;
+import com.evently.model.User;
+import com.evently.model.VendorBooking;
+import com.evently.model.VendorBooking.BookingStatus;
+import com.evently.model.VendorProfile;
+import com.evently.repository.EventRepository;
+import com.evently.repository.OutboxMessageRepository;
+import com.evently.repository.ServiceCategoryRepository;
+import com.evently.repository.ServiceRepository;
+import com.evently.repository.UserRepository;
+import com.evently.repository.VendorBookingRepository;
+import com.evently.repository.VendorProfileRepository;
+import com.evently.service.BookingLifecycleService;
+
+/**
+ * Integration tests for the booking lifecycle job: stale pending bookings are cancelled and past
+ * confirmed ones completed, a chunk at a time, with the usual change notifications.
+ */
+@SpringBootTest(properties = {
+                    "spring.datasource.url=jdbc:h2:mem:bookinglifecycle;DB_CLOSE_DELAY=-1",
+                    "app.bookings.lifecycle.pending-ttl=7d",
+                    "app.bookings.lifecycle.complete-after=1d",
+                    "app.bookings.lifecycle.chunk-size=2"
+                })
+@ActiveProfiles("test")
+public class BookingLifecycleIntegrationTest {
+
+    @Autowired
+    private BookingLifecycleService bookingLifecycleService;
+
+    @Autowired
+    private VendorBookingRepository vendorBookingRepository;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VendorProfileRepository vendorProfileRepository;
+
+    @Autowired
+    private ServiceCategoryRepository serviceCategoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User planner;
+    private Service service;
+
+    @BeforeEach
+    public void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        ServiceCategory category = IntegrationFixtures.category(serviceCategoryRepository, "Lifecycle " + suffix);
+        planner = IntegrationFixtures.user(userRepository, "planner" + suffix, true);
+        VendorProfile vendor = IntegrationFixtures.vendor(vendorProfileRepository,
+            IntegrationFixtures.user(userRepository, "florist" + suffix, false), "Florist " + suffix);
+        service = IntegrationFixtures.service(serviceRepository, vendor, category, "Flowers", "150.00");
+    }
+
+    @Test
+    public void testStalePendingBookingsAreCancelledInChunks() {
+        List<Long> stale = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            stale.add(booking(BookingStatus.PENDING, LocalDateTime.now().minusDays(8), LocalDateTime.now().plusMonths(1)));
+        }
+        Long fresh = booking(BookingStatus.PENDING, LocalDateTime.now().minusDays(6), LocalDateTime.now().plusMonths(1));
+        Long upcoming = booking(BookingStatus.CONFIRMED, LocalDateTime.now().minusDays(8), LocalDateTime.now().plusMonths(1));
+
+        bookingLifecycleService.run();
+
+        for (Long id : stale) {
+            assertEquals(BookingStatus.CANCELLED, status(id));
+            assertTrue(outboxMessageRepository.existsByIdempotencyKey("booking-" + id + "-CANCELLED-planner-log"),
+                "The planner is notified of the cancellation");
+        }
+        assertEquals(BookingStatus.PENDING, status(fresh));
+        assertEquals(BookingStatus.CONFIRMED, status(upcoming));
+    }
+
+    @Test
+    public void testPastConfirmedBookingsAreCompleted() {
+        Long past = booking(BookingStatus.CONFIRMED, LocalDateTime.now().minusMonths(2), LocalDateTime.now().minusDays(2));
+        Long today = booking(BookingStatus.CONFIRMED, LocalDateTime.now().minusMonths(2), LocalDateTime.now().minusHours(3));
+        Long cancelled = booking(BookingStatus.CANCELLED, LocalDateTime.now().minusMonths(2), LocalDateTime.now().minusDays(2));
+
+        bookingLifecycleService.run();
+
+        assertEquals(BookingStatus.COMPLETED, status(past));
+        assertEquals(BookingStatus.CONFIRMED, status(today), "Completed only complete-after the event");
+        assertEquals(BookingStatus.CANCELLED, status(cancelled));
+
+        bookingLifecycleService.run();
+        assertEquals(BookingStatus.COMPLETED, status(past), "Runs again without effect");
+    }
+
+    /**
+     * A booking of the vendor for an event of its own, created and taking place at the given times.
+     */
+    private Long booking(BookingStatus status, LocalDateTime createdAt, LocalDateTime eventDate) {
+        Event event = IntegrationFixtures.event(eventRepository, planner, "Dinner " + System.nanoTime(),
+            LocalDateTime.now().plusMonths(1));
+        VendorBooking booking = IntegrationFixtures.booking(vendorBookingRepository, event, service, status);
+
+        // Both are set by the application on save; moved into the past behind its back
+        jdbcTemplate.update("UPDATE events_event SET date = ? WHERE id = ?", eventDate, event.getId());
+        jdbcTemplate.update("UPDATE events_vendorbooking SET created_at = ? WHERE id = ?", createdAt, booking.getId());
+        return booking.getId();
+    }
+
+    private BookingStatus status(Long bookingId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM events_vendorbooking WHERE id = ?",
+            (rs, row) -> BookingStatus.valueOf(rs.getString(1)), bookingId);
+    }
+}
@@ -0,0 +1,158 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.aot.DisabledInAotMode;
+
+import com.evently.EventlyApplication;
+import com.evently.dto.vendor.VendorProfileCreateUpdateDTO;
+import com.evently.model.User;
+import com.evently.model.VendorProfile;
+import com.evently.repository.UserRepository;
+import com.evently.repository.VendorProfileRepository;
+import com.evently.service.CacheInvalidationPoller;
+import com.evently.service.CatalogResponseService;
+import com.evently.service.UserService;
+import com.evently.service.VendorService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Integration tests for the cache invalidation log: writes on one node evict the second-level
+ * cache and catalog responses of another node sharing its database.
+ *
+ * This test's context is node A; node B is a second application context in the same JVM, with
+ * caches of its own.
+ */
+@SpringBootTest(properties = {
+                    "spring.datasource.url=jdbc:h2:mem:cacheinvalidation;DB_CLOSE_DELAY=-1",
+                    "app.cache.invalidation.node-id=node-a"
+                })
+@ActiveProfiles("test")
+// The second node is a separate SpringApplication, which AOT test processing does not cover
+@DisabledInAotMode
+public class CacheInvalidationIntegrationTest {
+
+    private static ConfigurableApplicationContext nodeB;
+
+    @Autowired
+    private VendorService vendorService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CacheInvalidationPoller cacheInvalidationPoller;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VendorProfileRepository vendorProfileRepository;
+
+    private User owner;
+    private VendorProfile vendor;
+
+    @BeforeAll
+    public static void startNodeB() {
+        nodeB = new SpringApplicationBuilder(EventlyApplication.class)
+                .profiles("test")
+                .run("--spring.datasource.url=jdbc:h2:mem:cacheinvalidation;DB_CLOSE_DELAY=-1",
+                     "--app.cache.invalidation.node-id=node-b",
+                     "--server.port=0");
+    }
+
+    @AfterAll
+    public static void stopNodeB() {
+        nodeB.close();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        owner = new User();
+        owner.setUsername("caterer" + suffix);
+        owner.setPassword("password123");
+        owner.setEmail("caterer" + suffix + "@example.com");
+        owner.setIsPlanner(false);
+        owner.setIsVendor(true);
+        owner.setDateJoined(LocalDateTime.now());
+        owner = userRepository.save(owner);
+
+        vendor = new VendorProfile();
+        vendor.setUser(owner);
+        vendor.setBusinessName("Caterer " + suffix);
+        vendor.setIsVerified(true);
+        vendor = vendorProfileRepository.save(vendor);
+    }
+
+    @Test
+    public void testEntityChangesReachTheOtherNode() {
+        VendorService vendorServiceB = nodeB.getBean(VendorService.class);
+        UserRepository userRepositoryB = nodeB.getBean(UserRepository.class);
+        assertEquals(vendor.getBusinessName(), vendorServiceB.getVendorProfileById(vendor.getId()).orElseThrow().getBusinessName());
+        assertTrue(userRepositoryB.findById(owner.getId()).orElseThrow().getIsActive());
+
+        VendorProfileCreateUpdateDTO updateDTO = new VendorProfileCreateUpdateDTO();
+        updateDTO.setBusinessName("Renamed caterer");
+        vendorService.updateVendorProfile(vendor.getId(), updateDTO, owner.getId());
+        userService.deactivateUser(owner.getId());
+
+        assertEquals(vendor.getBusinessName(), vendorServiceB.getVendorProfileById(vendor.getId()).orElseThrow().getBusinessName(),
+            "Served from node B's cache until it polls");
+
+        nodeB.getBean(CacheInvalidationPoller.class).poll();
+
+        assertEquals("Renamed caterer", vendorServiceB.getVendorProfileById(vendor.getId()).orElseThrow().getBusinessName());
+        assertFalse(userRepositoryB.findById(owner.getId()).orElseThrow().getIsActive());
+        assertTrue(nodeB.getBean(MeterRegistry.class).get("cache.invalidation.lag").timer().count() > 0);
+    }
+
+    @Test
+    public void testCatalogChangesReachTheOtherNode() {
+        CatalogResponseService catalogB = nodeB.getBean(CatalogResponseService.class);
+        assertFalse(body(catalogB).contains("Relabelled caterer"));
+
+        VendorProfileCreateUpdateDTO updateDTO = new VendorProfileCreateUpdateDTO();
+        updateDTO.setBusinessName("Relabelled caterer");
+        vendorService.updateVendorProfile(vendor.getId(), updateDTO, owner.getId());
+        assertFalse(body(catalogB).contains("Relabelled caterer"), "Served from node B's cache until it polls");
+
+        nodeB.getBean(CacheInvalidationPoller.class).poll();
+
+        assertTrue(body(catalogB).contains("Relabelled caterer"));
+    }
+
+    @Test
+    public void testNodesSkipTheirOwnEntries() {
+        MeterRegistry meterRegistry = nodeB.getBean(MeterRegistry.class);
+        nodeB.getBean(CacheInvalidationPoller.class).poll();
+        cacheInvalidationPoller.poll();
+        double applied = meterRegistry.find("cache.invalidations.applied").counters().stream()
+                .mapToDouble(counter -> counter.count()).sum();
+
+        nodeB.getBean(UserService.class).activateUser(owner.getId());
+        nodeB.getBean(CacheInvalidationPoller.class).poll();
+
+        assertEquals(applied, meterRegistry.find("cache.invalidations.applied").counters().stream()
+                .mapToDouble(counter -> counter.count()).sum());
+    }
+
+    private static String body(CatalogResponseService catalog) {
+        return new String(catalog.getVerifiedVendorProfiles(false).body(), StandardCharsets.UTF_8);
+    }
+}
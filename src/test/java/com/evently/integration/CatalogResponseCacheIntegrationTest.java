@@ -0,0 +1,177 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.evently.dto.event.EventCreateDTO;
+import com.evently.dto.vendor.VendorProfileCreateUpdateDTO;
+import com.evently.model.User;
+import com.evently.model.VendorProfile;
+import com.evently.repository.UserRepository;
+import com.evently.repository.VendorProfileRepository;
+import com.evently.service.EventService;
+import com.evently.service.VendorService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Integration tests for the pre-serialized catalog responses: repeated requests skip the database,
+ * gzip bytes decode to the identity JSON, and committed writes drop the cached bodies.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = "spring.datasource.url=jdbc:h2:mem:catalogcache;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+public class CatalogResponseCacheIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private VendorService vendorService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VendorProfileRepository vendorProfileRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User owner;
+    private VendorProfile vendor;
+
+    @BeforeEach
+    public void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        owner = new User();
+        owner.setUsername("owner" + suffix);
+        owner.setPassword("password123");
+        owner.setEmail("owner" + suffix + "@example.com");
+        owner.setIsPlanner(true);
+        owner.setIsVendor(true);
+        owner = userRepository.save(owner);
+
+        VendorProfileCreateUpdateDTO profile = new VendorProfileCreateUpdateDTO();
+        profile.setBusinessName("Coast Caterers " + suffix);
+        vendor = vendorProfileRepository.findById(vendorService.createVendorProfile(profile, owner.getId()).getId()).orElseThrow();
+    }
+
+    @Test
+    public void testRepeatedRequestIsServedWithoutQueries() {
+        ResponseEntity<byte[]> first = get("/api/vendors/verified", null);
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(first.getHeaders().getContentType()));
+
+        double hits = hits("vendors");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ResponseEntity<byte[]> second = get("/api/vendors/verified", null);
+        assertArrayEquals(first.getBody(), second.getBody());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(hits + 1, hits("vendors"));
+        assertTrue(meterRegistry.get("catalog.responses.serialization.avoided").counter().count() > 0);
+    }
+
+    @Test
+    public void testGzipBodyDecodesToTheSameJson() throws IOException {
+        byte[] identity = get("/api/vendors?page=0&size=50", null).getBody();
+        double saved = meterRegistry.get("catalog.responses.bytes.saved").counter().count();
+
+        ResponseEntity<byte[]> gzip = get("/api/vendors?page=0&size=50", "gzip, deflate, br");
+        assertEquals("gzip", gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(gzip.getHeaders().getVary().contains(HttpHeaders.ACCEPT_ENCODING));
+        assertTrue(gzip.getBody().length < identity.length);
+        assertArrayEquals(identity, gunzip(gzip.getBody()));
+        assertEquals(saved + identity.length - gzip.getBody().length,
+                meterRegistry.get("catalog.responses.bytes.saved").counter().count());
+
+        ResponseEntity<byte[]> refused = get("/api/vendors?page=0&size=50", "gzip;q=0, identity");
+        assertNull(refused.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(identity, refused.getBody());
+    }
+
+    @Test
+    public void testVendorWriteInvalidatesVendorLists() {
+        assertTrue(body("/api/vendors?size=500").contains(vendor.getBusinessName()));
+
+        VendorProfileCreateUpdateDTO update = new VendorProfileCreateUpdateDTO();
+        update.setBusinessName(vendor.getBusinessName() + " & Bakery");
+        vendorService.updateVendorProfile(vendor.getId(), update, owner.getId());
+
+        assertTrue(body("/api/vendors?size=500").contains(vendor.getBusinessName() + " & Bakery"));
+    }
+
+    @Test
+    public void testEventWriteInvalidatesUpcomingEvents() {
+        String title = "Harbour Gala " + System.nanoTime();
+        assertFalse(body("/api/events/upcoming").contains(title));
+
+        EventCreateDTO event = new EventCreateDTO();
+        event.setTitle(title);
+        event.setDate(LocalDateTime.now().plusWeeks(2));
+        event.setLocation("Mombasa");
+        eventService.createEvent(event, owner.getId());
+
+        assertTrue(body("/api/events/upcoming").contains(title));
+    }
+
+    private double hits(String catalog) {
+        return meterRegistry.get("catalog.responses.requests")
+                .tag("catalog", catalog).tag("result", "hit").counter().count();
+    }
+
+    private String body(String path) {
+        return new String(get(path, null).getBody(), StandardCharsets.UTF_8);
+    }
+
+    private ResponseEntity<byte[]> get(String path, String acceptEncoding) {
+        HttpHeaders headers = new HttpHeaders();
+        if (acceptEncoding != null) {
+            headers.set(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return restTemplate.exchange("http://localhost:" + port + path, HttpMethod.GET,
+            new HttpEntity<>(headers), byte[].class);
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+}
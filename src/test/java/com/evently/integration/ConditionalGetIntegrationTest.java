@@ -0,0 +1,208 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.evently.dto.guest.GuestCreateUpdateDTO;
+import com.evently.dto.vendor.PortfolioItemDTO;
+import com.evently.dto.vendor.ReviewDTO;
+import com.evently.model.Event;
+import com.evently.model.PortfolioItem;
+import com.evently.model.ServiceCategory;
+import com.evently.model.User;
+import com.evently.model.VendorProfile;
+import com.evently.repository.EventRepository;
+import com.evently.repository.PortfolioItemRepository;
+import com.evently.repository.ServiceCategoryRepository;
+import com.evently.repository.ServiceRepository;
+import com.evently.repository.UserRepository;
+import com.evently.repository.VendorProfileRepository;
+import com.evently.service.EventService;
+import com.evently.service.UserService;
+import com.evently.service.VendorService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Integration tests for conditional GETs: a matching If-None-Match is answered with 304
+ * after one version query, and any change shown in a representation changes its ETag.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = "spring.datasource.url=jdbc:h2:mem:conditionalget;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+public class ConditionalGetIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private VendorService vendorService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VendorProfileRepository vendorProfileRepository;
+
+    @Autowired
+    private ServiceCategoryRepository serviceCategoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private PortfolioItemRepository portfolioItemRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User planner;
+    private Event event;
+    private ServiceCategory category;
+    private VendorProfile vendor;
+    private PortfolioItem portfolioItem;
+
+    @BeforeEach
+    public void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        planner = IntegrationFixtures.user(userRepository, "planner" + suffix, true);
+        event = IntegrationFixtures.event(eventRepository, planner, "Gala " + suffix,
+            LocalDateTime.now().plusMonths(1));
+        category = IntegrationFixtures.category(serviceCategoryRepository, "Lighting " + suffix);
+        vendor = IntegrationFixtures.vendor(vendorProfileRepository,
+            IntegrationFixtures.user(userRepository, "vendor" + suffix, false), "Bright Lights " + suffix);
+        IntegrationFixtures.service(serviceRepository, vendor, category, "Stage lighting", "250.00");
+
+        portfolioItem = new PortfolioItem();
+        portfolioItem.setVendor(vendor);
+        portfolioItem.setDescription("Wedding at the coast");
+        portfolioItem = portfolioItemRepository.save(portfolioItem);
+    }
+
+    @Test
+    public void testMatchingETagIsNotModifiedAfterOneQuery() {
+        String url = "/api/events/" + event.getId();
+        ResponseEntity<String> first = get(url, null);
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        String etag = first.getHeaders().getETag();
+        assertNotNull(etag);
+        assertEquals("no-cache", first.getHeaders().getCacheControl());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ResponseEntity<String> second = get(url, etag);
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertEquals(etag, second.getHeaders().getETag());
+        assertNull(second.getBody());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testEventETagChangesWithGuests() {
+        String url = "/api/events/" + event.getId();
+        String etag = get(url, null).getHeaders().getETag();
+
+        GuestCreateUpdateDTO guest = new GuestCreateUpdateDTO();
+        guest.setName("Wanjiru");
+        guest.setEmail("wanjiru@example.com");
+        eventService.addGuestToEvent(event.getId(), guest, planner.getId());
+
+        ResponseEntity<String> response = get(url, etag);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotEquals(etag, response.getHeaders().getETag());
+    }
+
+    @Test
+    public void testVendorETagsFollowTheirOwnChildren() {
+        String profileUrl = "/api/vendors/" + vendor.getId();
+        String servicesUrl = profileUrl + "/services";
+        String portfolioUrl = profileUrl + "/portfolio";
+        String profileETag = get(profileUrl, null).getHeaders().getETag();
+        String servicesETag = get(servicesUrl, null).getHeaders().getETag();
+        String portfolioETag = get(portfolioUrl, null).getHeaders().getETag();
+
+        PortfolioItemDTO update = new PortfolioItemDTO();
+        update.setDescription("Wedding at the coast, at night");
+        vendorService.updatePortfolioItem(portfolioItem.getId(), update, vendor.getUser().getId());
+
+        assertEquals(HttpStatus.OK, get(portfolioUrl, portfolioETag).getStatusCode());
+        assertEquals(HttpStatus.OK, get(profileUrl, profileETag).getStatusCode());
+        assertEquals(HttpStatus.NOT_MODIFIED, get(servicesUrl, servicesETag).getStatusCode());
+
+        // Category names are part of the service list
+        category.setName(category.getName() + " & Sound");
+        serviceCategoryRepository.save(category);
+        assertEquals(HttpStatus.OK, get(servicesUrl, servicesETag).getStatusCode());
+
+        // Reviews are part of the profile
+        profileETag = get(profileUrl, null).getHeaders().getETag();
+        ReviewDTO review = new ReviewDTO();
+        review.setRating(5);
+        vendorService.addReviewForVendor(vendor.getId(), review, planner.getId());
+        assertEquals(HttpStatus.OK, get(profileUrl, profileETag).getStatusCode());
+    }
+
+    @Test
+    public void testLoginsDoNotChangeETags() {
+        ReviewDTO review = new ReviewDTO();
+        review.setRating(4);
+        vendorService.addReviewForVendor(vendor.getId(), review, planner.getId());
+        String profileUrl = "/api/vendors/" + vendor.getId();
+        String eventUrl = "/api/events/" + event.getId();
+        String profileETag = get(profileUrl, null).getHeaders().getETag();
+        String eventETag = get(eventUrl, null).getHeaders().getETag();
+
+        // The vendor, and the planner who reviewed them, log in
+        userService.updateLastLogin(vendor.getUser().getUsername());
+        userService.updateLastLogin(planner.getUsername());
+
+        assertNotNull(userRepository.findById(planner.getId()).orElseThrow().getLastLogin());
+        assertEquals(HttpStatus.NOT_MODIFIED, get(profileUrl, profileETag).getStatusCode());
+        assertEquals(HttpStatus.NOT_MODIFIED, get(eventUrl, eventETag).getStatusCode());
+    }
+
+    @Test
+    public void testUnknownEventIsNotFound() {
+        assertEquals(HttpStatus.NOT_FOUND, get("/api/events/987654321", "\"event-987654321\"").getStatusCode());
+    }
+
+    private ResponseEntity<String> get(String path, String ifNoneMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        if (ifNoneMatch != null) {
+            headers.setIfNoneMatch(ifNoneMatch);
+        }
+        return restTemplate.exchange("http://localhost:" + port + path, HttpMethod.GET,
+            new HttpEntity<>(headers), String.class);
+    }
+}
@@ -0,0 +1,206 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.evently.dto.event.EventDTO;
+import com.evently.dto.vendor.VendorRankingDTO;
+import com.evently.leaderboard.LeaderboardMetric;
+import com.evently.model.Event;
+import com.evently.model.Guest;
+import com.evently.model.Guest.RsvpStatus;
+import com.evently.model.Service;
+import com.evently.model.ServiceCategory;
+import com.evently.model.User;
+import com.evently.model.VendorBooking;
+import com.evently.model.VendorBooking.BookingStatus;
+import com.evently.model.VendorProfile;
+import com.evently.repository.ArchivedEventRepository;
+import com.evently.repository.ArchivedGuestRepository;
+import com.evently.repository.ArchivedVendorBookingRepository;
+import com.evently.repository.EventRepository;
+import com.evently.repository.GuestRepository;
+import com.evently.repository.ServiceCategoryRepository;
+import com.evently.repository.ServiceRepository;
+import com.evently.repository.UserRepository;
+import com.evently.repository.VendorBookingRepository;
+import com.evently.repository.VendorProfileRepository;
+import com.evently.service.EventArchiver;
+import com.evently.service.VendorLeaderboardService;
+
+/**
+ * Integration tests for the event archive: past events move to the archive tables with their
+ * guests and bookings, chunk by chunk, and are still served by GET /api/events/{id}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = {
+                    "spring.datasource.url=jdbc:h2:mem:eventarchive;DB_CLOSE_DELAY=-1",
+                    "app.archive.retention=365d",
+                    "app.archive.chunk-size=1",
+                    "app.archive.pause=0ms"
+                })
+@ActiveProfiles("test")
+public class EventArchiveIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EventArchiver eventArchiver;
+
+    @Autowired
+    private VendorLeaderboardService vendorLeaderboardService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private VendorBookingRepository vendorBookingRepository;
+
+    @Autowired
+    private ArchivedEventRepository archivedEventRepository;
+
+    @Autowired
+    private ArchivedGuestRepository archivedGuestRepository;
+
+    @Autowired
+    private ArchivedVendorBookingRepository archivedVendorBookingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VendorProfileRepository vendorProfileRepository;
+
+    @Autowired
+    private ServiceCategoryRepository serviceCategoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User planner;
+    private VendorProfile vendor;
+    private Service service;
+
+    @BeforeEach
+    public void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        ServiceCategory category = IntegrationFixtures.category(serviceCategoryRepository, "Archive " + suffix);
+        planner = IntegrationFixtures.user(userRepository, "planner" + suffix, true);
+        vendor = IntegrationFixtures.vendor(vendorProfileRepository,
+            IntegrationFixtures.user(userRepository, "band" + suffix, false), "Band " + suffix);
+        service = IntegrationFixtures.service(serviceRepository, vendor, category, "Live music", "800.00");
+    }
+
+    @Test
+    public void testPastEventsAreArchivedAndStillServed() {
+        Event old = event("Reunion", LocalDateTime.now().minusYears(2));
+        Guest guest = IntegrationFixtures.guest(guestRepository, old, "Otieno", RsvpStatus.INVITED,
+            IntegrationFixtures.user(userRepository, "otieno" + System.nanoTime(), false));
+        Guest anonymous = IntegrationFixtures.guest(guestRepository, old, "Akinyi", RsvpStatus.INVITED, null);
+        VendorBooking booking = IntegrationFixtures.booking(vendorBookingRepository, old, service,
+            BookingStatus.COMPLETED);
+        Event older = event("Launch", LocalDateTime.now().minusYears(3));
+        Event recent = event("Retreat", LocalDateTime.now().minusMonths(2));
+
+        ResponseEntity<EventDTO> before = get("/api/events/" + old.getId(), null);
+        assertEquals(HttpStatus.OK, before.getStatusCode());
+        String etag = before.getHeaders().getETag();
+        assertNotNull(etag);
+
+        eventArchiver.archive();
+
+        assertFalse(eventRepository.existsById(old.getId()));
+        assertFalse(eventRepository.existsById(older.getId()));
+        assertFalse(guestRepository.existsById(guest.getId()));
+        assertFalse(vendorBookingRepository.existsById(booking.getId()));
+        assertTrue(eventRepository.existsById(recent.getId()), "Within the retention period");
+
+        assertTrue(archivedEventRepository.existsById(old.getId()));
+        assertTrue(archivedEventRepository.existsById(older.getId()));
+        assertEquals(guest.getUser().getId(), archivedGuestRepository.findById(guest.getId()).orElseThrow().getUserId());
+        assertTrue(archivedGuestRepository.existsById(anonymous.getId()), "Guests without an account are archived too");
+        assertEquals(BookingStatus.COMPLETED, archivedVendorBookingRepository.findById(booking.getId()).orElseThrow().getStatus());
+
+        ResponseEntity<EventDTO> after = get("/api/events/" + old.getId(), null);
+        assertEquals(HttpStatus.OK, after.getStatusCode());
+        assertEquals("Reunion", after.getBody().getTitle());
+        assertEquals(planner.getUsername(), after.getBody().getPlannerUsername());
+        assertEquals(2, after.getBody().getGuestCount());
+        assertEquals(1, after.getBody().getVendorCount());
+        assertEquals(etag, after.getHeaders().getETag(), "Archiving does not change the representation");
+        assertEquals(HttpStatus.NOT_MODIFIED, get("/api/events/" + old.getId(), etag).getStatusCode());
+    }
+
+    @Test
+    public void testEventsWithOpenBookingsStayHot() {
+        Event unsettled = event("Gala", LocalDateTime.now().minusYears(2));
+        IntegrationFixtures.booking(vendorBookingRepository, unsettled, service, BookingStatus.CONFIRMED);
+
+        eventArchiver.archive();
+
+        assertTrue(eventRepository.existsById(unsettled.getId()));
+        assertFalse(archivedEventRepository.existsById(unsettled.getId()));
+    }
+
+    @Test
+    public void testArchivedBookingsStillCountOnTheLeaderboard() {
+        Event wedding = event("Wedding", LocalDateTime.now().minusYears(2));
+        IntegrationFixtures.booking(vendorBookingRepository, wedding, service, BookingStatus.COMPLETED);
+
+        eventArchiver.archive();
+        vendorLeaderboardService.rebuild();
+
+        VendorRankingDTO ranking = vendorLeaderboardService.getTopVendors(LeaderboardMetric.BOOKINGS, null, 100).stream()
+                .filter(entry -> entry.getVendorId().equals(vendor.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, ranking.getConfirmedBookings());
+    }
+
+    private ResponseEntity<EventDTO> get(String path, String ifNoneMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        if (ifNoneMatch != null) {
+            headers.setIfNoneMatch(ifNoneMatch);
+        }
+        return restTemplate.exchange("http://localhost:" + port + path, HttpMethod.GET,
+            new HttpEntity<>(headers), EventDTO.class);
+    }
+
+    /**
+     * An event of the planner that took place at the given time.
+     */
+    private Event event(String title, LocalDateTime date) {
+        Event event = IntegrationFixtures.event(eventRepository, planner, title, LocalDateTime.now().plusMonths(1));
+        // Set by the application as a future date; moved into the past behind its back
+        jdbcTemplate.update("UPDATE events_event SET date = ? WHERE id = ?", date, event.getId());
+        return event;
+    }
+}
@@ -0,0 +1,72 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.evently.repository.UserRepository;
+import com.evently.service.BookingLifecycleService;
+import com.evently.service.CacheInvalidationPoller;
+import com.evently.service.EventArchiver;
+
+/**
+ * Integration tests for the fast-start mode: with lazy initialization the background jobs are
+ * still scheduled, and sample data is seeded off the startup path.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = {
+                    "spring.datasource.url=jdbc:h2:mem:faststart;DB_CLOSE_DELAY=-1",
+                    "spring.main.lazy-initialization=true",
+                    "app.seed-data.async=true"
+                })
+@ActiveProfiles("test")
+public class FastStartIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ScheduledTaskHolder scheduledTaskHolder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    public void testScheduledJobsStayEager() {
+        // Scheduled methods describe themselves by their qualified name
+        Set<String> scheduled = scheduledTaskHolder.getScheduledTasks().stream()
+                .map(task -> task.getTask().getRunnable().toString())
+                .collect(Collectors.toSet());
+
+        assertTrue(scheduled.contains(BookingLifecycleService.class.getName() + ".run"), scheduled.toString());
+        assertTrue(scheduled.contains(EventArchiver.class.getName() + ".archive"), scheduled.toString());
+        assertTrue(scheduled.contains(CacheInvalidationPoller.class.getName() + ".poll"), scheduled.toString());
+    }
+
+    @Test
+    public void testSampleDataIsSeededInTheBackground() throws InterruptedException {
+        assertEquals(HttpStatus.OK,
+            restTemplate.getForEntity("http://localhost:" + port + "/health/ping", String.class).getStatusCode());
+
+        long deadline = System.currentTimeMillis() + 30000;
+        while (!userRepository.existsByUsername("eventplanner") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertTrue(userRepository.existsByUsername("eventplanner"), "Seeded within 30s");
+        assertEquals(10, userRepository.count());
+    }
+}
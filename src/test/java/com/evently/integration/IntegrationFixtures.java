@@ -0,0 +1,113 @@
+package com.evently.integration;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.evently.dto.booking.VendorBookingCreateDTO;
+import com.evently.dto.booking.VendorBookingDTO;
+import com.evently.model.Event;
+import com.evently.model.Guest;
+import com.evently.model.Guest.RsvpStatus;
+import com.evently.model.Service;
+import com.evently.model.ServiceCategory;
+import com.evently.model.User;
+import com.evently.model.VendorBooking;
+import com.evently.model.VendorBooking.BookingStatus;
+import com.evently.model.VendorProfile;
+import com.evently.repository.EventRepository;
+import com.evently.repository.GuestRepository;
+import com.evently.repository.ServiceCategoryRepository;
+import com.evently.repository.ServiceRepository;
+import com.evently.repository.UserRepository;
+import com.evently.repository.VendorBookingRepository;
+import com.evently.repository.VendorProfileRepository;
+import com.evently.service.BookingService;
+
+/**
+ * Saved users, vendors, services, events, guests and bookings for the integration tests.
+ * Names are the caller's; suffix them with System.nanoTime() where they must be unique.
+ */
+final class IntegrationFixtures {
+
+    private IntegrationFixtures() {
+    }
+
+    static User user(UserRepository users, String username, boolean isPlanner) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("password123");
+        user.setEmail(username + "@example.com");
+        user.setIsPlanner(isPlanner);
+        user.setDateJoined(LocalDateTime.now());
+        return users.save(user);
+    }
+
+    static ServiceCategory category(ServiceCategoryRepository categories, String name) {
+        ServiceCategory category = new ServiceCategory();
+        category.setName(name);
+        return categories.save(category);
+    }
+
+    static VendorProfile vendor(VendorProfileRepository vendors, User user, String businessName) {
+        VendorProfile vendor = new VendorProfile();
+        vendor.setUser(user);
+        vendor.setBusinessName(businessName);
+        return vendors.save(vendor);
+    }
+
+    static Service service(ServiceRepository services, VendorProfile vendor, ServiceCategory category,
+                           String title, String price) {
+        Service service = new Service();
+        service.setVendor(vendor);
+        service.setCategory(category);
+        service.setTitle(title);
+        service.setDescription(title + " package");
+        service.setPrice(new BigDecimal(price));
+        return services.save(service);
+    }
+
+    static Event event(EventRepository events, User planner, String title, LocalDateTime date) {
+        Event event = new Event();
+        event.setPlanner(planner);
+        event.setTitle(title);
+        event.setDate(date);
+        event.setLocation("Nairobi");
+        return events.save(event);
+    }
+
+    /**
+     * A guest on the list; with a user, that user's own RSVP.
+     */
+    static Guest guest(GuestRepository guests, Event event, String name, RsvpStatus status, User user) {
+        Guest guest = new Guest();
+        guest.setEvent(event);
+        guest.setUser(user);
+        guest.setName(name);
+        guest.setEmail("guest" + System.nanoTime() + "@example.com");
+        guest.setRsvpStatus(status);
+        return guests.save(guest);
+    }
+
+    /**
+     * A booking saved directly, without going through BookingService.
+     */
+    static VendorBooking booking(VendorBookingRepository bookings, Event event, Service service, BookingStatus status) {
+        VendorBooking booking = new VendorBooking();
+        booking.setEvent(event);
+        booking.setVendor(service.getVendor());
+        booking.setService(service);
+        booking.setStatus(status);
+        return bookings.save(booking);
+    }
+
+    /**
+     * A pending booking made by the planner through BookingService.
+     */
+    static VendorBookingDTO book(BookingService bookingService, Long eventId, Service service, User planner) {
+        VendorBookingCreateDTO createDTO = new VendorBookingCreateDTO();
+        createDTO.setEventId(eventId);
+        createDTO.setVendorId(service.getVendor().getId());
+        createDTO.setServiceId(service.getId());
+        return bookingService.createVendorBooking(createDTO, planner.getId());
+    }
+}
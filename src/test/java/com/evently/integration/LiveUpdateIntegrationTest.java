@@ -0,0 +1,244 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.evently.dto.booking.VendorBookingDTO;
+import com.evently.dto.guest.GuestCreateUpdateDTO;
+import com.evently.dto.guest.GuestDto;
+import com.evently.model.CacheInvalidation;
+import com.evently.model.Event;
+import com.evently.model.Guest;
+import com.evently.model.Service;
+import com.evently.model.ServiceCategory;
+import com.evently.model.User;
+import com.evently.model.VendorProfile;
+import com.evently.repository.CacheInvalidationRepository;
+import com.evently.repository.EventRepository;
+import com.evently.repository.ServiceCategoryRepository;
+import com.evently.repository.ServiceRepository;
+import com.evently.repository.UserRepository;
+import com.evently.repository.VendorProfileRepository;
+import com.evently.security.JwtTokenProvider;
+import com.evently.service.BookingService;
+import com.evently.service.CacheInvalidationPoller;
+import com.evently.service.EventService;
+
+/**
+ * Integration tests for the live update streams: guest and booking changes reach the event's
+ * planner and the booked vendor as Server-Sent Events after their transactions commit, on this
+ * node or, through the cache invalidation log, on another.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = "spring.datasource.url=jdbc:h2:mem:liveupdates;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+public class LiveUpdateIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VendorProfileRepository vendorProfileRepository;
+
+    @Autowired
+    private ServiceCategoryRepository serviceCategoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private CacheInvalidationRepository cacheInvalidationRepository;
+
+    @Autowired
+    private CacheInvalidationPoller cacheInvalidationPoller;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final List<Stream> streams = new ArrayList<>();
+
+    private User planner;
+    private VendorProfile vendor;
+    private Service service;
+    private Event event;
+
+    @BeforeEach
+    public void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        ServiceCategory category = IntegrationFixtures.category(serviceCategoryRepository, "Live " + suffix);
+        planner = IntegrationFixtures.user(userRepository, "planner" + suffix, true);
+        vendor = IntegrationFixtures.vendor(vendorProfileRepository,
+            IntegrationFixtures.user(userRepository, "dj" + suffix, false), "DJ " + suffix);
+        service = IntegrationFixtures.service(serviceRepository, vendor, category, "Music", "500.00");
+        event = IntegrationFixtures.event(eventRepository, planner, "Birthday " + suffix,
+            LocalDateTime.now().plusMonths(1));
+    }
+
+    @AfterEach
+    public void closeStreams() {
+        streams.forEach(Stream::close);
+    }
+
+    @Test
+    public void testGuestChangesReachThePlanner() throws Exception {
+        Stream stream = follow("/api/events/" + event.getId() + "/live", planner);
+
+        GuestCreateUpdateDTO guestDTO = new GuestCreateUpdateDTO();
+        guestDTO.setName("Wanjiru");
+        guestDTO.setEmail("wanjiru" + System.nanoTime() + "@example.com");
+        GuestDto guest = eventService.addGuestToEvent(event.getId(), guestDTO, planner.getId());
+        eventService.updateGuestRsvpStatus(guest.getId(), Guest.RsvpStatus.ATTENDING);
+        eventService.removeGuestFromEvent(guest.getId(), planner.getId());
+
+        String prefix = "{\"eventId\":" + event.getId() + ",\"guestId\":" + guest.getId();
+        assertEquals("guest " + prefix + ",\"oldStatus\":null,\"newStatus\":\"INVITED\"}", stream.next());
+        assertEquals("guest " + prefix + ",\"oldStatus\":\"INVITED\",\"newStatus\":\"ATTENDING\"}", stream.next());
+        assertEquals("guest " + prefix + ",\"oldStatus\":\"ATTENDING\",\"newStatus\":null}", stream.next());
+    }
+
+    @Test
+    public void testBookingChangesReachPlannerAndVendor() throws Exception {
+        Stream plannerStream = follow("/api/events/" + event.getId() + "/live", planner);
+        Stream vendorStream = follow("/api/vendors/" + vendor.getId() + "/live", vendor.getUser());
+
+        VendorBookingDTO booking = IntegrationFixtures.book(bookingService, event.getId(), service, planner);
+        bookingService.confirmVendorBooking(booking.getId(), vendor.getUser().getId());
+
+        String prefix = "booking {\"bookingId\":" + booking.getId() + ",\"eventId\":" + event.getId()
+            + ",\"vendorId\":" + vendor.getId();
+        String created = prefix + ",\"oldStatus\":null,\"newStatus\":\"PENDING\"}";
+        String confirmed = prefix + ",\"oldStatus\":\"PENDING\",\"newStatus\":\"CONFIRMED\"}";
+        assertEquals(created, plannerStream.next());
+        assertEquals(confirmed, plannerStream.next());
+        assertEquals(created, vendorStream.next());
+        assertEquals(confirmed, vendorStream.next());
+    }
+
+    @Test
+    public void testChangesOnOtherNodesReachFollowers() throws Exception {
+        Stream stream = follow("/api/events/" + event.getId() + "/live", planner);
+
+        GuestCreateUpdateDTO guestDTO = new GuestCreateUpdateDTO();
+        guestDTO.setName("Achieng");
+        guestDTO.setEmail("achieng" + System.nanoTime() + "@example.com");
+        GuestDto guest = eventService.addGuestToEvent(event.getId(), guestDTO, planner.getId());
+        String prefix = "{\"eventId\":" + event.getId() + ",\"guestId\":" + guest.getId();
+        assertEquals("guest " + prefix + ",\"oldStatus\":null,\"newStatus\":\"INVITED\"}", stream.next());
+
+        // The same guest confirmed through another node
+        String remote = prefix + ",\"oldStatus\":\"INVITED\",\"newStatus\":\"ATTENDING\"}";
+        CacheInvalidation entry = new CacheInvalidation(CacheInvalidation.Kind.LIVE, "event:" + event.getId(), "guest", "other-node");
+        entry.setPayload(remote);
+        cacheInvalidationRepository.save(entry);
+        cacheInvalidationPoller.poll();
+
+        // This node's own entry is not delivered a second time
+        assertEquals("guest " + remote, stream.next());
+    }
+
+    @Test
+    public void testOnlyOwnersMayFollow() throws Exception {
+        assertEquals(401, status("/api/events/" + event.getId() + "/live", null));
+        assertEquals(400, status("/api/events/" + event.getId() + "/live", vendor.getUser()));
+        assertEquals(400, status("/api/vendors/" + vendor.getId() + "/live", planner));
+    }
+
+    /**
+     * Open a stream and wait until the subscription is in place.
+     */
+    private Stream follow(String path, User user) throws Exception {
+        HttpResponse<java.util.stream.Stream<String>> response =
+            client.send(request(path, user), HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+        Stream stream = new Stream(response.body());
+        streams.add(stream);
+        assertEquals("subscribed " + path.replaceFirst("/api/(event|vendor)s/(\\d+)/live", "$1:$2"), stream.next());
+        return stream;
+    }
+
+    private int status(String path, User user) throws Exception {
+        return client.send(request(path, user), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest request(String path, User user) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .header("Accept", "text/event-stream");
+        if (user != null) {
+            request.header("Authorization", "Bearer " + jwtTokenProvider.generateTokenFromUsername(user.getUsername()));
+        }
+        return request.build();
+    }
+
+    /**
+     * Server-Sent Events read off a response on a thread of their own, as "name data".
+     */
+    private static class Stream {
+
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        private final java.util.stream.Stream<String> lines;
+
+        Stream(java.util.stream.Stream<String> lines) {
+            this.lines = lines;
+            Thread reader = new Thread(this::read, "sse-reader");
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        private void read() {
+            String[] name = {null};
+            try {
+                lines.forEach(line -> {
+                    if (line.startsWith("event:")) {
+                        name[0] = line.substring(6);
+                    } else if (line.startsWith("data:")) {
+                        events.add(name[0] + " " + line.substring(5));
+                    }
+                });
+            } catch (RuntimeException e) {
+                // Closed by the test
+            }
+        }
+
+        String next() throws InterruptedException {
+            String event = events.poll(10, TimeUnit.SECONDS);
+            assertNotNull(event, "No event within 10s");
+            return event;
+        }
+
+        void close() {
+            lines.close();
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import com.evently.dto.vendor.PortfolioItemDTO;
+import com.evently.dto.vendor.VendorProfileCreateUpdateDTO;
+import com.evently.dto.vendor.VendorProfileDTO;
+import com.evently.model.User;
+import com.evently.repository.UserRepository;
+import com.evently.security.JwtTokenProvider;
+import com.evently.service.VendorService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Integration tests for image uploads: content-addressed storage with deduplication,
+ * content-type sniffing, and thumbnails attached to the DTOs by the background workers.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = {
+                    "spring.datasource.url=jdbc:h2:mem:mediaupload;DB_CLOSE_DELAY=-1",
+                    "app.file.upload-dir=target/test-uploads/media-upload",
+                    "app.media.thumbnail-width=320"
+                })
+@ActiveProfiles("test")
+public class MediaUploadIntegrationTest {
+
+    private static final Path UPLOADS = Paths.get("target/test-uploads/media-upload");
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private VendorService vendorService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Random random = new Random();
+
+    private User owner;
+    private Long vendorId;
+
+    @BeforeEach
+    public void setUp() {
+        owner = vendorUser();
+        VendorProfileCreateUpdateDTO profile = new VendorProfileCreateUpdateDTO();
+        profile.setBusinessName("Lakeside Photography " + owner.getId());
+        vendorId = vendorService.createVendorProfile(profile, owner.getId()).getId();
+    }
+
+    @Test
+    public void testIdenticalUploadsShareOneStoredFile() throws Exception {
+        byte[] png = image(800, 600, "png");
+        double duplicates = meterRegistry.get("media.uploads").tag("result", "duplicate").counter().count();
+
+        ResponseEntity<PortfolioItemDTO> first = uploadPortfolioImage(owner, png, "photo.png");
+        ResponseEntity<PortfolioItemDTO> second = uploadPortfolioImage(owner, png, "copy-of-photo.jpg");
+        assertEquals(HttpStatus.CREATED, first.getStatusCode());
+        assertEquals(HttpStatus.CREATED, second.getStatusCode());
+
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(png));
+        String url = "/uploads/media/" + sha256.substring(0, 2) + "/" + sha256 + ".png";
+        assertEquals(url, first.getBody().getImage());
+        assertEquals(url, second.getBody().getImage());
+        assertTrue(first.getBody().getId() < second.getBody().getId());
+        try (Stream<Path> files = Files.list(UPLOADS.resolve("media").resolve(sha256.substring(0, 2)))) {
+            assertEquals(1, files.filter(file -> file.getFileName().toString().startsWith(sha256 + ".")).count());
+        }
+        assertEquals(duplicates + 1, meterRegistry.get("media.uploads").tag("result", "duplicate").counter().count());
+    }
+
+    @Test
+    public void testThumbnailIsGeneratedAndReferenced() throws Exception {
+        PortfolioItemDTO item = uploadPortfolioImage(owner, image(1600, 1200, "jpg"), "wedding.jpg").getBody();
+        assertNotNull(item);
+
+        String thumbnail = awaitThumbnail(item.getId());
+        assertTrue(thumbnail.startsWith(item.getImage().substring(0, item.getImage().lastIndexOf('.'))));
+
+        // Thumbnails are public, like the vendor listings that reference them
+        ResponseEntity<byte[]> response = restTemplate.getForEntity(thumbnail, byte[].class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(response.getBody()));
+        assertEquals(320, decoded.getWidth());
+        assertEquals(240, decoded.getHeight());
+
+        VendorProfileDTO profile = vendorService.getVendorProfileById(vendorId).orElseThrow();
+        assertEquals(thumbnail, profile.getPortfolioItems().stream()
+            .filter(portfolioItem -> portfolioItem.getId().equals(item.getId()))
+            .findFirst().orElseThrow().getImageThumbnail());
+    }
+
+    @Test
+    public void testNonImageContentIsRejected() throws IOException {
+        long before = storedFiles();
+        ResponseEntity<PortfolioItemDTO> response = uploadPortfolioImage(owner,
+            "<svg onload=alert(1)>".getBytes(StandardCharsets.UTF_8), "innocent.png");
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(before, storedFiles());
+        try (Stream<Path> parts = Files.list(UPLOADS.resolve("temp"))) {
+            assertEquals(0, parts.count());
+        }
+    }
+
+    @Test
+    public void testProfilePictureIsOwnerOnly() throws Exception {
+        byte[] gif = image(200, 200, "gif");
+        long before = storedFiles();
+
+        ResponseEntity<VendorProfileDTO> stranger = uploadProfilePicture(vendorUser(), gif);
+        assertEquals(HttpStatus.BAD_REQUEST, stranger.getStatusCode());
+        assertNull(vendorService.getVendorProfileById(vendorId).orElseThrow().getProfilePic());
+        assertEquals(before, storedFiles(), "A rejected upload leaves no file behind");
+
+        ResponseEntity<VendorProfileDTO> response = uploadProfilePicture(owner, gif);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().getProfilePic().matches("/uploads/media/[0-9a-f]{2}/[0-9a-f]{64}\\.gif"));
+    }
+
+    private String awaitThumbnail(Long itemId) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            String thumbnail = vendorService.getPortfolioItemsByVendor(vendorId).stream()
+                .filter(portfolioItem -> portfolioItem.getId().equals(itemId))
+                .findFirst().orElseThrow().getImageThumbnail();
+            if (thumbnail != null) {
+                return thumbnail;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("No thumbnail attached to portfolio item " + itemId);
+    }
+
+    private ResponseEntity<PortfolioItemDTO> uploadPortfolioImage(User user, byte[] content, String filename) {
+        return restTemplate.exchange("/api/vendors/" + vendorId + "/portfolio/images", HttpMethod.POST,
+            multipart(user, content, filename), PortfolioItemDTO.class);
+    }
+
+    private ResponseEntity<VendorProfileDTO> uploadProfilePicture(User user, byte[] content) {
+        return restTemplate.exchange("/api/vendors/" + vendorId + "/profile-pic", HttpMethod.PUT,
+            multipart(user, content, "me.gif"), VendorProfileDTO.class);
+    }
+
+    private HttpEntity<MultiValueMap<String, Object>> multipart(User user, byte[] content, String filename) {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", new ByteArrayResource(content) {
+            @Override
+            public String getFilename() {
+                return filename;
+            }
+        });
+        body.add("description", "Uploaded from the integration test");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        headers.setBearerAuth(jwtTokenProvider.generateTokenFromUsername(user.getUsername()));
+        return new HttpEntity<>(body, headers);
+    }
+
+    private User vendorUser() {
+        String suffix = String.valueOf(System.nanoTime());
+        User user = new User();
+        user.setUsername("photographer" + suffix);
+        user.setPassword("password123");
+        user.setEmail("photographer" + suffix + "@example.com");
+        user.setIsVendor(true);
+        return userRepository.save(user);
+    }
+
+    /**
+     * A noisy image, so every call produces different content.
+     */
+    private byte[] image(int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y += 8) {
+            for (int x = 0; x < width; x += 8) {
+                int rgb = random.nextInt(0xFFFFFF);
+                for (int dy = 0; dy < 8 && y + dy < height; dy++) {
+                    for (int dx = 0; dx < 8 && x + dx < width; dx++) {
+                        image.setRGB(x + dx, y + dy, rgb);
+                    }
+                }
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private static long storedFiles() throws IOException {
+        Path media = UPLOADS.resolve("media");
+        if (!Files.exists(media)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.walk(media)) {
+            return files.filter(file -> file.getFileName().toString().matches("[0-9a-f]{64}\\.(jpg|png|gif)")).count();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for the Prometheus scrape endpoint and the detailed health report.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@AutoConfigureObservability
+public class MetricsIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    public void testPrometheusEndpointExposesLatencyAndPoolMetrics() {
+        // Generate some endpoint and repository traffic first
+        restTemplate.getForEntity("http://localhost:" + port + "/api/vendors", String.class);
+        restTemplate.getForEntity("http://localhost:" + port + "/api/events/upcoming", String.class);
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            "http://localhost:" + port + "/actuator/prometheus", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String body = response.getBody();
+        assertNotNull(body);
+        assertTrue(body.contains("http_server_requests_seconds_bucket"));
+        assertTrue(body.contains("spring_data_repository_invocations_seconds_bucket"));
+        assertTrue(body.contains("hikaricp_connections_active"));
+        assertTrue(body.contains("jvm_gc_memory_allocated_bytes_total"));
+        assertTrue(body.contains("cache_gets_total"));
+    }
+
+    @Test
+    public void testUnauthenticatedRequestsGetTemplatedBodyAndAreCounted() {
+        ResponseEntity<String> rejected = restTemplate.getForEntity(
+            "http://localhost:" + port + "/api/bookings/vendor/1", String.class);
+
+        assertEquals(HttpStatus.UNAUTHORIZED, rejected.getStatusCode());
+        assertTrue(rejected.getBody().startsWith("{\"status\":401,\"error\":\"Unauthorized\""));
+        assertTrue(rejected.getBody().contains("\"path\":\"/api/bookings/vendor/1\""));
+
+        String metrics = restTemplate.getForEntity("http://localhost:" + port + "/actuator/prometheus", String.class).getBody();
+        assertTrue(metrics.lines().anyMatch(line -> line.startsWith("http_rejections_total{")
+            && line.contains("reason=\"unauthenticated\"") && line.contains("status=\"401\"")));
+    }
+
+    @Test
+    public void testDetailedHealthReportsActualDatabase() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            "http://localhost:" + port + "/health/detailed", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String body = response.getBody();
+        assertNotNull(body);
+        assertTrue(body.contains("\"type\":\"H2\""));
+        assertTrue(body.contains("evently-primary"));
+    }
+}
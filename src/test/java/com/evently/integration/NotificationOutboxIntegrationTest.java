@@ -0,0 +1,283 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.evently.dto.booking.VendorBookingDTO;
+import com.evently.model.Event;
+import com.evently.model.Guest;
+import com.evently.model.OutboxMessage;
+import com.evently.model.Service;
+import com.evently.model.ServiceCategory;
+import com.evently.model.User;
+import com.evently.model.VendorProfile;
+import com.evently.notification.WebhookNotificationSink;
+import com.evently.repository.EventRepository;
+import com.evently.repository.GuestRepository;
+import com.evently.repository.OutboxMessageRepository;
+import com.evently.repository.ServiceCategoryRepository;
+import com.evently.repository.ServiceRepository;
+import com.evently.repository.UserRepository;
+import com.evently.repository.VendorProfileRepository;
+import com.evently.service.BookingService;
+import com.evently.service.EventService;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.sun.net.httpserver.HttpServer;
+
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Integration tests for the notification outbox: booking and RSVP changes are stored with their
+ * transaction and delivered afterwards to an in-memory SMTP server and a local webhook receiver,
+ * with retries and idempotency keys.
+ */
+@SpringBootTest(properties = {
+                    "spring.datasource.url=jdbc:h2:mem:notifications;DB_CLOSE_DELAY=-1",
+                    "spring.mail.host=localhost",
+                    "spring.mail.port=3025",
+                    "spring.mail.username=",
+                    "spring.mail.password=",
+                    "spring.mail.properties.mail.smtp.auth=false",
+                    "spring.mail.properties.mail.smtp.starttls.enable=false",
+                    "spring.mail.properties.mail.smtp.starttls.required=false",
+                    "app.notifications.email.enabled=true",
+                    "app.notifications.log.enabled=false",
+                    "app.notifications.poll-interval-ms=100",
+                    "app.notifications.retry.initial-delay=100ms",
+                    "app.notifications.retry.max-delay=200ms",
+                    "app.notifications.retry.max-attempts=3",
+                    "management.health.mail.enabled=false"
+                })
+@ActiveProfiles("test")
+// Starts its webhook server with the class, which AOT test processing would leave running
+@DisabledInAotMode
+public class NotificationOutboxIntegrationTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    private static final Queue<String> webhookKeys = new ConcurrentLinkedQueue<>();
+    // The webhook receiver answers 500 to the next webhookFailures requests for keys starting with failingKeys
+    private static final AtomicInteger webhookFailures = new AtomicInteger();
+    private static volatile String failingKeys = "-";
+    private static final HttpServer webhook = startWebhook();
+
+    @DynamicPropertySource
+    static void webhookUrl(DynamicPropertyRegistry registry) {
+        registry.add("app.notifications.webhook.url",
+            () -> "http://localhost:" + webhook.getAddress().getPort() + "/notifications");
+    }
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VendorProfileRepository vendorProfileRepository;
+
+    @Autowired
+    private ServiceCategoryRepository serviceCategoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User planner;
+    private VendorProfile vendor;
+    private Service service;
+    private Event event;
+
+    @BeforeEach
+    public void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        ServiceCategory category = IntegrationFixtures.category(serviceCategoryRepository, "Notifications " + suffix);
+        planner = IntegrationFixtures.user(userRepository, "planner" + suffix, true);
+        vendor = IntegrationFixtures.vendor(vendorProfileRepository,
+            IntegrationFixtures.user(userRepository, "caterer" + suffix, false), "Caterer " + suffix);
+        service = IntegrationFixtures.service(serviceRepository, vendor, category, "Buffet", "900.00");
+        event = IntegrationFixtures.event(eventRepository, planner, "Wedding " + suffix,
+            LocalDateTime.now().plusMonths(3));
+    }
+
+    @AfterAll
+    public static void stopWebhook() {
+        webhook.stop(0);
+    }
+
+    @Test
+    public void testBookingChangesAreDeliveredAfterCommit() throws Exception {
+        VendorBookingDTO booking = IntegrationFixtures.book(bookingService, event.getId(), service, planner);
+        bookingService.confirmVendorBooking(booking.getId(), vendor.getUser().getId());
+
+        String requested = "booking-" + booking.getId() + "-PENDING-vendor";
+        String confirmed = "booking-" + booking.getId() + "-CONFIRMED-planner";
+        await(() -> allSent("booking-" + booking.getId() + "-"));
+
+        MimeMessage request = mailTo(vendor.getUser().getEmail());
+        assertEquals("New booking request for " + event.getTitle(), request.getSubject());
+        assertEquals("<" + requested + "-email@evently.com>", request.getMessageID());
+        MimeMessage confirmation = mailTo(planner.getEmail());
+        assertEquals(vendor.getBusinessName() + " confirmed your booking for " + event.getTitle(),
+            confirmation.getSubject());
+        assertEquals("<" + confirmed + "-email@evently.com>", confirmation.getMessageID());
+
+        assertTrue(webhookKeys.contains(requested + "-webhook"));
+        assertTrue(webhookKeys.contains(confirmed + "-webhook"));
+    }
+
+    @Test
+    public void testRepeatedStatusIsStoredOnce() {
+        VendorBookingDTO booking = IntegrationFixtures.book(bookingService, event.getId(), service, planner);
+        bookingService.cancelVendorBooking(booking.getId(), planner.getId());
+        bookingService.cancelVendorBooking(booking.getId(), planner.getId());
+
+        // Planner and vendor, by e-mail and webhook
+        assertEquals(4, messages("booking-" + booking.getId() + "-CANCELLED-").size());
+    }
+
+    @Test
+    public void testRolledBackChangeStoresNothing() {
+        VendorBookingDTO booking = IntegrationFixtures.book(bookingService, event.getId(), service, planner);
+        transactionTemplate.executeWithoutResult(status -> {
+            bookingService.confirmVendorBooking(booking.getId(), vendor.getUser().getId());
+            assertEquals(2, messages("booking-" + booking.getId() + "-CONFIRMED-").size());
+            status.setRollbackOnly();
+        });
+
+        assertEquals(List.of(), messages("booking-" + booking.getId() + "-CONFIRMED-"));
+    }
+
+    @Test
+    public void testFailedDeliveryIsRetried() throws Exception {
+        Guest guest = IntegrationFixtures.guest(guestRepository, event, "Guest " + System.nanoTime(),
+            Guest.RsvpStatus.INVITED, null);
+        failWebhook("rsvp-" + guest.getId() + "-", 1);
+        eventService.updateGuestRsvpStatus(guest.getId(), Guest.RsvpStatus.ATTENDING);
+
+        String key = "rsvp-" + guest.getId() + "-ATTENDING-";
+        await(() -> allSent(key));
+        OutboxMessage delivered = messages(key).stream()
+            .filter(message -> message.getSink().equals("webhook"))
+            .findFirst().orElseThrow();
+        assertEquals(2, delivered.getAttempts());
+        assertTrue(webhookKeys.contains(delivered.getIdempotencyKey()));
+        assertEquals(guest.getName() + " is attending for " + event.getTitle(), mailTo(planner.getEmail()).getSubject());
+    }
+
+    @Test
+    public void testDeliveryIsAbandonedAfterMaxAttempts() throws Exception {
+        Guest guest = IntegrationFixtures.guest(guestRepository, event, "Guest " + System.nanoTime(),
+            Guest.RsvpStatus.INVITED, null);
+        failWebhook("rsvp-" + guest.getId() + "-", Integer.MAX_VALUE);
+        eventService.updateGuestRsvpStatus(guest.getId(), Guest.RsvpStatus.DECLINED);
+
+        String key = "rsvp-" + guest.getId() + "-DECLINED-";
+        await(() -> messages(key).stream()
+            .anyMatch(message -> message.getStatus() == OutboxMessage.Status.FAILED));
+        OutboxMessage failed = messages(key).stream()
+            .filter(message -> message.getSink().equals("webhook"))
+            .findFirst().orElseThrow();
+        assertEquals(OutboxMessage.Status.FAILED, failed.getStatus());
+        assertEquals(3, failed.getAttempts());
+        assertNotNull(failed.getLastError());
+    }
+
+    private static void failWebhook(String keyPrefix, int times) {
+        failingKeys = keyPrefix;
+        webhookFailures.set(times);
+    }
+
+    private List<OutboxMessage> messages(String keyPrefix) {
+        return outboxMessageRepository.findAll().stream()
+            .filter(message -> message.getIdempotencyKey().startsWith(keyPrefix))
+            .toList();
+    }
+
+    private boolean allSent(String keyPrefix) {
+        List<OutboxMessage> messages = messages(keyPrefix);
+        return !messages.isEmpty()
+            && messages.stream().allMatch(message -> message.getStatus() == OutboxMessage.Status.SENT);
+    }
+
+    private MimeMessage mailTo(String address) throws Exception {
+        for (MimeMessage message : greenMail.getReceivedMessages()) {
+            if (message.getAllRecipients()[0].toString().equals(address)) {
+                return message;
+            }
+        }
+        throw new AssertionError("No mail to " + address);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Notifications not delivered in time");
+    }
+
+    private static HttpServer startWebhook() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/notifications", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                String key = exchange.getRequestHeaders().getFirst(WebhookNotificationSink.IDEMPOTENCY_KEY_HEADER);
+                boolean fail = key.startsWith(failingKeys)
+                    && webhookFailures.getAndUpdate(failures -> Math.max(0, failures - 1)) > 0;
+                if (!fail) {
+                    webhookKeys.add(key);
+                }
+                exchange.sendResponseHeaders(fail ? 500 : 204, -1);
+                exchange.close();
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
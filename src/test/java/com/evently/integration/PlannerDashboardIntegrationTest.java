@@ -0,0 +1,171 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.evently.model.Event;
+import com.evently.model.Guest;
+import com.evently.model.Guest.RsvpStatus;
+import com.evently.model.Service;
+import com.evently.model.ServiceCategory;
+import com.evently.model.User;
+import com.evently.model.VendorBooking.BookingStatus;
+import com.evently.model.VendorProfile;
+import com.evently.repository.EventRepository;
+import com.evently.repository.GuestRepository;
+import com.evently.repository.ServiceCategoryRepository;
+import com.evently.repository.ServiceRepository;
+import com.evently.repository.UserRepository;
+import com.evently.repository.VendorBookingRepository;
+import com.evently.repository.VendorProfileRepository;
+import com.evently.security.JwtTokenProvider;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Integration tests for the planner dashboard: every event of the planner with its guests and
+ * bookings counted by status, in a fixed number of queries.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = "spring.datasource.url=jdbc:h2:mem:plannerdashboard;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@ExtendWith(OutputCaptureExtension.class)
+public class PlannerDashboardIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VendorProfileRepository vendorProfileRepository;
+
+    @Autowired
+    private ServiceCategoryRepository serviceCategoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private VendorBookingRepository vendorBookingRepository;
+
+    private VendorProfile vendor;
+    private Service service;
+
+    @BeforeEach
+    public void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        ServiceCategory category = IntegrationFixtures.category(serviceCategoryRepository, "Dashboard " + suffix);
+        vendor = IntegrationFixtures.vendor(vendorProfileRepository,
+            IntegrationFixtures.user(userRepository, "baker" + suffix, false), "Baker " + suffix);
+        service = IntegrationFixtures.service(serviceRepository, vendor, category, "Cake", "300.00");
+    }
+
+    @Test
+    public void testEventsAreCountedByStatus(CapturedOutput output) {
+        User planner = IntegrationFixtures.user(userRepository, "planner" + System.nanoTime(), true);
+        Event later = IntegrationFixtures.event(eventRepository, planner, "Anniversary",
+            LocalDateTime.now().plusMonths(3));
+        IntegrationFixtures.guest(guestRepository, later, "Guest", RsvpStatus.ATTENDING, null);
+        IntegrationFixtures.guest(guestRepository, later, "Guest", RsvpStatus.ATTENDING, null);
+        IntegrationFixtures.guest(guestRepository, later, "Guest", RsvpStatus.DECLINED, null);
+        IntegrationFixtures.booking(vendorBookingRepository, later, service, BookingStatus.CONFIRMED);
+        Event sooner = IntegrationFixtures.event(eventRepository, planner, "Graduation",
+            LocalDateTime.now().plusMonths(1));
+        IntegrationFixtures.booking(vendorBookingRepository, sooner, service, BookingStatus.PENDING);
+        User other = IntegrationFixtures.user(userRepository, "other" + System.nanoTime(), true);
+        IntegrationFixtures.event(eventRepository, other, "Not theirs", LocalDateTime.now().plusMonths(2));
+
+        ResponseEntity<JsonNode> response = dashboard(planner);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        JsonNode events = response.getBody().path("events");
+        assertEquals(2, events.size());
+        assertEquals("Graduation", events.path(0).path("title").asText(), "Soonest first");
+        assertEquals(0, events.path(0).path("guests").path("ATTENDING").asInt());
+        assertEquals(1, events.path(0).path("bookings").path("PENDING").asInt());
+        assertEquals(later.getId().longValue(), events.path(1).path("id").asLong());
+        assertEquals(2, events.path(1).path("guests").path("ATTENDING").asInt());
+        assertEquals(1, events.path(1).path("guests").path("DECLINED").asInt());
+        assertEquals(1, events.path(1).path("bookings").path("CONFIRMED").asInt());
+
+        JsonNode totals = response.getBody().path("totals");
+        assertEquals(2, totals.path("events").asInt());
+        assertEquals(3, totals.path("guests").path("ATTENDING").asInt() + totals.path("guests").path("DECLINED").asInt());
+        assertEquals(1, totals.path("bookings").path("PENDING").asInt());
+        assertEquals(0, totals.path("bookings").path("CANCELLED").asInt());
+        assertFalse(output.getAll().contains("response is already committed"),
+            "The async dispatch that completes the stream passes security");
+    }
+
+    @Test
+    public void testQueriesDoNotGrowWithEvents() {
+        User onePlanner = IntegrationFixtures.user(userRepository, "one" + System.nanoTime(), true);
+        Event solo = IntegrationFixtures.event(eventRepository, onePlanner, "Solo", LocalDateTime.now().plusMonths(1));
+        IntegrationFixtures.guest(guestRepository, solo, "Guest", RsvpStatus.INVITED, null);
+        User busyPlanner = IntegrationFixtures.user(userRepository, "busy" + System.nanoTime(), true);
+        for (int i = 0; i < 20; i++) {
+            Event event = IntegrationFixtures.event(eventRepository, busyPlanner, "Event " + i,
+                LocalDateTime.now().plusDays(i + 1));
+            IntegrationFixtures.guest(guestRepository, event, "Guest", RsvpStatus.INVITED, null);
+            IntegrationFixtures.booking(vendorBookingRepository, event, service, BookingStatus.PENDING);
+        }
+        // Warm the user lookups of both, which are cached
+        dashboard(onePlanner);
+        dashboard(busyPlanner);
+
+        assertEquals(statements(onePlanner), statements(busyPlanner));
+        assertEquals(20, dashboard(busyPlanner).getBody().path("events").size());
+    }
+
+    @Test
+    public void testOnlyPlannersHaveADashboard() {
+        assertEquals(HttpStatus.BAD_REQUEST, dashboard(vendor.getUser()).getStatusCode());
+    }
+
+    private long statements(User planner) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assertEquals(HttpStatus.OK, dashboard(planner).getStatusCode());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private ResponseEntity<JsonNode> dashboard(User user) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtTokenProvider.generateTokenFromUsername(user.getUsername()));
+        return restTemplate.exchange("/api/planner/dashboard", HttpMethod.GET, new HttpEntity<>(headers), JsonNode.class);
+    }
+}
@@ -0,0 +1,50 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.evently.datasource.ReplicaLagMonitor;
+import com.evently.repository.UserRepository;
+
+/**
+ * Boots the application with read/write splitting on. The "replica" is the primary
+ * database itself, so this checks the wiring rather than the routing decisions.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:replicawiring;DB_CLOSE_DELAY=-1",
+    "app.datasource.replica.url=jdbc:h2:mem:replicawiring;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("test")
+public class ReadReplicaIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void routingDataSourceIsPrimary() {
+        assertInstanceOf(LazyConnectionDataSourceProxy.class, dataSource);
+    }
+
+    @Test
+    void replicaBecomesUsableAfterHeartbeat() {
+        lagMonitor.checkLag();
+
+        assertTrue(lagMonitor.isReplicaUsable());
+        assertEquals(userRepository.count(), userRepository.findAll().size());
+    }
+}
@@ -0,0 +1,127 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.evently.model.ServiceCategory;
+import com.evently.model.User;
+import com.evently.repository.ServiceCategoryRepository;
+import com.evently.repository.UserRepository;
+import com.evently.service.UserService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Integration tests for the Hibernate second-level cache: cached lookups issue no SQL,
+ * writes through the services are visible immediately, and region statistics are exposed.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = "spring.datasource.url=jdbc:h2:mem:secondlevelcache")
+@ActiveProfiles("test")
+public class SecondLevelCacheIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceCategoryRepository serviceCategoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private User user;
+
+    @BeforeEach
+    public void createUser() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        user = new User();
+        user.setUsername("cached-" + UUID.randomUUID());
+        user.setPassword("x");
+        user.setEmail(user.getUsername() + "@example.com");
+        user = userRepository.save(user);
+    }
+
+    @Test
+    public void testAuthenticationLookupIsServedFromCache() {
+        userService.loadUserByUsername(user.getUsername());
+
+        statistics.clear();
+        assertEquals(user.getId(), ((User) userService.loadUserByUsername(user.getUsername())).getId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    public void testDeactivateAndActivateAreVisibleToCachedLookups() {
+        assertTrue(userService.loadUserByUsername(user.getUsername()).isEnabled());
+
+        userService.deactivateUser(user.getId());
+        assertFalse(userService.loadUserByUsername(user.getUsername()).isEnabled());
+        assertFalse(userRepository.findById(user.getId()).orElseThrow().isEnabled());
+
+        userService.activateUser(user.getId());
+        assertTrue(userService.loadUserByUsername(user.getUsername()).isEnabled());
+        assertTrue(userRepository.findById(user.getId()).orElseThrow().isEnabled());
+    }
+
+    @Test
+    public void testCategoryQueriesUseQueryCacheUntilCategoriesChange() {
+        int before = serviceCategoryRepository.findAll().size();
+
+        statistics.clear();
+        assertEquals(before, serviceCategoryRepository.findAll().size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        ServiceCategory category = new ServiceCategory();
+        category.setName("Category " + UUID.randomUUID());
+        serviceCategoryRepository.save(category);
+
+        assertEquals(before + 1, serviceCategoryRepository.findAll().size());
+        assertTrue(serviceCategoryRepository.findByName(category.getName()).isPresent());
+    }
+
+    @Test
+    public void testAdminEndpointReportsRegions() {
+        userService.loadUserByUsername(user.getUsername());
+
+        String url = "http://localhost:" + port + "/actuator/l2cache";
+        assertEquals(HttpStatus.UNAUTHORIZED, restTemplate.getForEntity(url, String.class).getStatusCode());
+
+        ResponseEntity<String> response = restTemplate.withBasicAuth("admin", "admin123").getForEntity(url, String.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().contains("\"statisticsEnabled\":true"));
+        for (String region : new String[] {"user", "vendor-profile", "service-category", "service",
+                "vendor-profile-services", "service-category-services", "default-query-results-region"}) {
+            assertTrue(response.getBody().contains("\"" + region + "\":{"), region);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.evently.dto.booking.VendorBookingDTO;
+import com.evently.dto.event.EventCreateDTO;
+import com.evently.dto.event.EventDTO;
+import com.evently.dto.guest.GuestCreateUpdateDTO;
+import com.evently.dto.guest.GuestDto;
+import com.evently.model.Service;
+import com.evently.model.ServiceCategory;
+import com.evently.model.User;
+import com.evently.model.VendorProfile;
+import com.evently.repository.ServiceCategoryRepository;
+import com.evently.repository.ServiceRepository;
+import com.evently.repository.UserRepository;
+import com.evently.repository.VendorProfileRepository;
+import com.evently.service.BookingLifecycleService;
+import com.evently.service.BookingService;
+import com.evently.service.EventService;
+import com.evently.sharding.ShardDataSources;
+import com.evently.sharding.ShardRouter;
+
+/**
+ * Integration tests for sharding by planner over two in-memory shards: events, guests and
+ * bookings land on their planner's shard, vendor views are gathered from all of them, and the
+ * shared tables are copied to every shard.
+ */
+@SpringBootTest(properties = {
+                    "spring.datasource.url=jdbc:h2:mem:shardingglobal;DB_CLOSE_DELAY=-1",
+                    "app.sharding.shard-urls=jdbc:h2:mem:shardingshard0;DB_CLOSE_DELAY=-1,"
+                        + "jdbc:h2:mem:shardingshard1;DB_CLOSE_DELAY=-1"
+                })
+@ActiveProfiles("test")
+public class ShardingIntegrationTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingLifecycleService bookingLifecycleService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardDataSources shardDataSources;
+
+    @Autowired
+    @Qualifier("globalDataSource")
+    private DataSource globalDataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VendorProfileRepository vendorProfileRepository;
+
+    @Autowired
+    private ServiceCategoryRepository serviceCategoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    private User[] planners;
+    private VendorProfile vendor;
+    private Service service;
+
+    @BeforeEach
+    public void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        // One planner on each shard
+        planners = new User[2];
+        for (int i = 0; planners[0] == null || planners[1] == null; i++) {
+            User planner = IntegrationFixtures.user(userRepository, "planner" + i + "-" + suffix, true);
+            planners[shardRouter.shardOfPlanner(planner.getId())] = planner;
+        }
+
+        ServiceCategory category = IntegrationFixtures.category(serviceCategoryRepository, "Sharding " + suffix);
+        vendor = IntegrationFixtures.vendor(vendorProfileRepository,
+            IntegrationFixtures.user(userRepository, "caterer" + suffix, false), "Caterer " + suffix);
+        service = IntegrationFixtures.service(serviceRepository, vendor, category, "Buffet", "900.00");
+    }
+
+    @Test
+    public void testEventsGuestsAndBookingsLiveOnTheirPlannersShard() {
+        for (int shard = 0; shard < 2; shard++) {
+            EventDTO event = event(planners[shard], LocalDateTime.now().plusMonths(1 + shard));
+            assertEquals(shard, event.getId() % 2, "Event ids encode their shard");
+
+            GuestCreateUpdateDTO guestDTO = new GuestCreateUpdateDTO();
+            guestDTO.setName("Wanjiru");
+            guestDTO.setEmail("wanjiru" + System.nanoTime() + "@example.com");
+            GuestDto guest = eventService.addGuestToEvent(event.getId(), guestDTO, planners[shard].getId());
+            VendorBookingDTO booking = book(event, planners[shard]);
+
+            assertEquals(shard, guest.getId() % 2);
+            assertEquals(shard, booking.getId() % 2);
+            assertEquals(1, count(shard(shard), "events_event", event.getId()));
+            assertEquals(1, count(shard(shard), "events_guest", guest.getId()));
+            assertEquals(1, count(shard(shard), "events_vendorbooking", booking.getId()));
+            assertEquals(0, count(shard(1 - shard), "events_event", event.getId()));
+
+            assertEquals(event.getTitle(), eventService.getEventById(event.getId()).orElseThrow().getTitle());
+            assertEquals(List.of(booking.getId()),
+                bookingService.getBookingsByEvent(event.getId()).stream().map(VendorBookingDTO::getId).toList());
+        }
+
+        JdbcTemplate global = new JdbcTemplate(globalDataSource);
+        assertEquals(0, global.queryForObject("SELECT COUNT(*) FROM events_event", Integer.class),
+            "The shared database holds no events");
+    }
+
+    @Test
+    public void testVendorBookingsAreGatheredFromEveryShardByEventDate() {
+        LocalDateTime now = LocalDateTime.now();
+        Long third = book(event(planners[0], now.plusMonths(3)), planners[0]).getId();
+        Long first = book(event(planners[1], now.plusMonths(1)), planners[1]).getId();
+        Long second = book(event(planners[0], now.plusMonths(2)), planners[0]).getId();
+
+        List<VendorBookingDTO> bookings = bookingService.getBookingsByVendor(vendor.getId());
+
+        assertEquals(List.of(first, second, third), bookings.stream().map(VendorBookingDTO::getId).toList());
+        assertEquals(3, bookingService.getVendorBookingStatistics(vendor.getId()).getPendingBookings());
+
+        // A confirmed booking on one shard makes the vendor unavailable to planners on the other
+        bookingService.confirmVendorBooking(first, vendor.getUser().getId());
+        assertTrue(bookingService.isVendorBookedOnDate(vendor.getId(), now.plusMonths(1).toLocalDate()));
+        EventDTO sameDay = event(planners[0], now.plusMonths(1));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> book(sameDay, planners[0]));
+        assertEquals("Vendor is not available on the event date", exception.getMessage());
+    }
+
+    @Test
+    public void testSharedRowsAreCopiedToEveryShard() {
+        for (int shard = 0; shard < 2; shard++) {
+            assertEquals(1, count(shard(shard), "users_user", planners[0].getId()));
+            assertEquals(1, count(shard(shard), "vendors_vendorprofile", vendor.getId()));
+            assertEquals(1, count(shard(shard), "vendors_service", service.getId()));
+        }
+
+        vendor.setBusinessName("Renamed " + vendor.getBusinessName());
+        vendorProfileRepository.save(vendor);
+        for (int shard = 0; shard < 2; shard++) {
+            assertEquals(vendor.getBusinessName(), shard(shard).queryForObject(
+                "SELECT business_name FROM vendors_vendorprofile WHERE id = ?", String.class, vendor.getId()));
+        }
+    }
+
+    @Test
+    public void testLifecycleJobRunsOnEveryShard() {
+        Long[] bookings = new Long[2];
+        for (int shard = 0; shard < 2; shard++) {
+            bookings[shard] = book(event(planners[shard], LocalDateTime.now().plusMonths(1)), planners[shard]).getId();
+            shard(shard).update("UPDATE events_vendorbooking SET created_at = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(30), bookings[shard]);
+        }
+        assertNotEquals(bookings[0] % 2, bookings[1] % 2);
+
+        bookingLifecycleService.run();
+
+        for (int shard = 0; shard < 2; shard++) {
+            assertEquals("CANCELLED", shard(shard).queryForObject(
+                "SELECT status FROM events_vendorbooking WHERE id = ?", String.class, bookings[shard]));
+        }
+    }
+
+    private EventDTO event(User planner, LocalDateTime date) {
+        EventCreateDTO createDTO = new EventCreateDTO();
+        createDTO.setTitle("Gala " + System.nanoTime());
+        createDTO.setDate(date);
+        createDTO.setLocation("Mombasa");
+        return eventService.createEvent(createDTO, planner.getId());
+    }
+
+    private VendorBookingDTO book(EventDTO event, User planner) {
+        return IntegrationFixtures.book(bookingService, event.getId(), service, planner);
+    }
+
+    private JdbcTemplate shard(int shard) {
+        return new JdbcTemplate(shardDataSources.getShards().get(shard));
+    }
+
+    private static int count(JdbcTemplate jdbc, String table, Long id) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE id = ?", Integer.class, id);
+    }
+}
@@ -0,0 +1,81 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.evently.monitoring.SlowQuery;
+import com.evently.monitoring.SlowQueryRecorder;
+
+/**
+ * Integration tests for the slow-query recorder and its admin endpoint.
+ * The threshold is zero so every statement counts as slow.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = {"app.jdbc.slow-query.threshold-ms=0", "app.jdbc.slow-query.top-n=5"})
+@ActiveProfiles("test")
+public class SlowQueryIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SlowQueryRecorder recorder;
+
+    @BeforeEach
+    public void resetRecorder() {
+        recorder.clear();
+    }
+
+    @Test
+    public void testSlowQueriesAreAttributedAndExplained() {
+        restTemplate.getForEntity("http://localhost:" + port + "/api/events/upcoming", String.class);
+
+        List<SlowQuery> queries = recorder.getWorstQueries();
+        assertFalse(queries.isEmpty());
+        assertTrue(queries.size() <= 5);
+
+        SlowQuery upcoming = queries.stream()
+            .filter(q -> q.getRepositoryMethod().equals("EventRepository.findUpcomingEvents"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(1, upcoming.getParameters().size());
+        assertFalse(upcoming.getParameters().get(0).isEmpty());
+        assertTrue(upcoming.getParameters().get(0).stream().allMatch(value -> value.toString().matches("<\\w+>")),
+            "Bind values are masked by default: " + upcoming.getParameters());
+        assertFalse(upcoming.getPlan().isEmpty());
+        assertTrue(upcoming.getPlan().get(0).toUpperCase().contains("EVENTS_EVENT"));
+    }
+
+    @Test
+    public void testAdminEndpointRequiresOperatorCredentials() {
+        String url = "http://localhost:" + port + "/actuator/slowqueries";
+
+        ResponseEntity<String> anonymous = restTemplate.getForEntity(url, String.class);
+        assertEquals(HttpStatus.UNAUTHORIZED, anonymous.getStatusCode());
+
+        restTemplate.getForEntity("http://localhost:" + port + "/api/vendors", String.class);
+        ResponseEntity<String> response = restTemplate.withBasicAuth("admin", "admin123")
+            .getForEntity(url, String.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().contains("\"thresholdMs\":0"));
+        assertTrue(response.getBody().contains("\"repositoryMethod\""));
+    }
+}
@@ -0,0 +1,189 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Integration tests for serving /uploads: immutable caching and hash ETags for content-addressed
+ * names, byte ranges, conditional requests, and the sendfile and memory-mapped paths.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = {
+                    "spring.datasource.url=jdbc:h2:mem:fileserving;DB_CLOSE_DELAY=-1",
+                    "app.file.upload-dir=target/test-uploads/file-serving",
+                    "app.media.serving.sendfile-min-size=48KB",
+                    "app.media.serving.mapped-max-file-size=48KB"
+                })
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class UploadedFileServingIntegrationTest {
+
+    private static final Path UPLOADS = Paths.get("target/test-uploads/file-serving");
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Random random = new Random();
+
+    private byte[] photo;
+    private String photoUrl;
+    private String photoHash;
+    private byte[] thumbnail;
+    private String thumbnailUrl;
+    private byte[] legacy;
+    private String legacyUrl;
+    private String partUrl;
+
+    @BeforeAll
+    public void writeFiles() throws IOException {
+        photo = randomBytes(256 * 1024);
+        photoHash = sha256(photo);
+        photoUrl = write("media/" + photoHash.substring(0, 2) + "/" + photoHash + ".jpg", photo);
+
+        thumbnail = randomBytes(4 * 1024);
+        String thumbnailHash = sha256(thumbnail);
+        thumbnailUrl = write("media/" + thumbnailHash.substring(0, 2) + "/" + thumbnailHash + "-w320.jpg", thumbnail);
+
+        legacy = randomBytes(10 * 1024);
+        legacyUrl = write("portfolio/legacy-" + random.nextInt(1_000_000) + ".png", legacy);
+        partUrl = write("temp/upload-" + random.nextInt(1_000_000) + ".part", legacy);
+    }
+
+    @Test
+    public void testContentAddressedFileIsImmutableAndSentByFile() {
+        double sendfile = served("sendfile");
+
+        ResponseEntity<byte[]> response = get(photoUrl, new HttpHeaders());
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(photo, response.getBody());
+        assertEquals(MediaType.IMAGE_JPEG, response.getHeaders().getContentType());
+        assertEquals("\"" + photoHash + "\"", response.getHeaders().getETag());
+        assertEquals("max-age=31536000, public, immutable", response.getHeaders().getCacheControl());
+        assertEquals("bytes", response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+        assertEquals(sendfile + 1, served("sendfile"));
+    }
+
+    @Test
+    public void testByteRanges() {
+        ResponseEntity<byte[]> middle = get(photoUrl, range("bytes=100-199"));
+        assertEquals(HttpStatus.PARTIAL_CONTENT, middle.getStatusCode());
+        assertEquals("bytes 100-199/" + photo.length, middle.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertArrayEquals(Arrays.copyOfRange(photo, 100, 200), middle.getBody());
+
+        ResponseEntity<byte[]> suffix = get(photoUrl, range("bytes=-10"));
+        assertEquals(HttpStatus.PARTIAL_CONTENT, suffix.getStatusCode());
+        assertArrayEquals(Arrays.copyOfRange(photo, photo.length - 10, photo.length), suffix.getBody());
+
+        ResponseEntity<byte[]> beyond = get(photoUrl, range("bytes=" + photo.length + "-"));
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, beyond.getStatusCode());
+        assertEquals("bytes */" + photo.length, beyond.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+
+        HttpHeaders staleIfRange = range("bytes=0-9");
+        staleIfRange.set(HttpHeaders.IF_RANGE, "\"an-older-version\"");
+        ResponseEntity<byte[]> whole = get(photoUrl, staleIfRange);
+        assertEquals(HttpStatus.OK, whole.getStatusCode());
+        assertEquals(photo.length, whole.getBody().length);
+    }
+
+    @Test
+    public void testConditionalRequests() {
+        HttpHeaders ifNoneMatch = new HttpHeaders();
+        ifNoneMatch.setIfNoneMatch("\"" + photoHash + "\"");
+        ResponseEntity<byte[]> notModified = get(photoUrl, ifNoneMatch);
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertEquals("\"" + photoHash + "\"", notModified.getHeaders().getETag());
+
+        ResponseEntity<byte[]> response = get(legacyUrl, new HttpHeaders());
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(legacy, response.getBody());
+        assertEquals("max-age=86400, public", response.getHeaders().getCacheControl());
+        assertTrue(response.getHeaders().getLastModified() > 0);
+
+        HttpHeaders ifModifiedSince = new HttpHeaders();
+        ifModifiedSince.setIfModifiedSince(response.getHeaders().getLastModified());
+        assertEquals(HttpStatus.NOT_MODIFIED, get(legacyUrl, ifModifiedSince).getStatusCode());
+    }
+
+    @Test
+    public void testSmallHotFileIsServedFromMemory() {
+        ResponseEntity<byte[]> first = get(thumbnailUrl, new HttpHeaders());
+        double mapped = served("mapped");
+        ResponseEntity<byte[]> second = get(thumbnailUrl, new HttpHeaders());
+
+        assertArrayEquals(thumbnail, first.getBody());
+        assertArrayEquals(thumbnail, second.getBody());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+        assertEquals(mapped + 1, served("mapped"));
+    }
+
+    @Test
+    public void testOnlyFinishedUploadsAreServed() {
+        assertEquals(HttpStatus.NOT_FOUND, get(partUrl, new HttpHeaders()).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, get("/uploads/media/00/missing.jpg", new HttpHeaders()).getStatusCode());
+    }
+
+    private ResponseEntity<byte[]> get(String url, HttpHeaders headers) {
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+    }
+
+    private static HttpHeaders range(String range) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, range);
+        return headers;
+    }
+
+    private double served(String mode) {
+        return meterRegistry.get("media.files.served").tag("mode", mode).counter().count();
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String write(String relativePath, byte[] content) throws IOException {
+        Path file = UPLOADS.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+        return "/uploads/" + relativePath;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.evently.dto.booking.VendorBookingDTO;
+import com.evently.dto.vendor.ReviewDTO;
+import com.evently.dto.vendor.VendorRankingDTO;
+import com.evently.model.Event;
+import com.evently.model.ServiceCategory;
+import com.evently.model.User;
+import com.evently.model.VendorProfile;
+import com.evently.repository.EventRepository;
+import com.evently.repository.ServiceCategoryRepository;
+import com.evently.repository.ServiceRepository;
+import com.evently.repository.UserRepository;
+import com.evently.repository.VendorProfileRepository;
+import com.evently.service.BookingService;
+import com.evently.service.VendorLeaderboardService;
+import com.evently.service.VendorService;
+
+/**
+ * Integration tests for /api/vendors/top: review and booking changes made through the
+ * services must reach the leaderboard once their transactions commit.
+ * Every vendor here lives in a category of its own so the seed data does not interfere.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = "spring.datasource.url=jdbc:h2:mem:leaderboard;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+public class VendorLeaderboardIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private VendorService vendorService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private VendorLeaderboardService vendorLeaderboardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VendorProfileRepository vendorProfileRepository;
+
+    @Autowired
+    private ServiceCategoryRepository serviceCategoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private ServiceCategory category;
+    private VendorProfile florist;
+    private VendorProfile baker;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    public void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        category = IntegrationFixtures.category(serviceCategoryRepository, "Leaderboard " + suffix);
+
+        florist = vendor("florist" + suffix, "Florist " + suffix);
+        baker = vendor("baker" + suffix, "Baker " + suffix);
+        alice = IntegrationFixtures.user(userRepository, "alice" + suffix, false);
+        bob = IntegrationFixtures.user(userRepository, "bob" + suffix, false);
+
+        // Category membership is picked up by the rebuild
+        vendorLeaderboardService.rebuild();
+    }
+
+    @Test
+    public void testRatingLeaderboardFollowsReviews() {
+        vendorService.addReviewForVendor(florist.getId(), review(5), alice.getId());
+        vendorService.addReviewForVendor(florist.getId(), review(5), bob.getId());
+        ReviewDTO bakerReview = vendorService.addReviewForVendor(baker.getId(), review(4), alice.getId());
+
+        List<VendorRankingDTO> top = topVendors("rating");
+        assertEquals(List.of(florist.getId(), baker.getId()), vendorIds(top));
+        assertEquals(2, top.get(0).getReviewCount());
+        assertEquals(5.0, top.get(0).getAverageRating(), 1e-9);
+
+        vendorService.updateReview(bakerReview.getId(), review(5), alice.getId());
+        assertEquals(5.0, topVendors("rating").get(1).getAverageRating(), 1e-9);
+
+        vendorService.deleteReview(bakerReview.getId(), alice.getId());
+        assertEquals(List.of(florist.getId()), vendorIds(topVendors("rating")));
+    }
+
+    @Test
+    public void testBookingLeaderboardCountsConfirmedBookings() {
+        User planner = IntegrationFixtures.user(userRepository, "planner" + System.nanoTime(), true);
+        Event event = IntegrationFixtures.event(eventRepository, planner, "Launch party",
+            LocalDateTime.now().plusMonths(2));
+        VendorBookingDTO booking = IntegrationFixtures.book(bookingService, event.getId(),
+            serviceRepository.findByVendorId(baker.getId()).get(0), planner);
+
+        // Pending bookings do not count
+        assertEquals(List.of(), topVendors("bookings"));
+
+        bookingService.confirmVendorBooking(booking.getId(), planner.getId());
+        List<VendorRankingDTO> top = topVendors("bookings");
+        assertEquals(List.of(baker.getId()), vendorIds(top));
+        assertEquals(1, top.get(0).getConfirmedBookings());
+
+        bookingService.cancelVendorBooking(booking.getId(), planner.getId());
+        assertEquals(List.of(), topVendors("bookings"));
+    }
+
+    @Test
+    public void testUnknownMetricIsBadRequest() {
+        String url = "http://localhost:" + port + "/api/vendors/top?by=price";
+        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    private List<VendorRankingDTO> topVendors(String by) {
+        String url = "http://localhost:" + port + "/api/vendors/top?by=" + by + "&category=" + category.getId();
+        ResponseEntity<VendorRankingDTO[]> response = restTemplate.getForEntity(url, VendorRankingDTO[].class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        return List.of(response.getBody());
+    }
+
+    private VendorProfile vendor(String username, String businessName) {
+        VendorProfile profile = IntegrationFixtures.vendor(vendorProfileRepository,
+            IntegrationFixtures.user(userRepository, username, false), businessName);
+        IntegrationFixtures.service(serviceRepository, profile, category, businessName, "100.00");
+        return profile;
+    }
+
+    private static ReviewDTO review(int rating) {
+        ReviewDTO review = new ReviewDTO();
+        review.setRating(rating);
+        review.setComment("Rated " + rating);
+        return review;
+    }
+
+    private static List<Long> vendorIds(List<VendorRankingDTO> rankings) {
+        return rankings.stream().map(VendorRankingDTO::getVendorId).toList();
+    }
+}
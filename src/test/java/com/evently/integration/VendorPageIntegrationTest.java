@@ -0,0 +1,123 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.evently.model.Event;
+import com.evently.model.PortfolioItem;
+import com.evently.model.Service;
+import com.evently.model.ServiceCategory;
+import com.evently.model.VendorBooking.BookingStatus;
+import com.evently.model.VendorProfile;
+import com.evently.repository.EventRepository;
+import com.evently.repository.PortfolioItemRepository;
+import com.evently.repository.ServiceCategoryRepository;
+import com.evently.repository.ServiceRepository;
+import com.evently.repository.UserRepository;
+import com.evently.repository.VendorBookingRepository;
+import com.evently.repository.VendorProfileRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Integration tests for the vendor page, which loads every part of a vendor's page in one request.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = "spring.datasource.url=jdbc:h2:mem:vendorpage;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+public class VendorPageIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VendorProfileRepository vendorProfileRepository;
+
+    @Autowired
+    private ServiceCategoryRepository serviceCategoryRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private PortfolioItemRepository portfolioItemRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private VendorBookingRepository vendorBookingRepository;
+
+    private VendorProfile vendor;
+    private LocalDateTime bookedDate;
+
+    @BeforeEach
+    public void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        ServiceCategory category = IntegrationFixtures.category(serviceCategoryRepository, "Page " + suffix);
+        vendor = IntegrationFixtures.vendor(vendorProfileRepository,
+            IntegrationFixtures.user(userRepository, "photographer" + suffix, false), "Photographer " + suffix);
+        Service service = IntegrationFixtures.service(serviceRepository, vendor, category, "Photography", "1200.00");
+
+        PortfolioItem portfolioItem = new PortfolioItem();
+        portfolioItem.setVendor(vendor);
+        portfolioItem.setImage("/uploads/media/wedding.jpg");
+        portfolioItem.setDescription("Wedding");
+        portfolioItemRepository.save(portfolioItem);
+
+        bookedDate = LocalDateTime.now().plusMonths(2).withHour(14);
+        Event event = IntegrationFixtures.event(eventRepository,
+            IntegrationFixtures.user(userRepository, "planner" + suffix, true), "Wedding " + suffix, bookedDate);
+        IntegrationFixtures.booking(vendorBookingRepository, event, service, BookingStatus.CONFIRMED);
+    }
+
+    @Test
+    public void testPageHasEveryPart() {
+        ResponseEntity<JsonNode> response = get(vendor.getId(), bookedDate.toLocalDate());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        JsonNode page = response.getBody();
+        assertEquals(vendor.getBusinessName(), page.path("profile").path("businessName").asText());
+        assertEquals("Photography", page.path("services").path(0).path("title").asText());
+        assertEquals("Wedding", page.path("portfolio").path(0).path("description").asText());
+        assertTrue(page.path("reviews").isEmpty());
+        assertEquals(1, page.path("stats").path("totalServices").asInt());
+        assertFalse(page.path("available").asBoolean(true), "Booked on that date");
+        assertTrue(page.path("missing").isEmpty());
+
+        assertTrue(get(vendor.getId(), bookedDate.toLocalDate().plusDays(1)).getBody().path("available").asBoolean(false));
+    }
+
+    @Test
+    public void testAvailabilityNeedsADate() {
+        JsonNode page = get(vendor.getId(), null).getBody();
+
+        assertTrue(page.path("available").isNull());
+        assertTrue(page.path("missing").isEmpty());
+    }
+
+    @Test
+    public void testUnknownVendorIsNotFound() {
+        assertEquals(HttpStatus.NOT_FOUND, get(Long.MAX_VALUE, null).getStatusCode());
+    }
+
+    private ResponseEntity<JsonNode> get(Long vendorId, LocalDate eventDate) {
+        String path = "/api/vendors/" + vendorId + "/page" + (eventDate != null ? "?eventDate=" + eventDate : "");
+        return restTemplate.getForEntity(path, JsonNode.class);
+    }
+}
@@ -0,0 +1,109 @@
+package com.evently.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.evently.datasource.ReplicaLagMonitor;
+import com.evently.dto.vendor.VendorPageDTO;
+import com.evently.dto.vendor.VendorProfileCreateUpdateDTO;
+import com.evently.model.User;
+import com.evently.repository.UserRepository;
+import com.evently.service.VendorPageService;
+import com.evently.service.VendorService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Integration test for the vendor page behind a read replica. The replica is a database of its
+ * own that never receives the primary's writes, so a read served by it shows as missing data.
+ */
+@SpringBootTest(properties = {
+                    "spring.datasource.url=jdbc:h2:mem:vendorpageprimary;DB_CLOSE_DELAY=-1",
+                    "app.datasource.replica.url=jdbc:h2:mem:vendorpagereplica;DB_CLOSE_DELAY=-1",
+                    "app.datasource.replica.max-lag-ms=3600000"
+                })
+@ActiveProfiles("test")
+public class VendorPageReplicaIntegrationTest {
+
+    @Autowired
+    private VendorPageService vendorPageService;
+
+    @Autowired
+    private VendorService vendorService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replica;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    public void setUp() {
+        // The schema the primary was migrated to, and a heartbeat that keeps the replica usable
+        Flyway.configure().dataSource(replica).locations("classpath:db/migration/h2").load().migrate();
+        new JdbcTemplate(replica).update("UPDATE replica_heartbeat SET beat_ms = ? WHERE id = 1", System.currentTimeMillis());
+        lagMonitor.checkLag();
+        assertTrue(lagMonitor.isReplicaUsable());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testVendorSeesTheirOwnWriteOnTheirPage() {
+        User owner = user("baker" + System.nanoTime());
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(owner.getUsername(), null, List.of()));
+        VendorProfileCreateUpdateDTO profile = new VendorProfileCreateUpdateDTO();
+        profile.setBusinessName("Sunrise Bakery " + owner.getId());
+        Long vendorId = vendorService.createVendorProfile(profile, owner.getId()).getId();
+        entityManagerFactory.getCache().evictAll();
+
+        Optional<VendorPageDTO> page = vendorPageService.getVendorPage(vendorId, null);
+        assertTrue(page.isPresent(), "The parts are read from the primary right after the vendor's write");
+        assertEquals(profile.getBusinessName(), page.get().getProfile().getBusinessName());
+        assertEquals(List.of(), page.get().getMissing());
+
+        SecurityContextHolder.clearContext();
+        entityManagerFactory.getCache().evictAll();
+        assertTrue(vendorPageService.getVendorPage(vendorId, null).isEmpty(),
+            "Anyone else is served by the replica, which has not seen the profile");
+    }
+
+    private User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("password123");
+        user.setEmail(username + "@example.com");
+        user.setIsVendor(true);
+        user.setDateJoined(LocalDateTime.now());
+        return userRepository.save(user);
+    }
+}
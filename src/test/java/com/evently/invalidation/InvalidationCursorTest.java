@@ -0,0 +1,77 @@
+package com.evently.invalidation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the position of a node in the cache invalidation log.
+ */
+public class InvalidationCursorTest {
+
+    private final Instant start = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void advancesOverContiguousIds() {
+        InvalidationCursor cursor = new InvalidationCursor(10, Duration.ofSeconds(10));
+
+        assertTrue(cursor.accept(11));
+        assertTrue(cursor.accept(12));
+        assertFalse(cursor.accept(12), "each id is applied once");
+        assertFalse(cursor.accept(9), "below the starting position");
+        cursor.advance(start);
+
+        assertEquals(12, cursor.position());
+        assertEquals(0, cursor.pending());
+    }
+
+    @Test
+    void waitsForAGapToFill() {
+        InvalidationCursor cursor = new InvalidationCursor(10, Duration.ofSeconds(10));
+
+        cursor.accept(11);
+        cursor.accept(13);
+        cursor.advance(start);
+        assertEquals(11, cursor.position(), "12 may still be committing");
+        assertFalse(cursor.accept(13), "read again from 11, but already applied");
+
+        assertTrue(cursor.accept(12));
+        cursor.advance(start.plusSeconds(1));
+        assertEquals(13, cursor.position());
+    }
+
+    @Test
+    void skipsAGapAfterTheTimeout() {
+        InvalidationCursor cursor = new InvalidationCursor(10, Duration.ofSeconds(10));
+
+        cursor.accept(12);
+        cursor.advance(start);
+        cursor.advance(start.plusSeconds(9));
+        assertEquals(10, cursor.position());
+
+        cursor.advance(start.plusSeconds(10));
+        assertEquals(12, cursor.position(), "11 was rolled back");
+        assertFalse(cursor.accept(11));
+    }
+
+    @Test
+    void timesEachGapFromWhenItWasNoticed() {
+        InvalidationCursor cursor = new InvalidationCursor(0, Duration.ofSeconds(10));
+
+        cursor.accept(2);
+        cursor.accept(4);
+        cursor.advance(start);
+        cursor.advance(start.plusSeconds(10));
+        assertEquals(2, cursor.position());
+
+        cursor.advance(start.plusSeconds(15));
+        assertEquals(2, cursor.position(), "the gap at 3 was only noticed after the one at 1 was skipped");
+        cursor.advance(start.plusSeconds(20));
+        assertEquals(4, cursor.position());
+    }
+}
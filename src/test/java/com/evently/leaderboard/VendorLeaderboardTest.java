@@ -0,0 +1,129 @@
+package com.evently.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.evently.dto.vendor.VendorRankingDTO;
+
+/**
+ * Unit tests for the in-memory vendor rankings.
+ * Prior mean 3.0 with the weight of 2 reviews.
+ */
+public class VendorLeaderboardTest {
+
+    private static final Long WEDDINGS = 1L;
+    private static final Long CATERING = 2L;
+
+    private VendorLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new VendorLeaderboard(3.0, 2);
+        leaderboard.reset(List.of(
+            // One perfect review: (6 + 5) / 3 = 3.67
+            new VendorTotals(1L, "Solo Star", Set.of(WEDDINGS), 5, 1, 0),
+            // Twenty 4.5 averages: (6 + 90) / 22 = 4.36
+            new VendorTotals(2L, "Steady Hands", Set.of(WEDDINGS, CATERING), 90, 20, 3),
+            // No reviews, most bookings
+            new VendorTotals(3L, "Busy Bees", Set.of(CATERING), 0, 0, 7),
+            new VendorTotals(4L, "Newcomer", Set.of(), 0, 0, 0)));
+    }
+
+    @Test
+    void bayesianRatingFavoursVendorsWithMoreReviews() {
+        List<VendorRankingDTO> top = leaderboard.top(LeaderboardMetric.RATING, null, 10);
+
+        assertEquals(List.of(2L, 1L), vendorIds(top));
+        assertEquals(1, top.get(0).getRank());
+        assertEquals(96.0 / 22, top.get(0).getScore(), 1e-9);
+        assertEquals(4.5, top.get(0).getAverageRating(), 1e-9);
+    }
+
+    @Test
+    void rankingsAreKeptPerCategory() {
+        assertEquals(List.of(2L, 1L), vendorIds(leaderboard.top(LeaderboardMetric.RATING, WEDDINGS, 10)));
+        assertEquals(List.of(3L, 2L), vendorIds(leaderboard.top(LeaderboardMetric.BOOKINGS, CATERING, 10)));
+        assertTrue(leaderboard.top(LeaderboardMetric.RATING, 99L, 10).isEmpty());
+    }
+
+    @Test
+    void reviewChangesReorderRanking() {
+        // Four more perfect reviews: (6 + 25) / 7 = 4.43
+        for (int i = 0; i < 4; i++) {
+            leaderboard.applyReviewChange(1L, null, 5);
+        }
+        assertEquals(List.of(1L, 2L), vendorIds(leaderboard.top(LeaderboardMetric.RATING, WEDDINGS, 10)));
+
+        // Re-rating one of them down to 1 drops it back: (6 + 21) / 7 = 3.86
+        leaderboard.applyReviewChange(1L, 5, 1);
+        assertEquals(List.of(2L, 1L), vendorIds(leaderboard.top(LeaderboardMetric.RATING, null, 10)));
+
+        // Deleting every review takes the vendor off the rating board
+        leaderboard.applyReviewChange(1L, 1, null);
+        for (int i = 0; i < 4; i++) {
+            leaderboard.applyReviewChange(1L, 5, null);
+        }
+        assertEquals(List.of(2L), vendorIds(leaderboard.top(LeaderboardMetric.RATING, WEDDINGS, 10)));
+    }
+
+    @Test
+    void bookingChangesReorderRanking() {
+        for (int i = 0; i < 5; i++) {
+            leaderboard.applyBookingChange(2L, 1);
+        }
+        assertEquals(List.of(2L, 3L), vendorIds(leaderboard.top(LeaderboardMetric.BOOKINGS, null, 10)));
+
+        leaderboard.applyBookingChange(4L, 1);
+        leaderboard.applyBookingChange(2L, -8);
+        assertEquals(List.of(3L, 4L), vendorIds(leaderboard.top(LeaderboardMetric.BOOKINGS, null, 10)));
+    }
+
+    @Test
+    void limitAndUnknownVendors() {
+        assertEquals(List.of(3L), vendorIds(leaderboard.top(LeaderboardMetric.BOOKINGS, null, 1)));
+
+        // Changes for vendors that are not tracked are ignored until they are added
+        leaderboard.applyBookingChange(5L, 1);
+        assertEquals(4, leaderboard.size());
+
+        leaderboard.addVendor(new VendorTotals(5L, "Late Arrival", Set.of(CATERING), 0, 0, 10));
+        assertEquals(List.of(5L, 3L, 2L), vendorIds(leaderboard.top(LeaderboardMetric.BOOKINGS, CATERING, 10)));
+    }
+
+    @Test
+    void rebuildOverlappingACommittingChangeIsDiscarded() {
+        List<VendorTotals> rebuilt = List.of(new VendorTotals(3L, "Busy Bees", Set.of(CATERING), 0, 0, 8));
+
+        // A change starts committing after the rebuild started: the snapshot may have missed it
+        long mark = leaderboard.startRebuild();
+        leaderboard.changeStarted();
+        leaderboard.applyBookingChange(3L, 1);
+        leaderboard.changeEnded();
+        assertFalse(leaderboard.reset(rebuilt, mark));
+        assertEquals(8, leaderboard.top(LeaderboardMetric.BOOKINGS, null, 1).get(0).getConfirmedBookings());
+        assertEquals(4, leaderboard.size());
+
+        // A change committed before the rebuild started, but not yet applied: it may be in the snapshot
+        leaderboard.changeStarted();
+        mark = leaderboard.startRebuild();
+        leaderboard.applyBookingChange(3L, 1);
+        leaderboard.changeEnded();
+        assertFalse(leaderboard.reset(rebuilt, mark));
+
+        // Nothing committing in between
+        mark = leaderboard.startRebuild();
+        assertTrue(leaderboard.reset(rebuilt, mark));
+        assertEquals(1, leaderboard.size());
+    }
+
+    private static List<Long> vendorIds(List<VendorRankingDTO> rankings) {
+        return rankings.stream().map(VendorRankingDTO::getVendorId).toList();
+    }
+}
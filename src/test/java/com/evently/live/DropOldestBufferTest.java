@@ -0,0 +1,45 @@
+package com.evently.live;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the per-subscriber live update buffer.
+ */
+public class DropOldestBufferTest {
+
+    @Test
+    void consumerIsScheduledOncePerBacklog() {
+        DropOldestBuffer<String> buffer = new DropOldestBuffer<>(4);
+
+        assertTrue(buffer.offer("a"));
+        assertFalse(buffer.offer("b"));
+        assertEquals("a", buffer.poll());
+        assertEquals("b", buffer.poll());
+        assertFalse(buffer.offer("c"), "consumer still running until it finds the buffer empty");
+        assertEquals("c", buffer.poll());
+        assertNull(buffer.poll());
+
+        assertTrue(buffer.offer("d"));
+    }
+
+    @Test
+    void fullBufferDropsOldest() {
+        DropOldestBuffer<Integer> buffer = new DropOldestBuffer<>(3);
+        for (int i = 1; i <= 5; i++) {
+            buffer.offer(i);
+        }
+
+        assertEquals(3, buffer.size());
+        assertEquals(2, buffer.takeDropped());
+        assertEquals(0, buffer.takeDropped());
+        assertEquals(3, buffer.poll());
+        assertEquals(4, buffer.poll());
+        assertEquals(5, buffer.poll());
+        assertNull(buffer.poll());
+    }
+}
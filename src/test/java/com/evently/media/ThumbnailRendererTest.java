@@ -0,0 +1,69 @@
+package com.evently.media;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for thumbnail sizing and the pixel limit.
+ * Thumbnails are at most 320 wide and 640 high; originals are limited to 4 million pixels.
+ */
+public class ThumbnailRendererTest {
+
+    private final ThumbnailRenderer renderer = new ThumbnailRenderer(320, 0.8f, 4_000_000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void wideImageIsScaledToTheWidth() throws IOException {
+        assertEquals(new Size(320, 160), render(png(2000, 1000)));
+    }
+
+    @Test
+    void tallImageIsScaledToTheHeightLimit() throws IOException {
+        // Capped by width alone, the 200 x 16000 strip would be its own thumbnail
+        assertEquals(new Size(8, 640), render(png(200, 16000)));
+    }
+
+    @Test
+    void smallImageIsNotEnlarged() throws IOException {
+        assertEquals(new Size(200, 100), render(png(200, 100)));
+    }
+
+    @Test
+    void imageOverThePixelLimitIsRefusedBeforeDecoding() throws IOException {
+        Path source = png(2500, 2000);
+        Path target = directory.resolve("too-large-w320.jpg");
+
+        IOException exception = assertThrows(IOException.class, () -> renderer.render(source, target));
+        assertEquals("Image of 2500x2000 pixels is over the limit of 4000000: " + source, exception.getMessage());
+        assertFalse(Files.exists(target));
+    }
+
+    private Size render(Path source) throws IOException {
+        Path target = directory.resolve("thumbnail-w320.jpg");
+        renderer.render(source, target);
+        BufferedImage thumbnail = ImageIO.read(target.toFile());
+        return new Size(thumbnail.getWidth(), thumbnail.getHeight());
+    }
+
+    private Path png(int width, int height) throws IOException {
+        Path file = directory.resolve(width + "x" + height + ".png");
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY), "png", file.toFile());
+        return file;
+    }
+
+    private record Size(int width, int height) {
+    }
+}
@@ -0,0 +1,201 @@
+package com.evently.media;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Throughput of gallery page loads (24 thumbnails and 4 full-size photos per page, 8 concurrent
+ * clients) from the dedicated /uploads handler, against Spring's resource handler as WebConfig used
+ * to register it, mounted at /uploads-legacy. Run with: mvn test -Pbenchmark
+ *
+ * The clients run in the same JVM and on the same cores as the server, so besides pages per second
+ * the CPU time of the server's connector threads (user and kernel) per page is reported, and compared.
+ *
+ * This counts server work only; the bigger gain for repeat visitors is client-side, as immutable
+ * content-addressed files are not requested again at all.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = {
+                    "spring.datasource.url=jdbc:h2:mem:uploadbenchmark;DB_CLOSE_DELAY=-1",
+                    "app.file.upload-dir=" + UploadServingBenchmarkTest.UPLOAD_DIR,
+                    "logging.level.org.springframework.security=WARN"
+                })
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class UploadServingBenchmarkTest {
+
+    static final String UPLOAD_DIR = "target/test-uploads/benchmark";
+
+    private static final int THUMBNAILS = 24;
+    private static final int PHOTOS = 4;
+    private static final int CLIENTS = 8;
+    private static final long WARMUP_MILLIS = 3_000;
+    private static final long MEASURE_MILLIS = 5_000;
+
+    @LocalServerPort
+    private int port;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    private final List<String> gallery = new ArrayList<>();
+    private long pageBytes;
+
+    @TestConfiguration
+    static class LegacyUploads implements WebMvcConfigurer {
+
+        @Override
+        public void addResourceHandlers(@NonNull ResourceHandlerRegistry registry) {
+            registry.addResourceHandler("/uploads-legacy/**")
+                    .addResourceLocations("file:" + UPLOAD_DIR + "/")
+                    .setCachePeriod(86400);
+        }
+
+        @Bean
+        @Order(0)
+        SecurityFilterChain legacyUploadsChain(HttpSecurity http) throws Exception {
+            return http.securityMatcher("/uploads-legacy/**")
+                    .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                    .build();
+        }
+    }
+
+    @BeforeAll
+    public void writeGallery() throws IOException {
+        Random random = new Random(42);
+        for (int i = 0; i < THUMBNAILS + PHOTOS; i++) {
+            byte[] content = new byte[i < THUMBNAILS ? 20 * 1024 + random.nextInt(20 * 1024) : 600 * 1024];
+            random.nextBytes(content);
+            String hash = sha256(content);
+            String name = "media/" + hash.substring(0, 2) + "/" + hash + (i < THUMBNAILS ? "-w320.jpg" : ".jpg");
+            Path file = Paths.get(UPLOAD_DIR).resolve(name);
+            Files.createDirectories(file.getParent());
+            Files.write(file, content);
+            gallery.add(name);
+            pageBytes += content.length;
+        }
+    }
+
+    @Test
+    public void galleryThroughput() throws Exception {
+        Result legacy = run("/uploads-legacy/");
+        Result dedicated = run("/uploads/");
+
+        System.out.printf("gallery page = %d files, %,d bytes, %d clients, %d cores%n",
+            gallery.size(), pageBytes, CLIENTS, Runtime.getRuntime().availableProcessors());
+        System.out.printf("resource handler  %,8.1f pages/s  %,8.1f MB/s  %,8.0f us server CPU/page%n",
+            legacy.pagesPerSecond(), legacy.pagesPerSecond() * pageBytes / 1e6, legacy.serverMicrosPerPage());
+        System.out.printf("dedicated handler %,8.1f pages/s  %,8.1f MB/s  %,8.0f us server CPU/page  (%.2fx pages/s)%n",
+            dedicated.pagesPerSecond(), dedicated.pagesPerSecond() * pageBytes / 1e6, dedicated.serverMicrosPerPage(),
+            dedicated.pagesPerSecond() / legacy.pagesPerSecond());
+        assertTrue(dedicated.serverMicrosPerPage() < legacy.serverMicrosPerPage(),
+            "dedicated handler " + dedicated + ", resource handler " + legacy);
+    }
+
+    private record Result(double pagesPerSecond, double serverMicrosPerPage) {
+    }
+
+    private Result run(String prefix) throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        List<HttpRequest> page = gallery.stream()
+            .map(name -> HttpRequest.newBuilder(URI.create("http://localhost:" + port + prefix + name)).build())
+            .toList();
+        for (HttpRequest request : page) {
+            assertEquals(200, client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+        }
+
+        loadPages(client, page, WARMUP_MILLIS);
+        long cpuBefore = serverCpuNanos();
+        long pages = loadPages(client, page, MEASURE_MILLIS);
+        long cpu = serverCpuNanos() - cpuBefore;
+        return new Result(pages * 1000.0 / MEASURE_MILLIS, cpu / 1000.0 / pages);
+    }
+
+    /**
+     * CPU time of Tomcat's acceptor, poller and worker threads, which also send sendfile bodies.
+     */
+    private long serverCpuNanos() {
+        long total = 0;
+        for (ThreadInfo thread : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (thread != null && thread.getThreadName().startsWith("http-nio-")) {
+                total += Math.max(0, threads.getThreadCpuTime(thread.getThreadId()));
+            }
+        }
+        return total;
+    }
+
+    private long loadPages(HttpClient client, List<HttpRequest> page, long millis) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        AtomicBoolean running = new AtomicBoolean(true);
+        try {
+            List<Future<Long>> loaded = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                loaded.add(clients.submit(() -> {
+                    long pages = 0;
+                    while (running.get()) {
+                        for (HttpRequest request : page) {
+                            client.send(request, HttpResponse.BodyHandlers.discarding());
+                        }
+                        pages++;
+                    }
+                    return pages;
+                }));
+            }
+            Thread.sleep(millis);
+            running.set(false);
+            long pages = 0;
+            for (Future<Long> future : loaded) {
+                pages += future.get();
+            }
+            return pages;
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
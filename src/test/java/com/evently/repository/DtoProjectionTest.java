@@ -0,0 +1,148 @@
+package com.evently.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.evently.dto.guest.GuestDto;
+import com.evently.dto.user.UserDTO;
+import com.evently.dto.vendor.PortfolioItemDTO;
+import com.evently.dto.vendor.ReviewDTO;
+import com.evently.dto.vendor.ServiceDTO;
+import com.evently.mapper.GuestMapper;
+import com.evently.mapper.PortfolioItemMapper;
+import com.evently.mapper.ReviewMapper;
+import com.evently.mapper.ServiceMapper;
+import com.evently.mapper.UserMapper;
+import com.evently.model.Guest.RsvpStatus;
+import com.evently.service.EventService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * The constructor projections must produce exactly what the MapStruct mappers produce
+ * from the loaded entities, so switching read paths to them is invisible to clients.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:dtoprojections")
+@ActiveProfiles("test")
+@Transactional
+public class DtoProjectionTest {
+
+    private static final long VENDOR_ID = ProjectionFixtures.VENDOR_ID;
+    private static final long EVENT_ID = ProjectionFixtures.EVENT_ID;
+    private static final long CATEGORY_ID = ProjectionFixtures.CATEGORY_ID;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private PortfolioItemRepository portfolioItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private GuestMapper guestMapper;
+
+    @Autowired
+    private ReviewMapper reviewMapper;
+
+    @Autowired
+    private ServiceMapper serviceMapper;
+
+    @Autowired
+    private PortfolioItemMapper portfolioItemMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void populateTables() {
+        ProjectionFixtures.populate(jdbcTemplate, 40);
+    }
+
+    @Test
+    public void guestProjectionsMatchMapper() {
+        assertSameDtos(() -> guestMapper.toGuestDTOList(guestRepository.findByEventId(EVENT_ID)),
+            () -> eventService.getGuestsByEvent(EVENT_ID), GuestDto::getId);
+        assertSameDtos(() -> guestMapper.toGuestDTOList(guestRepository.findByEventIdAndRsvpStatus(EVENT_ID, RsvpStatus.DECLINED)),
+            () -> eventService.getGuestsByEventAndRsvpStatus(EVENT_ID, RsvpStatus.DECLINED), GuestDto::getId);
+    }
+
+    @Test
+    public void reviewProjectionsMatchMapper() {
+        assertSameDtos(() -> reviewMapper.toReviewDTOList(reviewRepository.findByVendorId(VENDOR_ID)),
+            () -> reviewRepository.findDtosByVendorId(VENDOR_ID), ReviewDTO::getId);
+        assertSameDtos(() -> reviewMapper.toReviewDTOList(reviewRepository.findByVendorIdAndRating(VENDOR_ID, 3)),
+            () -> reviewRepository.findDtosByVendorIdAndRating(VENDOR_ID, 3), ReviewDTO::getId);
+    }
+
+    @Test
+    public void serviceProjectionsMatchMapper() {
+        // A third of the services have no category, which the projection must keep
+        assertSameDtos(() -> serviceMapper.toServiceDTOList(serviceRepository.findByVendorId(VENDOR_ID)),
+            () -> serviceRepository.findDtosByVendorId(VENDOR_ID), ServiceDTO::getId);
+        assertSameDtos(() -> serviceMapper.toServiceDTOList(serviceRepository.findByCategoryId(CATEGORY_ID)),
+            () -> serviceRepository.findDtosByCategoryId(CATEGORY_ID), ServiceDTO::getId);
+    }
+
+    @Test
+    public void portfolioProjectionsMatchMapper() {
+        assertSameDtos(() -> portfolioItemMapper.toPortfolioItemDTOList(portfolioItemRepository.findByVendorId(VENDOR_ID)),
+            () -> portfolioItemRepository.findDtosByVendorId(VENDOR_ID), PortfolioItemDTO::getId);
+    }
+
+    @Test
+    public void userProjectionsMatchMapper() {
+        assertSameDtos(() -> userMapper.toUserDTOList(userRepository.findByIsVendorTrue()),
+            userRepository::findDtosByIsVendorTrue, UserDTO::getId);
+        assertSameDtos(() -> userMapper.toUserDTOList(userRepository.findByIsPlannerTrue()),
+            userRepository::findDtosByIsPlannerTrue, UserDTO::getId);
+        assertSameDtos(() -> userMapper.toUserDTOList(userRepository.findByIsActiveTrue()),
+            userRepository::findDtosByIsActiveTrue, UserDTO::getId);
+        assertSameDtos(() -> List.of(userMapper.toUserDTO(userRepository.findByUsername("projection-3").orElseThrow())),
+            () -> List.of(userRepository.findDtoByUsername("projection-3").orElseThrow()), UserDTO::getId);
+        assertEquals("projection-0", userRepository.findDtoById(VENDOR_ID).orElseThrow().getFullName());
+        assertEquals("First1 Last1", userRepository.findDtoByEmail("projection-1@example.com").orElseThrow().getFullName());
+    }
+
+    private <T> void assertSameDtos(Supplier<List<T>> mapped, Supplier<List<T>> projected, Function<T, Long> id) {
+        entityManager.clear();
+        List<T> expected = new ArrayList<>(mapped.get());
+        entityManager.clear();
+        List<T> actual = new ArrayList<>(projected.get());
+
+        assertFalse(expected.isEmpty());
+        expected.sort(Comparator.comparing(id));
+        actual.sort(Comparator.comparing(id));
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,173 @@
+package com.evently.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.h2.tools.Server;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.evently.mapper.GuestMapper;
+import com.evently.mapper.PortfolioItemMapper;
+import com.evently.mapper.ReviewMapper;
+import com.evently.mapper.ServiceMapper;
+import com.evently.mapper.UserMapper;
+import com.evently.service.EventService;
+
+/**
+ * Bytes allocated per read-only request when loading entities and mapping them, against the
+ * constructor projections that replace them. Run with: mvn test -Pbenchmark
+ *
+ * H2 is served over TCP so the database engine runs on its own threads, as MySQL would;
+ * the per-thread allocation counter then only sees what the application allocates.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "logging.level.com.evently.datasource=WARN")
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+// Starts an H2 TCP server for its context, which AOT test processing would leave running
+@DisabledInAotMode
+public class ProjectionAllocationBenchmarkTest {
+
+    private static final int ROWS = 200;
+    private static final int WARMUP = 300;
+    private static final int ITERATIONS = 500;
+
+    private static final long VENDOR_ID = ProjectionFixtures.VENDOR_ID;
+    private static final long EVENT_ID = ProjectionFixtures.EVENT_ID;
+
+    private static Server h2Server;
+
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private PortfolioItemRepository portfolioItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private GuestMapper guestMapper;
+
+    @Autowired
+    private ReviewMapper reviewMapper;
+
+    @Autowired
+    private ServiceMapper serviceMapper;
+
+    @Autowired
+    private PortfolioItemMapper portfolioItemMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+
+    @DynamicPropertySource
+    static void databaseUrl(DynamicPropertyRegistry registry) throws SQLException {
+        h2Server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        registry.add("spring.datasource.url",
+            () -> "jdbc:h2:tcp://localhost:" + h2Server.getPort() + "/mem:projectionbenchmark;DB_CLOSE_DELAY=-1");
+    }
+
+    @AfterAll
+    public void stopServer() {
+        h2Server.stop();
+    }
+
+    @BeforeAll
+    public void populateTables() {
+        ProjectionFixtures.populate(jdbcTemplate, ROWS);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    public void guests() {
+        compare("guests by event",
+            () -> guestMapper.toGuestDTOList(guestRepository.findByEventId(EVENT_ID)),
+            () -> eventService.getGuestsByEvent(EVENT_ID));
+    }
+
+    @Test
+    public void reviews() {
+        compare("reviews by vendor",
+            () -> reviewMapper.toReviewDTOList(reviewRepository.findByVendorId(VENDOR_ID)),
+            () -> reviewRepository.findDtosByVendorId(VENDOR_ID));
+    }
+
+    @Test
+    public void services() {
+        compare("services by vendor",
+            () -> serviceMapper.toServiceDTOList(serviceRepository.findByVendorId(VENDOR_ID)),
+            () -> serviceRepository.findDtosByVendorId(VENDOR_ID));
+    }
+
+    @Test
+    public void portfolioItems() {
+        compare("portfolio by vendor",
+            () -> portfolioItemMapper.toPortfolioItemDTOList(portfolioItemRepository.findByVendorId(VENDOR_ID)),
+            () -> portfolioItemRepository.findDtosByVendorId(VENDOR_ID));
+    }
+
+    @Test
+    public void users() {
+        compare("active users",
+            () -> userMapper.toUserDTOList(userRepository.findByIsActiveTrue()),
+            userRepository::findDtosByIsActiveTrue);
+    }
+
+    private void compare(String name, Supplier<List<?>> entities, Supplier<List<?>> projection) {
+        long before = bytesPerRequest(entities);
+        long after = bytesPerRequest(projection);
+        System.out.printf("%-20s entities+mapper %,10d B/request   projection %,10d B/request   (%.1fx)%n",
+            name, before, after, (double) before / after);
+        assertTrue(after < before, name + ": projection allocated " + after + " B, entities " + before + " B");
+    }
+
+    private long bytesPerRequest(Supplier<List<?>> request) {
+        for (int i = 0; i < WARMUP; i++) {
+            readOnly.execute(status -> request.get());
+        }
+        long start = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            readOnly.execute(status -> request.get());
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - start) / ITERATIONS;
+    }
+}
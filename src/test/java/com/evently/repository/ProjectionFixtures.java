@@ -0,0 +1,57 @@
+package com.evently.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.evently.model.Guest.RsvpStatus;
+
+/**
+ * Rows for the DTO projection tests: one vendor with services, portfolio items and reviews,
+ * and one event with guests. Names vary so the full-name fallbacks are exercised.
+ */
+final class ProjectionFixtures {
+
+    static final long VENDOR_ID = 300_000;
+    static final long EVENT_ID = 300_000;
+    static final long CATEGORY_ID = 300_000;
+
+    private ProjectionFixtures() {
+    }
+
+    static void populate(JdbcTemplate jdbcTemplate, int rows) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> services = new ArrayList<>();
+        List<Object[]> portfolioItems = new ArrayList<>();
+        List<Object[]> reviews = new ArrayList<>();
+        List<Object[]> guests = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            long id = VENDOR_ID + i;
+            users.add(new Object[] {id, "projection-" + i, "projection-" + i + "@example.com",
+                i % 3 == 0 ? null : "First" + i, i % 4 == 0 ? null : " Last" + i + " ", i % 2 == 0, i % 2 == 1, now});
+            services.add(new Object[] {id, VENDOR_ID, i % 3 == 0 ? null : CATEGORY_ID, "Service " + i, i + 1});
+            portfolioItems.add(new Object[] {id, VENDOR_ID, "/uploads/" + i + ".jpg", "Item " + i});
+            reviews.add(new Object[] {id, VENDOR_ID, id, i % 5 + 1, "Review " + i});
+            guests.add(new Object[] {id, EVENT_ID, "Guest " + i, "guest-" + i + "@example.com",
+                RsvpStatus.values()[i % 4].name()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users_user (id, username, password, email, first_name, last_name, "
+            + "is_active, is_vendor, is_planner, date_joined) VALUES (?, ?, 'x', ?, ?, ?, TRUE, ?, ?, ?)", users);
+        jdbcTemplate.update("INSERT INTO vendors_servicecategory (id, name) VALUES (?, 'Projection category')", CATEGORY_ID);
+        jdbcTemplate.update("INSERT INTO vendors_vendorprofile (id, user_id, business_name, is_verified, created_at, updated_at) "
+            + "VALUES (?, ?, 'Projection Vendor', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", VENDOR_ID, VENDOR_ID);
+        jdbcTemplate.update("INSERT INTO events_event (id, planner_id, title, date, location, created_at, updated_at) "
+            + "VALUES (?, ?, 'Projection Gala', ?, 'Kisumu', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", EVENT_ID, VENDOR_ID + 1, now);
+        jdbcTemplate.batchUpdate("INSERT INTO vendors_service (id, vendor_id, category_id, title, description, price, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, 'd', ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", services);
+        jdbcTemplate.batchUpdate("INSERT INTO vendors_portfolioitem (id, vendor_id, image, description, created_at) "
+            + "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)", portfolioItems);
+        jdbcTemplate.batchUpdate("INSERT INTO vendors_review (id, vendor_id, user_id, rating, comment, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)", reviews);
+        jdbcTemplate.batchUpdate("INSERT INTO events_guest (id, event_id, name, email, rsvp_status, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", guests);
+    }
+}
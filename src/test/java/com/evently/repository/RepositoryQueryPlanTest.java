@@ -0,0 +1,248 @@
+package com.evently.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.evently.model.Event;
+import com.evently.model.Guest.RsvpStatus;
+import com.evently.model.User;
+import com.evently.model.VendorBooking.BookingStatus;
+import com.evently.model.VendorProfile;
+import com.evently.monitoring.SlowQuery;
+import com.evently.monitoring.SlowQueryRecorder;
+
+/**
+ * Guards the indexes from the V2 migration: runs the indexable repository queries
+ * and fails if H2's EXPLAIN plan for any of them reports a full table scan.
+ * The slow-query threshold is zero so every statement is recorded with its plan, and the
+ * tables are filled first because H2 rightly prefers a scan over an index on empty tables.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:queryplans",
+    "app.jdbc.slow-query.threshold-ms=0",
+    "app.jdbc.slow-query.top-n=1000"
+})
+@ActiveProfiles("test")
+@Transactional
+public class RepositoryQueryPlanTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private static final int ROWS = 500;
+
+    @Autowired
+    private SlowQueryRecorder recorder;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private VendorBookingRepository vendorBookingRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VendorProfileRepository vendorProfileRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> fullScans = new ArrayList<>();
+
+    @BeforeEach
+    public void populateTables() {
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> vendors = new ArrayList<>();
+        List<Object[]> services = new ArrayList<>();
+        List<Object[]> events = new ArrayList<>();
+        List<Object[]> guests = new ArrayList<>();
+        List<Object[]> bookings = new ArrayList<>();
+        List<Object[]> reviews = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            long id = 100_000 + i;
+            users.add(new Object[] {id, "plan-user-" + i, "plan-user-" + i + "@example.com"});
+            vendors.add(new Object[] {id, id, "Vendor " + i});
+            services.add(new Object[] {id, id, "Service " + i});
+            events.add(new Object[] {id, id, "Event " + i, NOW.plusDays(i - ROWS / 2)});
+            guests.add(new Object[] {id, id, id, "guest" + i + "@example.com", RsvpStatus.values()[i % 4].name()});
+            bookings.add(new Object[] {id, id, id, id, BookingStatus.values()[i % 4].name()});
+            reviews.add(new Object[] {id, id, id, i % 5 + 1});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users_user (id, username, password, email, is_active, is_vendor, is_planner) "
+            + "VALUES (?, ?, 'x', ?, TRUE, TRUE, TRUE)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO vendors_vendorprofile (id, user_id, business_name, is_verified, created_at, updated_at) "
+            + "VALUES (?, ?, ?, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", vendors);
+        jdbcTemplate.batchUpdate("INSERT INTO vendors_service (id, vendor_id, title, description, price, created_at, updated_at) "
+            + "VALUES (?, ?, ?, 'd', 10.00, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", services);
+        jdbcTemplate.batchUpdate("INSERT INTO events_event (id, planner_id, title, date, location, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, 'Nairobi', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", events);
+        jdbcTemplate.batchUpdate("INSERT INTO events_guest (id, event_id, user_id, email, rsvp_status, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", guests);
+        jdbcTemplate.batchUpdate("INSERT INTO events_vendorbooking (id, event_id, vendor_id, service_id, status, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", bookings);
+        jdbcTemplate.batchUpdate("INSERT INTO vendors_review (id, vendor_id, user_id, rating, created_at) "
+            + "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)", reviews);
+    }
+
+    @Test
+    public void guestQueriesUseIndexes() {
+        Event event = eventRepository.getReferenceById(1L);
+        User user = userRepository.getReferenceById(1L);
+
+        assertIndexed("GuestRepository.findByEventId", () -> guestRepository.findByEventId(1L));
+        assertIndexed("GuestRepository.findByRsvpStatus", () -> guestRepository.findByRsvpStatus(RsvpStatus.ATTENDING));
+        assertIndexed("GuestRepository.findByEventIdAndRsvpStatus",
+            () -> guestRepository.findByEventIdAndRsvpStatus(1L, RsvpStatus.ATTENDING));
+        assertIndexed("GuestRepository.findByUserId", () -> guestRepository.findByUserId(1L));
+        assertIndexed("GuestRepository.findByEmail", () -> guestRepository.findByEmail("guest@example.com"));
+        assertIndexed("GuestRepository.findByEventAndEmail",
+            () -> guestRepository.findByEventAndEmail(event, "guest@example.com"));
+        assertIndexed("GuestRepository.findByEventAndUser", () -> guestRepository.findByEventAndUser(event, user));
+        assertIndexed("GuestRepository.existsByEventIdAndEmail",
+            () -> guestRepository.existsByEventIdAndEmail(1L, "guest@example.com"));
+        assertIndexed("GuestRepository.countByEventId", () -> guestRepository.countByEventId(1L));
+        assertIndexed("GuestRepository.countByEventIdAndRsvpStatus",
+            () -> guestRepository.countByEventIdAndRsvpStatus(1L, RsvpStatus.DECLINED));
+        assertIndexed("GuestRepository.getRsvpStatsByEvent", () -> guestRepository.getRsvpStatsByEvent(event));
+        assertIndexed("GuestRepository.findDtosByEventId", () -> guestRepository.findDtosByEventId(1L));
+        assertIndexed("GuestRepository.findDtosByEventIdAndRsvpStatus",
+            () -> guestRepository.findDtosByEventIdAndRsvpStatus(1L, RsvpStatus.ATTENDING));
+        assertIndexed("GuestRepository.countGroupedByEventIdAndRsvpStatusForPlanner",
+            () -> guestRepository.countGroupedByEventIdAndRsvpStatusForPlanner(1L));
+    }
+
+    @Test
+    public void vendorBookingQueriesUseIndexes() {
+        Event event = eventRepository.getReferenceById(1L);
+
+        assertIndexed("VendorBookingRepository.findByEventId", () -> vendorBookingRepository.findByEventId(1L));
+        assertIndexed("VendorBookingRepository.findByVendorId", () -> vendorBookingRepository.findByVendorId(1L));
+        assertIndexed("VendorBookingRepository.findByServiceId", () -> vendorBookingRepository.findByServiceId(1L));
+        assertIndexed("VendorBookingRepository.findByStatus",
+            () -> vendorBookingRepository.findByStatus(BookingStatus.PENDING));
+        assertIndexed("VendorBookingRepository.findByVendorIdAndStatus",
+            () -> vendorBookingRepository.findByVendorIdAndStatus(1L, BookingStatus.CONFIRMED));
+        assertIndexed("VendorBookingRepository.findByEventAndServiceId",
+            () -> vendorBookingRepository.findByEventAndServiceId(event, 1L));
+        assertIndexed("VendorBookingRepository.existsByEventIdAndVendorId",
+            () -> vendorBookingRepository.existsByEventIdAndVendorId(1L, 1L));
+        assertIndexed("VendorBookingRepository.countByVendorId", () -> vendorBookingRepository.countByVendorId(1L));
+        assertIndexed("VendorBookingRepository.countByVendorIdAndStatus",
+            () -> vendorBookingRepository.countByVendorIdAndStatus(1L, BookingStatus.CONFIRMED));
+        assertIndexed("VendorBookingRepository.getBookingStatsByVendorId",
+            () -> vendorBookingRepository.getBookingStatsByVendorId(1L));
+        assertIndexed("VendorBookingRepository.findByEventPlannerId",
+            () -> vendorBookingRepository.findByEventPlannerId(1L));
+        assertIndexed("VendorBookingRepository.countByEventPlannerIdAndStatus",
+            () -> vendorBookingRepository.countByEventPlannerIdAndStatus(1L, BookingStatus.PENDING));
+        assertIndexed("VendorBookingRepository.countGroupedByEventIdAndStatusForPlanner",
+            () -> vendorBookingRepository.countGroupedByEventIdAndStatusForPlanner(1L));
+        assertIndexed("VendorBookingRepository.findDtosByVendorId", () -> vendorBookingRepository.findDtosByVendorId(1L));
+        assertIndexed("VendorBookingRepository.findDtosByEventPlannerId",
+            () -> vendorBookingRepository.findDtosByEventPlannerId(1L));
+        assertIndexed("VendorBookingRepository.findDtosByVendorIdAndStatus",
+            () -> vendorBookingRepository.findDtosByVendorIdAndStatus(1L, BookingStatus.CONFIRMED));
+        assertIndexed("VendorBookingRepository.findDtosByEventDateRange",
+            () -> vendorBookingRepository.findDtosByEventDateRange(NOW, NOW.plusDays(7)));
+        assertIndexed("VendorBookingRepository.findDtosByVendorIdAndEventDateRange",
+            () -> vendorBookingRepository.findDtosByVendorIdAndEventDateRange(1L, NOW, NOW.plusDays(7)));
+    }
+
+    @Test
+    public void eventQueriesUseIndexes() {
+        User planner = userRepository.getReferenceById(1L);
+
+        assertIndexed("EventRepository.findByPlannerId", () -> eventRepository.findByPlannerId(1L));
+        assertIndexed("EventRepository.streamDashboardRowsByPlannerId", () -> {
+            try (Stream<Object[]> rows = eventRepository.streamDashboardRowsByPlannerId(1L)) {
+                rows.count();
+            }
+        });
+        assertIndexed("EventRepository.findByDateBetween",
+            () -> eventRepository.findByDateBetween(NOW, NOW.plusDays(7)));
+        assertIndexed("EventRepository.findByDateAfterOrderByDateAsc",
+            () -> eventRepository.findByDateAfterOrderByDateAsc(NOW));
+        assertIndexed("EventRepository.findByDateBeforeOrderByDateDesc",
+            () -> eventRepository.findByDateBeforeOrderByDateDesc(NOW));
+        assertIndexed("EventRepository.findUpcomingEvents", () -> eventRepository.findUpcomingEvents(NOW));
+        assertIndexed("EventRepository.findUpcomingEventsByPlanner",
+            () -> eventRepository.findUpcomingEventsByPlanner(planner, NOW));
+        assertIndexed("EventRepository.countEventsByPlanner", () -> eventRepository.countEventsByPlanner(planner));
+        assertIndexed("EventRepository.findVersionById", () -> eventRepository.findVersionById(1L));
+    }
+
+    @Test
+    public void reviewQueriesUseIndexes() {
+        VendorProfile vendor = vendorProfileRepository.getReferenceById(1L);
+
+        assertIndexed("ReviewRepository.findByVendorId", () -> reviewRepository.findByVendorId(1L));
+        assertIndexed("ReviewRepository.findByUserId", () -> reviewRepository.findByUserId(1L));
+        assertIndexed("ReviewRepository.findByRating", () -> reviewRepository.findByRating(5));
+        assertIndexed("ReviewRepository.findByRatingBetween", () -> reviewRepository.findByRatingBetween(4, 5));
+        assertIndexed("ReviewRepository.findByVendorIdAndRating", () -> reviewRepository.findByVendorIdAndRating(1L, 5));
+        assertIndexed("ReviewRepository.existsByVendorIdAndUserId",
+            () -> reviewRepository.existsByVendorIdAndUserId(1L, 1L));
+        assertIndexed("ReviewRepository.countByVendorId", () -> reviewRepository.countByVendorId(1L));
+        assertIndexed("ReviewRepository.findAverageRatingByVendorId",
+            () -> reviewRepository.findAverageRatingByVendorId(1L));
+        assertIndexed("ReviewRepository.findByVendorOrderByCreatedAtDesc",
+            () -> reviewRepository.findByVendorOrderByCreatedAtDesc(vendor));
+        assertIndexed("ReviewRepository.getRatingDistributionByVendor",
+            () -> reviewRepository.getRatingDistributionByVendor(vendor));
+        assertIndexed("ReviewRepository.findDtosByVendorId", () -> reviewRepository.findDtosByVendorId(1L));
+        assertIndexed("VendorProfileRepository.findVersionById", () -> vendorProfileRepository.findVersionById(1L));
+        assertIndexed("ReviewRepository.findDtosByVendorIdAndRating",
+            () -> reviewRepository.findDtosByVendorIdAndRating(1L, 5));
+    }
+
+    @AfterEach
+    public void assertNoFullScans() {
+        assertTrue(fullScans.isEmpty(), "Full table scans:\n" + String.join("\n", fullScans));
+    }
+
+    /**
+     * Run a repository call and note any statement it issued that was planned as a full table scan.
+     */
+    private void assertIndexed(String repositoryMethod, Runnable call) {
+        recorder.clear();
+        call.run();
+
+        List<SlowQuery> statements = new ArrayList<>();
+        for (SlowQuery query : recorder.getWorstQueries()) {
+            if (query.getRepositoryMethod().equals(repositoryMethod)) {
+                statements.add(query);
+            }
+        }
+        assertFalse(statements.isEmpty(), "No statements recorded for " + repositoryMethod);
+
+        for (SlowQuery query : statements) {
+            assertFalse(query.getPlan().isEmpty(), "No EXPLAIN plan captured for " + repositoryMethod);
+            String plan = String.join("\n", query.getPlan());
+            if (plan.toLowerCase(Locale.ROOT).contains("tablescan")) {
+                fullScans.add(repositoryMethod + ": " + query.getSql());
+            }
+        }
+    }
+}
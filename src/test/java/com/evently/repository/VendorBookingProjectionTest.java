@@ -0,0 +1,149 @@
+package com.evently.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.evently.dto.booking.VendorBookingDTO;
+import com.evently.mapper.VendorBookingMapper;
+import com.evently.model.VendorBooking.BookingStatus;
+import com.evently.service.BookingService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Statement-count tests for the booking list projections: every list must cost a single
+ * SELECT however many bookings, events and services it spans.
+ * One vendor has BOOKINGS bookings, each for its own event and service, so mapping the
+ * entities instead would lazily load one event and one service per row.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:bookingprojections",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Transactional
+public class VendorBookingProjectionTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().withNano(0);
+
+    private static final int BOOKINGS = 50;
+
+    private static final long VENDOR_ID = 200_000;
+    private static final long PLANNER_ID = 200_001;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private VendorBookingRepository vendorBookingRepository;
+
+    @Autowired
+    private VendorBookingMapper vendorBookingMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void populateTables() {
+        jdbcTemplate.update("INSERT INTO users_user (id, username, password, email, is_active, is_vendor, is_planner) "
+            + "VALUES (?, 'projection-vendor', 'x', 'projection-vendor@example.com', TRUE, TRUE, FALSE)", VENDOR_ID);
+        jdbcTemplate.update("INSERT INTO users_user (id, username, password, email, is_active, is_vendor, is_planner) "
+            + "VALUES (?, 'projection-planner', 'x', 'projection-planner@example.com', TRUE, FALSE, TRUE)", PLANNER_ID);
+        jdbcTemplate.update("INSERT INTO vendors_vendorprofile (id, user_id, business_name, is_verified, created_at, updated_at) "
+            + "VALUES (?, ?, 'Projection Catering', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", VENDOR_ID, VENDOR_ID);
+
+        List<Object[]> services = new ArrayList<>();
+        List<Object[]> events = new ArrayList<>();
+        List<Object[]> bookings = new ArrayList<>();
+        for (int i = 0; i < BOOKINGS; i++) {
+            long id = 200_000 + i;
+            services.add(new Object[] {id, VENDOR_ID, "Menu " + i});
+            events.add(new Object[] {id, PLANNER_ID, "Dinner " + i, NOW.plusDays(i)});
+            bookings.add(new Object[] {id, id, VENDOR_ID, id, i % 2 == 0 ? "CONFIRMED" : "PENDING"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO vendors_service (id, vendor_id, title, description, price, created_at, updated_at) "
+            + "VALUES (?, ?, ?, 'd', 25.50, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", services);
+        jdbcTemplate.batchUpdate("INSERT INTO events_event (id, planner_id, title, date, location, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, 'Mombasa', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", events);
+        jdbcTemplate.batchUpdate("INSERT INTO events_vendorbooking (id, event_id, vendor_id, service_id, status, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", bookings);
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void vendorBookingListIsOneStatement() {
+        List<VendorBookingDTO> bookings = assertSingleStatement(() -> bookingService.getBookingsByVendor(VENDOR_ID));
+
+        assertEquals(BOOKINGS, bookings.size());
+        VendorBookingDTO first = bookings.stream().filter(b -> b.getId() == VENDOR_ID).findFirst().orElseThrow();
+        assertEquals("Dinner 0", first.getEventTitle());
+        assertEquals("Mombasa", first.getEventLocation());
+        assertEquals(NOW, first.getEventDate());
+        assertEquals("Projection Catering", first.getVendorBusinessName());
+        assertEquals("Menu 0", first.getServiceTitle());
+        assertEquals("$25.50", first.getServicePrice());
+        assertEquals(BookingStatus.CONFIRMED, first.getStatus());
+    }
+
+    @Test
+    public void customerAndStatusListsAreOneStatement() {
+        assertEquals(BOOKINGS, assertSingleStatement(() -> bookingService.getBookingsByCustomer(PLANNER_ID)).size());
+        assertEquals(BOOKINGS / 2, assertSingleStatement(
+            () -> bookingService.getVendorBookingsByStatus(VENDOR_ID, BookingStatus.CONFIRMED)).size());
+        assertEquals(BOOKINGS / 2, assertSingleStatement(
+            () -> bookingService.getUpcomingCustomerBookings(PLANNER_ID)).size());
+    }
+
+    @Test
+    public void dateRangeListsAreOneStatementAndIncludeTheWholeEndDay() {
+        // Events fall on NOW + 0..49 days at the same time of day; the range covers days 0..9 inclusive
+        List<VendorBookingDTO> bookings = assertSingleStatement(() -> bookingService.getVendorBookingsByDateRange(
+            VENDOR_ID, NOW.toLocalDate(), NOW.toLocalDate().plusDays(9)));
+
+        assertEquals(10, bookings.size());
+        assertEquals("Dinner 0", bookings.get(0).getEventTitle());
+        assertEquals("Dinner 9", bookings.get(9).getEventTitle());
+        assertEquals(10, bookingService.getVendorUnavailableDates(
+            VENDOR_ID, NOW.toLocalDate(), NOW.toLocalDate().plusDays(19)).size());
+    }
+
+    @Test
+    public void mappingEntitiesLoadsAssociationsPerRow() {
+        // The pre-projection path, kept as the baseline the projections are measured against
+        statistics.clear();
+        List<VendorBookingDTO> bookings = vendorBookingMapper.toVendorBookingDTOList(vendorBookingRepository.findByVendorId(VENDOR_ID));
+
+        assertEquals(BOOKINGS, bookings.size());
+        assertTrue(statistics.getPrepareStatementCount() > 2 * BOOKINGS,
+            "Expected lazy loads per row but saw " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    private <T> T assertSingleStatement(Supplier<T> call) {
+        entityManager.clear();
+        statistics.clear();
+        T result = call.get();
+        assertEquals(1, statistics.getPrepareStatementCount(), "Statements issued");
+        return result;
+    }
+}
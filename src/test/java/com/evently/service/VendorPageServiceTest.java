@@ -0,0 +1,63 @@
+package com.evently.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.evently.dto.vendor.VendorPageDTO;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Test for VendorPageService on a pool of one worker with room for one queued part, where every
+ * part takes longer than the part timeout.
+ */
+@SpringBootTest(classes = {VendorPageService.class, SimpleMeterRegistry.class},
+                properties = {"app.vendor-page.max-concurrency=1", "app.vendor-page.queue-capacity=1",
+                              "app.vendor-page.part-timeout=300ms"})
+// Mockito generates its mocks at runtime
+@DisabledInAotMode
+class VendorPageServiceTest {
+
+    private static final Answer<Object> SLOW = invocation -> {
+        Thread.sleep(1000);
+        return RETURNS_DEFAULTS.answer(invocation);
+    };
+
+    @Autowired
+    private VendorPageService vendorPageService;
+
+    @MockitoBean
+    private VendorService vendorService;
+
+    @MockitoBean
+    private BookingService bookingService;
+
+    @Test
+    void partsThePoolCannotTakeAreLeftOutRatherThanLoadedByTheCaller() {
+        when(vendorService.getVendorProfileById(1L)).thenAnswer(SLOW);
+        when(vendorService.getServicesByVendor(1L)).thenAnswer(SLOW);
+        when(vendorService.getPortfolioItemsByVendor(1L)).thenAnswer(SLOW);
+        when(vendorService.getReviewsByVendor(1L)).thenAnswer(SLOW);
+        when(vendorService.getVendorStatistics(1L)).thenAnswer(SLOW);
+
+        long start = System.nanoTime();
+        VendorPageDTO page = vendorPageService.getVendorPage(1L, null).orElseThrow();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // The running and the queued part time out; the other three are rejected at once
+        assertEquals(List.of("profile", "services", "portfolio", "reviews", "stats"), page.getMissing());
+        assertTrue(elapsed.compareTo(Duration.ofMillis(900)) < 0, "Page took " + elapsed);
+    }
+}